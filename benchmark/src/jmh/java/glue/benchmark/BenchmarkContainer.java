@@ -0,0 +1,51 @@
+package glue.benchmark;
+
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+
+/**
+ * CDI container shared by the micro benchmarks
+ *
+ * <p>The container is booted once per JVM with all Glue modules of the classpath, without starting the application
+ * lifecycle (no web container or database is started). Beans are created on their first lookup.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+public final class BenchmarkContainer {
+
+    private static volatile WeldContainer container;
+
+    private BenchmarkContainer() {
+    }
+
+    /**
+     * Returns a bean of the provided type
+     *
+     * @param type Bean type
+     * @param <T> Bean type
+     * @return Bean instance
+     */
+    public static <T> T get(final Class<T> type) {
+        return getContainer().select(type).get();
+    }
+
+    /**
+     * Returns the CDI container, booting it when needed
+     *
+     * @return CDI container
+     */
+    public static WeldContainer getContainer() {
+        if (container == null)
+            synchronized (BenchmarkContainer.class) {
+                if (container == null)
+                    container = new Weld()
+                            .containerId("glue-benchmark")
+                            .enableDiscovery()
+                            .skipShutdownHook()
+                            .initialize();
+            }
+
+        return container;
+    }
+}
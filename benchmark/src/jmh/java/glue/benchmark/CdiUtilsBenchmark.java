@@ -0,0 +1,54 @@
+package glue.benchmark;
+
+import glue.config.api.translator.ConfigurationContainerTranslator;
+import glue.config.api.translator.ConfigurationValueTranslator;
+import glue.core.util.CdiUtils;
+import org.openjdk.jmh.annotations.*;
+
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.BeanManager;
+import javax.enterprise.util.TypeLiteral;
+import java.lang.reflect.Type;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the typed bean lookups of {@link CdiUtils}, compared with the same lookup done directly with the
+ * {@link BeanManager}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CdiUtilsBenchmark {
+
+    private static final Type OPTIONAL_TRANSLATOR_TYPE =
+            new TypeLiteral<ConfigurationContainerTranslator<Optional>>() { }.getType();
+
+    private CdiUtils cdiUtils;
+    private BeanManager beanManager;
+
+    @Setup
+    public void setup() {
+        this.cdiUtils = BenchmarkContainer.get(CdiUtils.class);
+        this.beanManager = BenchmarkContainer.getContainer().getBeanManager();
+    }
+
+    @Benchmark
+    public Optional<Object> existingBean() {
+        return cdiUtils.getTypedBean(ConfigurationContainerTranslator.class, Optional.class);
+    }
+
+    @Benchmark
+    public Optional<Object> missingBean() {
+        return cdiUtils.getTypedBean(ConfigurationValueTranslator.class, Long.class);
+    }
+
+    @Benchmark
+    public Object existingBeanUsingBeanManager() {
+        final Bean<?> bean = beanManager.resolve(beanManager.getBeans(OPTIONAL_TRANSLATOR_TYPE));
+        return beanManager.getReference(bean, OPTIONAL_TRANSLATOR_TYPE, beanManager.createCreationalContext(bean));
+    }
+}
@@ -0,0 +1,46 @@
+package glue.benchmark;
+
+import glue.web.container.jetty.JettyConfiguration;
+import glue.web.jaxrs.jersey.JerseyConfiguration;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the configuration reads through the configuration interface proxies
+ *
+ * <p>The proxies are the ones injected in the application beans, so the reads go through the whole configuration
+ * API: proxy dispatch, value cache and, on cache misses, the resolver chain and the value translation.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConfigurationReadBenchmark {
+
+    private JettyConfiguration jettyConfiguration;
+    private JerseyConfiguration jerseyConfiguration;
+
+    @Setup
+    public void setup() {
+        this.jettyConfiguration = BenchmarkContainer.get(JettyConfiguration.class);
+        this.jerseyConfiguration = BenchmarkContainer.get(JerseyConfiguration.class);
+    }
+
+    @Benchmark
+    public Integer integerValue() {
+        return jettyConfiguration.getPort();
+    }
+
+    @Benchmark
+    public String stringValue() {
+        return jettyConfiguration.getHost();
+    }
+
+    @Benchmark
+    public String otherInterfaceValue() {
+        return jerseyConfiguration.getContextPath();
+    }
+}
@@ -0,0 +1,62 @@
+package glue.benchmark;
+
+import glue.core.util.LogUtils;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the debug logging with the debug level disabled
+ *
+ * <p>Compares the plain SLF4J call, which allocates the arguments array before the level is checked, with the
+ * {@link LogUtils} guarded calls. Run it with the GC profiler ({@code -prof gc}) to compare the allocation per
+ * operation ({@code gc.alloc.rate.norm}), which is zero for the guarded calls. The escape analysis of the JIT may
+ * remove the arguments array of the plain call when it's inlined, so add {@code -XX:-DoEscapeAnalysis} to the JVM
+ * arguments to see the allocation that happens when it isn't.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DebugLoggingBenchmark {
+
+    private static final String FORMAT = "Resolving configuration key {} of type {} with default value of '{}'";
+
+    private Logger logger;
+    private String key;
+    private Class<?> type;
+    private String defaultValue;
+
+    @Setup
+    public void setup() {
+        this.logger = LoggerFactory.getLogger(DebugLoggingBenchmark.class);
+        this.key = "glue.benchmark.key";
+        this.type = Long.class;
+        this.defaultValue = Long.toString(System.nanoTime());
+    }
+
+    @Benchmark
+    public void plainDebug() {
+        logger.debug(FORMAT, key, type.getName(), defaultValue);
+    }
+
+    @Benchmark
+    public void guardedDebug() {
+        LogUtils.debug(logger, FORMAT, key, type.getName(), defaultValue);
+    }
+
+    @Benchmark
+    public void guardedBlock() {
+        if (LogUtils.isDebugEnabled(logger))
+            logger.debug(FORMAT, key, type.getName(), defaultValue);
+    }
+
+    @Benchmark
+    public void suppliedDebug() {
+        LogUtils.debug(logger, () -> FORMAT + key);
+    }
+}
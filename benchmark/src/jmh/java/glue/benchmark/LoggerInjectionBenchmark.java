@@ -0,0 +1,44 @@
+package glue.benchmark;
+
+import glue.web.jaxrs.patch.jsonpatch.JsonPatchProcessor;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.enterprise.inject.Instance;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the creation of dependent scoped beans with an injected {@link Logger}
+ *
+ * <p>{@link JsonPatchProcessor} is dependent scoped and receives a logger from
+ * {@code glue.core.logger.LoggerProvider}, so every instance created goes through the logger production. The logger
+ * lookup done directly in the logger factory is measured as a reference of the cost avoided by the provider cache.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LoggerInjectionBenchmark {
+
+    private Instance<JsonPatchProcessor> processors;
+
+    @Setup
+    public void setup() {
+        this.processors = BenchmarkContainer.getContainer().select(JsonPatchProcessor.class);
+    }
+
+    @Benchmark
+    public JsonPatchProcessor dependentBeanCreation() {
+        final JsonPatchProcessor processor = processors.get();
+        processors.destroy(processor);
+        return processor;
+    }
+
+    @Benchmark
+    public Logger loggerFactoryLookup() {
+        return LoggerFactory.getLogger(JsonPatchProcessor.class.getName());
+    }
+}
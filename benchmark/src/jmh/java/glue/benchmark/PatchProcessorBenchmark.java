@@ -0,0 +1,70 @@
+package glue.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import glue.benchmark.app.BenchmarkItem;
+import glue.jaxrs.patch.jsonmergepatch.JsonMergePatchProcessor;
+import glue.web.jaxrs.patch.api.PatchProcessor;
+import glue.web.jaxrs.patch.jsonpatch.JsonPatchProcessor;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.helpers.NOPLogger;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the PATCH processors, applying the same change using RFC-6902 (JSON Patch) and RFC-7386 (JSON
+ * Merge Patch)
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PatchProcessorBenchmark {
+
+    private static final byte[] JSON_PATCH = ("[{\"op\":\"replace\",\"path\":\"/name\",\"value\":\"patched\"},"
+            + "{\"op\":\"remove\",\"path\":\"/description\"}]").getBytes(StandardCharsets.UTF_8);
+    private static final byte[] JSON_MERGE_PATCH = "{\"name\":\"patched\",\"description\":null}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private PatchProcessor jsonPatchProcessor;
+    private PatchProcessor jsonMergePatchProcessor;
+    private Optional<BenchmarkItem> target;
+
+    @Setup
+    public void setup() {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        this.jsonPatchProcessor = new JsonPatchProcessor(objectMapper, NOPLogger.NOP_LOGGER);
+        this.jsonMergePatchProcessor = new JsonMergePatchProcessor(objectMapper, NOPLogger.NOP_LOGGER);
+
+        final BenchmarkItem item = new BenchmarkItem();
+        item.setId(UUID.randomUUID());
+        item.setName("benchmark");
+        item.setDescription("Item patched by the benchmark");
+        this.target = Optional.of(item);
+    }
+
+    @Benchmark
+    public int jsonPatch() throws IOException {
+        return consume(jsonPatchProcessor.apply(new ByteArrayInputStream(JSON_PATCH), target));
+    }
+
+    @Benchmark
+    public int jsonMergePatch() throws IOException {
+        return consume(jsonMergePatchProcessor.apply(new ByteArrayInputStream(JSON_MERGE_PATCH), target));
+    }
+
+    private static int consume(final InputStream input) throws IOException {
+        int length = 0;
+        while (input.read() >= 0)
+            length++;
+
+        return length;
+    }
+}
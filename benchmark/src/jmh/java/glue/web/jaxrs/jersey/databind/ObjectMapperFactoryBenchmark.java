@@ -0,0 +1,41 @@
+package glue.web.jaxrs.jersey.databind;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import glue.benchmark.BenchmarkContainer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the {@link ObjectMapper} production by {@link ObjectMapperFactory}, which copies a preconfigured
+ * template, compared with the creation and configuration of a new instance
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ObjectMapperFactoryBenchmark {
+
+    private ObjectMapperFactory factory;
+
+    @Setup
+    public void setup() {
+        this.factory = BenchmarkContainer.get(ObjectMapperFactory.class);
+    }
+
+    @Benchmark
+    public ObjectMapper build() {
+        return factory.build();
+    }
+
+    @Benchmark
+    public ObjectMapper buildFromScratch() {
+        return new ObjectMapper()
+                .registerModule(new Jdk8Module())
+                .registerModule(new JavaTimeModule());
+    }
+}
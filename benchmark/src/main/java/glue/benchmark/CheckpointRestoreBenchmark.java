@@ -0,0 +1,111 @@
+package glue.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import glue.benchmark.app.BenchmarkApplication;
+import glue.core.CheckpointSupport;
+import glue.core.GlueApplication;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checkpoint and restore benchmark of the sample application
+ *
+ * <p>This harness boots the {@link BenchmarkApplication} in the running JVM, creates an item and measures the time to
+ * the first successful read of the item after the startup and after a checkpoint and restore of the JVM (see
+ * {@link CheckpointSupport}). With a CRaC enabled JDK the JVM is checkpointed to the directory of the
+ * {@code -XX:CRaCCheckpointTo} option and the time is measured after the restore
+ * ({@code java -XX:CRaCRestoreFrom=<directory>}). Without CRaC the checkpoint and restore hooks run in-process.</p>
+ *
+ * <p>The results are printed and written as JSON to the file provided as the first argument. The port can be
+ * changed using the {@code glue.benchmark.port} system property (default 18080).</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+public class CheckpointRestoreBenchmark {
+
+    private static final String JETTY_PORT_PROPERTY = "glue.webcontainer.jetty.port";
+    private static final long REQUEST_TIMEOUT_SECONDS = 60;
+
+    public static void main(String[] args) throws Exception {
+        final Path output = Paths.get(args.length > 0 ? args[0] : "checkpoint-benchmark.json");
+        final int port = Integer.getInteger("glue.benchmark.port", 18080);
+        System.setProperty(JETTY_PORT_PROPERTY, Integer.toString(port));
+
+        final long startupTime = System.nanoTime();
+        GlueApplication.start(BenchmarkApplication.class);
+        final URL itemUrl = MacroBenchmark.createItem(new URL("http://localhost:" + port + "/items"));
+        final long firstRequestTime = System.nanoTime() - startupTime;
+
+        final long checkpointTime = System.nanoTime();
+        CheckpointSupport.checkpointRestore();
+        final long restoreTime = System.nanoTime();
+        final long firstRequestAfterRestoreTime = awaitFirstRequest(itemUrl, restoreTime);
+
+        final Map<String, Object> results = new LinkedHashMap<>();
+        results.put("timestamp", Instant.now().toString());
+        results.put("javaVersion", System.getProperty("java.version"));
+        results.put("cracAvailable", CheckpointSupport.isAvailable());
+        results.put("timeToFirstRequestMillis", TimeUnit.NANOSECONDS.toMillis(firstRequestTime));
+        results.put("checkpointRestoreMillis", TimeUnit.NANOSECONDS.toMillis(restoreTime - checkpointTime));
+        results.put("timeToFirstRequestAfterRestoreMillis",
+                TimeUnit.NANOSECONDS.toMillis(firstRequestAfterRestoreTime));
+
+        final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        final String json = mapper.writeValueAsString(results);
+        if (output.toAbsolutePath().getParent() != null)
+            Files.createDirectories(output.toAbsolutePath().getParent());
+        Files.write(output, json.getBytes(StandardCharsets.UTF_8));
+
+        System.out.println(json);
+        System.out.println("Results written to " + output.toAbsolutePath());
+        System.exit(0);
+    }
+
+    /**
+     * Waits for the first successful request to the provided URL
+     *
+     * @param url Requested URL
+     * @param startTime Start of the measurement, from {@link System#nanoTime()}
+     * @return Time from the start until the first successful request, in nanoseconds
+     * @throws InterruptedException when interrupted while waiting
+     * @throws IllegalStateException when no request succeeds before the timeout
+     */
+    private static long awaitFirstRequest(final URL url, final long startTime) throws InterruptedException {
+        final long deadline = startTime + TimeUnit.SECONDS.toNanos(REQUEST_TIMEOUT_SECONDS);
+        while (System.nanoTime() < deadline) {
+            if (isSuccessful(url))
+                return System.nanoTime() - startTime;
+
+            TimeUnit.MILLISECONDS.sleep(1);
+        }
+
+        throw new IllegalStateException("No successful request to " + url + " in " + REQUEST_TIMEOUT_SECONDS + "s");
+    }
+
+    private static boolean isSuccessful(final URL url) {
+        try {
+            final HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+            connection.setConnectTimeout(1000);
+            connection.setReadTimeout(5000);
+            try {
+                return connection.getResponseCode() == HttpURLConnection.HTTP_OK;
+            } finally {
+                connection.disconnect();
+            }
+        } catch (final IOException ex) {
+            return false;
+        }
+    }
+}
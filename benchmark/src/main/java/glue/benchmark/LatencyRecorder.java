@@ -0,0 +1,109 @@
+package glue.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency samples recorder
+ *
+ * <p>This class keeps every recorded sample, allowing exact percentiles to be calculated. Instances aren't thread-safe:
+ * each load generator thread records into its own instance, merged when the measurement ends.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+public class LatencyRecorder {
+
+    private static final int INITIAL_CAPACITY = 1 << 16;
+
+    private long[] samples;
+    private int count;
+    private boolean sorted;
+
+    /**
+     * Default constructor
+     */
+    public LatencyRecorder() {
+        this.samples = new long[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Records a latency sample
+     *
+     * @param nanos Latency in nanoseconds
+     */
+    public void record(final long nanos) {
+        if (count == samples.length)
+            samples = Arrays.copyOf(samples, samples.length * 2);
+
+        samples[count++] = nanos;
+        sorted = false;
+    }
+
+    /**
+     * Adds all samples of the provided recorder to this one
+     *
+     * @param other Recorder to be merged
+     */
+    public void merge(final LatencyRecorder other) {
+        for (int index = 0; index < other.count; index++)
+            record(other.samples[index]);
+    }
+
+    /**
+     * Returns the number of recorded samples
+     *
+     * @return Number of samples
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the provided percentile of the recorded samples, using the nearest-rank method
+     *
+     * @param percentile Percentile, between 0 and 100
+     * @param unit Time unit of the returned value
+     * @return Latency of the percentile, zero when there are no samples
+     */
+    public double getPercentile(final double percentile, final TimeUnit unit) {
+        if (percentile < 0 || percentile > 100)
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+
+        if (count == 0)
+            return 0;
+
+        sort();
+        final int rank = (int) Math.ceil(percentile / 100 * count);
+        return convert(samples[Math.max(0, rank - 1)], unit);
+    }
+
+    /**
+     * Returns the mean of the recorded samples
+     *
+     * @param unit Time unit of the returned value
+     * @return Mean latency, zero when there are no samples
+     */
+    public double getMean(final TimeUnit unit) {
+        if (count == 0)
+            return 0;
+
+        double sum = 0;
+        for (int index = 0; index < count; index++)
+            sum += samples[index];
+
+        return convert(sum / count, unit);
+    }
+
+    private void sort() {
+        if (sorted)
+            return;
+
+        Arrays.sort(samples, 0, count);
+        sorted = true;
+    }
+
+    private static double convert(final double nanos, final TimeUnit unit) {
+        return nanos / unit.toNanos(1);
+    }
+}
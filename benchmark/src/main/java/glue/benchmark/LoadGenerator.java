@@ -0,0 +1,159 @@
+package glue.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop HTTP load generator
+ *
+ * <p>Each client thread sends a GET request, reads the whole response and immediately sends the next one, reusing
+ * the connections (HTTP keep-alive). The requests sent during the warmup aren't measured.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+public class LoadGenerator {
+
+    private static final int CONNECT_TIMEOUT_MILLIS = 1000;
+    private static final int READ_TIMEOUT_MILLIS = 10000;
+
+    private final URL url;
+    private final int threads;
+
+    /**
+     * Constructor with target URL and number of client threads initialization
+     *
+     * @param url Target URL
+     * @param threads Number of client threads
+     */
+    public LoadGenerator(final URL url, final int threads) {
+        this.url = url;
+        this.threads = threads;
+    }
+
+    /**
+     * Runs the load
+     *
+     * @param warmup Warmup duration, in seconds
+     * @param duration Measurement duration, in seconds
+     * @return Load results
+     * @throws InterruptedException when interrupted while waiting for the client threads
+     */
+    public Result run(final long warmup, final long duration) throws InterruptedException {
+        final long measurementStart = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmup);
+        final long measurementEnd = measurementStart + TimeUnit.SECONDS.toNanos(duration);
+        final LongAdder errors = new LongAdder();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final List<Future<LatencyRecorder>> clients = new ArrayList<>(threads);
+        for (int index = 0; index < threads; index++)
+            clients.add(executor.submit(() -> runClient(measurementStart, measurementEnd, errors)));
+
+        final LatencyRecorder latencies = new LatencyRecorder();
+        try {
+            for (final Future<LatencyRecorder> client : clients)
+                latencies.merge(client.get());
+        } catch (final ExecutionException ex) {
+            throw new IllegalStateException("Load generator client failed", ex.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return new Result(latencies, errors.sum(), TimeUnit.SECONDS.toNanos(duration));
+    }
+
+    /**
+     * Client loop, sending requests until the end of the measurement
+     *
+     * @param measurementStart Start of the measurement, in {@link System#nanoTime()} units
+     * @param measurementEnd End of the measurement, in {@link System#nanoTime()} units
+     * @param errors Error counter
+     * @return Latencies measured by the client
+     */
+    private LatencyRecorder runClient(final long measurementStart, final long measurementEnd, final LongAdder errors) {
+        final LatencyRecorder latencies = new LatencyRecorder();
+        final byte[] buffer = new byte[8192];
+
+        long requestStart;
+        while ((requestStart = System.nanoTime()) < measurementEnd) {
+            final boolean successful = send(buffer);
+            if (requestStart < measurementStart)
+                continue;
+
+            if (successful)
+                latencies.record(System.nanoTime() - requestStart);
+            else
+                errors.increment();
+        }
+
+        return latencies;
+    }
+
+    /**
+     * Sends a request, consuming the whole response
+     *
+     * @param buffer Buffer used to read the response
+     * @return True when the response status is 200, false otherwise
+     */
+    private boolean send(final byte[] buffer) {
+        try {
+            final HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+            connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+            connection.setReadTimeout(READ_TIMEOUT_MILLIS);
+
+            final int status = connection.getResponseCode();
+            try (InputStream input = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+                if (input != null)
+                    while (input.read(buffer) >= 0)
+                        ;
+            }
+
+            return status == HttpURLConnection.HTTP_OK;
+        } catch (final IOException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Results of a load run
+     */
+    public static class Result {
+
+        private final LatencyRecorder latencies;
+        private final long errors;
+        private final long durationNanos;
+
+        Result(final LatencyRecorder latencies, final long errors, final long durationNanos) {
+            this.latencies = latencies;
+            this.errors = errors;
+            this.durationNanos = durationNanos;
+        }
+
+        public LatencyRecorder getLatencies() {
+            return latencies;
+        }
+
+        public long getRequests() {
+            return latencies.getCount();
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        /**
+         * Returns the throughput of the successful requests
+         *
+         * @return Requests per second
+         */
+        public double getThroughput() {
+            return latencies.getCount() / (durationNanos / 1_000_000_000.0);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package glue.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import glue.benchmark.app.BenchmarkApplication;
+import glue.core.GlueApplication;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Macro benchmark of the sample application
+ *
+ * <p>This harness boots the {@link BenchmarkApplication} in the running JVM and measures:</p>
+ * <ul>
+ *     <li>The boot time (the duration of {@link GlueApplication#start(Class)}) and the time from the JVM start until
+ *     the application is started;</li>
+ *     <li>The time from the JVM start until the first successful request, which creates the item used by the load;</li>
+ *     <li>The throughput and the latency percentiles of item reads (GET, which goes through Jersey, Jackson,
+ *     Hibernate and H2) under a closed-loop local load (see {@link LoadGenerator}).</li>
+ * </ul>
+ *
+ * <p>The results are printed and written as JSON to the file provided as the first argument. The settings can be
+ * changed using the system properties {@code glue.benchmark.port} (default 18080), {@code glue.benchmark.threads}
+ * (default 8), {@code glue.benchmark.warmup} (seconds, default 10) and {@code glue.benchmark.duration} (seconds,
+ * default 30).</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+public class MacroBenchmark {
+
+    private static final String JETTY_PORT_PROPERTY = "glue.webcontainer.jetty.port";
+
+    public static void main(String[] args) throws Exception {
+        final Path output = Paths.get(args.length > 0 ? args[0] : "macro-benchmark.json");
+        final int port = Integer.getInteger("glue.benchmark.port", 18080);
+        final int threads = Integer.getInteger("glue.benchmark.threads", 8);
+        final long warmup = Long.getLong("glue.benchmark.warmup", 10);
+        final long duration = Long.getLong("glue.benchmark.duration", 30);
+        System.setProperty(JETTY_PORT_PROPERTY, Integer.toString(port));
+
+        final long jvmStartTime = ManagementFactory.getRuntimeMXBean().getStartTime();
+        final long bootStartTime = System.nanoTime();
+        GlueApplication.start(BenchmarkApplication.class);
+        final long bootTime = System.nanoTime() - bootStartTime;
+        final long readyTime = System.currentTimeMillis() - jvmStartTime;
+
+        final URL itemUrl = createItem(new URL("http://localhost:" + port + "/items"));
+        final long firstRequestTime = System.currentTimeMillis() - jvmStartTime;
+
+        final LoadGenerator.Result load = new LoadGenerator(itemUrl, threads).run(warmup, duration);
+
+        final Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("threads", threads);
+        settings.put("warmupSeconds", warmup);
+        settings.put("durationSeconds", duration);
+
+        final Map<String, Object> startup = new LinkedHashMap<>();
+        startup.put("bootMillis", TimeUnit.NANOSECONDS.toMillis(bootTime));
+        startup.put("jvmStartToReadyMillis", readyTime);
+        startup.put("timeToFirstRequestMillis", firstRequestTime);
+
+        final LatencyRecorder latencies = load.getLatencies();
+        final Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("mean", latencies.getMean(TimeUnit.MICROSECONDS));
+        latency.put("p50", latencies.getPercentile(50, TimeUnit.MICROSECONDS));
+        latency.put("p90", latencies.getPercentile(90, TimeUnit.MICROSECONDS));
+        latency.put("p99", latencies.getPercentile(99, TimeUnit.MICROSECONDS));
+        latency.put("p999", latencies.getPercentile(99.9, TimeUnit.MICROSECONDS));
+        latency.put("max", latencies.getPercentile(100, TimeUnit.MICROSECONDS));
+
+        final Map<String, Object> steadyState = new LinkedHashMap<>();
+        steadyState.put("requests", load.getRequests());
+        steadyState.put("errors", load.getErrors());
+        steadyState.put("throughputPerSecond", load.getThroughput());
+        steadyState.put("latencyMicros", latency);
+
+        final Map<String, Object> results = new LinkedHashMap<>();
+        results.put("timestamp", Instant.now().toString());
+        results.put("javaVersion", System.getProperty("java.version"));
+        results.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        results.put("settings", settings);
+        results.put("startup", startup);
+        results.put("steadyState", steadyState);
+
+        final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        final String json = mapper.writeValueAsString(results);
+        if (output.toAbsolutePath().getParent() != null)
+            Files.createDirectories(output.toAbsolutePath().getParent());
+        Files.write(output, json.getBytes(StandardCharsets.UTF_8));
+
+        System.out.println(json);
+        System.out.println("Results written to " + output.toAbsolutePath());
+        System.exit(load.getErrors() == 0 ? 0 : 1);
+    }
+
+    /**
+     * Creates the item read by the load, returning its URL
+     *
+     * @param itemsUrl Items resource URL
+     * @return Created item URL
+     * @throws IOException when the item can't be created
+     */
+    static URL createItem(final URL itemsUrl) throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection) itemsUrl.openConnection();
+        connection.setRequestMethod("POST");
+        connection.setRequestProperty("Content-Type", "application/json");
+        connection.setDoOutput(true);
+        try (OutputStream body = connection.getOutputStream()) {
+            body.write("{\"name\":\"benchmark\",\"description\":\"Item read by the macro benchmark\"}"
+                    .getBytes(StandardCharsets.UTF_8));
+        }
+
+        if (connection.getResponseCode() != HttpURLConnection.HTTP_CREATED)
+            throw new IOException("Item creation failed with status " + connection.getResponseCode());
+
+        return new URL(connection.getHeaderField("Location"));
+    }
+}
@@ -0,0 +1,19 @@
+package glue.benchmark.app;
+
+import glue.core.GlueApplication;
+
+/**
+ * Sample application used by the macro benchmark
+ *
+ * <p>The application uses the full Glue stack: Jetty, Jersey (with the Jackson and PATCH modules) and JPA with
+ * Hibernate and HikariCP over an in-memory H2 database.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+public class BenchmarkApplication {
+
+    public static void main(String[] args) {
+        GlueApplication.start(BenchmarkApplication.class);
+    }
+}
@@ -0,0 +1,26 @@
+package glue.benchmark.app;
+
+import glue.persistence.hibernate.properties.HibernatePropertiesCustomizer;
+
+import javax.enterprise.inject.Default;
+import java.util.Properties;
+
+/**
+ * Hibernate customizer of the sample application used by the macro benchmark, creating the database schema on startup
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+@Default
+public class BenchmarkHibernateCustomizer implements HibernatePropertiesCustomizer {
+
+    /**
+     * Enables the automatic DDL generation
+     *
+     * @param properties Hibernate properties
+     */
+    @Override
+    public void customize(final Properties properties) {
+        properties.setProperty("hibernate.hbm2ddl.auto", "create");
+    }
+}
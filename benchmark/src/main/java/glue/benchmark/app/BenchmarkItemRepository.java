@@ -0,0 +1,18 @@
+package glue.benchmark.app;
+
+import org.apache.deltaspike.data.api.EntityRepository;
+import org.apache.deltaspike.data.api.Repository;
+import org.apache.deltaspike.jpa.api.transaction.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Repository of the sample application used by the macro benchmark
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+@Repository
+@Transactional
+public interface BenchmarkItemRepository extends EntityRepository<BenchmarkItem, UUID> {
+}
@@ -0,0 +1,75 @@
+package glue.benchmark.app;
+
+import glue.web.jaxrs.patch.api.PatchMediaType;
+import glue.web.jaxrs.patch.api.PatchResource;
+import org.apache.deltaspike.jpa.api.transaction.Transactional;
+
+import javax.inject.Inject;
+import javax.ws.rs.*;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
+import java.net.URI;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * JAX-RS resource of the sample application used by the macro benchmark
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+@Path("/items")
+@Transactional
+public class BenchmarkResource implements PatchResource {
+
+    private final BenchmarkItemRepository repository;
+
+    /**
+     * Constructor with {@link BenchmarkItemRepository} initialization
+     *
+     * @param repository Items repository
+     */
+    @Inject
+    public BenchmarkResource(final BenchmarkItemRepository repository) {
+        this.repository = repository;
+    }
+
+    @GET
+    @Path("/{id}")
+    @Produces(MediaType.APPLICATION_JSON)
+    public BenchmarkItem getById(final @PathParam("id") UUID id) {
+        return repository.findOptionalBy(id).orElseThrow(NotFoundException::new);
+    }
+
+    @POST
+    @Consumes(MediaType.APPLICATION_JSON)
+    public Response post(final BenchmarkItem item, final @Context UriInfo uriInfo) {
+        item.setId(UUID.randomUUID());
+        repository.save(item);
+
+        final URI location = uriInfo.getAbsolutePathBuilder().path(item.getId().toString()).build();
+        return Response.created(location).build();
+    }
+
+    @PATCH
+    @Path("/{id}")
+    @Consumes({MediaType.APPLICATION_JSON, PatchMediaType.JSON_MERGE_PATCH, PatchMediaType.JSON_PATCH})
+    public Response patch(final BenchmarkItem item, final @PathParam("id") UUID id) {
+        item.setId(id);
+        repository.save(item);
+        return Response.ok().build();
+    }
+
+    @Override
+    public Optional<BenchmarkItem> getPatchTargetObject(final ResourceInfo resourceInfo, final UriInfo uriInfo) {
+        final String id = uriInfo.getPathParameters().getFirst("id");
+        try {
+            return repository.findOptionalBy(UUID.fromString(id));
+        } catch (final IllegalArgumentException | NullPointerException ex) {
+            throw new NotFoundException();
+        }
+    }
+}
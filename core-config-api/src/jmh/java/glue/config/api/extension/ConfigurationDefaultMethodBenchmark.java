@@ -0,0 +1,76 @@
+package glue.config.api.extension;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark comparing the cached default method handles of {@link ConfigurationDefaultMethodInvoker} with the
+ * previous path, that created a private {@link MethodHandles.Lookup} and bound a new handle on every call
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-09
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConfigurationDefaultMethodBenchmark {
+
+    public interface Timeouts {
+        Integer getTimeout();
+
+        default Integer getDoubledTimeout() {
+            return getTimeout() * 2;
+        }
+    }
+
+    private Timeouts cachedProxy;
+    private Timeouts legacyProxy;
+
+    @Setup
+    public void setup() {
+        final ConfigurationDefaultMethodInvoker invoker = new ConfigurationDefaultMethodInvoker();
+
+        this.cachedProxy = createProxy((proxy, method, arguments) ->
+                method.isDefault() ? invoker.invoke(proxy, method, arguments) : 10);
+        this.legacyProxy = createProxy((proxy, method, arguments) ->
+                method.isDefault() ? legacyInvoke(proxy, method, arguments) : 10);
+    }
+
+    @Benchmark
+    public Integer cachedMethodHandle() {
+        return cachedProxy.getDoubledTimeout();
+    }
+
+    @Benchmark
+    public Integer lookupOnEveryCall() {
+        return legacyProxy.getDoubledTimeout();
+    }
+
+    private static Timeouts createProxy(final java.lang.reflect.InvocationHandler handler) {
+        return (Timeouts) Proxy.newProxyInstance(
+                Timeouts.class.getClassLoader(), new Class<?>[]{Timeouts.class}, handler
+        );
+    }
+
+    /**
+     * Reproduction of the default method invocation path used before the method handles cache
+     */
+    private static Object legacyInvoke(final Object proxy, final Method method, final Object[] arguments) throws Throwable {
+        final Class<?> configurationInterface = method.getDeclaringClass();
+        final Constructor<MethodHandles.Lookup> constructor = MethodHandles.Lookup.class
+                .getDeclaredConstructor(Class.class);
+        constructor.setAccessible(true);
+
+        return constructor
+                .newInstance(configurationInterface)
+                .in(configurationInterface)
+                .unreflectSpecial(method, configurationInterface)
+                .bindTo(proxy)
+                .invokeWithArguments(arguments);
+    }
+}
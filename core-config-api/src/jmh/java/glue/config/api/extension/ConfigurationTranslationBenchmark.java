@@ -0,0 +1,123 @@
+package glue.config.api.extension;
+
+import glue.config.api.translator.ConfigurationValueTranslator;
+import glue.core.util.CdiUtils;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.helpers.NOPLogger;
+
+import javax.enterprise.inject.spi.BeanManager;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark comparing the cached translation plans of {@link DefaultConfigurationTranslator} and
+ * {@link ConfigurationValueTranslatorBridge} with the previous reflective translation path
+ *
+ * <p>The legacy path is reproduced here as it was before the translation plans: one CDI lookup per translation
+ * followed by reflective discovery and invocation of the constructor or factory method (or a linear scan of the
+ * enum constants).</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-06
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConfigurationTranslationBenchmark {
+
+    private static final String[] FACTORY_METHOD_NAMES = { "valueOf", "fromString", "parse", "parseString" };
+
+    private CdiUtils cdiUtils;
+    private ConfigurationValueTranslatorBridge bridge;
+
+    @Setup
+    public void setup() {
+        final BeanManager beanManager = (BeanManager) Proxy.newProxyInstance(
+                BeanManager.class.getClassLoader(),
+                new Class<?>[] { BeanManager.class },
+                (proxy, method, arguments) -> "getBeans".equals(method.getName()) ? Collections.emptySet() : null
+        );
+
+        this.cdiUtils = new CdiUtils(beanManager, NOPLogger.NOP_LOGGER);
+        this.bridge = new ConfigurationValueTranslatorBridge(cdiUtils, NOPLogger.NOP_LOGGER);
+    }
+
+    @Benchmark
+    public Object integerUsingPlan() {
+        return DefaultConfigurationTranslator.forType(Integer.class).translate("12345");
+    }
+
+    @Benchmark
+    public Object integerUsingReflection() {
+        return legacyTranslate(Integer.class, "12345");
+    }
+
+    @Benchmark
+    public Object enumUsingPlan() {
+        return DefaultConfigurationTranslator.forType(ChronoUnit.class).translate("millis");
+    }
+
+    @Benchmark
+    public Object enumUsingReflection() {
+        return legacyTranslate(ChronoUnit.class, "millis");
+    }
+
+    @Benchmark
+    public Object bridgeUsingPlan() {
+        return bridge.translate("12345", Long.class);
+    }
+
+    @Benchmark
+    public Object bridgeUsingReflection() {
+        return cdiUtils
+                .<ConfigurationValueTranslator<Long>>getTypedBean(ConfigurationValueTranslator.class, Long.class)
+                .map(translator -> translator.translate("12345"))
+                .orElseGet(() -> legacyTranslate(Long.class, "12345"));
+    }
+
+    /**
+     * Reproduction of the reflective translation path used before the translation plans
+     */
+    private static <T> T legacyTranslate(final Class<T> targetType, final String value) {
+        try {
+            if (targetType.isEnum())
+                return Arrays.stream(targetType.getEnumConstants())
+                        .filter(constant -> ((Enum<?>) constant).name().equalsIgnoreCase(value))
+                        .findAny()
+                        .orElseThrow(IllegalArgumentException::new);
+
+            if (legacyContainsConstructor(targetType))
+                return targetType.getConstructor(String.class).newInstance(value);
+
+            for (final String methodName : FACTORY_METHOD_NAMES)
+                if (legacyContainsMethod(targetType, methodName))
+                    return (T) targetType.getMethod(methodName, String.class).invoke(null, value);
+
+            throw new IllegalArgumentException();
+        } catch (final ReflectiveOperationException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static boolean legacyContainsConstructor(final Class<?> targetType) {
+        try {
+            return Modifier.isPublic(targetType.getConstructor(String.class).getModifiers());
+        } catch (final NoSuchMethodException ex) {
+            return false;
+        }
+    }
+
+    private static boolean legacyContainsMethod(final Class<?> targetType, final String methodName) {
+        try {
+            final Method method = targetType.getMethod(methodName, String.class);
+            return Modifier.isStatic(method.getModifiers()) && Modifier.isPublic(method.getModifiers());
+        } catch (final NoSuchMethodException ex) {
+            return false;
+        }
+    }
+}
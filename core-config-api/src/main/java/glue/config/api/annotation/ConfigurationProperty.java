@@ -43,4 +43,12 @@ public @interface ConfigurationProperty {
      */
     boolean required() default  false;
 
+    /**
+     * Defines if the configuration value can be cached after its first resolution. Values that change frequently
+     * and aren't notified to the {@link glue.config.api.cache.ConfigurationCache} should disable it.
+     *
+     * @return Flag for cacheable configuration value
+     */
+    boolean cacheable() default true;
+
 }
@@ -0,0 +1,32 @@
+package glue.config.api.cache;
+
+import glue.config.api.resolver.ConfigurationResolver;
+
+/**
+ * Configuration values cache contract
+ *
+ * <p>Configuration values are resolved and translated only once per configuration method and then kept in memory by
+ * the configuration API. This interface exposes the invalidation hooks of that cache, allowing
+ * {@link ConfigurationResolver} implementations (or anyone else) to notify the configuration API that the underlying
+ * values changed and should be resolved again on the next call.</p>
+ *
+ * <p>An instance of this interface is available for injection using CDI.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-05
+ */
+public interface ConfigurationCache {
+
+    /**
+     * Invalidates the cached values of the provided configuration key
+     *
+     * @param key Configuration key (prefix included) to be invalidated
+     */
+    void invalidate(String key);
+
+    /**
+     * Invalidates all cached configuration values
+     */
+    void invalidateAll();
+
+}
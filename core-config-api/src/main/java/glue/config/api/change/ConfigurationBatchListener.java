@@ -0,0 +1,19 @@
+package glue.config.api.change;
+
+/**
+ * Listener of the value changes of a whole configuration interface
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-15
+ */
+@FunctionalInterface
+public interface ConfigurationBatchListener {
+
+    /**
+     * Called when one or more values of the configuration interface change
+     *
+     * @param batch Batch of configuration changes
+     */
+    void onChanges(ConfigurationChangeBatch batch);
+
+}
@@ -0,0 +1,77 @@
+package glue.config.api.change;
+
+import java.lang.reflect.Method;
+
+/**
+ * Change of a configuration value
+ *
+ * <p>This class holds the previous and current values of a configuration interface method, both already translated
+ * to the method return type.</p>
+ *
+ * @param <T> Generic type of the configuration value
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-15
+ */
+public final class ConfigurationChange<T> {
+
+    private final Method method;
+    private final String key;
+    private final T oldValue;
+    private final T newValue;
+
+    /**
+     * Constructor with change details initialization
+     *
+     * @param method Configuration method
+     * @param key Configuration key (prefix included)
+     * @param oldValue Previous value
+     * @param newValue Current value
+     */
+    public ConfigurationChange(final Method method, final String key, final T oldValue, final T newValue) {
+        this.method = method;
+        this.key = key;
+        this.oldValue = oldValue;
+        this.newValue = newValue;
+    }
+
+    /**
+     * Returns the configuration interface method whose value changed
+     *
+     * @return Configuration method
+     */
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * Returns the configuration key (prefix included) whose value changed
+     *
+     * @return Configuration key
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Returns the previous value
+     *
+     * @return Previous value
+     */
+    public T getOldValue() {
+        return oldValue;
+    }
+
+    /**
+     * Returns the current value
+     *
+     * @return Current value
+     */
+    public T getNewValue() {
+        return newValue;
+    }
+
+    @Override
+    public String toString() {
+        return key + ": " + oldValue + " -> " + newValue;
+    }
+}
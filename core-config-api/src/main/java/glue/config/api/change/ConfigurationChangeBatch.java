@@ -0,0 +1,64 @@
+package glue.config.api.change;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Batch of configuration changes of a configuration interface
+ *
+ * <p>Changes detected within the same coalescing window are delivered together, allowing listeners to apply
+ * related values (like the minimum and maximum sizes of a pool) at once.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-15
+ */
+public final class ConfigurationChangeBatch {
+
+    private final Class<?> configurationInterface;
+    private final List<ConfigurationChange<?>> changes;
+
+    /**
+     * Constructor with configuration interface and changes initialization
+     *
+     * @param configurationInterface Configuration interface
+     * @param changes Changes of the batch
+     */
+    public ConfigurationChangeBatch(final Class<?> configurationInterface, final List<ConfigurationChange<?>> changes) {
+        this.configurationInterface = configurationInterface;
+        this.changes = Collections.unmodifiableList(changes);
+    }
+
+    /**
+     * Returns the configuration interface of the changes
+     *
+     * @return Configuration interface
+     */
+    public Class<?> getConfigurationInterface() {
+        return configurationInterface;
+    }
+
+    /**
+     * Returns all changes of the batch
+     *
+     * @return Unmodifiable list of changes
+     */
+    public List<ConfigurationChange<?>> getChanges() {
+        return changes;
+    }
+
+    /**
+     * Looks for the change of the provided configuration method name
+     *
+     * @param methodName Configuration method name
+     * @param <T> Generic type of the configuration value
+     * @return Change of the method, when available in this batch
+     */
+    public <T> Optional<ConfigurationChange<T>> findChange(final String methodName) {
+        return changes
+                .stream()
+                .filter(change -> change.getMethod().getName().equals(methodName))
+                .map(change -> (ConfigurationChange<T>) change)
+                .findFirst();
+    }
+}
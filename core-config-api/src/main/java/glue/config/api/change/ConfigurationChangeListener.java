@@ -0,0 +1,20 @@
+package glue.config.api.change;
+
+/**
+ * Listener of the value changes of a configuration interface method
+ *
+ * @param <T> Generic type of the configuration value
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-15
+ */
+@FunctionalInterface
+public interface ConfigurationChangeListener<T> {
+
+    /**
+     * Called when the configuration value changes
+     *
+     * @param change Configuration change
+     */
+    void onChange(ConfigurationChange<T> change);
+
+}
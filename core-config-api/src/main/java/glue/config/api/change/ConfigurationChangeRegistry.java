@@ -0,0 +1,44 @@
+package glue.config.api.change;
+
+/**
+ * Configuration changes subscription registry
+ *
+ * <p>This interface allows components to be notified when configuration values change at runtime (for example, when
+ * a {@link glue.config.api.resolver.ConfigurationResolver} reloads its source and invalidates the cached values using
+ * {@link glue.config.api.cache.ConfigurationCache}), making runtime retuning possible without polling.</p>
+ *
+ * <p>Invalidations are coalesced: all of them within a short window produce a single batch of changes, with one
+ * change per configuration method holding the value known before the window and the current one. Methods whose value
+ * didn't actually change aren't notified. Listeners are called in a dedicated thread, never in the thread that
+ * triggered the invalidation.</p>
+ *
+ * <p>An instance of this interface is available for injection using CDI.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-15
+ */
+public interface ConfigurationChangeRegistry {
+
+    /**
+     * Subscribes a listener for the changes of a configuration interface method
+     *
+     * @param configurationInterface Configuration interface
+     * @param methodName Name of the configuration method
+     * @param listener Listener to be notified
+     * @param <T> Generic type of the configuration value
+     * @return Listener subscription
+     */
+    <T> ConfigurationSubscription subscribe(Class<?> configurationInterface,
+                                            String methodName,
+                                            ConfigurationChangeListener<T> listener);
+
+    /**
+     * Subscribes a listener for the changes of any method of a configuration interface
+     *
+     * @param configurationInterface Configuration interface
+     * @param listener Listener to be notified
+     * @return Listener subscription
+     */
+    ConfigurationSubscription subscribe(Class<?> configurationInterface, ConfigurationBatchListener listener);
+
+}
@@ -0,0 +1,17 @@
+package glue.config.api.change;
+
+/**
+ * Subscription of a configuration change listener
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-15
+ */
+@FunctionalInterface
+public interface ConfigurationSubscription {
+
+    /**
+     * Cancels the subscription. The listener will not be notified of any further change.
+     */
+    void cancel();
+
+}
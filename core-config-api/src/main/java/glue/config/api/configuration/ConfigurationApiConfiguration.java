@@ -0,0 +1,34 @@
+package glue.config.api.configuration;
+
+import glue.config.api.annotation.ConfigurationInterface;
+import glue.config.api.annotation.ConfigurationProperty;
+
+import java.util.Optional;
+
+/**
+ * Configuration interface for the configuration API itself
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-10
+ */
+@ConfigurationInterface(prefix = "glue.config.")
+public interface ConfigurationApiConfiguration {
+
+    /**
+     * Enables the eager resolution of all configuration interfaces in use during the CDI startup. When enabled,
+     * missing or untranslatable configuration values will abort the application startup.
+     *
+     * @return Eager resolution flag
+     */
+    @ConfigurationProperty(key = "eagerResolution.enabled", defaultValue = "false")
+    Boolean isEagerResolutionEnabled();
+
+    /**
+     * Maximum number of threads to be used by the eager resolution. Defaults to the number of available processors.
+     *
+     * @return Eager resolution parallelism
+     */
+    @ConfigurationProperty(key = "eagerResolution.parallelism")
+    Optional<Integer> getEagerResolutionParallelism();
+
+}
@@ -0,0 +1,174 @@
+package glue.config.api.extension;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Configuration method resolution cache entry
+ *
+ * <p>This class holds everything the configuration API needs to resolve the value of a configuration method,
+ * extracted only once from its {@link ConfigurationMetadata}: the configuration key, default value, target types
+ * and container flag. Alongside that, the entry keeps the last resolved and translated value, making any subsequent
+ * call cost no more than a volatile field read.</p>
+ *
+ * <p>Values are kept until invalidated or, when the resolvers define a value time to live for the key (see
+ * {@link ConfigurationResolverChain#getValueTtl(String)}), until it expires.</p>
+ *
+ * <p>Invalidations that happen while a resolution is in progress are tracked using a version counter, ensuring that
+ * a stale value never overwrites an invalidation.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-05
+ */
+final class ConfigurationCacheEntry {
+
+    private final Method method;
+    private final String key;
+    private final String defaultValue;
+    private final boolean required;
+    private final boolean cacheable;
+    private final Class<?> returnType;
+    private final Class<?> valueType;
+    private final boolean container;
+    private final long valueTtlNanos;
+    private volatile CachedValue cachedValue;
+    private long version;
+
+    /**
+     * Package protected constructor with the entry information initialization
+     *
+     * @param method Configuration method
+     * @param metadata Configuration metadata of the method
+     * @param valueType Type of the configuration value (the same of the return type when it isn't a container)
+     * @param container Flag indicating if the return type is a container (like {@link java.util.Optional})
+     * @param valueTtl Time to live of the resolved values, null when they're kept until invalidated
+     */
+    ConfigurationCacheEntry(final Method method,
+                            final ConfigurationMetadata metadata,
+                            final Class<?> valueType,
+                            final boolean container,
+                            final Duration valueTtl) {
+        this.method = method;
+        this.key = metadata.getKey();
+        this.defaultValue = metadata.getDefaultValue();
+        this.required = metadata.isRequired();
+        this.valueTtlNanos = valueTtl == null ? Long.MAX_VALUE : toNanosSaturated(valueTtl);
+        this.cacheable = metadata.isCacheable() && valueTtlNanos > 0;
+        this.returnType = metadata.getTargetType();
+        this.valueType = valueType;
+        this.container = container;
+    }
+
+    /**
+     * Returns the cached value, resolving it using the provided function when no value is cached
+     *
+     * @param resolver Function that resolves the value for this entry
+     * @return Configuration value
+     */
+    Object getValue(final Function<ConfigurationCacheEntry, Object> resolver) {
+        final CachedValue currentValue = cachedValue;
+        if (currentValue != null && currentValue.isValid())
+            return currentValue.value;
+
+        final long expectedVersion;
+        synchronized (this) {
+            expectedVersion = version;
+        }
+
+        final long resolutionTime = System.nanoTime();
+        final Object resolvedValue = resolver.apply(this);
+        if (cacheable)
+            synchronized (this) {
+                if (version == expectedVersion)
+                    cachedValue = new CachedValue(resolvedValue, resolutionTime, valueTtlNanos);
+            }
+
+        return resolvedValue;
+    }
+
+    /**
+     * Discards the cached value, forcing a new resolution on the next call
+     */
+    synchronized void invalidate() {
+        version++;
+        cachedValue = null;
+    }
+
+    /**
+     * Returns if a valid value is currently cached
+     *
+     * @return True when a value is cached
+     */
+    boolean isResolved() {
+        final CachedValue currentValue = cachedValue;
+        return currentValue != null && currentValue.isValid();
+    }
+
+    Method getMethod() {
+        return method;
+    }
+
+    String getKey() {
+        return key;
+    }
+
+    String getDefaultValue() {
+        return defaultValue;
+    }
+
+    boolean isRequired() {
+        return required;
+    }
+
+    Class<?> getReturnType() {
+        return returnType;
+    }
+
+    Class<?> getValueType() {
+        return valueType;
+    }
+
+    Type getGenericReturnType() {
+        return method.getGenericReturnType();
+    }
+
+    boolean isContainer() {
+        return container;
+    }
+
+    /**
+     * Converts the provided duration to nanoseconds, saturating to {@link Long#MAX_VALUE} on overflow
+     *
+     * @param duration Duration
+     * @return Duration in nanoseconds
+     */
+    private static long toNanosSaturated(final Duration duration) {
+        try {
+            return Math.max(0, duration.toNanos());
+        } catch (final ArithmeticException ex) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Cached value with its expiration time
+     */
+    private static final class CachedValue {
+
+        private final Object value;
+        private final boolean expiring;
+        private final long expiresAt;
+
+        private CachedValue(final Object value, final long resolutionTime, final long ttlNanos) {
+            this.value = value;
+            this.expiring = ttlNanos < Long.MAX_VALUE / 2;
+            this.expiresAt = resolutionTime + ttlNanos;
+        }
+
+        private boolean isValid() {
+            return !expiring || System.nanoTime() - expiresAt < 0;
+        }
+    }
+}
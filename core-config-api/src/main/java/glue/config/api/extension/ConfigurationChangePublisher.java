@@ -0,0 +1,303 @@
+package glue.config.api.extension;
+
+import glue.config.api.annotation.ConfigurationInterface;
+import glue.config.api.change.*;
+import glue.config.api.exception.ConfigurationException;
+import glue.core.executor.ManagedScheduler;
+import org.slf4j.Logger;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * {@link ConfigurationChangeRegistry} implementation
+ *
+ * <p>This class tracks the last known value of every subscribed configuration method. When the
+ * {@link ConfigurationValueCache} reports an invalidation of subscribed methods, a flush is scheduled in a dedicated
+ * managed scheduler after a short coalescing window. The flush resolves the current values again (priming the
+ * cache in the process), compares them with the last known ones and notifies the listeners of the methods whose
+ * value actually changed.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-15
+ */
+@Singleton
+class ConfigurationChangePublisher implements ConfigurationChangeRegistry {
+
+    static final long COALESCING_WINDOW_MILLIS = 50;
+    static final String EXECUTOR_NAME = "glue-config-change-publisher";
+
+    private final ConfigurationProxyHandler handler;
+    private final Logger logger;
+    private final Map<Method, MethodSubscriptions> methodSubscriptions;
+    private final List<InterfaceSubscription> interfaceSubscriptions;
+    private final Set<Method> pendingMethods;
+    private final AtomicBoolean flushScheduled;
+    private final ScheduledExecutorService executor;
+
+    /**
+     * Package protected constructor with {@link ConfigurationProxyHandler}, {@link ConfigurationValueCache},
+     * {@link ScheduledExecutorService} and {@link Logger} initialization
+     *
+     * @param handler Configuration proxy handler, used to resolve the current values
+     * @param cache Configuration values cache, source of the invalidations
+     * @param executor Managed scheduler where the flushes run
+     * @param logger Logger
+     */
+    @Inject
+    ConfigurationChangePublisher(final ConfigurationProxyHandler handler,
+                                 final ConfigurationValueCache cache,
+                                 final @ManagedScheduler(EXECUTOR_NAME) ScheduledExecutorService executor,
+                                 final Logger logger) {
+        this.handler = handler;
+        this.logger = logger;
+        this.methodSubscriptions = new ConcurrentHashMap<>();
+        this.interfaceSubscriptions = new CopyOnWriteArrayList<>();
+        this.pendingMethods = ConcurrentHashMap.newKeySet();
+        this.flushScheduled = new AtomicBoolean();
+        this.executor = executor;
+
+        cache.setInvalidationListener(this::onInvalidation);
+    }
+
+    /**
+     * Subscribes a listener for the changes of a configuration interface method
+     *
+     * @param configurationInterface Configuration interface
+     * @param methodName Name of the configuration method
+     * @param listener Listener to be notified
+     * @param <T> Generic type of the configuration value
+     * @return Listener subscription
+     */
+    @Override
+    public <T> ConfigurationSubscription subscribe(final Class<?> configurationInterface,
+                                                   final String methodName,
+                                                   final ConfigurationChangeListener<T> listener) {
+        Objects.requireNonNull(listener);
+        final Method method = getConfigurationMethods(configurationInterface)
+                .stream()
+                .filter(candidate -> candidate.getName().equals(methodName))
+                .findFirst()
+                .orElseThrow(() -> new ConfigurationException("Configuration method " + methodName +
+                        " not found in " + configurationInterface.getName()));
+
+        final MethodSubscriptions subscriptions = track(method);
+        final ConfigurationChangeListener<Object> valueListener = asValueListener(listener);
+        subscriptions.listeners.add(valueListener);
+        return () -> subscriptions.listeners.remove(valueListener);
+    }
+
+    /**
+     * Subscribes a listener for the changes of any method of a configuration interface
+     *
+     * @param configurationInterface Configuration interface
+     * @param listener Listener to be notified
+     * @return Listener subscription
+     */
+    @Override
+    public ConfigurationSubscription subscribe(final Class<?> configurationInterface,
+                                               final ConfigurationBatchListener listener) {
+        Objects.requireNonNull(listener);
+        final List<Method> methods = getConfigurationMethods(configurationInterface);
+        methods.forEach(this::track);
+
+        final InterfaceSubscription subscription =
+                new InterfaceSubscription(configurationInterface, new HashSet<>(methods), listener);
+        interfaceSubscriptions.add(subscription);
+        return () -> interfaceSubscriptions.remove(subscription);
+    }
+
+    /**
+     * Handles the invalidation of configuration methods, scheduling a flush when any of them is subscribed
+     *
+     * @param methods Invalidated methods
+     */
+    void onInvalidation(final Collection<Method> methods) {
+        boolean subscribed = false;
+        for (final Method method : methods)
+            if (methodSubscriptions.containsKey(method)) {
+                pendingMethods.add(method);
+                subscribed = true;
+            }
+
+        if (!subscribed || !flushScheduled.compareAndSet(false, true))
+            return;
+
+        try {
+            executor.schedule(this::flush, COALESCING_WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (final RejectedExecutionException ex) {
+            logger.debug("Configuration changes ignored since the application is stopping");
+        }
+    }
+
+    /**
+     * Resolves the current values of the pending methods and notifies the listeners about the changed ones
+     */
+    void flush() {
+        flushScheduled.set(false);
+
+        final List<ConfigurationChange<Object>> changes = new ArrayList<>();
+        final Iterator<Method> iterator = pendingMethods.iterator();
+        while (iterator.hasNext()) {
+            final Method method = iterator.next();
+            iterator.remove();
+            detectChange(method).ifPresent(changes::add);
+        }
+
+        if (changes.isEmpty())
+            return;
+
+        logger.info("Configuration changes detected: {}", changes);
+        changes.forEach(this::notifyMethodListeners);
+        interfaceSubscriptions.forEach(subscription -> notifyInterfaceListener(subscription, changes));
+    }
+
+    /**
+     * Starts tracking the value of the provided method, when not tracked yet
+     *
+     * @param method Configuration method
+     * @return Subscriptions of the method
+     */
+    private MethodSubscriptions track(final Method method) {
+        return methodSubscriptions.computeIfAbsent(method, target -> new MethodSubscriptions(
+                new ConfigurationMetadata(target).getKey(), handler.resolve(target)
+        ));
+    }
+
+    /**
+     * Resolves the current value of the method and compares it with the last known one
+     *
+     * @param method Configuration method
+     * @return Configuration change, when the value changed
+     */
+    private Optional<ConfigurationChange<Object>> detectChange(final Method method) {
+        final MethodSubscriptions subscriptions = methodSubscriptions.get(method);
+        final Object newValue;
+        try {
+            newValue = handler.resolve(method);
+        } catch (final Exception ex) {
+            logger.error("Unable to resolve the new value of configuration key {}. Listeners will not be notified.",
+                    subscriptions.key, ex);
+            return Optional.empty();
+        }
+
+        final Object oldValue = subscriptions.lastValue;
+        if (Objects.equals(oldValue, newValue))
+            return Optional.empty();
+
+        subscriptions.lastValue = newValue;
+        return Optional.of(new ConfigurationChange<>(method, subscriptions.key, oldValue, newValue));
+    }
+
+    /**
+     * Notifies the listeners of the changed method
+     *
+     * @param change Configuration change
+     */
+    private void notifyMethodListeners(final ConfigurationChange<Object> change) {
+        for (final ConfigurationChangeListener<Object> listener : methodSubscriptions.get(change.getMethod()).listeners)
+            try {
+                listener.onChange(change);
+            } catch (final Exception ex) {
+                logger.error("Error notifying configuration change of key {}", change.getKey(), ex);
+            }
+    }
+
+    /**
+     * Notifies the interface listener with the changes of its methods, when any
+     *
+     * @param subscription Interface subscription
+     * @param changes All detected changes
+     */
+    private void notifyInterfaceListener(final InterfaceSubscription subscription,
+                                         final List<ConfigurationChange<Object>> changes) {
+        final List<ConfigurationChange<?>> interfaceChanges = changes
+                .stream()
+                .filter(change -> subscription.methods.contains(change.getMethod()))
+                .collect(Collectors.toList());
+
+        if (interfaceChanges.isEmpty())
+            return;
+
+        try {
+            subscription.listener.onChanges(
+                    new ConfigurationChangeBatch(subscription.configurationInterface, interfaceChanges)
+            );
+        } catch (final Exception ex) {
+            logger.error("Error notifying configuration changes of {}",
+                    subscription.configurationInterface.getName(), ex);
+        }
+    }
+
+    /**
+     * Adapts the listener of a method to the untyped values tracked by this class. The values of a method are
+     * always of its return type, which is the type the listener expects.
+     *
+     * @param listener Listener of a configuration method
+     * @param <T> Generic type of the configuration value
+     * @return Listener of untyped values
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> ConfigurationChangeListener<Object> asValueListener(
+            final ConfigurationChangeListener<T> listener) {
+        return (ConfigurationChangeListener<Object>) (ConfigurationChangeListener<?>) listener;
+    }
+
+    /**
+     * Returns the configuration methods (abstract ones) of the provided configuration interface
+     *
+     * @param configurationInterface Configuration interface
+     * @return Configuration methods
+     */
+    private List<Method> getConfigurationMethods(final Class<?> configurationInterface) {
+        if (!configurationInterface.isInterface()
+                || configurationInterface.getAnnotation(ConfigurationInterface.class) == null)
+            throw new ConfigurationException(configurationInterface.getName() + " isn't a configuration interface");
+
+        return Arrays
+                .stream(configurationInterface.getMethods())
+                .filter(method -> !method.isDefault() && !Modifier.isStatic(method.getModifiers()))
+                .filter(method -> method.getParameterCount() == 0)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Subscriptions and last known value of a configuration method
+     */
+    private static final class MethodSubscriptions {
+
+        private final String key;
+        private final List<ConfigurationChangeListener<Object>> listeners;
+        private volatile Object lastValue;
+
+        private MethodSubscriptions(final String key, final Object lastValue) {
+            this.key = key;
+            this.lastValue = lastValue;
+            this.listeners = new CopyOnWriteArrayList<>();
+        }
+    }
+
+    /**
+     * Subscription of a configuration interface listener
+     */
+    private static final class InterfaceSubscription {
+
+        private final Class<?> configurationInterface;
+        private final Set<Method> methods;
+        private final ConfigurationBatchListener listener;
+
+        private InterfaceSubscription(final Class<?> configurationInterface,
+                                      final Set<Method> methods,
+                                      final ConfigurationBatchListener listener) {
+            this.configurationInterface = configurationInterface;
+            this.methods = methods;
+            this.listener = listener;
+        }
+    }
+}
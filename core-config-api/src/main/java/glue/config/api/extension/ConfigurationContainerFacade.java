@@ -3,6 +3,7 @@ package glue.config.api.extension;
 import glue.config.api.exception.ConfigurationException;
 import glue.config.api.translator.ConfigurationContainerTranslator;
 import glue.core.util.CdiUtils;
+import glue.core.util.LogUtils;
 import org.slf4j.Logger;
 
 import javax.inject.Inject;
@@ -49,7 +50,7 @@ class ConfigurationContainerFacade {
      * @return Result of the validation. True means that a {@link ConfigurationContainerTranslator} is available.
      */
     <T> boolean isAContainer(final Class<T> returnType) {
-        logger.debug("Checking if {} is a container by looking for available ConfigurationContainerTranslator", returnType.getName());
+        LogUtils.debug(logger, "Checking if {} is a container by looking for available ConfigurationContainerTranslator", returnType.getName());
         return getTranslator(returnType).isPresent();
     }
 
@@ -78,7 +79,7 @@ class ConfigurationContainerFacade {
      * @return Target configuration value type
      */
     <T> Class<?> getTargetConfigurationValueType(final Class<T> containerType, final Type returnType) {
-        logger.debug("Checking {} container value type for {}", containerType.getName(), returnType);
+        LogUtils.debug(logger, "Checking {} container value type for {}", containerType.getName(), returnType);
         return getTranslator(containerType)
                 .orElseThrow(() -> new RuntimeException("Unknown error found"))
                 .getTargetType(returnType);
@@ -100,7 +101,7 @@ class ConfigurationContainerFacade {
      *                                is found
      */
     <T, V> T translate(final V value, final Class<T> containerType) {
-        logger.debug("Translating configuration value '{}' to container of type {}", value, containerType.getName());
+        LogUtils.debug(logger, "Translating configuration value '{}' to container of type {}", value, containerType.getName());
 
         return getTranslator(containerType)
                 .orElseThrow(() -> new RuntimeException("Unknown error found"))
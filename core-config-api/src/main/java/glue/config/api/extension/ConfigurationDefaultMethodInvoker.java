@@ -0,0 +1,118 @@
+package glue.config.api.extension;
+
+import glue.config.api.exception.ConfigurationException;
+
+import javax.inject.Singleton;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Invoker of default methods of configuration interfaces
+ *
+ * <p>When a method is detected in interface with default implementation the configuration API will not intercept
+ * the execution of it. Instead the actual implementation will be called. This class does the invocation of it using
+ * the {@link MethodHandles} API.</p>
+ *
+ * <p>One unbound {@link MethodHandle} is built and cached for each default method, already adapted to receive the
+ * proxy instance and the arguments array, making every call a single {@link MethodHandle#invokeExact} call. On
+ * Java 9 and newer the private lookup is obtained using {@code MethodHandles.privateLookupIn}, while on Java 8 the
+ * private {@link MethodHandles.Lookup} constructor is used instead.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-09
+ */
+@Singleton
+class ConfigurationDefaultMethodInvoker {
+
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+    private static final MethodType INVOCATION_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+    private static final Method PRIVATE_LOOKUP_IN = findPrivateLookupIn();
+
+    private final Map<Method, MethodHandle> handles;
+
+    /**
+     * Package protected default constructor
+     */
+    ConfigurationDefaultMethodInvoker() {
+        this.handles = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Fires the default implementation of the method in the interface
+     *
+     * @param proxyInstance Proxy instance where the call happened
+     * @param calledMethod Called method in the proxy
+     * @param arguments Call arguments
+     * @return Returned value by the default implementation
+     * @throws Throwable When any exception happens
+     */
+    Object invoke(final Object proxyInstance,
+                  final Method calledMethod,
+                  final Object[] arguments) throws Throwable {
+        MethodHandle handle = handles.get(calledMethod);
+        if (handle == null) {
+            handle = buildHandle(calledMethod);
+            handles.putIfAbsent(calledMethod, handle);
+        }
+
+        final Object[] handleArguments = arguments == null ? NO_ARGUMENTS : arguments;
+        return (Object) handle.invokeExact(proxyInstance, handleArguments);
+    }
+
+    /**
+     * Builds the unbound method handle of the default method
+     *
+     * @param method Default method
+     * @return Method handle with {@code (Object, Object[])Object} type
+     */
+    private MethodHandle buildHandle(final Method method) {
+        final Class<?> configurationInterface = method.getDeclaringClass();
+        try {
+            return privateLookupIn(configurationInterface)
+                    .unreflectSpecial(method, configurationInterface)
+                    .asSpreader(Object[].class, method.getParameterCount())
+                    .asType(INVOCATION_TYPE);
+        } catch (final ReflectiveOperationException ex) {
+            throw new ConfigurationException(
+                    "Error creating method handle for default method " + method.getName() + " from " +
+                            configurationInterface.getName(),
+                    ex
+            );
+        }
+    }
+
+    /**
+     * Returns a lookup with private access to the provided configuration interface
+     *
+     * @param configurationInterface Configuration interface
+     * @return Private lookup
+     * @throws ReflectiveOperationException when the lookup can't be created
+     */
+    private MethodHandles.Lookup privateLookupIn(final Class<?> configurationInterface) throws ReflectiveOperationException {
+        if (PRIVATE_LOOKUP_IN != null)
+            return (MethodHandles.Lookup) PRIVATE_LOOKUP_IN.invoke(null, configurationInterface, MethodHandles.lookup());
+
+        final Constructor<MethodHandles.Lookup> constructor = MethodHandles.Lookup.class
+                .getDeclaredConstructor(Class.class);
+        constructor.setAccessible(true);
+        return constructor.newInstance(configurationInterface).in(configurationInterface);
+    }
+
+    /**
+     * Looks for {@code MethodHandles.privateLookupIn}, available on Java 9 and newer
+     *
+     * @return Method instance or null when not available
+     */
+    private static Method findPrivateLookupIn() {
+        try {
+            return MethodHandles.class.getMethod("privateLookupIn", Class.class, MethodHandles.Lookup.class);
+        } catch (final NoSuchMethodException ex) {
+            return null;
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package glue.config.api.extension;
 
 import glue.config.api.annotation.ConfigurationInterface;
+import glue.config.api.configuration.ConfigurationApiConfiguration;
+import glue.config.api.exception.ConfigurationException;
+import glue.core.profiler.StartupPhase;
+import glue.core.profiler.StartupProfiler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -8,11 +12,13 @@ import javax.enterprise.event.Observes;
 import javax.enterprise.inject.Any;
 import javax.enterprise.inject.Default;
 import javax.enterprise.inject.spi.AfterBeanDiscovery;
+import javax.enterprise.inject.spi.AfterDeploymentValidation;
 import javax.enterprise.inject.spi.BeanManager;
 import javax.enterprise.inject.spi.Extension;
 import javax.enterprise.inject.spi.ProcessInjectionPoint;
 import java.lang.reflect.Type;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -25,9 +31,14 @@ import java.util.Set;
  * When one is detected a dynamic producer is created for the configuration interface, allowing the injection
  * without a concrete implementation for the interface.</p>
  *
- * <p>The creation of the interfaces instances is done using dynamic proxies. For more information read the
+ * <p>The creation of the interfaces instances is done using the implementations generated at compile time by the
+ * configuration API annotation processor when available, or dynamic proxies otherwise. For more information read the
  * {@link ConfigurationProxyFactory} documentation.</p>
  *
+ * <p>When the eager resolution is enabled (see {@link ConfigurationApiConfiguration}), all configuration interfaces
+ * in use are resolved in parallel after the deployment validation. Missing or untranslatable configuration values are
+ * reported as deployment problems, aborting the startup, and the resolved values are kept in cache.</p>
+ *
  * @author Lucas Dillmann
  * @since 1.0.0, 2018-12-02
  */
@@ -41,6 +52,7 @@ public final class ConfigurationExtension implements Extension {
      */
     public ConfigurationExtension() {
         this.configurationInterfaces = new HashSet<>();
+        this.configurationInterfaces.add(ConfigurationApiConfiguration.class);
         this.logger = LoggerFactory.getLogger(getClass());
     }
 
@@ -109,6 +121,57 @@ public final class ConfigurationExtension implements Extension {
                 .produceWith(instance -> produceConfigurationProxy(configurationInterface, beanManager));
     }
 
+    /**
+     * Observes the {@link AfterDeploymentValidation} event and eagerly resolves all configuration interfaces in use
+     * when enabled
+     *
+     * <p>This method resolves every configuration interface detected by the method
+     * {@link #detectConfigurationInterfaces(ProcessInjectionPoint)} using {@link ConfigurationPreloader}. Any failure
+     * is reported as a deployment problem.</p>
+     *
+     * @param afterDeploymentValidation After deployment validation event
+     * @param beanManager Bean manager instance
+     */
+    private void resolveConfigurationsEagerly(final @Observes AfterDeploymentValidation afterDeploymentValidation,
+                                              final BeanManager beanManager) {
+        final ConfigurationApiConfiguration configuration = beanManager
+                .createInstance()
+                .select(ConfigurationApiConfiguration.class)
+                .get();
+
+        if (!configuration.isEagerResolutionEnabled())
+            return;
+
+        final int parallelism = configuration
+                .getEagerResolutionParallelism()
+                .orElse(Runtime.getRuntime().availableProcessors());
+
+        logger.info("Eagerly resolving {} configuration interfaces", configurationInterfaces.size());
+        final long startTime = System.currentTimeMillis();
+
+        try {
+            final StartupPhase phase = StartupProfiler.getInstance().begin("config.eagerResolution");
+            try {
+                final List<ConfigurationException> failures = beanManager
+                        .createInstance()
+                        .select(ConfigurationPreloader.class)
+                        .get()
+                        .preload(configurationInterfaces, parallelism);
+
+                failures.forEach(afterDeploymentValidation::addDeploymentProblem);
+            } finally {
+                phase.close();
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            afterDeploymentValidation.addDeploymentProblem(
+                    new ConfigurationException("Eager configuration resolution was interrupted", ex));
+            return;
+        }
+
+        logger.info("Eager configuration resolution finished in {} ms", System.currentTimeMillis() - startTime);
+    }
+
     /**
      * Configuration instances producer methods
      *
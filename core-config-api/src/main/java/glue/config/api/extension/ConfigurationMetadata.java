@@ -105,6 +105,17 @@ class ConfigurationMetadata {
                 .orElse(false);
     }
 
+    /**
+     * Returns if the configuration value can be cached after the first resolution
+     *
+     * @return Cacheable flag for the configuration
+     */
+    boolean isCacheable() {
+        return getConfigurationPropertyAnnotation()
+                .map(ConfigurationProperty::cacheable)
+                .orElse(true);
+    }
+
     /**
      * Returns the generic return type definition
      *
@@ -0,0 +1,69 @@
+package glue.config.api.extension;
+
+import glue.config.api.cache.ConfigurationCache;
+import glue.core.module.ModuleLifecycle;
+import glue.core.module.Priority;
+import org.slf4j.Logger;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Glue module of the configuration API
+ *
+ * <p>Environment variables and system properties may be different after a JVM restore (see
+ * {@link glue.core.CheckpointSupport}), so this module invalidates all cached configuration values once the JVM is
+ * restored. The change listeners are notified as usual. Restoring is done before the other modules, allowing them to
+ * read the new values.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+@Singleton
+class ConfigurationModule implements ModuleLifecycle {
+
+    private final ConfigurationCache cache;
+    private final Logger logger;
+
+    /**
+     * Constructor with {@link ConfigurationCache} and {@link Logger} initialization
+     *
+     * @param cache Configuration values cache
+     * @param logger Logger
+     */
+    @Inject
+    ConfigurationModule(final ConfigurationCache cache, final Logger logger) {
+        this.cache = cache;
+        this.logger = logger;
+    }
+
+    /**
+     * Starts the module. Configuration values are resolved on demand, so nothing is done here.
+     */
+    @Override
+    public void start() {
+        logger.debug("Configuration values are resolved on demand");
+    }
+
+    /**
+     * Stops the module. Nothing is done here.
+     */
+    @Override
+    public void stop() {
+        logger.debug("Configuration API has nothing to stop");
+    }
+
+    /**
+     * Invalidates all cached configuration values after the JVM restore
+     */
+    @Override
+    public void afterRestore() {
+        logger.info("Re-reading configuration values after the restore");
+        cache.invalidateAll();
+    }
+
+    @Override
+    public Integer getStartPriority() {
+        return Priority.HIGH.asInteger();
+    }
+}
@@ -0,0 +1,127 @@
+package glue.config.api.extension;
+
+import glue.config.api.exception.ConfigurationException;
+import org.slf4j.Logger;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Eager configuration resolution utility
+ *
+ * <p>This class resolves and translates, in parallel, every method of the provided configuration interfaces. Since
+ * the resolution goes through the {@link ConfigurationProxyHandler}, all resolved values end up in the
+ * {@link ConfigurationValueCache}, making the first call to each configuration method as fast as any other.</p>
+ *
+ * <p>The resolution is fail fast: once the first failure is detected all pending resolutions are cancelled.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-10
+ */
+@Singleton
+class ConfigurationPreloader {
+
+    private final ConfigurationProxyHandler handler;
+    private final Logger logger;
+
+    /**
+     * Package protected constructor with {@link ConfigurationProxyHandler} and {@link Logger} initialization
+     *
+     * @param handler Configuration proxy handler
+     * @param logger Logger
+     */
+    @Inject
+    ConfigurationPreloader(final ConfigurationProxyHandler handler,
+                           final Logger logger) {
+        this.handler = handler;
+        this.logger = logger;
+    }
+
+    /**
+     * Resolves all methods of the provided configuration interfaces
+     *
+     * @param configurationInterfaces Configuration interfaces to be resolved
+     * @param parallelism Maximum number of threads to be used
+     * @return Resolution failures. An empty list means that all values were resolved successfully.
+     * @throws InterruptedException when the current thread is interrupted while waiting for the resolutions
+     */
+    List<ConfigurationException> preload(final Collection<Class<?>> configurationInterfaces,
+                                         final int parallelism) throws InterruptedException {
+        final List<Method> methods = getConfigurationMethods(configurationInterfaces);
+        if (methods.isEmpty())
+            return Collections.emptyList();
+
+        final int threads = Math.max(1, Math.min(parallelism, methods.size()));
+        logger.debug("Eagerly resolving {} configuration methods using {} threads", methods.size(), threads);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threads, new PreloaderThreadFactory());
+        try {
+            final CompletionService<Method> completionService = new ExecutorCompletionService<>(executor);
+            methods.forEach(method -> completionService.submit(() -> {
+                handler.resolve(method);
+                return method;
+            }));
+
+            for (int index = 0; index < methods.size(); index++) {
+                try {
+                    completionService.take().get();
+                } catch (final ExecutionException ex) {
+                    return Collections.singletonList(toConfigurationException(ex.getCause()));
+                }
+            }
+
+            return Collections.emptyList();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns all configuration methods (abstract methods) of the provided interfaces
+     *
+     * @param configurationInterfaces Configuration interfaces
+     * @return Configuration methods
+     */
+    private List<Method> getConfigurationMethods(final Collection<Class<?>> configurationInterfaces) {
+        final List<Method> methods = new ArrayList<>();
+        for (final Class<?> configurationInterface : configurationInterfaces)
+            for (final Method method : configurationInterface.getMethods())
+                if (!method.isDefault() && !Modifier.isStatic(method.getModifiers()) && method.getParameterCount() == 0)
+                    methods.add(method);
+
+        return methods;
+    }
+
+    /**
+     * Converts the resolution failure to a {@link ConfigurationException}
+     *
+     * @param cause Resolution failure
+     * @return Configuration exception
+     */
+    private ConfigurationException toConfigurationException(final Throwable cause) {
+        if (cause instanceof ConfigurationException)
+            return (ConfigurationException) cause;
+
+        return new ConfigurationException("Eager configuration resolution failed: " + cause.getMessage(), cause);
+    }
+
+    /**
+     * Thread factory for the eager resolution threads
+     */
+    private static final class PreloaderThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, "glue-config-preloader-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
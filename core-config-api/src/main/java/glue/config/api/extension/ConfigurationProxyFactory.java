@@ -2,21 +2,32 @@ package glue.config.api.extension;
 
 import glue.config.api.annotation.ConfigurationInterface;
 import glue.config.api.exception.ConfigurationException;
+import glue.config.api.generated.ConfigurationValueSource;
+import glue.core.util.LogUtils;
 import org.slf4j.Logger;
 
 import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Proxy;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Proxy factory class for configuration interfaces
  *
- * <p>This class produces dynamic Java proxies for configuration interfaces</p>
+ * <p>This class produces instances for configuration interfaces. When the configuration API annotation processor
+ * generated an implementation for the interface at compile time, that implementation is used. Otherwise a dynamic
+ * Java proxy is produced instead.</p>
  */
+@Singleton
 class ConfigurationProxyFactory {
 
     private final ConfigurationProxyHandler handler;
     private final Logger logger;
+    private final Map<Class<?>, Optional<Constructor<?>>> generatedImplementations;
 
     /**
      * Constructor with {@link ConfigurationProxyHandler} and {@link Logger} initialization
@@ -29,14 +40,16 @@ class ConfigurationProxyFactory {
                                      final Logger logger) {
         this.handler = handler;
         this.logger = logger;
+        this.generatedImplementations = new ConcurrentHashMap<>();
     }
 
     /**
-     * Produces a dynamic proxy for the given interface using configuration API
+     * Produces an instance for the given interface using configuration API, preferring the implementation generated
+     * at compile time over a dynamic proxy
      *
-     * @param configurationInterface Configuration interface to create the proxy for
+     * @param configurationInterface Configuration interface to create the instance for
      * @param <T> Generic configuration interface type
-     * @return Proxy instance
+     * @return Configuration instance
      * @throws glue.config.api.exception.ConfigurationException when the supplied class isn't a interface or don't
      * contains {@link glue.config.api.annotation.ConfigurationInterface} annotation
      */
@@ -44,7 +57,14 @@ class ConfigurationProxyFactory {
         Objects.requireNonNull(configurationInterface);
         validateInterface(configurationInterface);
 
-        logger.debug("Producing configuration proxy for {}", configurationInterface.getName());
+        final Optional<Constructor<?>> generatedImplementation = generatedImplementations
+                .computeIfAbsent(configurationInterface, this::findGeneratedImplementation);
+        if (generatedImplementation.isPresent()) {
+            LogUtils.debug(logger, "Producing generated configuration implementation for {}", configurationInterface.getName());
+            return (T) instantiate(generatedImplementation.get());
+        }
+
+        LogUtils.debug(logger, "Producing configuration proxy for {}", configurationInterface.getName());
 
         return (T) Proxy.newProxyInstance(
                 configurationInterface.getClassLoader(),
@@ -53,13 +73,55 @@ class ConfigurationProxyFactory {
         );
     }
 
+    /**
+     * Looks for the implementation generated at compile time for the provided configuration interface
+     *
+     * @param configurationInterface Configuration interface
+     * @return Constructor of the generated implementation, empty when not available
+     */
+    private Optional<Constructor<?>> findGeneratedImplementation(final Class<?> configurationInterface) {
+        final String interfaceName = configurationInterface.getName();
+        final String packageName = interfaceName.substring(0, interfaceName.lastIndexOf('.') + 1);
+        final String implementationName = packageName +
+                interfaceName.substring(packageName.length()).replace('$', '_') +
+                ConfigurationValueSource.GENERATED_CLASS_SUFFIX;
+
+        try {
+            final Class<?> implementation = Class.forName(implementationName, true, configurationInterface.getClassLoader());
+            if (!configurationInterface.isAssignableFrom(implementation))
+                return Optional.empty();
+
+            return Optional.of(implementation.getConstructor(ConfigurationValueSource.class));
+        } catch (final ClassNotFoundException | NoSuchMethodException ex) {
+            LogUtils.debug(logger, "No generated implementation available for {}", interfaceName);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Creates a new instance of a generated configuration interface implementation
+     *
+     * @param constructor Generated implementation constructor
+     * @return Configuration instance
+     */
+    private Object instantiate(final Constructor<?> constructor) {
+        try {
+            return constructor.newInstance(handler);
+        } catch (final ReflectiveOperationException ex) {
+            throw new ConfigurationException(
+                    "Error instantiating generated configuration implementation " + constructor.getDeclaringClass().getName(),
+                    ex
+            );
+        }
+    }
+
     /**
      * Validates if the given class is a valid configuration interface
      *
      * @param clazz Class to be validated
      */
     private void validateInterface(final Class<?> clazz) {
-        logger.debug("Checking if {} is a valid configuration interface", clazz.getName());
+        LogUtils.debug(logger, "Checking if {} is a valid configuration interface", clazz.getName());
 
         if (!clazz.isInterface())
             throw new ConfigurationException("Provided class isn't a interface: " + clazz.getName());
@@ -1,14 +1,17 @@
 package glue.config.api.extension;
 
 import glue.config.api.exception.ConfigurationException;
+import glue.config.api.generated.ConfigurationValue;
+import glue.config.api.generated.ConfigurationValueSource;
+import glue.core.util.LogUtils;
 import org.slf4j.Logger;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import java.lang.invoke.MethodHandles;
-import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.function.Function;
 
 /**
  * Java Proxy {@link InvocationHandler} implementation for Configuration API
@@ -17,44 +20,56 @@ import java.lang.reflect.Method;
  * handle all calls to configuration proxies, forwarding the configuration resolution and translation when required.</p>
  *
  * <p>In another words, this class is the bridge between the created instances and the internal configuration API
- * procedures.</p>
+ * procedures. The same applies to the configuration interface implementations generated at compile time, which
+ * use this class as its {@link ConfigurationValueSource}.</p>
  *
  * @author Lucas Dillmann
  * @since 1.0.0, 2018-12-02
  */
 @Singleton
-class ConfigurationProxyHandler implements InvocationHandler {
+class ConfigurationProxyHandler implements InvocationHandler, ConfigurationValueSource {
 
     private final ConfigurationResolverBridge resolver;
     private final ConfigurationValueTranslatorBridge valueTranslator;
     private final ConfigurationContainerFacade containerFacade;
+    private final ConfigurationValueCache cache;
+    private final ConfigurationDefaultMethodInvoker defaultMethodInvoker;
     private final Logger logger;
+    private final Function<ConfigurationCacheEntry, Object> resolution;
 
     /**
-     * Package protected constructor with {@link ConfigurationResolverBridge}, {@link ConfigurationValueTranslatorBridge}
+     * Package protected constructor with {@link ConfigurationResolverBridge}, {@link ConfigurationValueTranslatorBridge},
+     * {@link ConfigurationContainerFacade}, {@link ConfigurationValueCache}, {@link ConfigurationDefaultMethodInvoker}
      * and {@link Logger} initialization
      *
      * @param resolver Configuration resolver
      * @param valueTranslator Configuration values translator
      * @param containerFacade Configuration container translator facade
+     * @param cache Configuration values cache
+     * @param defaultMethodInvoker Invoker of default methods
      * @param logger Logger
      */
     @Inject
     ConfigurationProxyHandler(final ConfigurationResolverBridge resolver,
                               final ConfigurationValueTranslatorBridge valueTranslator,
                               final ConfigurationContainerFacade containerFacade,
+                              final ConfigurationValueCache cache,
+                              final ConfigurationDefaultMethodInvoker defaultMethodInvoker,
                               final Logger logger) {
         this.resolver = resolver;
         this.valueTranslator = valueTranslator;
         this.containerFacade = containerFacade;
+        this.cache = cache;
+        this.defaultMethodInvoker = defaultMethodInvoker;
         this.logger = logger;
+        this.resolution = this::invokeConfigurationResolution;
     }
 
     /**
      * Method fired by Java Proxy API when any method on a configuration proxy is called
      *
-     * <p>This method intercepts all calls to configuration proxies. When called, it will start the configuration
-     * resolution process.</p>
+     * <p>This method intercepts all calls to configuration proxies. When called, it will return the cached
+     * configuration value or start the configuration resolution process when no value is cached yet.</p>
      *
      * @param proxyInstance Proxy instance when the call happened
      * @param calledMethod Called method
@@ -67,105 +82,131 @@ class ConfigurationProxyHandler implements InvocationHandler {
                          final Method calledMethod,
                          final Object[] arguments) throws Throwable {
 
-        logger.debug(
-                "Method {} from interface {} called. Starting configuration resolution.",
-                calledMethod.getName(),
-                calledMethod.getDeclaringClass().getName()
-        );
-
         if (calledMethod.isDefault()) {
-            logger.debug(
-                    "Method {} from interface {} has default modifier. Call will be forwarded to the implementation.",
-                    calledMethod.getName(),
-                    calledMethod.getDeclaringClass().getName()
-            );
-            return invokeDefaultMethod(proxyInstance, calledMethod, arguments);
+            return defaultMethodInvoker.invoke(proxyInstance, calledMethod, arguments);
         } else {
             if (arguments != null && arguments.length > 0)
                 logger.warn("Method {} from configuration interface {} was called using arguments. They will be ignored " +
-                        "since the feature isn't supported.");
+                        "since the feature isn't supported.", calledMethod.getName(), calledMethod.getDeclaringClass().getName());
 
-            return invokeConfigurationResolution(calledMethod);
+            return resolve(calledMethod);
         }
 
     }
 
     /**
-     * Configuration resolution method
+     * Returns the configuration value of the provided method
      *
-     * <p>This metohds executes the configuration resolution on the provided method. That includes the metadata extraction,
-     * value resolution, translation and more.</p>
+     * <p>The value is retrieved from the {@link ConfigurationValueCache} when available and not expired. Otherwise the
+     * configuration resolution is executed and the result is cached for the next calls.</p>
      *
-     * @param calledMethod Called method on proxy to start the configuration resolution
+     * @param calledMethod Configuration method
      * @return Resolved and translated value
-     * @throws Throwable When any exception happens
      */
-    private Object invokeConfigurationResolution(final Method calledMethod) throws Throwable {
-        final ConfigurationMetadata metadata = new ConfigurationMetadata(calledMethod);
+    Object resolve(final Method calledMethod) {
+        return getCacheEntry(calledMethod).getValue(resolution);
+    }
+
+    /**
+     * Returns the configuration value holder bound to the provided configuration method
+     *
+     * <p>The holder keeps a direct reference to the method {@link ConfigurationCacheEntry}, skipping even the cache
+     * lookup on each call.</p>
+     *
+     * @param method Configuration method
+     * @param <T> Generic type of the configuration value
+     * @return Configuration value holder
+     */
+    @Override
+    public <T> ConfigurationValue<T> getValue(final Method method) {
+        final ConfigurationCacheEntry entry = getCacheEntry(method);
+        return () -> (T) entry.getValue(resolution);
+    }
+
+    /**
+     * Returns the cache entry of the provided method
+     *
+     * @param method Configuration method
+     * @return Cache entry
+     */
+    private ConfigurationCacheEntry getCacheEntry(final Method method) {
+        return cache.getEntry(method, this::buildCacheEntry);
+    }
+
+    /**
+     * Builds the cache entry of the provided method, extracting its metadata and detecting the container and target
+     * value types
+     *
+     * @param method Configuration method
+     * @return Cache entry
+     */
+    private ConfigurationCacheEntry buildCacheEntry(final Method method) {
+        LogUtils.debug(
+                logger,
+                "Building configuration metadata for method {} from interface {}",
+                method.getName(),
+                method.getDeclaringClass().getName()
+        );
 
+        final ConfigurationMetadata metadata = new ConfigurationMetadata(method);
+        final Duration valueTtl = cache.getValueTtl(metadata.getKey()).orElse(null);
         final Class<?> returnType = metadata.getTargetType();
         if (containerFacade.isAContainer(returnType)) {
             final Class<?> targetType = containerFacade.getTargetConfigurationValueType(
                     returnType, metadata.getGenericReturnType()
             );
-            final Object configurationValue = getConfigurationValueFromResolver(metadata, targetType);
-            return containerFacade.translate(configurationValue, returnType);
+            return new ConfigurationCacheEntry(method, metadata, targetType, true, valueTtl);
         } else {
-            return getConfigurationValueFromResolver(metadata, returnType);
+            return new ConfigurationCacheEntry(method, metadata, returnType, false, valueTtl);
         }
+    }
+
+    /**
+     * Configuration resolution method
+     *
+     * <p>This metohds executes the configuration resolution on the provided cache entry. That includes the value
+     * resolution, translation and more.</p>
+     *
+     * @param entry Cache entry of the called method on proxy to start the configuration resolution
+     * @return Resolved and translated value
+     */
+    private Object invokeConfigurationResolution(final ConfigurationCacheEntry entry) {
+        LogUtils.debug(
+                logger,
+                "Method {} from interface {} called. Starting configuration resolution.",
+                entry.getMethod().getName(),
+                entry.getMethod().getDeclaringClass().getName()
+        );
 
+        final Object configurationValue = getConfigurationValueFromResolver(entry, entry.getValueType());
+        if (entry.isContainer())
+            return containerFacade.translate(configurationValue, entry.getReturnType());
+        else
+            return configurationValue;
     }
 
     /**
      * Executes the configuration resolution
      *
-     * @param metadata Configuration metadata
+     * @param entry Configuration cache entry
      * @param targetType Target type to convert the configurtion value to
      * @param <T> Generic target type
      * @return Resolved configuration value
      */
-    private <T> T getConfigurationValueFromResolver(final ConfigurationMetadata metadata,
+    private <T> T getConfigurationValueFromResolver(final ConfigurationCacheEntry entry,
                                                     final Class<T> targetType) {
-        logger.debug(
+        LogUtils.debug(
+                logger,
                 "Resolving configuration key {} of type {} with default value of '{}'",
-                metadata.getKey(),
+                entry.getKey(),
                 targetType.getName(),
-                metadata.getDefaultValue()
+                entry.getDefaultValue()
         );
 
-        final String configurationValue = resolver.resolve(metadata.getKey(), metadata.getDefaultValue());
-        if (configurationValue == null && metadata.isRequired())
-            throw new ConfigurationException("Configuration value for key '" + metadata.getKey() + "' is required but no value was found");
+        final String configurationValue = resolver.resolve(entry.getKey(), entry.getDefaultValue());
+        if (configurationValue == null && entry.isRequired())
+            throw new ConfigurationException("Configuration value for key '" + entry.getKey() + "' is required but no value was found");
 
         return valueTranslator.translate(configurationValue, targetType);
     }
-
-    /**
-     * Fires the default implementation of the method in the interface
-     *
-     * <p>When a method is detected in interface with default implementation the configuration API will not intercept
-     * the execution of it. Instead the actual implementation will be called. This method does the invocation of it
-     * using the {@link MethodHandles} API.</p>
-     *
-     * @param proxyInstance Proxy instance where the call happened
-     * @param calledMethod Called method in the proxy
-     * @param arguments Call arguments
-     * @return Returned value by the default implementation
-     * @throws Throwable When any exception happens
-     */
-    private Object invokeDefaultMethod(final Object proxyInstance,
-                                       final Method calledMethod,
-                                       final Object[] arguments) throws Throwable {
-        final Class<?> configurationInterface = calledMethod.getDeclaringClass();
-        final Constructor<MethodHandles.Lookup> constructor = MethodHandles.Lookup.class
-                .getDeclaredConstructor(Class.class);
-        constructor.setAccessible(true);
-
-        return constructor
-                .newInstance(configurationInterface)
-                .in(configurationInterface)
-                .unreflectSpecial(calledMethod, configurationInterface)
-                .bindTo(proxyInstance)
-                .invokeWithArguments(arguments);
-    }
 }
@@ -1,6 +1,7 @@
 package glue.config.api.extension;
 
 import glue.config.api.resolver.ConfigurationResolver;
+import glue.core.util.LogUtils;
 import org.slf4j.Logger;
 
 import javax.inject.Inject;
@@ -13,21 +14,23 @@ import java.util.Optional;
  * <p>This class acts as a bridge between the {@link ConfigurationResolver} implementation module and configuration
  * API module. It main goal is to call the implementation and, when no value is returned, return the default
  * configuration value instead.</p>
+ *
+ * <p>Values are resolved using the {@link ConfigurationResolverChain}, allowing multiple resolvers to be layered.</p>
  */
 @Singleton
 class ConfigurationResolverBridge {
 
-    private final ConfigurationResolver resolver;
+    private final ConfigurationResolverChain resolver;
     private final Logger logger;
 
     /**
-     * Default constructor with {@link ConfigurationResolver} and {@link Logger} initialization
+     * Default constructor with {@link ConfigurationResolverChain} and {@link Logger} initialization
      *
-     * @param resolver Configuration resolver
+     * @param resolver Configuration resolver chain
      * @param logger Logger
      */
     @Inject
-    ConfigurationResolverBridge(final ConfigurationResolver resolver,
+    ConfigurationResolverBridge(final ConfigurationResolverChain resolver,
                                 final Logger logger) {
         this.resolver = resolver;
         this.logger = logger;
@@ -43,7 +46,7 @@ class ConfigurationResolverBridge {
      */
     String resolve(final String configurationKey,
                    final String defaultValue) {
-        logger.debug("Resolving configuration value for '{}' with default '{}'", configurationKey, defaultValue);
+        LogUtils.debug(logger, "Resolving configuration value for '{}' with default '{}'", configurationKey, defaultValue);
 
         return Optional
                 .ofNullable(resolver.resolve(configurationKey))
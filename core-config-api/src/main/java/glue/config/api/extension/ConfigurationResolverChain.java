@@ -0,0 +1,194 @@
+package glue.config.api.extension;
+
+import glue.config.api.resolver.ConfigurationResolver;
+import glue.config.api.resolver.ConfigurationResolverCache;
+import org.slf4j.Logger;
+
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Layered {@link ConfigurationResolver} chain
+ *
+ * <p>This class combines all {@link ConfigurationResolver} implementations available in the classpath into layers,
+ * sorted by their ordinals (highest first). Configuration values are resolved by the first layer that returns a
+ * non-null value.</p>
+ *
+ * <p>Layers whose resolver defines a positive cache time to live get a {@link ConfigurationResolverCache}, memoising
+ * both present and absent values. The values kept by the configuration interfaces live no longer than the shortest
+ * value time to live of the layers (see {@link ConfigurationResolver#getValueTtl(String)}).</p>
+ *
+ * <p>Layers are built lazily, on the first resolution, since resolvers may depend on beans of the configuration
+ * API itself.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-13
+ */
+@Singleton
+class ConfigurationResolverChain {
+
+    private final Instance<ConfigurationResolver> resolvers;
+    private final Logger logger;
+    private volatile List<Layer> layers;
+
+    /**
+     * Package protected constructor with {@link ConfigurationResolver} instances and {@link Logger} initialization
+     *
+     * @param resolvers Available configuration resolvers
+     * @param logger Logger
+     */
+    @Inject
+    ConfigurationResolverChain(final @Any Instance<ConfigurationResolver> resolvers,
+                               final Logger logger) {
+        this.resolvers = resolvers;
+        this.logger = logger;
+    }
+
+    /**
+     * Resolves the configuration value for the provided key
+     *
+     * @param key Configuration key
+     * @return Configuration value from the first layer that has it, null when no layer has it
+     */
+    String resolve(final String key) {
+        for (final Layer layer : getLayers()) {
+            final String value = layer.resolve(key);
+            if (value != null)
+                return value;
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns for how long the value of the provided key can be kept, being the shortest time to live defined by
+     * the layers
+     *
+     * @param key Configuration key
+     * @return Value time to live, empty when the value can be kept until invalidated
+     */
+    Optional<Duration> getValueTtl(final String key) {
+        return getLayers()
+                .stream()
+                .map(layer -> layer.resolver.getValueTtl(key))
+                .filter(Objects::nonNull)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .min(Comparator.naturalOrder());
+    }
+
+    /**
+     * Invalidates the cached value of the provided key in all layers and resolvers
+     *
+     * @param key Configuration key
+     */
+    void invalidate(final String key) {
+        final List<Layer> currentLayers = layers;
+        if (currentLayers != null)
+            currentLayers.forEach(layer -> layer.invalidate(key));
+    }
+
+    /**
+     * Invalidates all cached values in all layers and resolvers
+     */
+    void invalidateAll() {
+        final List<Layer> currentLayers = layers;
+        if (currentLayers != null)
+            currentLayers.forEach(Layer::invalidateAll);
+    }
+
+    /**
+     * Returns the chain layers, building them when needed
+     *
+     * @return Chain layers
+     */
+    private List<Layer> getLayers() {
+        List<Layer> currentLayers = layers;
+        if (currentLayers != null)
+            return currentLayers;
+
+        synchronized (this) {
+            if (layers == null)
+                layers = buildLayers();
+
+            return layers;
+        }
+    }
+
+    /**
+     * Builds the chain layers from the available resolvers
+     *
+     * @return Chain layers, sorted by ordinal
+     */
+    private List<Layer> buildLayers() {
+        final List<Layer> builtLayers = StreamSupport
+                .stream(resolvers.spliterator(), false)
+                .sorted(Comparator.comparing(this::getOrdinal).reversed())
+                .map(Layer::new)
+                .collect(Collectors.toList());
+
+        builtLayers.forEach(layer -> logger.info(
+                "Configuration resolver {} registered with ordinal {}",
+                layer.resolver.getClass().getSimpleName(), getOrdinal(layer.resolver)
+        ));
+
+        return builtLayers;
+    }
+
+    /**
+     * Returns the ordinal of the provided resolver, using the default one when null
+     *
+     * @param resolver Configuration resolver
+     * @return Resolver ordinal
+     */
+    private Integer getOrdinal(final ConfigurationResolver resolver) {
+        return Optional
+                .ofNullable(resolver.getOrdinal())
+                .orElse(ConfigurationResolver.DEFAULT_ORDINAL);
+    }
+
+    /**
+     * Configuration resolver chain layer
+     */
+    private static final class Layer {
+
+        private final ConfigurationResolver resolver;
+        private final ConfigurationResolverCache cache;
+
+        private Layer(final ConfigurationResolver resolver) {
+            this.resolver = resolver;
+            this.cache = Optional
+                    .ofNullable(resolver.getCacheTtl())
+                    .filter(ttl -> !ttl.isNegative() && !ttl.isZero())
+                    .map(ConfigurationResolverCache::new)
+                    .orElse(null);
+        }
+
+        private String resolve(final String key) {
+            return cache == null ? resolver.resolve(key) : cache.get(key, resolver::resolve);
+        }
+
+        private void invalidate(final String key) {
+            if (cache != null)
+                cache.invalidate(key);
+
+            resolver.invalidate(key);
+        }
+
+        private void invalidateAll() {
+            if (cache != null)
+                cache.invalidateAll();
+
+            resolver.invalidateAll();
+        }
+    }
+}
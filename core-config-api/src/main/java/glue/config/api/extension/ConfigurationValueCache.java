@@ -0,0 +1,136 @@
+package glue.config.api.extension;
+
+import glue.config.api.cache.ConfigurationCache;
+import org.slf4j.Logger;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Configuration values cache
+ *
+ * <p>This class keeps one {@link ConfigurationCacheEntry} for each configuration method, built only once on the
+ * first call of the method. Entries are never removed: invalidations only discard the cached values, keeping the
+ * precompiled resolution information available for the next call.</p>
+ *
+ * <p>Invalidations are forwarded to the {@link ConfigurationResolverChain}, discarding the values memoised by the
+ * resolver layers as well, and reported to the invalidation listener (when one is set) with the affected
+ * methods. Values also expire on their own when the resolvers define a time to live for their keys (see
+ * {@link #getValueTtl(String)}).</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-05
+ */
+@Singleton
+class ConfigurationValueCache implements ConfigurationCache {
+
+    private final Map<Method, ConfigurationCacheEntry> entries;
+    private final ConfigurationResolverChain resolverChain;
+    private final Logger logger;
+    private volatile Consumer<Collection<Method>> invalidationListener;
+
+    /**
+     * Package protected constructor with {@link ConfigurationResolverChain} and {@link Logger} initialization
+     *
+     * @param resolverChain Configuration resolver chain
+     * @param logger Logger
+     */
+    @Inject
+    ConfigurationValueCache(final ConfigurationResolverChain resolverChain, final Logger logger) {
+        this.resolverChain = resolverChain;
+        this.logger = logger;
+        this.entries = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the cache entry of the provided method, building it when not available yet
+     *
+     * @param method Configuration method
+     * @param entryFactory Factory of the entry, used when the method doesn't have one yet
+     * @return Cache entry
+     */
+    ConfigurationCacheEntry getEntry(final Method method,
+                                     final Function<Method, ConfigurationCacheEntry> entryFactory) {
+        final ConfigurationCacheEntry entry = entries.get(method);
+        if (entry != null)
+            return entry;
+
+        final ConfigurationCacheEntry newEntry = entryFactory.apply(method);
+        final ConfigurationCacheEntry previousEntry = entries.putIfAbsent(method, newEntry);
+        return previousEntry != null ? previousEntry : newEntry;
+    }
+
+    /**
+     * Returns for how long the values of the provided configuration key can be kept, as defined by the resolvers
+     *
+     * @param key Configuration key (prefix included)
+     * @return Value time to live, empty when the values are kept until invalidated
+     */
+    Optional<Duration> getValueTtl(final String key) {
+        return resolverChain.getValueTtl(key);
+    }
+
+    /**
+     * Invalidates the cached values of the provided configuration key
+     *
+     * @param key Configuration key (prefix included) to be invalidated
+     */
+    @Override
+    public void invalidate(final String key) {
+        logger.debug("Invalidating cached configuration values for key '{}'", key);
+        resolverChain.invalidate(key);
+        final List<ConfigurationCacheEntry> invalidatedEntries = entries.values()
+                .stream()
+                .filter(entry -> entry.getKey().equals(key))
+                .collect(Collectors.toList());
+
+        invalidatedEntries.forEach(ConfigurationCacheEntry::invalidate);
+        notifyInvalidation(invalidatedEntries);
+    }
+
+    /**
+     * Invalidates all cached configuration values
+     */
+    @Override
+    public void invalidateAll() {
+        logger.debug("Invalidating all cached configuration values");
+        resolverChain.invalidateAll();
+        entries.values().forEach(ConfigurationCacheEntry::invalidate);
+        notifyInvalidation(entries.values());
+    }
+
+    /**
+     * Defines the listener of the invalidations, notified with the methods whose values were invalidated
+     *
+     * @param invalidationListener Invalidation listener
+     */
+    void setInvalidationListener(final Consumer<Collection<Method>> invalidationListener) {
+        this.invalidationListener = invalidationListener;
+    }
+
+    /**
+     * Notifies the invalidation listener, when available, about the invalidated entries
+     *
+     * @param invalidatedEntries Invalidated entries
+     */
+    private void notifyInvalidation(final Collection<ConfigurationCacheEntry> invalidatedEntries) {
+        final Consumer<Collection<Method>> listener = invalidationListener;
+        if (listener == null || invalidatedEntries.isEmpty())
+            return;
+
+        listener.accept(invalidatedEntries
+                .stream()
+                .map(ConfigurationCacheEntry::getMethod)
+                .collect(Collectors.toList()));
+    }
+}
@@ -3,11 +3,13 @@ package glue.config.api.extension;
 import glue.config.api.exception.ConfigurationException;
 import glue.config.api.translator.ConfigurationValueTranslator;
 import glue.core.util.CdiUtils;
+import glue.core.util.LogUtils;
 import org.slf4j.Logger;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import java.util.Optional;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Configuration value translation bridge
@@ -16,6 +18,9 @@ import java.util.Optional;
  * and configuration API module. It main goal is to handle the translation requests, calling {@link ConfigurationValueTranslator}
  * implementation when is available or {@link DefaultConfigurationTranslator} in all other scenarions.</p>
  *
+ * <p>The translator to be used for each target type is looked up only once and then kept for the next
+ * translations.</p>
+ *
  * @author Lucas Dillmann
  * @since 1.0.0, 2018-12-02
  */
@@ -24,6 +29,7 @@ class ConfigurationValueTranslatorBridge {
 
     private final CdiUtils cdiUtils;
     private final Logger logger;
+    private final Map<Class<?>, ConfigurationValueTranslator<?>> translators;
 
     /**
      * Package protected constructor with {@link CdiUtils} and {@link Logger} initialization
@@ -36,6 +42,7 @@ class ConfigurationValueTranslatorBridge {
                                        final Logger logger) {
         this.cdiUtils = cdiUtils;
         this.logger = logger;
+        this.translators = new ConcurrentHashMap<>();
     }
 
     /**
@@ -54,18 +61,32 @@ class ConfigurationValueTranslatorBridge {
      */
     <T> T translate(final String value, final Class<T> targetType) {
 
-        logger.debug("Translating configuration value '{}' to {}", value, targetType.getName());
+        LogUtils.debug(logger, "Translating configuration value '{}' to {}", value, targetType.getName());
+
+        ConfigurationValueTranslator<T> translator = (ConfigurationValueTranslator<T>) translators.get(targetType);
+        if (translator == null) {
+            translator = findTranslator(targetType);
+            translators.putIfAbsent(targetType, translator);
+        }
 
-        final Optional<ConfigurationValueTranslator<T>> translator = cdiUtils
-                .getTypedBean(ConfigurationValueTranslator.class, targetType);
+        return translator.translate(value);
+    }
 
-        return translator
+    /**
+     * Looks up the translator for the target type, returning the {@link ConfigurationValueTranslator} implementation
+     * when available or {@link DefaultConfigurationTranslator} otherwise
+     *
+     * @param targetType Target type of the translation
+     * @param <T> Generic type of the target type
+     * @return Translator for the target type
+     */
+    private <T> ConfigurationValueTranslator<T> findTranslator(final Class<T> targetType) {
+        return cdiUtils
+                .<ConfigurationValueTranslator<T>>getTypedBean(ConfigurationValueTranslator.class, targetType)
                 .orElseGet(() -> {
-                    logger.debug("No custom translator available for {}. Using the default translation mechanism.", targetType.getName());
-                    return configurationValue ->
-                            DefaultConfigurationTranslator.forType(targetType).translate(configurationValue);
-                })
-                .translate(value);
+                    LogUtils.debug(logger, "No custom translator available for {}. Using the default translation mechanism.", targetType.getName());
+                    return DefaultConfigurationTranslator.forType(targetType)::translate;
+                });
     }
 
 }
@@ -2,10 +2,17 @@ package glue.config.api.extension;
 
 import glue.config.api.exception.ConfigurationException;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Default configuration translation mechanism
@@ -17,13 +24,28 @@ import java.util.Arrays;
  * <p>Translation here is done using static methods or constructors that accepts String as input. {@code valueOf},
  * {@code fromString} and {@code parseString} are examples of methods that this class tries to find and use.</p>
  *
+ * <p>The translation plan of each target type (the enum constants map or the {@link MethodHandle} of the
+ * constructor or method to be used) is built only once and then cached for the lifetime of the type, avoiding
+ * any reflection lookup on the translation itself.</p>
+ *
  * @author Lucas Dillmann
  * @since 1.0.0, 2018-12-02
  * @param <T> Generic target type of the conversion
  */
 class DefaultConfigurationTranslator<T> {
 
+    private static final String[] FACTORY_METHOD_NAMES = { "valueOf", "fromString", "parse", "parseString" };
+    private static final MethodType TRANSLATION_TYPE = MethodType.methodType(Object.class, String.class);
+    private static final ClassValue<DefaultConfigurationTranslator<?>> TRANSLATORS =
+            new ClassValue<DefaultConfigurationTranslator<?>>() {
+                @Override
+                protected DefaultConfigurationTranslator<?> computeValue(final Class<?> type) {
+                    return new DefaultConfigurationTranslator<>(type);
+                }
+            };
+
     private final Class<T> targetType;
+    private final Function<String, T> translation;
 
     /**
      * Private constructor with target type initialization
@@ -32,20 +54,21 @@ class DefaultConfigurationTranslator<T> {
      */
     private DefaultConfigurationTranslator(Class<T> targetType) {
         this.targetType = targetType;
+        this.translation = buildTranslation();
     }
 
     /**
      * Static constructor method
      *
      * <p>This method produces types instances for this class, allowing simple and direct use of the Java Generic API
-     * with it.</p>
+     * with it. Instances are cached by target type.</p>
      *
      * @param targetType Target type of the conversion
      * @param <T> Generic type of the target type
      * @return Class instance for the target type
      */
     static <T> DefaultConfigurationTranslator<T> forType(final Class<T> targetType) {
-        return new DefaultConfigurationTranslator<>(targetType);
+        return (DefaultConfigurationTranslator<T>) TRANSLATORS.get(targetType);
     }
 
     /**
@@ -60,115 +83,165 @@ class DefaultConfigurationTranslator<T> {
         if (value == null)
             return null;
 
-        if (targetType.isEnum())
-            return translateEnum(value);
+        if (translation == null)
+            throw new ConfigurationException(
+                    "Configuration value '" + value + "' can't be automatically translated to " +
+                            targetType.getName() + " using default translation mechanism. Implement a custom " +
+                            "ConfigurationValueTranslator or ConfigurationContainerTranslator for the type to solve this."
+            );
 
-        if (containsConstructor())
-            return invokeConstructor(value);
+        return translation.apply(value);
+    }
 
-        if (containsMethod("valueOf"))
-            return invokeMethod("valueOf", value);
+    /**
+     * Builds the translation plan for the target type
+     *
+     * <p>Enumerations are translated using a constants map. For any other type the first compatible constructor or
+     * static method (in that order) is used.</p>
+     *
+     * @return Translation function or null when the type can't be translated automatically
+     */
+    private Function<String, T> buildTranslation() {
+        if (targetType.isEnum())
+            return buildEnumTranslation();
 
-        if (containsMethod("fromString"))
-            return invokeMethod("fromString", value);
+        final Constructor<T> constructor = findConstructor();
+        if (constructor != null)
+            return buildConstructorTranslation(constructor);
 
-        if (containsMethod("parse"))
-            return invokeMethod("parse", value);
+        for (final String methodName : FACTORY_METHOD_NAMES) {
+            final Method method = findMethod(methodName);
+            if (method != null)
+                return buildMethodTranslation(method);
+        }
 
-        if (containsMethod("parseString"))
-            return invokeMethod("parseString", value);
+        return null;
+    }
 
-        throw new ConfigurationException(
-                "Configuration value '" + value + "' can't be automatically translated to " +
-                        targetType.getName() + " using default translation mechanism. Implement a custom " +
-                        "ConfigurationValueTranslator or ConfigurationContainerTranslator for the type to solve this."
-        );
+    /**
+     * Builds the translation function that invokes the provided static method
+     *
+     * @param method Static method to be invoked
+     * @return Translation function
+     */
+    private Function<String, T> buildMethodTranslation(final Method method) {
+        final String errorMessage = "Error invoking method " + method.getName() + " from " + targetType.getName() +
+                " to translate configuration value '%s' using default translation mechanism";
 
+        try {
+            final MethodHandle handle = MethodHandles.publicLookup().unreflect(method).asType(TRANSLATION_TYPE);
+            return value -> invokeHandle(handle, value, errorMessage);
+        } catch (final IllegalAccessException ex) {
+            return value -> {
+                try {
+                    return (T) method.invoke(null, value);
+                } catch (final Exception invocationException) {
+                    throw new ConfigurationException(String.format(errorMessage, value));
+                }
+            };
+        }
     }
 
     /**
-     * Invokes the request method using Reflection API
+     * Builds the translation function that invokes the provided constructor
      *
-     * @param methodName Method name to be invoked
-     * @param value Value to be sent as argument to the method
-     * @return Returned value by the method. Represents the translated value.
+     * @param constructor Constructor to be invoked
+     * @return Translation function
      */
-    private T invokeMethod(final String methodName, final String value) {
+    private Function<String, T> buildConstructorTranslation(final Constructor<T> constructor) {
+        final String errorMessage = "Error invoking constructor from " + targetType.getName() +
+                " to translate configuration value '%s' using default translation mechanism";
+
         try {
-            return (T) targetType.getMethod(methodName, String.class).invoke(null, value);
-        } catch (final Exception ex) {
-            throw new ConfigurationException(
-                    "Error invoking method " + methodName + " from " + targetType.getName() +
-                            " to translate configuration value '" + value + "' using default translation mechanism"
-            );
+            final MethodHandle handle = MethodHandles.publicLookup()
+                    .unreflectConstructor(constructor)
+                    .asType(TRANSLATION_TYPE);
+            return value -> invokeHandle(handle, value, errorMessage);
+        } catch (final IllegalAccessException ex) {
+            return value -> {
+                try {
+                    return constructor.newInstance(value);
+                } catch (final Exception invocationException) {
+                    throw new ConfigurationException(String.format(errorMessage, value));
+                }
+            };
         }
     }
 
     /**
-     * Invokes the request constructor using Reflection API
+     * Invokes the provided translation handle
      *
-     * @param value Value to be sent as argument to the method
-     * @return Returned value by the constructor. Represents the translated value.
+     * @param handle Method handle to be invoked
+     * @param value Value to be sent as argument to the handle
+     * @param errorMessage Error message format used when the invocation fails
+     * @return Returned value by the handle. Represents the translated value.
      */
-    private T invokeConstructor(final String value) {
+    private T invokeHandle(final MethodHandle handle, final String value, final String errorMessage) {
         try {
-            return (T) targetType.getConstructor(String.class).newInstance(value);
-        } catch (final Exception ex) {
-            throw new ConfigurationException(
-                    "Error invoking constructor from " + targetType.getName() +
-                            " to translate configuration value '" + value + "' using default translation mechanism"
-            );
+            return (T) (Object) handle.invokeExact(value);
+        } catch (final Throwable ex) {
+            throw new ConfigurationException(String.format(errorMessage, value));
         }
     }
 
     /**
-     * Checks if the target type has a method with the requested name that accepts {@link String} as parameter
+     * Retrieves the public static method with the requested name that accepts {@link String} as parameter
      *
-     * @param methodName Method name to be checked
-     * @return Result of the check. True means that a compatible method was found.
+     * @param methodName Method name to be retrieved
+     * @return Compatible method or null when not available
      */
-    private boolean containsMethod(final String methodName) {
+    private Method findMethod(final String methodName) {
         try {
             final Method method = targetType.getMethod(methodName, String.class);
-            return method != null
-                    && Modifier.isStatic(method.getModifiers())
-                    && Modifier.isPublic(method.getModifiers());
+            return Modifier.isStatic(method.getModifiers()) && Modifier.isPublic(method.getModifiers())
+                    ? method
+                    : null;
 
         } catch (final NoSuchMethodException ex) {
-            return false;
+            return null;
         }
     }
 
     /**
-     * Checks if a constructor is available in the target type that accepts {@link String} as parameter
+     * Retrieves the public constructor of the target type that accepts {@link String} as parameter
      *
-     * @return Result of the check. True means that a compatible constructor was found.
+     * @return Compatible constructor or null when not available
      */
-    private boolean containsConstructor() {
+    private Constructor<T> findConstructor() {
         try {
             final Constructor<T> constructor = targetType.getConstructor(String.class);
-            return constructor != null
-                    && Modifier.isPublic(constructor.getModifiers());
+            return Modifier.isPublic(constructor.getModifiers()) ? constructor : null;
 
         } catch (final NoSuchMethodException ex) {
-            return false;
+            return null;
         }
     }
 
     /**
-     * Executes the translation of enum values
+     * Builds the translation function of enum values
      *
-     * @param value Value to be translated
-     * @param <E> Generic enumeration type
-     * @return Translated value
+     * <p>Constants are indexed both by their exact and upper case names, allowing case-insensitive lookups without
+     * any allocation when the configured value matches the constant name.</p>
+     *
+     * @return Translation function
      */
-    private <E extends Enum<E>> T translateEnum(final String value) {
-        final Class<E> enumType = (Class<E>) targetType;
-        final E enumValue = Arrays.stream(enumType.getEnumConstants())
-                .filter(constant -> constant.name().equalsIgnoreCase(value))
-                .findAny()
-                .orElseThrow(() -> new ConfigurationException("No enum constant " + value + " for " + targetType.getName()));
-
-        return (T) enumValue;
+    private Function<String, T> buildEnumTranslation() {
+        final Map<String, T> constants = new HashMap<>();
+        for (final T constant : targetType.getEnumConstants()) {
+            final String name = ((Enum<?>) constant).name();
+            constants.put(name, constant);
+            constants.putIfAbsent(name.toUpperCase(Locale.ROOT), constant);
+        }
+
+        final Map<String, T> immutableConstants = Collections.unmodifiableMap(constants);
+        return value -> {
+            T constant = immutableConstants.get(value);
+            if (constant == null)
+                constant = immutableConstants.get(value.toUpperCase(Locale.ROOT));
+            if (constant == null)
+                throw new ConfigurationException("No enum constant " + value + " for " + targetType.getName());
+
+            return constant;
+        };
     }
 }
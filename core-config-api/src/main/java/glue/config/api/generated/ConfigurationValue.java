@@ -0,0 +1,23 @@
+package glue.config.api.generated;
+
+/**
+ * Resolved configuration value holder
+ *
+ * <p>Instances of this interface are bound to a single configuration method and return its resolved, translated and
+ * cached value. They are used by the configuration interface implementations generated at compile time.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-08
+ * @param <T> Generic type of the configuration value
+ */
+@FunctionalInterface
+public interface ConfigurationValue<T> {
+
+    /**
+     * Returns the configuration value
+     *
+     * @return Configuration value
+     */
+    T get();
+
+}
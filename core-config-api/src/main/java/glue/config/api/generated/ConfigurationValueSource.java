@@ -0,0 +1,61 @@
+package glue.config.api.generated;
+
+import glue.config.api.exception.ConfigurationException;
+
+import java.lang.reflect.Method;
+
+/**
+ * Source of configuration values for generated configuration interface implementations
+ *
+ * <p>The configuration API annotation processor generates, at compile time, a concrete implementation of each
+ * {@link glue.config.api.annotation.ConfigurationInterface} annotated interface. Those implementations receive an
+ * instance of this interface on its constructor and use it to bind each of its methods to a
+ * {@link ConfigurationValue}, avoiding the dynamic proxy and reflection costs of the runtime implementation.</p>
+ *
+ * <p>Generated classes are named after the binary name of the interface (with {@code $} replaced by {@code _})
+ * followed by {@link #GENERATED_CLASS_SUFFIX}, and are placed in the same package of the interface.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-08
+ */
+public interface ConfigurationValueSource {
+
+    /**
+     * Suffix of the names of the generated configuration interface implementations
+     */
+    String GENERATED_CLASS_SUFFIX = "_GlueConfiguration";
+
+    /**
+     * Returns the configuration value holder bound to the provided configuration method
+     *
+     * @param method Configuration method
+     * @param <T> Generic type of the configuration value
+     * @return Configuration value holder
+     */
+    <T> ConfigurationValue<T> getValue(Method method);
+
+    /**
+     * Retrieves a configuration method from the configuration interface
+     *
+     * <p>Utility method for generated implementations, meant to be called only once per method during the class
+     * initialization.</p>
+     *
+     * @param configurationInterface Configuration interface
+     * @param name Method name
+     * @param parameterTypes Method parameter types
+     * @return Configuration method
+     * @throws ConfigurationException when the method isn't available
+     */
+    static Method findMethod(final Class<?> configurationInterface,
+                             final String name,
+                             final Class<?>... parameterTypes) {
+        try {
+            return configurationInterface.getMethod(name, parameterTypes);
+        } catch (final NoSuchMethodException ex) {
+            throw new ConfigurationException(
+                    "Method " + name + " not found in configuration interface " + configurationInterface.getName()
+            );
+        }
+    }
+
+}
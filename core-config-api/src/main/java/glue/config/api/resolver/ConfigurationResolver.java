@@ -1,16 +1,28 @@
 package glue.config.api.resolver;
 
+import java.time.Duration;
+import java.util.Optional;
+
 /**
  * Configuration resolver interface
  *
  * <p>This interface declares the required method that any Configuration Resolver module needs to implement to
  * integrate himself with the Glue Configurtion API.</p>
  *
+ * <p>Multiple resolvers can be available at the same time. They are layered by their ordinals: the resolver with
+ * the highest ordinal is asked first and the next one is only asked when no value is found. Resolvers that are
+ * expensive to query can ask the configuration API to memoise their results using {@link #getCacheTtl()}.</p>
+ *
  * @author Lucas Dillmann
  * @since 1.0.0, 2018-12-02
  */
 public interface ConfigurationResolver {
 
+    /**
+     * Default ordinal of the resolvers
+     */
+    int DEFAULT_ORDINAL = 100;
+
     /**
      * Resolves the configuration value for the provided key
      *
@@ -19,4 +31,68 @@ public interface ConfigurationResolver {
      */
     String resolve(String key);
 
+    /**
+     * Defines the ordinal of the resolver
+     *
+     * <p>Resolvers with higher ordinals take precedence over the ones with lower ordinals. The default value is
+     * {@link #DEFAULT_ORDINAL}.</p>
+     *
+     * @return Resolver ordinal
+     */
+    default Integer getOrdinal() {
+        return DEFAULT_ORDINAL;
+    }
+
+    /**
+     * Defines for how long the resolved values (absent ones included) can be cached by the configuration API
+     *
+     * <p>The default value is {@link Duration#ZERO}, which disables the caching and makes the resolver be called on
+     * every lookup.</p>
+     *
+     * @return Cache time to live
+     */
+    default Duration getCacheTtl() {
+        return Duration.ZERO;
+    }
+
+    /**
+     * Defines for how long the configuration interfaces can keep the value resolved for the provided key
+     *
+     * <p>Configuration interfaces keep the resolved (and translated) values, so this method bounds for how long a
+     * value is returned without asking the resolvers again. {@link Duration#ZERO} disables it, while an empty value
+     * keeps the value until it's invalidated using the {@link glue.config.api.cache.ConfigurationCache}, which fits
+     * the resolvers whose values don't change or that publish their changes.</p>
+     *
+     * <p>Resolvers that keep their own caches should return the time to live of the key. The default implementation
+     * returns the {@link #getCacheTtl()} when positive and empty otherwise.</p>
+     *
+     * @param key Configuration key
+     * @return Value time to live, empty when the value is kept until invalidated
+     */
+    default Optional<Duration> getValueTtl(final String key) {
+        return Optional
+                .ofNullable(getCacheTtl())
+                .filter(ttl -> !ttl.isNegative() && !ttl.isZero());
+    }
+
+    /**
+     * Notifies the resolver that the value of the provided key should be resolved again on the next lookup
+     *
+     * <p>Resolvers that keep their own caches should discard the cached value of the key. The default implementation
+     * does nothing.</p>
+     *
+     * @param key Configuration key
+     */
+    default void invalidate(final String key) {
+    }
+
+    /**
+     * Notifies the resolver that all values should be resolved again on the next lookups
+     *
+     * <p>Resolvers that keep their own caches should discard all cached values. The default implementation does
+     * nothing.</p>
+     */
+    default void invalidateAll() {
+    }
+
 }
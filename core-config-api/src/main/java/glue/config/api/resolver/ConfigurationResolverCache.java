@@ -0,0 +1,187 @@
+package glue.config.api.resolver;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded, time based cache for {@link ConfigurationResolver} results
+ *
+ * <p>This class memoises the values resolved for each configuration key during the configured time to live. Absent
+ * values are cached as well (negative caching), avoiding repeated lookups of keys that don't exist. When the cache
+ * reaches its maximum size, arbitrary entries are evicted to give room to the new ones.</p>
+ *
+ * <p>This class is thread-safe and can be reused by any {@link ConfigurationResolver} implementation.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-13
+ */
+public final class ConfigurationResolverCache {
+
+    /**
+     * Default maximum number of cached keys
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+    private static final Object ABSENT = new Object();
+
+    private final Duration ttl;
+    private final long ttlNanos;
+    private final int maximumSize;
+    private final Map<String, CachedValue> values;
+    private final LongAdder hits;
+    private final LongAdder misses;
+
+    /**
+     * Constructor with time to live initialization, using the default maximum size
+     *
+     * @param ttl Time to live of the cached values
+     */
+    public ConfigurationResolverCache(final Duration ttl) {
+        this(ttl, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Constructor with time to live and maximum size initialization
+     *
+     * @param ttl Time to live of the cached values
+     * @param maximumSize Maximum number of cached keys
+     */
+    public ConfigurationResolverCache(final Duration ttl, final int maximumSize) {
+        Objects.requireNonNull(ttl);
+        if (ttl.isNegative() || ttl.isZero())
+            throw new IllegalArgumentException("Cache time to live must be positive");
+        if (maximumSize <= 0)
+            throw new IllegalArgumentException("Cache maximum size must be positive");
+
+        this.ttl = ttl;
+        this.ttlNanos = toNanosSaturated(ttl);
+        this.maximumSize = maximumSize;
+        this.values = new ConcurrentHashMap<>();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+
+    /**
+     * Returns the cached value of the provided key, using the loader to resolve it when not cached or expired
+     *
+     * @param key Configuration key
+     * @param loader Value loader, called with the configuration key. Can return null.
+     * @return Configuration value or null when absent
+     */
+    public String get(final String key, final Function<String, String> loader) {
+        final long now = System.nanoTime();
+        final CachedValue cachedValue = values.get(key);
+        if (cachedValue != null && now - cachedValue.createdAt < ttlNanos) {
+            hits.increment();
+            return cachedValue.getValue();
+        }
+
+        misses.increment();
+        final String value = loader.apply(key);
+        if (cachedValue == null && values.size() >= maximumSize)
+            evictOne();
+
+        values.put(key, new CachedValue(value == null ? ABSENT : value, now));
+        return value;
+    }
+
+    /**
+     * Invalidates the cached value of the provided key
+     *
+     * @param key Configuration key
+     */
+    public void invalidate(final String key) {
+        values.remove(key);
+    }
+
+    /**
+     * Invalidates all cached values
+     */
+    public void invalidateAll() {
+        values.clear();
+    }
+
+    /**
+     * Returns the time to live of the cached values
+     *
+     * @return Time to live
+     */
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    /**
+     * Returns the number of lookups answered by the cache
+     *
+     * @return Hit count
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that required the loader to be called
+     *
+     * @return Miss count
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of keys currently cached
+     *
+     * @return Cache size
+     */
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * Evicts an arbitrary entry from the cache
+     */
+    private void evictOne() {
+        final Iterator<String> iterator = values.keySet().iterator();
+        if (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Converts the provided duration to nanoseconds, saturating to {@link Long#MAX_VALUE} on overflow
+     *
+     * @param duration Duration
+     * @return Duration in nanoseconds
+     */
+    private static long toNanosSaturated(final Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (final ArithmeticException ex) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Cached value with its creation time
+     */
+    private static final class CachedValue {
+
+        private final Object value;
+        private final long createdAt;
+
+        private CachedValue(final Object value, final long createdAt) {
+            this.value = value;
+            this.createdAt = createdAt;
+        }
+
+        private String getValue() {
+            return value == ABSENT ? null : (String) value;
+        }
+    }
+}
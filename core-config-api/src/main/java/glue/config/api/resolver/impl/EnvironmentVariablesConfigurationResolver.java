@@ -0,0 +1,86 @@
+package glue.config.api.resolver.impl;
+
+import glue.config.api.resolver.ConfigurationResolver;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * {@link ConfigurationResolver} implementation backed by the environment variables
+ *
+ * <p>Since most environments don't allow dots and dashes in variable names, configuration keys are looked up in
+ * the following order: the exact key, the key with all non alphanumeric characters replaced by {@code _} and the
+ * latter in upper case. For example, {@code glue.web.port} is resolved by {@code glue.web.port},
+ * {@code glue_web_port} or {@code GLUE_WEB_PORT}. The relaxed lookups are only done for keys with separators, so
+ * single word keys (like {@code path}) don't resolve to unrelated variables (like {@code PATH}).</p>
+ *
+ * <p>Environment variables can't change during the JVM lifetime, so their values are cached forever.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-13
+ */
+@Singleton
+public class EnvironmentVariablesConfigurationResolver implements ConfigurationResolver {
+
+    /**
+     * Ordinal of the environment variables resolver
+     */
+    public static final int ORDINAL = 300;
+
+    private static final Pattern SEPARATOR = Pattern.compile("[^a-zA-Z0-9]");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^a-zA-Z0-9_]");
+
+    private final Map<String, String> environment;
+
+    /**
+     * Default constructor
+     */
+    @Inject
+    public EnvironmentVariablesConfigurationResolver() {
+        this(System.getenv());
+    }
+
+    /**
+     * Constructor with environment variables initialization
+     *
+     * @param environment Environment variables
+     */
+    EnvironmentVariablesConfigurationResolver(final Map<String, String> environment) {
+        this.environment = environment;
+    }
+
+    /**
+     * Resolves the configuration value for the provided key
+     *
+     * @param key Configuration key to be resolved
+     * @return Resolved value
+     */
+    @Override
+    public String resolve(final String key) {
+        final String exactValue = environment.get(key);
+        if (exactValue != null || !SEPARATOR.matcher(key).find())
+            return exactValue;
+
+        final String sanitizedKey = NON_ALPHANUMERIC.matcher(key).replaceAll("_");
+        final String sanitizedValue = environment.get(sanitizedKey);
+        if (sanitizedValue != null)
+            return sanitizedValue;
+
+        return environment.get(sanitizedKey.toUpperCase(Locale.ROOT));
+    }
+
+    @Override
+    public Integer getOrdinal() {
+        return ORDINAL;
+    }
+
+    @Override
+    public Duration getCacheTtl() {
+        return ChronoUnit.FOREVER.getDuration();
+    }
+}
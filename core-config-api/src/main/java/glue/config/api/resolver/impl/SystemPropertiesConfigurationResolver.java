@@ -0,0 +1,40 @@
+package glue.config.api.resolver.impl;
+
+import glue.config.api.resolver.ConfigurationResolver;
+
+import javax.inject.Singleton;
+
+/**
+ * {@link ConfigurationResolver} implementation backed by the JVM system properties
+ *
+ * <p>System properties are cheap to read, so the resolver chain doesn't memoise them. The configuration interfaces
+ * keep the resolved values, though, so properties changed at runtime are only seen after their keys are invalidated
+ * using the {@link glue.config.api.cache.ConfigurationCache}.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-13
+ */
+@Singleton
+public class SystemPropertiesConfigurationResolver implements ConfigurationResolver {
+
+    /**
+     * Ordinal of the system properties resolver
+     */
+    public static final int ORDINAL = 400;
+
+    /**
+     * Resolves the configuration value for the provided key
+     *
+     * @param key Configuration key to be resolved
+     * @return Resolved value
+     */
+    @Override
+    public String resolve(final String key) {
+        return System.getProperty(key);
+    }
+
+    @Override
+    public Integer getOrdinal() {
+        return ORDINAL;
+    }
+}
@@ -1,6 +1,7 @@
 package glue.config.api.translator.impl;
 
 import glue.config.api.translator.ConfigurationContainerTranslator;
+import glue.core.util.LogUtils;
 import org.slf4j.Logger;
 
 import javax.enterprise.inject.Default;
@@ -38,7 +39,7 @@ public class OptionalConfigurationContainerTranslator implements ConfigurationCo
      */
     @Override
     public <V> Optional<V> translate(final V value) {
-        logger.debug("Translating '{}' to Optional container", value);
+        LogUtils.debug(logger, "Translating '{}' to Optional container", value);
         return Optional.ofNullable(value);
     }
 
@@ -0,0 +1,172 @@
+package glue.config.api.extension;
+
+import glue.config.api.change.ConfigurationBatchListener;
+import glue.config.api.change.ConfigurationChange;
+import glue.config.api.change.ConfigurationChangeBatch;
+import glue.config.api.change.ConfigurationChangeListener;
+import glue.config.api.change.ConfigurationSubscription;
+import glue.config.api.exception.ConfigurationException;
+import glue.config.api.extension.artifacts.ConfigurationChangePublisherArtifact;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.Logger;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test cases for {@link ConfigurationChangePublisher}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-15
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ConfigurationChangePublisherTests {
+
+    @Mock
+    private ConfigurationProxyHandler handler;
+    @Mock
+    private ConfigurationValueCache cache;
+    @Mock
+    private Logger logger;
+    @Mock
+    private ConfigurationChangeListener<Integer> listener;
+    @Mock
+    private ConfigurationBatchListener batchListener;
+
+    private Method poolSizeMethod;
+    private Method nameMethod;
+    private ConfigurationChangePublisher publisher;
+    private ScheduledExecutorService executor;
+
+    @Before
+    public void setup() throws Exception {
+        this.poolSizeMethod = ConfigurationChangePublisherArtifact.class.getMethod("getPoolSize");
+        this.nameMethod = ConfigurationChangePublisherArtifact.class.getMethod("getName");
+        this.executor = Executors.newSingleThreadScheduledExecutor();
+        this.publisher = new ConfigurationChangePublisher(handler, cache, executor, logger);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldRegisterItselfAsInvalidationListener() {
+        // validation
+        verify(cache, times(1)).setInvalidationListener(any());
+    }
+
+    @Test
+    public void shouldNotifyOldAndNewValues() {
+        // scenario
+        when(handler.resolve(poolSizeMethod)).thenReturn(10, 20);
+        publisher.subscribe(ConfigurationChangePublisherArtifact.class, "getPoolSize", listener);
+
+        // execution
+        publisher.onInvalidation(Collections.singletonList(poolSizeMethod));
+        publisher.flush();
+
+        // validation
+        final ArgumentCaptor<ConfigurationChange> captor = ArgumentCaptor.forClass(ConfigurationChange.class);
+        verify(listener, times(1)).onChange(captor.capture());
+        assertThat(captor.getValue().getKey(), is("testArtifact.poolSize"));
+        assertThat(captor.getValue().getOldValue(), is(10));
+        assertThat(captor.getValue().getNewValue(), is(20));
+    }
+
+    @Test
+    public void shouldNotNotifyWhenTheValueDidNotChange() {
+        // scenario
+        doReturn(10).when(handler).resolve(poolSizeMethod);
+        publisher.subscribe(ConfigurationChangePublisherArtifact.class, "getPoolSize", listener);
+
+        // execution
+        publisher.onInvalidation(Collections.singletonList(poolSizeMethod));
+        publisher.flush();
+
+        // validation
+        verify(listener, never()).onChange(any());
+    }
+
+    @Test
+    public void shouldNotifyInterfaceListenersWithBatches() {
+        // scenario
+        when(handler.resolve(poolSizeMethod)).thenReturn(10, 20);
+        when(handler.resolve(nameMethod)).thenReturn("old", "new");
+        publisher.subscribe(ConfigurationChangePublisherArtifact.class, batchListener);
+
+        // execution
+        publisher.onInvalidation(Arrays.asList(poolSizeMethod, nameMethod));
+        publisher.flush();
+
+        // validation
+        final ArgumentCaptor<ConfigurationChangeBatch> captor = ArgumentCaptor.forClass(ConfigurationChangeBatch.class);
+        verify(batchListener, times(1)).onChanges(captor.capture());
+        assertThat(captor.getValue().getChanges().size(), is(2));
+        assertThat(captor.getValue().findChange("getName").get().getNewValue(), is("new"));
+    }
+
+    @Test
+    public void shouldCoalesceInvalidationsIntoASingleNotification() {
+        // scenario
+        when(handler.resolve(poolSizeMethod)).thenReturn(10, 30);
+        publisher.subscribe(ConfigurationChangePublisherArtifact.class, "getPoolSize", listener);
+
+        // execution
+        publisher.onInvalidation(Collections.singletonList(poolSizeMethod));
+        publisher.onInvalidation(Collections.singletonList(poolSizeMethod));
+        publisher.onInvalidation(Collections.singletonList(poolSizeMethod));
+
+        // validation
+        verify(listener, timeout(5000).times(1)).onChange(any());
+        verify(handler, times(2)).resolve(poolSizeMethod);
+    }
+
+    @Test
+    public void shouldStopNotifyingCancelledSubscriptions() {
+        // scenario
+        when(handler.resolve(poolSizeMethod)).thenReturn(10, 20);
+        final ConfigurationSubscription subscription =
+                publisher.subscribe(ConfigurationChangePublisherArtifact.class, "getPoolSize", listener);
+
+        // execution
+        subscription.cancel();
+        publisher.onInvalidation(Collections.singletonList(poolSizeMethod));
+        publisher.flush();
+
+        // validation
+        verify(listener, never()).onChange(any());
+    }
+
+    @Test
+    public void shouldIgnoreInvalidationsOfMethodsWithoutSubscriptions() {
+        // execution
+        publisher.onInvalidation(Collections.singletonList(nameMethod));
+        publisher.flush();
+
+        // validation
+        verify(handler, never()).resolve(any());
+    }
+
+    @Test(expected = ConfigurationException.class)
+    public void shouldRejectUnknownMethods() {
+        // execution
+        publisher.subscribe(ConfigurationChangePublisherArtifact.class, "getUnknown", listener);
+    }
+
+}
@@ -0,0 +1,67 @@
+package glue.config.api.extension;
+
+import glue.config.api.extension.artifacts.ConfigurationDefaultMethodInvokerArtifact;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test cases for {@link ConfigurationDefaultMethodInvoker}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-09
+ */
+public class ConfigurationDefaultMethodInvokerTests {
+
+    private final ConfigurationDefaultMethodInvokerArtifact artifact = () -> 10;
+    private ConfigurationDefaultMethodInvoker invoker;
+
+    @Before
+    public void setup() {
+        this.invoker = new ConfigurationDefaultMethodInvoker();
+    }
+
+    @Test
+    public void shouldInvokeDefaultMethodsWithoutArguments() throws Throwable {
+        // scenario
+        final Method method = ConfigurationDefaultMethodInvokerArtifact.class.getMethod("getDoubledTimeout");
+
+        // execution
+        final Object actualValue = invoker.invoke(artifact, method, null);
+
+        // validation
+        assertThat(actualValue, is(20));
+    }
+
+    @Test
+    public void shouldInvokeDefaultMethodsWithArguments() throws Throwable {
+        // scenario
+        final Method method = ConfigurationDefaultMethodInvokerArtifact.class
+                .getMethod("describe", String.class, int.class);
+
+        // execution
+        final Object actualValue = invoker.invoke(artifact, method, new Object[]{"timeout=", 3});
+
+        // validation
+        assertThat(actualValue, is("timeout=30"));
+    }
+
+    @Test
+    public void shouldReuseMethodHandlesOnSubsequentCalls() throws Throwable {
+        // scenario
+        final Method method = ConfigurationDefaultMethodInvokerArtifact.class.getMethod("getDoubledTimeout");
+        final ConfigurationDefaultMethodInvokerArtifact anotherArtifact = () -> 21;
+        invoker.invoke(artifact, method, null);
+
+        // execution
+        final Object actualValue = invoker.invoke(anotherArtifact, method, null);
+
+        // validation
+        assertThat(actualValue, is(42));
+    }
+
+}
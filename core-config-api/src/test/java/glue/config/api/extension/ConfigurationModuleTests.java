@@ -0,0 +1,53 @@
+package glue.config.api.extension;
+
+import glue.config.api.cache.ConfigurationCache;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.Logger;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test cases for {@link ConfigurationModule}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ConfigurationModuleTests {
+
+    @Mock
+    private ConfigurationCache cache;
+    @Mock
+    private Logger logger;
+
+    private ConfigurationModule module;
+
+    @Before
+    public void setup() {
+        this.module = new ConfigurationModule(cache, logger);
+    }
+
+    @Test
+    public void shouldInvalidateAllValuesAfterRestore() {
+        // execution
+        module.afterRestore();
+
+        // validation
+        verify(cache, times(1)).invalidateAll();
+    }
+
+    @Test
+    public void shouldKeepValuesBeforeCheckpoint() {
+        // execution
+        module.beforeCheckpoint();
+
+        // validation
+        verify(cache, never()).invalidateAll();
+    }
+}
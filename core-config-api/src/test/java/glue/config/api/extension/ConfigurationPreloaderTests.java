@@ -0,0 +1,95 @@
+package glue.config.api.extension;
+
+import glue.config.api.exception.ConfigurationException;
+import glue.config.api.extension.artifacts.ConfigurationPreloaderArtifact;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.Logger;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test cases for {@link ConfigurationPreloader}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-10
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ConfigurationPreloaderTests {
+
+    @Mock
+    private ConfigurationProxyHandler handler;
+    @Mock
+    private Logger logger;
+
+    private ConfigurationPreloader preloader;
+
+    @Before
+    public void setup() {
+        this.preloader = new ConfigurationPreloader(handler, logger);
+    }
+
+    @Test
+    public void shouldResolveAllConfigurationMethods() throws Exception {
+        // execution
+        final List<ConfigurationException> failures = preloader
+                .preload(Collections.singletonList(ConfigurationPreloaderArtifact.class), 2);
+
+        // validation
+        assertThat(failures.isEmpty(), is(true));
+        verify(handler, times(1)).resolve(ConfigurationPreloaderArtifact.class.getMethod("getName"));
+        verify(handler, times(1)).resolve(ConfigurationPreloaderArtifact.class.getMethod("getTimeout"));
+    }
+
+    @Test
+    public void shouldNotResolveDefaultMethods() throws Exception {
+        // execution
+        preloader.preload(Collections.singletonList(ConfigurationPreloaderArtifact.class), 2);
+
+        // validation
+        verify(handler, never()).resolve(ConfigurationPreloaderArtifact.class.getMethod("getDoubledTimeout"));
+    }
+
+    @Test
+    public void shouldReportResolutionFailures() throws Exception {
+        // scenario
+        final Method method = ConfigurationPreloaderArtifact.class.getMethod("getTimeout");
+        final ConfigurationException expectedException = new ConfigurationException("Missing value");
+        doThrow(expectedException).when(handler).resolve(method);
+
+        // execution
+        final List<ConfigurationException> failures = preloader
+                .preload(Collections.singletonList(ConfigurationPreloaderArtifact.class), 1);
+
+        // validation
+        assertThat(failures.size(), is(1));
+        assertThat(failures.get(0), is(sameInstance(expectedException)));
+    }
+
+    @Test
+    public void shouldWrapUnexpectedResolutionFailures() throws Exception {
+        // scenario
+        final IllegalStateException cause = new IllegalStateException("Unexpected");
+        doThrow(cause).when(handler).resolve(any(Method.class));
+
+        // execution
+        final List<ConfigurationException> failures = preloader
+                .preload(Collections.singletonList(ConfigurationPreloaderArtifact.class), 1);
+
+        // validation
+        assertThat(failures.size(), is(1));
+        assertThat(failures.get(0).getCause(), is(sameInstance(cause)));
+    }
+
+}
@@ -2,6 +2,7 @@ package glue.config.api.extension;
 
 import glue.config.api.exception.ConfigurationException;
 import glue.config.api.extension.artifacts.ConfigurationProxyFactoryArtifact;
+import glue.config.api.extension.artifacts.ConfigurationProxyFactoryArtifact_WithGeneratedImplementation_GlueConfiguration;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -11,9 +12,13 @@ import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.slf4j.Logger;
 
+import java.lang.reflect.Proxy;
+
 import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Test cases for {@link ConfigurationProxyFactory}
@@ -51,6 +56,36 @@ public class ConfigurationProxyFactoryTests {
 
     }
 
+    @Test
+    public void shouldProduceGeneratedImplementationsWhenAvailable() {
+        // scenario
+        final Class<ConfigurationProxyFactoryArtifact.WithGeneratedImplementation> configurationInterface =
+                ConfigurationProxyFactoryArtifact.WithGeneratedImplementation.class;
+
+        // execution
+        final ConfigurationProxyFactoryArtifact.WithGeneratedImplementation producedInstance =
+                factory.build(configurationInterface);
+
+        // validation
+        assertThat(producedInstance, is(instanceOf(ConfigurationProxyFactoryArtifact_WithGeneratedImplementation_GlueConfiguration.class)));
+        assertFalse(Proxy.isProxyClass(producedInstance.getClass()));
+    }
+
+    @Test
+    public void shouldProduceDynamicProxiesWhenNoImplementationIsGenerated() {
+        // scenario
+        final Class<ConfigurationProxyFactoryArtifact.WithoutGeneratedImplementation> configurationInterface =
+                ConfigurationProxyFactoryArtifact.WithoutGeneratedImplementation.class;
+
+        // execution
+        final ConfigurationProxyFactoryArtifact.WithoutGeneratedImplementation producedInstance =
+                factory.build(configurationInterface);
+
+        // validation
+        assertThat(producedInstance, is(instanceOf(configurationInterface)));
+        assertTrue(Proxy.isProxyClass(producedInstance.getClass()));
+    }
+
     @Test
     public void shouldThrowExceptionWhenAnnotationIsMissing() {
         // scenario
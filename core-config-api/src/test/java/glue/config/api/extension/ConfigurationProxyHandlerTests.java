@@ -1,6 +1,7 @@
 package glue.config.api.extension;
 
 import glue.config.api.extension.artifacts.ConfigurationProxyHandlerArtifact;
+import glue.config.api.generated.ConfigurationValue;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -10,6 +11,8 @@ import org.mockito.runners.MockitoJUnitRunner;
 import org.slf4j.Logger;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNotNull;
@@ -36,12 +39,19 @@ public class ConfigurationProxyHandlerTests {
     private Logger logger;
     @Mock
     private ConfigurationProxyHandlerArtifact artifact;
+    @Mock
+    private ConfigurationResolverChain resolverChain;
 
+    private ConfigurationValueCache cache;
     private ConfigurationProxyHandler handler;
 
     @Before
     public void setup() {
-        this.handler = new ConfigurationProxyHandler(resolver, translator, containerFacade, logger);
+        doReturn(Optional.empty()).when(resolverChain).getValueTtl(anyString());
+        this.cache = new ConfigurationValueCache(resolverChain, logger);
+        this.handler = new ConfigurationProxyHandler(
+                resolver, translator, containerFacade, cache, new ConfigurationDefaultMethodInvoker(), logger
+        );
     }
 
     @Test
@@ -79,4 +89,89 @@ public class ConfigurationProxyHandlerTests {
         verify(translator, times(1)).translate(expectedValue.toString(), Integer.class);
     }
 
+    @Test
+    public void shouldCacheResolvedValues() throws Throwable {
+        // scenario
+        final Method method = ConfigurationProxyHandlerArtifact.class.getMethod("getTest");
+        final Integer expectedValue = 123;
+        doReturn(expectedValue.toString()).when(resolver).resolve(eq("testArtifact.test"), anyString());
+        doReturn(expectedValue).when(translator).translate(expectedValue.toString(), Integer.class);
+
+        // execution
+        handler.invoke(artifact, method, null);
+        final Object actualValue = handler.invoke(artifact, method, null);
+
+        // validation
+        assertThat(actualValue, is(expectedValue));
+        verify(resolver, times(1)).resolve(eq("testArtifact.test"), anyString());
+        verify(translator, times(1)).translate(expectedValue.toString(), Integer.class);
+    }
+
+    @Test
+    public void shouldResolveAgainAfterInvalidation() throws Throwable {
+        // scenario
+        final Method method = ConfigurationProxyHandlerArtifact.class.getMethod("getTest");
+        when(resolver.resolve(eq("testArtifact.test"), anyString())).thenReturn("123", "456");
+        doReturn(123).when(translator).translate("123", Integer.class);
+        doReturn(456).when(translator).translate("456", Integer.class);
+        handler.invoke(artifact, method, null);
+
+        // execution
+        cache.invalidate("testArtifact.test");
+        final Object actualValue = handler.invoke(artifact, method, null);
+
+        // validation
+        assertThat(actualValue, is(456));
+        verify(resolver, times(2)).resolve(eq("testArtifact.test"), anyString());
+    }
+
+    @Test
+    public void shouldNotCacheNonCacheableValues() throws Throwable {
+        // scenario
+        final Method method = ConfigurationProxyHandlerArtifact.class.getMethod("getVolatileTest");
+        doReturn("123").when(resolver).resolve(eq("testArtifact.volatileTest"), anyString());
+        doReturn(123).when(translator).translate("123", Integer.class);
+
+        // execution
+        handler.invoke(artifact, method, null);
+        handler.invoke(artifact, method, null);
+
+        // validation
+        verify(resolver, times(2)).resolve(eq("testArtifact.volatileTest"), anyString());
+    }
+
+    @Test
+    public void shouldBindConfigurationValuesToMethods() throws Throwable {
+        // scenario
+        final Method method = ConfigurationProxyHandlerArtifact.class.getMethod("getTest");
+        doReturn("123").when(resolver).resolve(eq("testArtifact.test"), anyString());
+        doReturn(123).when(translator).translate("123", Integer.class);
+
+        // execution
+        final ConfigurationValue<Integer> value = handler.getValue(method);
+        value.get();
+        final Integer actualValue = value.get();
+
+        // validation
+        assertThat(actualValue, is(123));
+        verify(resolver, times(1)).resolve(eq("testArtifact.test"), anyString());
+    }
+
+    @Test
+    public void shouldResolveAgainWhenTheValueExpires() throws Throwable {
+        // scenario
+        final Method method = ConfigurationProxyHandlerArtifact.class.getMethod("getTest");
+        doReturn(Optional.of(Duration.ofMillis(1))).when(resolverChain).getValueTtl("testArtifact.test");
+        doReturn("123").when(resolver).resolve(eq("testArtifact.test"), anyString());
+        doReturn(123).when(translator).translate("123", Integer.class);
+        handler.invoke(artifact, method, null);
+
+        // execution
+        Thread.sleep(5);
+        handler.invoke(artifact, method, null);
+
+        // validation
+        verify(resolver, times(2)).resolve(eq("testArtifact.test"), anyString());
+    }
+
 }
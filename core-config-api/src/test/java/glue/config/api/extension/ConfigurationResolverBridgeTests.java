@@ -1,6 +1,5 @@
 package glue.config.api.extension;
 
-import glue.config.api.resolver.ConfigurationResolver;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -24,7 +23,7 @@ import static org.mockito.Mockito.*;
 public class ConfigurationResolverBridgeTests {
 
     @Mock
-    private ConfigurationResolver resolver;
+    private ConfigurationResolverChain resolver;
     @Mock
     private Logger logger;
 
@@ -33,6 +32,7 @@ public class ConfigurationResolverBridgeTests {
     @Before
     public void setup() {
         this.bridge = new ConfigurationResolverBridge(resolver, logger);
+        doReturn(true).when(logger).isDebugEnabled();
     }
 
     @Test
@@ -0,0 +1,156 @@
+package glue.config.api.extension;
+
+import glue.config.api.resolver.ConfigurationResolver;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.Logger;
+
+import javax.enterprise.inject.Instance;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test cases for {@link ConfigurationResolverChain}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-13
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ConfigurationResolverChainTests {
+
+    @Mock
+    private Instance<ConfigurationResolver> resolvers;
+    @Mock
+    private ConfigurationResolver highOrdinalResolver;
+    @Mock
+    private ConfigurationResolver lowOrdinalResolver;
+    @Mock
+    private Logger logger;
+
+    private ConfigurationResolverChain chain;
+
+    @Before
+    public void setup() {
+        doReturn(500).when(highOrdinalResolver).getOrdinal();
+        doReturn(Duration.ZERO).when(highOrdinalResolver).getCacheTtl();
+        doReturn(100).when(lowOrdinalResolver).getOrdinal();
+        doReturn(Duration.ofMinutes(1)).when(lowOrdinalResolver).getCacheTtl();
+        doReturn(Arrays.asList(lowOrdinalResolver, highOrdinalResolver).spliterator()).when(resolvers).spliterator();
+
+        this.chain = new ConfigurationResolverChain(resolvers, logger);
+    }
+
+    @Test
+    public void shouldPreferResolversWithHigherOrdinals() {
+        // scenario
+        doReturn("high").when(highOrdinalResolver).resolve("key");
+        doReturn("low").when(lowOrdinalResolver).resolve("key");
+
+        // execution
+        final String actualValue = chain.resolve("key");
+
+        // validation
+        assertThat(actualValue, is("high"));
+        verify(lowOrdinalResolver, never()).resolve("key");
+    }
+
+    @Test
+    public void shouldFallbackToResolversWithLowerOrdinals() {
+        // scenario
+        doReturn("low").when(lowOrdinalResolver).resolve("key");
+
+        // execution
+        final String actualValue = chain.resolve("key");
+
+        // validation
+        assertThat(actualValue, is("low"));
+    }
+
+    @Test
+    public void shouldCacheValuesOfLayersWithTimeToLive() {
+        // scenario
+        doReturn("low").when(lowOrdinalResolver).resolve("key");
+
+        // execution
+        chain.resolve("key");
+        chain.resolve("key");
+
+        // validation
+        verify(highOrdinalResolver, times(2)).resolve("key");
+        verify(lowOrdinalResolver, times(1)).resolve("key");
+    }
+
+    @Test
+    public void shouldCacheAbsentValues() {
+        // execution
+        final String actualValue = chain.resolve("missing");
+        chain.resolve("missing");
+
+        // validation
+        assertThat(actualValue, is(nullValue()));
+        verify(lowOrdinalResolver, times(1)).resolve("missing");
+    }
+
+    @Test
+    public void shouldResolveAgainAfterInvalidation() {
+        // scenario
+        chain.resolve("key");
+
+        // execution
+        chain.invalidate("key");
+        chain.resolve("key");
+
+        // validation
+        verify(lowOrdinalResolver, times(2)).resolve("key");
+    }
+
+    @Test
+    public void shouldForwardInvalidationsToTheResolvers() {
+        // scenario
+        chain.resolve("key");
+
+        // execution
+        chain.invalidate("key");
+        chain.invalidateAll();
+
+        // validation
+        verify(highOrdinalResolver, times(1)).invalidate("key");
+        verify(lowOrdinalResolver, times(1)).invalidateAll();
+    }
+
+    @Test
+    public void shouldUseTheShortestValueTimeToLive() {
+        // scenario
+        doReturn(Optional.of(Duration.ofSeconds(30))).when(highOrdinalResolver).getValueTtl("key");
+        doReturn(Optional.of(Duration.ofSeconds(10))).when(lowOrdinalResolver).getValueTtl("key");
+
+        // execution
+        final Optional<Duration> actualValue = chain.getValueTtl("key");
+
+        // validation
+        assertThat(actualValue, is(Optional.of(Duration.ofSeconds(10))));
+    }
+
+    @Test
+    public void shouldKeepValuesUntilInvalidatedWhenNoLayerDefinesTimeToLive() {
+        // scenario
+        doReturn(Optional.empty()).when(highOrdinalResolver).getValueTtl("key");
+        doReturn(Optional.empty()).when(lowOrdinalResolver).getValueTtl("key");
+
+        // execution
+        final Optional<Duration> actualValue = chain.getValueTtl("key");
+
+        // validation
+        assertThat(actualValue, is(Optional.empty()));
+    }
+
+}
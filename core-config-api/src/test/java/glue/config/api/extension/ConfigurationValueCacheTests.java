@@ -0,0 +1,195 @@
+package glue.config.api.extension;
+
+import glue.config.api.extension.artifacts.ConfigurationProxyHandlerArtifact;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.Logger;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test cases for {@link ConfigurationValueCache}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-05
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ConfigurationValueCacheTests {
+
+    @Mock
+    private Logger logger;
+    @Mock
+    private ConfigurationResolverChain resolverChain;
+
+    private ConfigurationValueCache cache;
+    private Method method;
+
+    @Before
+    public void setup() throws Exception {
+        this.cache = new ConfigurationValueCache(resolverChain, logger);
+        this.method = ConfigurationProxyHandlerArtifact.class.getMethod("getTest");
+    }
+
+    @Test
+    public void shouldBuildEntriesOnlyOnce() {
+        // scenario
+        final AtomicInteger calls = new AtomicInteger();
+        final Function<Method, ConfigurationCacheEntry> factory = target -> {
+            calls.incrementAndGet();
+            return buildEntry(target);
+        };
+
+        // execution
+        final ConfigurationCacheEntry firstEntry = cache.getEntry(method, factory);
+        final ConfigurationCacheEntry secondEntry = cache.getEntry(method, factory);
+
+        // validation
+        assertThat(firstEntry, is(sameInstance(secondEntry)));
+        assertThat(calls.get(), is(1));
+    }
+
+    @Test
+    public void shouldInvalidateEntriesByKey() {
+        // scenario
+        final ConfigurationCacheEntry entry = cache.getEntry(method, this::buildEntry);
+        entry.getValue(target -> 123);
+
+        // execution
+        cache.invalidate("testArtifact.test");
+
+        // validation
+        assertFalse(entry.isResolved());
+    }
+
+    @Test
+    public void shouldKeepEntriesOfOtherKeys() {
+        // scenario
+        final ConfigurationCacheEntry entry = cache.getEntry(method, this::buildEntry);
+        entry.getValue(target -> 123);
+
+        // execution
+        cache.invalidate("testArtifact.anotherKey");
+
+        // validation
+        assertTrue(entry.isResolved());
+    }
+
+    @Test
+    public void shouldInvalidateAllEntries() {
+        // scenario
+        final ConfigurationCacheEntry entry = cache.getEntry(method, this::buildEntry);
+        entry.getValue(target -> 123);
+
+        // execution
+        cache.invalidateAll();
+
+        // validation
+        assertFalse(entry.isResolved());
+    }
+
+    @Test
+    public void shouldNotCacheValuesInvalidatedDuringResolution() {
+        // scenario
+        final ConfigurationCacheEntry entry = cache.getEntry(method, this::buildEntry);
+
+        // execution
+        entry.getValue(target -> {
+            cache.invalidateAll();
+            return 123;
+        });
+
+        // validation
+        assertFalse(entry.isResolved());
+    }
+
+    @Test
+    public void shouldForwardInvalidationsToTheResolverChain() {
+        // execution
+        cache.invalidate("testKey");
+        cache.invalidateAll();
+
+        // validation
+        verify(resolverChain, times(1)).invalidate("testKey");
+        verify(resolverChain, times(1)).invalidateAll();
+    }
+
+    @Test
+    public void shouldNotifyInvalidatedMethods() {
+        // scenario
+        final List<Collection<Method>> notifications = new ArrayList<>();
+        cache.setInvalidationListener(notifications::add);
+        cache.getEntry(method, this::buildEntry);
+
+        // execution
+        cache.invalidate("testArtifact.test");
+
+        // validation
+        assertThat(notifications.size(), is(1));
+        assertThat(notifications.get(0).contains(method), is(true));
+    }
+
+    @Test
+    public void shouldExpireValuesAfterTheirTimeToLive() throws Exception {
+        // scenario
+        final ConfigurationCacheEntry entry = buildEntry(method, Duration.ofMillis(1));
+        entry.getValue(target -> 123);
+
+        // execution
+        Thread.sleep(5);
+
+        // validation
+        assertFalse(entry.isResolved());
+    }
+
+    @Test
+    public void shouldNotCacheValuesWithoutTimeToLive() {
+        // scenario
+        final ConfigurationCacheEntry entry = buildEntry(method, Duration.ZERO);
+
+        // execution
+        entry.getValue(target -> 123);
+
+        // validation
+        assertFalse(entry.isResolved());
+    }
+
+    @Test
+    public void shouldForwardTimeToLiveLookupsToTheResolverChain() {
+        // scenario
+        doReturn(Optional.of(Duration.ofSeconds(30))).when(resolverChain).getValueTtl("testKey");
+
+        // execution
+        final Optional<Duration> actualValue = cache.getValueTtl("testKey");
+
+        // validation
+        assertThat(actualValue, is(Optional.of(Duration.ofSeconds(30))));
+    }
+
+    private ConfigurationCacheEntry buildEntry(final Method target) {
+        return buildEntry(target, null);
+    }
+
+    private ConfigurationCacheEntry buildEntry(final Method target, final Duration valueTtl) {
+        return new ConfigurationCacheEntry(target, new ConfigurationMetadata(target), Integer.class, false, valueTtl);
+    }
+
+}
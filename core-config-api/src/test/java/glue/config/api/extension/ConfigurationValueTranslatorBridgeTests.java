@@ -68,4 +68,17 @@ public class ConfigurationValueTranslatorBridgeTests {
         assertThat(actualValue, is(expectedValue));
     }
 
+    @Test
+    public void shouldLookForCustomTranslatorsOnlyOnce() {
+        // scenario
+        doReturn(Optional.empty()).when(cdiUtils).getTypedBean(ConfigurationValueTranslator.class, Integer.class);
+
+        // execution
+        translator.translate("123", Integer.class);
+        translator.translate("456", Integer.class);
+
+        // validation
+        verify(cdiUtils, times(1)).getTypedBean(ConfigurationValueTranslator.class, Integer.class);
+    }
+
 }
@@ -10,6 +10,7 @@ import java.util.Random;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
 
@@ -40,6 +41,46 @@ public class DefaultConfigurationTranslatorTests {
         assertThat(actualValue, is(expectedValue));
     }
 
+    @Test
+    public void shouldTranslateEnumIgnoringCase() {
+        // scenario
+        final String enumValue = "b";
+        final DefaultConfigurationTranslatorArtifacts.Enum expectedValue = DefaultConfigurationTranslatorArtifacts.Enum.B;
+
+        // execution
+        final DefaultConfigurationTranslatorArtifacts.Enum actualValue = DefaultConfigurationTranslator
+                .forType(DefaultConfigurationTranslatorArtifacts.Enum.class)
+                .translate(enumValue);
+
+        // validation
+        assertThat(actualValue, is(expectedValue));
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenEnumConstantIsUnknown() {
+        // scenario
+        final String enumValue = "unknown";
+        expectedException.expect(ConfigurationException.class);
+        expectedException.expectMessage(equalTo(
+                "No enum constant unknown for " + DefaultConfigurationTranslatorArtifacts.Enum.class.getName()
+        ));
+
+        // execution
+        DefaultConfigurationTranslator
+                .forType(DefaultConfigurationTranslatorArtifacts.Enum.class)
+                .translate(enumValue);
+    }
+
+    @Test
+    public void shouldReuseTranslatorsOfTheSameType() {
+        // execution
+        final DefaultConfigurationTranslator<Integer> firstTranslator = DefaultConfigurationTranslator.forType(Integer.class);
+        final DefaultConfigurationTranslator<Integer> secondTranslator = DefaultConfigurationTranslator.forType(Integer.class);
+
+        // validation
+        assertThat(firstTranslator, is(sameInstance(secondTranslator)));
+    }
+
     @Test
     public void shouldTranslateUsingConstructor() {
         // scenario
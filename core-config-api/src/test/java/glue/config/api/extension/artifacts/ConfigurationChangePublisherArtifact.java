@@ -0,0 +1,18 @@
+package glue.config.api.extension.artifacts;
+
+import glue.config.api.annotation.ConfigurationInterface;
+
+/**
+ * Test artifact for {@link glue.config.api.extension.ConfigurationChangePublisherTests}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-15
+ */
+@ConfigurationInterface(prefix = "testArtifact.")
+public interface ConfigurationChangePublisherArtifact {
+
+    Integer getPoolSize();
+
+    String getName();
+
+}
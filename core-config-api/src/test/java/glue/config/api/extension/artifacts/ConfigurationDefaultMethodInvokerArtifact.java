@@ -0,0 +1,24 @@
+package glue.config.api.extension.artifacts;
+
+import glue.config.api.annotation.ConfigurationInterface;
+
+/**
+ * Test artifact for {@link glue.config.api.extension.ConfigurationDefaultMethodInvokerTests}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-09
+ */
+@ConfigurationInterface(prefix = "testArtifact.")
+public interface ConfigurationDefaultMethodInvokerArtifact {
+
+    Integer getTimeout();
+
+    default Integer getDoubledTimeout() {
+        return getTimeout() * 2;
+    }
+
+    default String describe(final String prefix, final int multiplier) {
+        return prefix + (getTimeout() * multiplier);
+    }
+
+}
@@ -0,0 +1,22 @@
+package glue.config.api.extension.artifacts;
+
+import glue.config.api.annotation.ConfigurationInterface;
+
+/**
+ * Test artifact for {@link glue.config.api.extension.ConfigurationPreloaderTests}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-10
+ */
+@ConfigurationInterface(prefix = "testArtifact.")
+public interface ConfigurationPreloaderArtifact {
+
+    String getName();
+
+    Integer getTimeout();
+
+    default Integer getDoubledTimeout() {
+        return getTimeout() * 2;
+    }
+
+}
@@ -17,6 +17,18 @@ public final class ConfigurationProxyFactoryArtifact {
         Integer getTest();
     }
 
+    @ConfigurationInterface(prefix = "testArtifact.")
+    public interface WithGeneratedImplementation {
+        @ConfigurationProperty(key = "test", defaultValue = "1234")
+        Integer getTest();
+    }
+
+    @ConfigurationInterface(prefix = "testArtifact.")
+    public interface WithoutGeneratedImplementation<T> {
+        @ConfigurationProperty(key = "test", defaultValue = "1234")
+        Integer getTest();
+    }
+
     public interface WithoutAnnotation {
         Integer getTest();
     }
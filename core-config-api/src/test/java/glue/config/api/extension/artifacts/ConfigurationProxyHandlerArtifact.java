@@ -20,6 +20,9 @@ public interface ConfigurationProxyHandlerArtifact {
     @ConfigurationProperty(key = "test")
     Optional<Integer> getTestWithOptional();
 
+    @ConfigurationProperty(key = "volatileTest", cacheable = false)
+    Integer getVolatileTest();
+
     default Integer getDefaultValue() {
         return 123;
     }
@@ -0,0 +1,118 @@
+package glue.config.api.resolver;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test cases for {@link ConfigurationResolverCache}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-13
+ */
+public class ConfigurationResolverCacheTests {
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final Function<String, String> loader = key -> {
+        calls.incrementAndGet();
+        return key.startsWith("missing") ? null : key + "-value";
+    };
+
+    @Test
+    public void shouldCacheResolvedValues() {
+        // scenario
+        final ConfigurationResolverCache cache = new ConfigurationResolverCache(Duration.ofMinutes(1));
+
+        // execution
+        cache.get("key", loader);
+        final String actualValue = cache.get("key", loader);
+
+        // validation
+        assertThat(actualValue, is("key-value"));
+        assertThat(calls.get(), is(1));
+        assertThat(cache.getHitCount(), is(1L));
+        assertThat(cache.getMissCount(), is(1L));
+    }
+
+    @Test
+    public void shouldCacheAbsentValues() {
+        // scenario
+        final ConfigurationResolverCache cache = new ConfigurationResolverCache(Duration.ofMinutes(1));
+
+        // execution
+        cache.get("missing", loader);
+        final String actualValue = cache.get("missing", loader);
+
+        // validation
+        assertThat(actualValue, is(nullValue()));
+        assertThat(calls.get(), is(1));
+    }
+
+    @Test
+    public void shouldExpireValuesAfterTheTimeToLive() throws Exception {
+        // scenario
+        final ConfigurationResolverCache cache = new ConfigurationResolverCache(Duration.ofMillis(1));
+        cache.get("key", loader);
+
+        // execution
+        Thread.sleep(5);
+        cache.get("key", loader);
+
+        // validation
+        assertThat(calls.get(), is(2));
+    }
+
+    @Test
+    public void shouldSupportInfiniteTimeToLive() {
+        // scenario
+        final ConfigurationResolverCache cache = new ConfigurationResolverCache(ChronoUnit.FOREVER.getDuration());
+
+        // execution
+        cache.get("key", loader);
+        cache.get("key", loader);
+
+        // validation
+        assertThat(calls.get(), is(1));
+    }
+
+    @Test
+    public void shouldRespectTheMaximumSize() {
+        // scenario
+        final ConfigurationResolverCache cache = new ConfigurationResolverCache(Duration.ofMinutes(1), 10);
+
+        // execution
+        for (int index = 0; index < 100; index++)
+            cache.get("key" + index, loader);
+
+        // validation
+        assertThat(cache.size(), is(10));
+    }
+
+    @Test
+    public void shouldResolveAgainAfterInvalidation() {
+        // scenario
+        final ConfigurationResolverCache cache = new ConfigurationResolverCache(Duration.ofMinutes(1));
+        cache.get("key", loader);
+
+        // execution
+        cache.invalidate("key");
+        cache.get("key", loader);
+
+        // validation
+        assertThat(calls.get(), is(2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectZeroTimeToLive() {
+        // execution
+        new ConfigurationResolverCache(Duration.ZERO);
+    }
+
+}
@@ -0,0 +1,79 @@
+package glue.config.api.resolver.impl;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test cases for {@link EnvironmentVariablesConfigurationResolver}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-13
+ */
+public class EnvironmentVariablesConfigurationResolverTests {
+
+    private EnvironmentVariablesConfigurationResolver resolver;
+
+    @Before
+    public void setup() {
+        final Map<String, String> environment = new HashMap<>();
+        environment.put("exact.key", "exact");
+        environment.put("sanitized_key", "sanitized");
+        environment.put("GLUE_WEB_PORT", "8080");
+        environment.put("PATH", "/usr/bin");
+
+        this.resolver = new EnvironmentVariablesConfigurationResolver(environment);
+    }
+
+    @Test
+    public void shouldResolveExactKeys() {
+        // execution
+        final String actualValue = resolver.resolve("exact.key");
+
+        // validation
+        assertThat(actualValue, is("exact"));
+    }
+
+    @Test
+    public void shouldResolveSanitizedKeys() {
+        // execution
+        final String actualValue = resolver.resolve("sanitized-key");
+
+        // validation
+        assertThat(actualValue, is("sanitized"));
+    }
+
+    @Test
+    public void shouldResolveUpperCaseSanitizedKeys() {
+        // execution
+        final String actualValue = resolver.resolve("glue.web.port");
+
+        // validation
+        assertThat(actualValue, is("8080"));
+    }
+
+    @Test
+    public void shouldNotResolveSingleWordKeysUsingRelaxedNames() {
+        // execution
+        final String actualValue = resolver.resolve("path");
+
+        // validation
+        assertThat(actualValue, is(nullValue()));
+    }
+
+    @Test
+    public void shouldReturnNullForUnknownKeys() {
+        // execution
+        final String actualValue = resolver.resolve("unknown.key");
+
+        // validation
+        assertThat(actualValue, is(nullValue()));
+    }
+
+}
@@ -0,0 +1,180 @@
+package glue.core.configuration.deltaspike;
+
+import glue.config.api.resolver.ConfigurationResolverCache;
+import org.apache.deltaspike.core.api.config.ConfigResolver;
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Caching policy of the Deltaspike configuration resolution
+ *
+ * <p>This class reads, from Deltaspike itself, the caching settings by key prefix and keeps one
+ * {@link ConfigurationResolverCache} for each of them. The following settings are available:</p>
+ *
+ * <ul>
+ *     <li>{@code glue.config.deltaspike.cache.enabled}: enables or disables the caching. Defaults to true.</li>
+ *     <li>{@code glue.config.deltaspike.cache.ttl}: default time to live, in milliseconds. Defaults to 30000.</li>
+ *     <li>{@code glue.config.deltaspike.cache.ttl.<prefix>}: time to live, in milliseconds, of the keys starting
+ *     with the given prefix. The longest matching prefix wins. Zero disables the caching of the prefix.</li>
+ *     <li>{@code glue.config.deltaspike.cache.maxSize}: maximum number of cached keys per time to live.
+ *     Defaults to {@link ConfigurationResolverCache#DEFAULT_MAXIMUM_SIZE}.</li>
+ * </ul>
+ *
+ * <p>Since these settings configure the cache itself, they are always read directly from Deltaspike. Invalid values
+ * are logged and replaced by their defaults.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-14
+ */
+final class DeltaspikeCachePolicy {
+
+    static final String SETTINGS_PREFIX = "glue.config.deltaspike.cache.";
+    static final String ENABLED_KEY = SETTINGS_PREFIX + "enabled";
+    static final String TTL_KEY = SETTINGS_PREFIX + "ttl";
+    static final String MAXIMUM_SIZE_KEY = SETTINGS_PREFIX + "maxSize";
+    private static final String PREFIX_TTL_KEY = TTL_KEY + ".";
+    private static final long DEFAULT_TTL_MILLIS = 30000;
+
+    private final Function<String, String> settings;
+    private final Logger logger;
+    private final List<PrefixCache> prefixCaches;
+    private final ConfigurationResolverCache defaultCache;
+
+    /**
+     * Constructor with settings lookup and {@link Logger} initialization
+     *
+     * @param settings Settings lookup function
+     * @param prefixSettings Supplier of all settings keys starting with a given prefix
+     * @param logger Logger
+     */
+    DeltaspikeCachePolicy(final Function<String, String> settings,
+                          final Function<String, Collection<String>> prefixSettings,
+                          final Logger logger) {
+        this.settings = settings;
+        this.logger = logger;
+
+        final boolean enabled = Optional
+                .ofNullable(settings.apply(ENABLED_KEY))
+                .map(value -> Boolean.parseBoolean(value.trim()))
+                .orElse(true);
+        final int maximumSize = getPositiveNumber(MAXIMUM_SIZE_KEY, ConfigurationResolverCache.DEFAULT_MAXIMUM_SIZE);
+        final long defaultTtl = getNumber(TTL_KEY, DEFAULT_TTL_MILLIS);
+
+        final Map<Long, ConfigurationResolverCache> cachesByTtl = new HashMap<>();
+        final Function<Long, ConfigurationResolverCache> cacheFactory = ttl -> !enabled || ttl <= 0 ? null :
+                cachesByTtl.computeIfAbsent(ttl, value -> new ConfigurationResolverCache(Duration.ofMillis(value), maximumSize));
+
+        this.defaultCache = cacheFactory.apply(defaultTtl);
+        this.prefixCaches = prefixSettings
+                .apply(PREFIX_TTL_KEY)
+                .stream()
+                .map(key -> new PrefixCache(
+                        key.substring(PREFIX_TTL_KEY.length()),
+                        cacheFactory.apply(getNumber(key, defaultTtl))
+                ))
+                .sorted(Comparator.comparing((PrefixCache prefixCache) -> prefixCache.prefix.length()).reversed())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Builds the policy using the settings available in Deltaspike
+     *
+     * @param logger Logger
+     * @return Cache policy
+     */
+    static DeltaspikeCachePolicy fromDeltaspike(final Logger logger) {
+        return new DeltaspikeCachePolicy(
+                ConfigResolver::getPropertyValue,
+                prefix -> ConfigResolver
+                        .getAllProperties()
+                        .keySet()
+                        .stream()
+                        .filter(key -> key.startsWith(prefix))
+                        .collect(Collectors.toList()),
+                logger
+        );
+    }
+
+    /**
+     * Returns the cache of the provided key
+     *
+     * @param key Configuration key
+     * @return Cache to be used or null when the key shouldn't be cached
+     */
+    ConfigurationResolverCache getCache(final String key) {
+        if (key.startsWith(SETTINGS_PREFIX))
+            return null;
+
+        for (final PrefixCache prefixCache : prefixCaches)
+            if (key.startsWith(prefixCache.prefix))
+                return prefixCache.cache;
+
+        return defaultCache;
+    }
+
+    /**
+     * Returns all caches of the policy
+     *
+     * @return Caches
+     */
+    Collection<ConfigurationResolverCache> getCaches() {
+        final Set<ConfigurationResolverCache> caches = Collections.newSetFromMap(new IdentityHashMap<>());
+        prefixCaches.stream().map(prefixCache -> prefixCache.cache).filter(Objects::nonNull).forEach(caches::add);
+        Optional.ofNullable(defaultCache).ifPresent(caches::add);
+        return caches;
+    }
+
+    /**
+     * Reads a numeric setting, falling back to the default value when it's absent or invalid
+     *
+     * @param key Setting key
+     * @param defaultValue Default value
+     * @return Setting value
+     */
+    private long getNumber(final String key, final long defaultValue) {
+        final String value = settings.apply(key);
+        if (value == null)
+            return defaultValue;
+
+        try {
+            return Long.parseLong(value.trim());
+        } catch (final NumberFormatException ex) {
+            logger.warn("Invalid value '{}' for the {} setting. Using {} instead.", value, key, defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Reads a positive numeric setting, falling back to the default value when it's absent or invalid
+     *
+     * @param key Setting key
+     * @param defaultValue Default value
+     * @return Setting value
+     */
+    private int getPositiveNumber(final String key, final int defaultValue) {
+        final long value = getNumber(key, defaultValue);
+        if (value > 0 && value <= Integer.MAX_VALUE)
+            return (int) value;
+
+        logger.warn("Invalid value '{}' for the {} setting. Using {} instead.", value, key, defaultValue);
+        return defaultValue;
+    }
+
+    /**
+     * Cache of a key prefix
+     */
+    private static final class PrefixCache {
+
+        private final String prefix;
+        private final ConfigurationResolverCache cache;
+
+        private PrefixCache(final String prefix, final ConfigurationResolverCache cache) {
+            this.prefix = prefix;
+            this.cache = cache;
+        }
+    }
+}
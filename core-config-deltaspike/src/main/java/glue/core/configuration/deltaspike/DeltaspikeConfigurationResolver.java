@@ -1,12 +1,16 @@
 package glue.core.configuration.deltaspike;
 
 import glue.config.api.resolver.ConfigurationResolver;
+import glue.config.api.resolver.ConfigurationResolverCache;
+import glue.core.util.LogUtils;
 import org.apache.deltaspike.core.api.config.ConfigResolver;
 import org.slf4j.Logger;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.time.Duration;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Apache Deltaspike implementation for {@link ConfigurationResolver} API
@@ -14,6 +18,11 @@ import java.util.Objects;
  * <p>This class implements the Configuration API resolver interface using Apache Deltaspike as the provider,
  * allowing the Glue configuration resolution using the power of the Deltaspike APIs.</p>
  *
+ * <p>Deltaspike walks all of its configuration sources on every lookup (and missing keys are the most expensive
+ * ones), so the resolved values, absent ones included, are cached using the time to live defined for their key
+ * prefixes. The same time to live bounds for how long the configuration interfaces keep the values. For more
+ * information about the available settings read the {@link DeltaspikeCachePolicy} documentation.</p>
+ *
  * @author Lucas Dillmann
  * @since 1.0.0, 2018-12-02
  */
@@ -21,6 +30,7 @@ import java.util.Objects;
 public class DeltaspikeConfigurationResolver implements ConfigurationResolver {
 
     private final Logger logger;
+    private final DeltaspikeCachePolicy cachePolicy;
 
     /**
      * Constructor with {@link Logger} initialization
@@ -29,7 +39,18 @@ public class DeltaspikeConfigurationResolver implements ConfigurationResolver {
      */
     @Inject
     public DeltaspikeConfigurationResolver(Logger logger) {
+        this(logger, DeltaspikeCachePolicy.fromDeltaspike(logger));
+    }
+
+    /**
+     * Constructor with {@link Logger} and {@link DeltaspikeCachePolicy} initialization
+     *
+     * @param logger Logger
+     * @param cachePolicy Cache policy
+     */
+    DeltaspikeConfigurationResolver(final Logger logger, final DeltaspikeCachePolicy cachePolicy) {
         this.logger = logger;
+        this.cachePolicy = cachePolicy;
     }
 
     /**
@@ -41,8 +62,69 @@ public class DeltaspikeConfigurationResolver implements ConfigurationResolver {
     @Override
     public String resolve(String key) {
         Objects.requireNonNull(key);
-        logger.debug("Resolving configuration '{}' using Apache Deltaspike", key);
 
+        final ConfigurationResolverCache cache = cachePolicy.getCache(key);
+        return cache == null ? resolveUsingDeltaspike(key) : cache.get(key, this::resolveUsingDeltaspike);
+    }
+
+    /**
+     * Returns the time to live of the provided key, which is zero when the key isn't cached
+     *
+     * @param key Configuration key
+     * @return Value time to live
+     */
+    @Override
+    public Optional<Duration> getValueTtl(final String key) {
+        final ConfigurationResolverCache cache = cachePolicy.getCache(key);
+        return Optional.of(cache == null ? Duration.ZERO : cache.getTtl());
+    }
+
+    /**
+     * Discards the cached value of the provided key
+     *
+     * @param key Configuration key
+     */
+    @Override
+    public void invalidate(final String key) {
+        final ConfigurationResolverCache cache = cachePolicy.getCache(key);
+        if (cache != null)
+            cache.invalidate(key);
+    }
+
+    /**
+     * Discards all cached values
+     */
+    @Override
+    public void invalidateAll() {
+        cachePolicy.getCaches().forEach(ConfigurationResolverCache::invalidateAll);
+    }
+
+    /**
+     * Returns the number of lookups answered by the cache
+     *
+     * @return Cache hit count
+     */
+    public long getCacheHitCount() {
+        return cachePolicy.getCaches().stream().mapToLong(ConfigurationResolverCache::getHitCount).sum();
+    }
+
+    /**
+     * Returns the number of lookups that were forwarded to Deltaspike by a cache
+     *
+     * @return Cache miss count
+     */
+    public long getCacheMissCount() {
+        return cachePolicy.getCaches().stream().mapToLong(ConfigurationResolverCache::getMissCount).sum();
+    }
+
+    /**
+     * Resolves the configuration value using Deltaspike
+     *
+     * @param key Configuration key to be resolved
+     * @return Resolved value
+     */
+    private String resolveUsingDeltaspike(final String key) {
+        LogUtils.debug(logger, "Resolving configuration '{}' using Apache Deltaspike", key);
         return ConfigResolver.getPropertyValue(key);
     }
 }
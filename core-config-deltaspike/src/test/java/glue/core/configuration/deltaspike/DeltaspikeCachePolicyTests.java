@@ -0,0 +1,134 @@
+package glue.core.configuration.deltaspike;
+
+import glue.config.api.resolver.ConfigurationResolverCache;
+import org.junit.Test;
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.anyVararg;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test cases for {@link DeltaspikeCachePolicy}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-14
+ */
+public class DeltaspikeCachePolicyTests {
+
+    private final Logger logger = mock(Logger.class);
+
+    private DeltaspikeCachePolicy buildPolicy(final Map<String, String> settings) {
+        return new DeltaspikeCachePolicy(
+                settings::get,
+                prefix -> settings.keySet().stream().filter(key -> key.startsWith(prefix)).collect(Collectors.toList()),
+                logger
+        );
+    }
+
+    @Test
+    public void shouldUseTheDefaultCacheForKeysWithoutPrefix() {
+        // execution
+        final DeltaspikeCachePolicy policy = buildPolicy(new HashMap<>());
+
+        // validation
+        assertThat(policy.getCache("any.key"), is(notNullValue()));
+        assertThat(policy.getCaches().size(), is(1));
+    }
+
+    @Test
+    public void shouldUseTheLongestMatchingPrefix() {
+        // scenario
+        final Map<String, String> settings = new HashMap<>();
+        settings.put("glue.config.deltaspike.cache.ttl.glue.", "1000");
+        settings.put("glue.config.deltaspike.cache.ttl.glue.web.", "0");
+
+        // execution
+        final DeltaspikeCachePolicy policy = buildPolicy(settings);
+
+        // validation
+        assertThat(policy.getCache("glue.web.port"), is(nullValue()));
+        assertThat(policy.getCache("glue.persistence.url"), is(notNullValue()));
+    }
+
+    @Test
+    public void shouldShareCachesOfTheSameTimeToLive() {
+        // scenario
+        final Map<String, String> settings = new HashMap<>();
+        settings.put("glue.config.deltaspike.cache.ttl", "1000");
+        settings.put("glue.config.deltaspike.cache.ttl.glue.", "1000");
+
+        // execution
+        final DeltaspikeCachePolicy policy = buildPolicy(settings);
+
+        // validation
+        assertThat(policy.getCache("glue.web.port"), is(sameInstance(policy.getCache("other.key"))));
+    }
+
+    @Test
+    public void shouldDisableCachingWhenConfigured() {
+        // scenario
+        final Map<String, String> settings = new HashMap<>();
+        settings.put("glue.config.deltaspike.cache.enabled", "false");
+        settings.put("glue.config.deltaspike.cache.ttl.glue.", "1000");
+
+        // execution
+        final DeltaspikeCachePolicy policy = buildPolicy(settings);
+        final Collection<ConfigurationResolverCache> caches = policy.getCaches();
+
+        // validation
+        assertThat(policy.getCache("glue.web.port"), is(nullValue()));
+        assertThat(caches.isEmpty(), is(true));
+    }
+
+    @Test
+    public void shouldNeverCacheItsOwnSettings() {
+        // execution
+        final DeltaspikeCachePolicy policy = buildPolicy(new HashMap<>());
+
+        // validation
+        assertThat(policy.getCache("glue.config.deltaspike.cache.ttl"), is(nullValue()));
+    }
+
+    @Test
+    public void shouldTrimTheSettings() {
+        // scenario
+        final Map<String, String> settings = new HashMap<>();
+        settings.put("glue.config.deltaspike.cache.ttl", " 1000 ");
+        settings.put("glue.config.deltaspike.cache.maxSize", " 10 ");
+
+        // execution
+        final DeltaspikeCachePolicy policy = buildPolicy(settings);
+
+        // validation
+        assertThat(policy.getCache("any.key").getTtl(), is(Duration.ofSeconds(1)));
+    }
+
+    @Test
+    public void shouldUseTheDefaultsWhenSettingsAreInvalid() {
+        // scenario
+        final Map<String, String> settings = new HashMap<>();
+        settings.put("glue.config.deltaspike.cache.ttl", "30s");
+        settings.put("glue.config.deltaspike.cache.ttl.glue.", "invalid");
+        settings.put("glue.config.deltaspike.cache.maxSize", "-1");
+
+        // execution
+        final DeltaspikeCachePolicy policy = buildPolicy(settings);
+
+        // validation
+        assertThat(policy.getCache("any.key").getTtl(), is(Duration.ofSeconds(30)));
+        assertThat(policy.getCache("glue.web.port"), is(sameInstance(policy.getCache("any.key"))));
+        verify(logger, times(3)).warn(anyString(), (Object[]) anyVararg());
+    }
+
+}
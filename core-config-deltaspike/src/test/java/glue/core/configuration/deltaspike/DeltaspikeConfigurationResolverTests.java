@@ -7,11 +7,15 @@ import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.slf4j.Logger;
 
+import java.time.Duration;
+import java.util.Optional;
 import java.util.Random;
 
 import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -32,6 +36,7 @@ public class DeltaspikeConfigurationResolverTests {
     @Before
     public void setup() {
         this.resolver = new DeltaspikeConfigurationResolver(logger);
+        doReturn(true).when(logger).isDebugEnabled();
     }
 
     @Test
@@ -60,4 +65,64 @@ public class DeltaspikeConfigurationResolverTests {
         assertThat(actualValue, is(expectedValue));
     }
 
+    @Test
+    public void shouldCacheResolvedValues() {
+        // execution
+        resolver.resolve("testValue");
+        final String actualValue = resolver.resolve("testValue");
+
+        // validation
+        assertThat(actualValue, is("1234"));
+        assertThat(resolver.getCacheHitCount(), is(1L));
+        assertThat(resolver.getCacheMissCount(), is(1L));
+        verify(logger, times(1)).debug("Resolving configuration '{}' using Apache Deltaspike", "testValue");
+    }
+
+    @Test
+    public void shouldCacheMissingKeys() {
+        // execution
+        resolver.resolve("missingValue");
+        final String actualValue = resolver.resolve("missingValue");
+
+        // validation
+        assertThat(actualValue, is(nullValue()));
+        verify(logger, times(1)).debug("Resolving configuration '{}' using Apache Deltaspike", "missingValue");
+    }
+
+    @Test
+    public void shouldNotCacheKeysOfPrefixesWithoutTimeToLive() {
+        // execution
+        resolver.resolve("uncached.testValue");
+        final String actualValue = resolver.resolve("uncached.testValue");
+
+        // validation
+        assertThat(actualValue, is("5678"));
+        assertThat(resolver.getCacheHitCount(), is(0L));
+        verify(logger, times(2)).debug("Resolving configuration '{}' using Apache Deltaspike", "uncached.testValue");
+    }
+
+    @Test
+    public void shouldResolveAgainAfterInvalidation() {
+        // scenario
+        resolver.resolve("testValue");
+
+        // execution
+        resolver.invalidate("testValue");
+        resolver.resolve("testValue");
+
+        // validation
+        verify(logger, times(2)).debug("Resolving configuration '{}' using Apache Deltaspike", "testValue");
+    }
+
+    @Test
+    public void shouldExposeTheTimeToLiveOfTheKeys() {
+        // execution
+        final Optional<Duration> cachedTtl = resolver.getValueTtl("testValue");
+        final Optional<Duration> uncachedTtl = resolver.getValueTtl("uncached.testValue");
+
+        // validation
+        assertThat(cachedTtl, is(Optional.of(Duration.ofSeconds(30))));
+        assertThat(uncachedTtl, is(Optional.of(Duration.ZERO)));
+    }
+
 }
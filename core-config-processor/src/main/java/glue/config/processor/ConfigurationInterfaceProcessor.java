@@ -0,0 +1,239 @@
+package glue.config.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Annotation processor for configuration interfaces
+ *
+ * <p>This processor generates, at compile time, a concrete implementation for every interface annotated with
+ * {@code glue.config.api.annotation.ConfigurationInterface}. The configuration API uses the generated class instead
+ * of a dynamic proxy when it is available, turning every configuration getter in a plain (and JIT inlinable) method
+ * that reads the cached configuration value.</p>
+ *
+ * <p>Generic interfaces and interfaces with generic methods aren't supported. For them no implementation is
+ * generated and the configuration API keeps using dynamic proxies.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-08
+ */
+@SupportedAnnotationTypes(ConfigurationInterfaceProcessor.CONFIGURATION_INTERFACE_ANNOTATION)
+public class ConfigurationInterfaceProcessor extends AbstractProcessor {
+
+    static final String CONFIGURATION_INTERFACE_ANNOTATION = "glue.config.api.annotation.ConfigurationInterface";
+    static final String GENERATED_CLASS_SUFFIX = "_GlueConfiguration";
+    private static final String VALUE_SOURCE_CLASS = "glue.config.api.generated.ConfigurationValueSource";
+    private static final String VALUE_CLASS = "glue.config.api.generated.ConfigurationValue";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * Generates the implementations for all configuration interfaces of the round
+     *
+     * @param annotations Annotations of the round
+     * @param roundEnvironment Round environment
+     * @return Always false, allowing other processors to process the same annotation
+     */
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations,
+                           final RoundEnvironment roundEnvironment) {
+        for (final TypeElement annotation : annotations)
+            ElementFilter
+                    .typesIn(roundEnvironment.getElementsAnnotatedWith(annotation))
+                    .forEach(this::processInterface);
+
+        return false;
+    }
+
+    /**
+     * Validates and generates the implementation for the provided configuration interface
+     *
+     * @param configurationInterface Configuration interface
+     */
+    private void processInterface(final TypeElement configurationInterface) {
+        if (configurationInterface.getKind() != ElementKind.INTERFACE) {
+            printMessage(Diagnostic.Kind.ERROR, "ConfigurationInterface annotation is only supported on interfaces", configurationInterface);
+            return;
+        }
+
+        final List<ExecutableElement> methods = getConfigurationMethods(configurationInterface);
+        final boolean generic = !configurationInterface.getTypeParameters().isEmpty()
+                || methods.stream().anyMatch(method -> !method.getTypeParameters().isEmpty());
+        if (generic || configurationInterface.getModifiers().contains(Modifier.PRIVATE)) {
+            printMessage(Diagnostic.Kind.NOTE, "Configuration implementation not generated. Dynamic proxies will be used instead.", configurationInterface);
+            return;
+        }
+
+        try {
+            generateImplementation(configurationInterface, methods);
+        } catch (final IOException ex) {
+            printMessage(Diagnostic.Kind.ERROR, "Error generating configuration implementation: " + ex.getMessage(), configurationInterface);
+        }
+    }
+
+    /**
+     * Returns all abstract methods of the configuration interface, including the inherited ones
+     *
+     * @param configurationInterface Configuration interface
+     * @return Configuration methods
+     */
+    private List<ExecutableElement> getConfigurationMethods(final TypeElement configurationInterface) {
+        return ElementFilter
+                .methodsIn(processingEnv.getElementUtils().getAllMembers(configurationInterface))
+                .stream()
+                .filter(method -> method.getModifiers().contains(Modifier.ABSTRACT))
+                .filter(method -> method.getEnclosingElement().getKind() == ElementKind.INTERFACE)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Writes the source file of the configuration interface implementation
+     *
+     * @param configurationInterface Configuration interface
+     * @param methods Configuration methods
+     * @throws IOException when the source file can't be written
+     */
+    private void generateImplementation(final TypeElement configurationInterface,
+                                        final List<ExecutableElement> methods) throws IOException {
+        final String packageName = processingEnv
+                .getElementUtils()
+                .getPackageOf(configurationInterface)
+                .getQualifiedName()
+                .toString();
+        final String binaryName = processingEnv
+                .getElementUtils()
+                .getBinaryName(configurationInterface)
+                .toString();
+        final String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+                .replace('$', '_') + GENERATED_CLASS_SUFFIX;
+        final String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        final String interfaceName = configurationInterface.getQualifiedName().toString();
+
+        final StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty())
+            source.append("package ").append(packageName).append(";\n\n");
+
+        source.append("/**\n")
+                .append(" * Configuration implementation of {@link ").append(interfaceName).append("}\n")
+                .append(" *\n")
+                .append(" * <p>Generated by ").append(getClass().getName()).append(". Do not edit.</p>\n")
+                .append(" */\n")
+                .append("public final class ").append(simpleName).append(" implements ").append(interfaceName).append(" {\n\n");
+
+        for (int index = 0; index < methods.size(); index++)
+            source.append("    private static final java.lang.reflect.Method METHOD_").append(index)
+                    .append(" = ").append(VALUE_SOURCE_CLASS).append(".findMethod(")
+                    .append(interfaceName).append(".class, \"").append(methods.get(index).getSimpleName()).append('"')
+                    .append(getParameterClasses(methods.get(index)))
+                    .append(");\n");
+
+        source.append('\n');
+        for (int index = 0; index < methods.size(); index++)
+            source.append("    private final ").append(VALUE_CLASS).append('<')
+                    .append(getValueType(methods.get(index))).append("> value").append(index).append(";\n");
+
+        source.append("\n    public ").append(simpleName).append("(final ").append(VALUE_SOURCE_CLASS).append(" source) {\n");
+        for (int index = 0; index < methods.size(); index++)
+            source.append("        this.value").append(index).append(" = source.getValue(METHOD_").append(index).append(");\n");
+        source.append("    }\n");
+
+        for (int index = 0; index < methods.size(); index++)
+            appendMethod(source, methods.get(index), index);
+
+        source.append("}\n");
+
+        final JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(qualifiedName, configurationInterface);
+        try (final Writer writer = sourceFile.openWriter()) {
+            writer.write(source.toString());
+        }
+    }
+
+    /**
+     * Appends the implementation of a configuration method
+     *
+     * @param source Source code builder
+     * @param method Configuration method
+     * @param index Index of the method
+     */
+    private void appendMethod(final StringBuilder source, final ExecutableElement method, final int index) {
+        final TypeMirror returnType = method.getReturnType();
+        final List<? extends VariableElement> parameters = method.getParameters();
+
+        source.append("\n    @Override\n    public ").append(returnType).append(' ').append(method.getSimpleName()).append('(');
+        for (int parameterIndex = 0; parameterIndex < parameters.size(); parameterIndex++) {
+            if (parameterIndex > 0)
+                source.append(", ");
+            source.append("final ").append(parameters.get(parameterIndex).asType()).append(" argument").append(parameterIndex);
+        }
+        source.append(") {\n");
+
+        if (returnType.getKind() == TypeKind.VOID)
+            source.append("        value").append(index).append(".get();\n");
+        else
+            source.append("        return value").append(index).append(".get();\n");
+
+        source.append("    }\n");
+    }
+
+    /**
+     * Returns the parameter classes of the method as source code, ready to be used as varargs argument
+     *
+     * @param method Configuration method
+     * @return Parameter classes source code
+     */
+    private String getParameterClasses(final ExecutableElement method) {
+        return method
+                .getParameters()
+                .stream()
+                .map(parameter -> ", " + processingEnv.getTypeUtils().erasure(parameter.asType()) + ".class")
+                .collect(Collectors.joining());
+    }
+
+    /**
+     * Returns the configuration value type of the method, boxing primitive types
+     *
+     * @param method Configuration method
+     * @return Configuration value type
+     */
+    private String getValueType(final ExecutableElement method) {
+        final TypeMirror returnType = method.getReturnType();
+        if (returnType.getKind() == TypeKind.VOID)
+            return "java.lang.Void";
+
+        if (returnType.getKind().isPrimitive())
+            return processingEnv
+                    .getTypeUtils()
+                    .boxedClass(processingEnv.getTypeUtils().getPrimitiveType(returnType.getKind()))
+                    .getQualifiedName()
+                    .toString();
+
+        return returnType.toString();
+    }
+
+    /**
+     * Prints a message using the processing environment messager
+     *
+     * @param kind Message kind
+     * @param message Message
+     * @param element Element related to the message
+     */
+    private void printMessage(final Diagnostic.Kind kind, final String message, final Element element) {
+        processingEnv.getMessager().printMessage(kind, message, element);
+    }
+}
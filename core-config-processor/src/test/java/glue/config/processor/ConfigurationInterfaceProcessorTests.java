@@ -0,0 +1,118 @@
+package glue.config.processor;
+
+import glue.config.api.generated.ConfigurationValue;
+import glue.config.api.generated.ConfigurationValueSource;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.tools.*;
+import java.io.File;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test cases for {@link ConfigurationInterfaceProcessor}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-08
+ */
+public class ConfigurationInterfaceProcessorTests {
+
+    private static final String ARTIFACT_SOURCE = "package test;\n" +
+            "import glue.config.api.annotation.ConfigurationInterface;\n" +
+            "import glue.config.api.annotation.ConfigurationProperty;\n" +
+            "import java.util.Optional;\n" +
+            "public class Artifacts {\n" +
+            "    @ConfigurationInterface(prefix = \"test.\")\n" +
+            "    public interface Nested {\n" +
+            "        @ConfigurationProperty(key = \"port\", defaultValue = \"8080\")\n" +
+            "        int getPort();\n" +
+            "        Optional<String> getHost();\n" +
+            "        default String getAddress() { return getHost().orElse(\"localhost\") + \":\" + getPort(); }\n" +
+            "    }\n" +
+            "    @ConfigurationInterface\n" +
+            "    public interface Generic<T> {\n" +
+            "        T getValue();\n" +
+            "    }\n" +
+            "}\n";
+
+    private Path outputDirectory;
+
+    @Before
+    public void setup() throws Exception {
+        this.outputDirectory = Files.createTempDirectory("glue-config-processor");
+    }
+
+    @Test
+    public void shouldGenerateImplementations() throws Exception {
+        // scenario
+        final Map<String, Object> values = new HashMap<>();
+        values.put("getPort", 1234);
+        values.put("getHost", Optional.of("example.com"));
+
+        // execution
+        final boolean compiled = compile();
+
+        // validation
+        assertTrue(compiled);
+        try (final URLClassLoader classLoader = new URLClassLoader(
+                new URL[]{outputDirectory.toUri().toURL()}, getClass().getClassLoader())) {
+            final Class<?> implementation = classLoader.loadClass("test.Artifacts_Nested_GlueConfiguration");
+            final Object instance = implementation
+                    .getConstructor(ConfigurationValueSource.class)
+                    .newInstance(new ConfigurationValueSource() {
+                        @Override
+                        public <T> ConfigurationValue<T> getValue(final Method method) {
+                            return () -> (T) values.get(method.getName());
+                        }
+                    });
+
+            assertThat(implementation.getMethod("getPort").invoke(instance), is(1234));
+            assertThat(implementation.getMethod("getAddress").invoke(instance), is("example.com:1234"));
+        }
+    }
+
+    @Test
+    public void shouldNotGenerateImplementationsForGenericInterfaces() throws Exception {
+        // execution
+        final boolean compiled = compile();
+
+        // validation
+        assertTrue(compiled);
+        assertThat(Files.exists(outputDirectory.resolve("test/Artifacts_Generic_GlueConfiguration.class")), is(false));
+    }
+
+    private boolean compile() throws Exception {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null);
+        fileManager.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singleton(outputDirectory.toFile()));
+        fileManager.setLocation(StandardLocation.SOURCE_OUTPUT, Collections.singleton(outputDirectory.toFile()));
+
+        final JavaFileObject source = new SimpleJavaFileObject(
+                new File("test/Artifacts.java").toURI(), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                return ARTIFACT_SOURCE;
+            }
+        };
+
+        final JavaCompiler.CompilationTask task = compiler.getTask(
+                null,
+                fileManager,
+                null,
+                Arrays.asList("-classpath", System.getProperty("java.class.path")),
+                null,
+                Collections.singleton(source)
+        );
+        task.setProcessors(Collections.singleton(new ConfigurationInterfaceProcessor()));
+        return task.call();
+    }
+}
@@ -0,0 +1,77 @@
+package glue.core.config.propertiesFile;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multi-threaded JMH benchmark comparing configuration reads from {@link Properties} (synchronized) and from
+ * {@link ConfigurationValueMap} (lock-free)
+ *
+ * <p>Each read path is measured with a single thread and with all available processors, showing how reads scale
+ * across cores.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-12
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConfigurationPropertiesReadBenchmark {
+
+    private static final int KEY_COUNT = 256;
+
+    private String[] keys;
+    private Properties properties;
+    private ConfigurationValueMap valueMap;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int index;
+
+        private int next() {
+            return index = (index + 1) & (KEY_COUNT - 1);
+        }
+    }
+
+    @Setup
+    public void setup() {
+        final Map<String, String> values = new HashMap<>();
+        this.keys = new String[KEY_COUNT];
+        for (int index = 0; index < KEY_COUNT; index++) {
+            keys[index] = "glue.benchmark.module" + (index % 16) + ".property" + index;
+            values.put(keys[index], String.valueOf(index));
+        }
+
+        this.properties = new Properties();
+        this.properties.putAll(values);
+        this.valueMap = new ConfigurationValueMap(values);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String propertiesSingleThread(final Cursor cursor) {
+        return properties.getProperty(keys[cursor.next()]);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public String propertiesAllThreads(final Cursor cursor) {
+        return properties.getProperty(keys[cursor.next()]);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String valueMapSingleThread(final Cursor cursor) {
+        return valueMap.get(keys[cursor.next()]);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public String valueMapAllThreads(final Cursor cursor) {
+        return valueMap.get(keys[cursor.next()]);
+    }
+}
@@ -4,7 +4,6 @@ import glue.config.api.resolver.ConfigurationResolver;
 import org.slf4j.Logger;
 
 import javax.inject.Inject;
-import java.util.Properties;
 
 /**
  * {@link ConfigurationResolver} implementation backed by simple properties files
@@ -13,24 +12,27 @@ import java.util.Properties;
  * by this implementation are retrieved from configuration properties available in the claspath. By default the
  * configuration properties are named {@code application.properties}.</p>
  *
+ * <p>Values are read from the {@link ConfigurationPropertiesStore}, which is lock-free and always reflects the latest
+ * version of the external configuration file, when one is in use.</p>
+ *
  * @author Lucas Dillmann
  * @since 1.0.0, 2018-12-04
  */
 public class ConfigurationPropertiesFileConfigurationResolver implements ConfigurationResolver {
 
-    private final Properties properties;
+    private final ConfigurationPropertiesStore store;
     private final Logger logger;
 
     /**
-     * Constructor with {@link Properties} and {@link Logger} initialization
+     * Constructor with {@link ConfigurationPropertiesStore} and {@link Logger} initialization
      *
-     * @param properties Properties values to be used
+     * @param store Configuration properties store
      * @param logger Logger instance
      */
     @Inject
-    public ConfigurationPropertiesFileConfigurationResolver(final @ConfigurationProperties Properties properties,
+    public ConfigurationPropertiesFileConfigurationResolver(final ConfigurationPropertiesStore store,
                                                             final Logger logger) {
-        this.properties = properties;
+        this.store = store;
         this.logger = logger;
     }
 
@@ -42,6 +44,6 @@ public class ConfigurationPropertiesFileConfigurationResolver implements Configu
      */
     @Override
     public String resolve(final String key) {
-        return properties.getProperty(key);
+        return store.get(key);
     }
 }
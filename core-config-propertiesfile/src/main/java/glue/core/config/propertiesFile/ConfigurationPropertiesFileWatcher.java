@@ -0,0 +1,176 @@
+package glue.core.config.propertiesFile;
+
+import glue.core.module.ModuleLifecycle;
+import glue.core.module.Priority;
+import org.slf4j.Logger;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * External configuration file watcher
+ *
+ * <p>This class implements the Glue {@link ModuleLifecycle} to watch the external configuration file (provided by the
+ * {@code glue.config.file} system property) for changes using a {@link WatchService}. When a change is detected,
+ * the {@link ConfigurationPropertiesStore} is reloaded in the watcher thread, off the request threads.</p>
+ *
+ * <p>Consecutive change events (like the ones produced by most editors when saving a file) are coalesced into a
+ * single reload.</p>
+ *
+ * <p>Around JVM checkpoints the watcher is stopped, since its {@link WatchService} can't be part of the snapshot. After
+ * the restore the configuration files are reloaded, since they may have changed meanwhile, and the watcher is started
+ * again.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-11
+ */
+@Singleton
+public class ConfigurationPropertiesFileWatcher implements ModuleLifecycle {
+
+    private static final long COALESCE_WINDOW_MILLIS = 100;
+
+    private final ConfigurationPropertiesLoader loader;
+    private final ConfigurationPropertiesStore store;
+    private final Logger logger;
+    private WatchService watchService;
+    private Thread watcherThread;
+
+    /**
+     * Package protected constructor with {@link ConfigurationPropertiesLoader}, {@link ConfigurationPropertiesStore}
+     * and {@link Logger} initialization
+     *
+     * @param loader Configuration properties loader
+     * @param store Configuration properties store
+     * @param logger Logger
+     */
+    @Inject
+    ConfigurationPropertiesFileWatcher(final ConfigurationPropertiesLoader loader,
+                                       final ConfigurationPropertiesStore store,
+                                       final Logger logger) {
+        this.loader = loader;
+        this.store = store;
+        this.logger = logger;
+    }
+
+    /**
+     * Starts the module
+     *
+     * <p>This method starts watching the external configuration file, when one is configured.</p>
+     */
+    @Override
+    public synchronized void start() {
+        final Path externalFile = loader.getExternalFile().orElse(null);
+        if (externalFile == null)
+            return;
+
+        final Path directory = externalFile.getParent();
+        try {
+            watchService = directory.getFileSystem().newWatchService();
+            directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+        } catch (final IOException ex) {
+            logger.error("Unable to watch the external configuration file {}. Changes will be ignored.", externalFile, ex);
+            return;
+        }
+
+        watcherThread = new Thread(() -> watch(externalFile.getFileName()), "glue-config-file-watcher");
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+        logger.info("Watching external configuration file {} for changes", externalFile);
+    }
+
+    /**
+     * Stops the module
+     *
+     * <p>This method stops watching the external configuration file.</p>
+     */
+    @Override
+    public synchronized void stop() {
+        if (watchService == null)
+            return;
+
+        try {
+            watchService.close();
+        } catch (final IOException ex) {
+            logger.warn("Error closing the external configuration file watcher", ex);
+        }
+
+        watcherThread.interrupt();
+        watchService = null;
+        watcherThread = null;
+    }
+
+    /**
+     * Stops watching the external configuration file before the JVM checkpoint
+     */
+    @Override
+    public void beforeCheckpoint() {
+        stop();
+    }
+
+    /**
+     * Reloads the configuration files and starts watching the external configuration file again after the JVM restore
+     */
+    @Override
+    public void afterRestore() {
+        store.reload();
+        start();
+    }
+
+    @Override
+    public Integer getStartPriority() {
+        return Priority.HIGH.asInteger();
+    }
+
+    @Override
+    public Integer getStopPriority() {
+        return Priority.LOW.asInteger();
+    }
+
+    /**
+     * Watch loop. Waits for changes in the external file directory and reloads the store when the external file
+     * is affected.
+     *
+     * @param fileName External configuration file name
+     */
+    private void watch(final Path fileName) {
+        final WatchService service = watchService;
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                final WatchKey key = service.take();
+                boolean changed = pollEvents(key, fileName);
+
+                WatchKey nextKey;
+                while ((nextKey = service.poll(COALESCE_WINDOW_MILLIS, TimeUnit.MILLISECONDS)) != null)
+                    changed |= pollEvents(nextKey, fileName);
+
+                if (changed) {
+                    logger.info("External configuration file changed. Reloading configuration properties.");
+                    store.reload();
+                }
+            }
+        } catch (final InterruptedException | ClosedWatchServiceException ex) {
+            logger.debug("External configuration file watcher stopped");
+        }
+    }
+
+    /**
+     * Consumes the events of the provided key, checking if any of them affects the external file
+     *
+     * @param key Watch key
+     * @param fileName External configuration file name
+     * @return True when the external file was affected, false otherwise
+     */
+    private boolean pollEvents(final WatchKey key, final Path fileName) {
+        boolean changed = false;
+        for (final WatchEvent<?> event : key.pollEvents())
+            changed |= event.kind() == OVERFLOW || fileName.equals(event.context());
+
+        key.reset();
+        return changed;
+    }
+}
@@ -0,0 +1,173 @@
+package glue.core.config.propertiesFile;
+
+import glue.core.util.ExceptionUtils;
+import org.slf4j.Logger;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Configuration properties files loader
+ *
+ * <p>This class reads all values from all {@code application.properties} files available in the classpath. When no
+ * file is found an empty result will be returned instead. If multiple files uses the same configuraton key this class
+ * don't guarantee any precedence (in another words, it dont guarantee that configuration from one file will be loaded
+ * instead of another), except for the main application file, which always overrides the other ones.</p>
+ *
+ * <p>An external configuration file can be provided using the {@code glue.config.file} system property. When
+ * provided, its values override any value from the classpath files and the file is watched for changes by
+ * {@link ConfigurationPropertiesFileWatcher}.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-11
+ */
+@Singleton
+class ConfigurationPropertiesLoader {
+
+    static final String EXTERNAL_FILE_PROPERTY = "glue.config.file";
+    private static final String APPLICATION_CONFIGURATION_FILE_PATH = "application.properties";
+
+    private final Logger logger;
+
+    /**
+     * Constructor with {@link Logger} initialization
+     *
+     * @param logger Logger
+     */
+    @Inject
+    ConfigurationPropertiesLoader(final Logger logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * Loads all configuration values from the available configuration files
+     *
+     * @return Loaded configuration values
+     */
+    Map<String, String> load() {
+        final Map<String, String> values = new HashMap<>();
+        getAllAvailableProperties().forEach(properties -> putAll(values, properties));
+        putAll(values, getProjectProperties());
+        getExternalFile().ifPresent(externalFile -> putAll(values, loadExternalFile(externalFile)));
+        return values;
+    }
+
+    /**
+     * Returns the external configuration file path, when configured
+     *
+     * @return External configuration file path
+     */
+    Optional<Path> getExternalFile() {
+        return Optional
+                .ofNullable(System.getProperty(EXTERNAL_FILE_PROPERTY))
+                .filter(path -> !path.trim().isEmpty())
+                .map(path -> Paths.get(path).toAbsolutePath());
+    }
+
+    /**
+     * Copies all values from the provided {@link Properties} into the target map
+     *
+     * @param target Target map
+     * @param properties Source properties
+     */
+    private void putAll(final Map<String, String> target, final Properties properties) {
+        properties.stringPropertyNames().forEach(key -> target.put(key, properties.getProperty(key)));
+    }
+
+    /**
+     * Loads all {@code application.properties} files available in the classpath into {@link Properties} objects
+     *
+     * @return Collection of loaded properties
+     */
+    private List<Properties> getAllAvailableProperties() {
+        logger.debug("Looking for all configuration files available in the classpath");
+        try {
+            final Enumeration<URL> configurationFiles = getClass()
+                    .getClassLoader()
+                    .getResources(APPLICATION_CONFIGURATION_FILE_PATH);
+
+            final URL mainConfigurationFile = getClass().getResource("/" + APPLICATION_CONFIGURATION_FILE_PATH);
+
+            return Collections
+                    .list(configurationFiles)
+                    .stream()
+                    .filter(element -> !element.equals(mainConfigurationFile))
+                    .map(this::loadConfigurationFile)
+                    .collect(Collectors.toList());
+        } catch (final Exception ex) {
+            new ExceptionUtils().rethrowAsUnchecked(ex);
+            return null;
+        }
+    }
+
+    /**
+     * Loads the configuration {@link Properties} from the given {@link URL}
+     *
+     * @param configurationFileUrl Configuration file URL to be loaded
+     * @return Loaded properties
+     */
+    private Properties loadConfigurationFile(final URL configurationFileUrl) {
+        logger.info("Loading configuration properties from {}", configurationFileUrl.getPath());
+        try (final InputStream inputStream = configurationFileUrl.openStream()) {
+            final Properties properties = new Properties();
+            properties.load(inputStream);
+            return properties;
+        } catch (final Exception ex) {
+            new ExceptionUtils().rethrowAsUnchecked(ex);
+            return null;
+        }
+    }
+
+    /**
+     * Loads the configuration {@link Properties} from the external configuration file
+     *
+     * <p>A missing external file is not considered an error, since it may be created later on and picked up by
+     * the {@link ConfigurationPropertiesFileWatcher}.</p>
+     *
+     * @param externalFile External configuration file path
+     * @return Loaded properties
+     */
+    private Properties loadExternalFile(final Path externalFile) {
+        final Properties properties = new Properties();
+        if (!Files.isRegularFile(externalFile)) {
+            logger.warn("External configuration file {} not found. Ignoring it until it gets created.", externalFile);
+            return properties;
+        }
+
+        logger.info("Loading configuration properties from {}", externalFile);
+        try (final InputStream inputStream = Files.newInputStream(externalFile)) {
+            properties.load(inputStream);
+            return properties;
+        } catch (final Exception ex) {
+            new ExceptionUtils().rethrowAsUnchecked(ex);
+            return null;
+        }
+    }
+
+    /**
+     * Loads the configuration properties from main JAR where the user application (project) code resides
+     *
+     * <p>This method looks for {@code application.properties} file in the main application JAR. When found
+     * it will be loaded into a {@link Properties} object.</p>
+     *
+     * @return Loaded Properties from configuration file
+     */
+    private Properties getProjectProperties() {
+        logger.debug("Loading configuration properties using main application configuration file");
+        final URL configurationFile = getClass().getResource("/" + APPLICATION_CONFIGURATION_FILE_PATH);
+        if (configurationFile == null) {
+            logger.warn("No configuration file found for main application. Using Glue defaults instead.");
+            return new Properties();
+        }
+
+        return loadConfigurationFile(configurationFile);
+    }
+
+}
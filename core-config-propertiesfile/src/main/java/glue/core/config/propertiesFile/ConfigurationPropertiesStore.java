@@ -0,0 +1,115 @@
+package glue.core.config.propertiesFile;
+
+import glue.config.api.cache.ConfigurationCache;
+import org.slf4j.Logger;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.*;
+
+/**
+ * Configuration properties values store
+ *
+ * <p>This class holds the configuration values loaded from the configuration properties files as an immutable
+ * snapshot. Reads are lock-free: every read goes directly to the current snapshot, which is never modified after
+ * being published. Snapshots are stored as a compact open-addressing map (see {@link ConfigurationValueMap}).</p>
+ *
+ * <p>When the configuration files change the {@link #reload()} method builds a brand new snapshot, swaps it
+ * atomically and invalidates, using {@link ConfigurationCache}, the cached configuration values of every key that was
+ * added, changed or removed.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-11
+ */
+@Singleton
+public class ConfigurationPropertiesStore {
+
+    private final ConfigurationPropertiesLoader loader;
+    private final ConfigurationCache cache;
+    private final Logger logger;
+    private volatile Map<String, String> snapshot;
+
+    /**
+     * Package protected constructor with {@link ConfigurationPropertiesLoader}, {@link ConfigurationCache} and
+     * {@link Logger} initialization
+     *
+     * @param loader Configuration properties loader
+     * @param cache Configuration values cache
+     * @param logger Logger
+     */
+    @Inject
+    ConfigurationPropertiesStore(final ConfigurationPropertiesLoader loader,
+                                 final ConfigurationCache cache,
+                                 final Logger logger) {
+        this.loader = loader;
+        this.cache = cache;
+        this.logger = logger;
+        this.snapshot = new ConfigurationValueMap(loader.load());
+    }
+
+    /**
+     * Returns the current value of the provided configuration key
+     *
+     * @param key Configuration key
+     * @return Configuration value or null when not found
+     */
+    public String get(final String key) {
+        return snapshot.get(key);
+    }
+
+    /**
+     * Returns the current (immutable) snapshot of the configuration values
+     *
+     * @return Configuration values snapshot
+     */
+    public Map<String, String> getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Reloads the configuration values from the configuration files
+     *
+     * <p>The new values are published atomically. Readers will either see the previous snapshot or the new one, never
+     * a partially loaded one. When the configuration files can't be loaded the current snapshot is kept.</p>
+     */
+    public synchronized void reload() {
+        final Map<String, String> newSnapshot;
+        try {
+            newSnapshot = new ConfigurationValueMap(loader.load());
+        } catch (final Exception ex) {
+            logger.error("Error reloading configuration properties. Previous values will be kept.", ex);
+            return;
+        }
+
+        final Map<String, String> previousSnapshot = snapshot;
+        snapshot = newSnapshot;
+
+        final Set<String> changedKeys = getChangedKeys(previousSnapshot, newSnapshot);
+        logger.info("Configuration properties reloaded with {} changed keys", changedKeys.size());
+        changedKeys.forEach(cache::invalidate);
+    }
+
+    /**
+     * Returns all keys that were added, changed or removed between the provided snapshots
+     *
+     * @param previousSnapshot Previous snapshot
+     * @param newSnapshot New snapshot
+     * @return Changed keys
+     */
+    private Set<String> getChangedKeys(final Map<String, String> previousSnapshot,
+                                       final Map<String, String> newSnapshot) {
+        final Set<String> changedKeys = new HashSet<>();
+        previousSnapshot.forEach((key, value) -> {
+            if (!Objects.equals(value, newSnapshot.get(key)))
+                changedKeys.add(key);
+        });
+
+        newSnapshot.keySet().forEach(key -> {
+            if (!previousSnapshot.containsKey(key))
+                changedKeys.add(key);
+        });
+
+        return changedKeys;
+    }
+
+}
@@ -0,0 +1,118 @@
+package glue.core.config.propertiesFile;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * Compact, immutable String to String map
+ *
+ * <p>This class stores the configuration values in two parallel arrays using open addressing with linear probing.
+ * Since instances are never modified after creation, reads don't need any kind of synchronization and only touch
+ * two arrays, avoiding the per-entry objects and the locks of {@link Properties} (which is a synchronized
+ * {@link Hashtable}).</p>
+ *
+ * <p>Null keys and values are not supported.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-12
+ */
+final class ConfigurationValueMap extends AbstractMap<String, String> {
+
+    private static final int MINIMUM_CAPACITY = 2;
+
+    private final String[] keys;
+    private final String[] values;
+    private final int mask;
+    private final int size;
+
+    /**
+     * Constructor with values initialization
+     *
+     * <p>Table capacity is kept at twice the number of entries (rounded up to the next power of two), making
+     * probe sequences short.</p>
+     *
+     * @param source Values to be stored
+     */
+    ConfigurationValueMap(final Map<String, String> source) {
+        final int capacity = Math.max(MINIMUM_CAPACITY, Integer.highestOneBit(Math.max(1, source.size()) * 2 - 1) << 1);
+        this.keys = new String[capacity];
+        this.values = new String[capacity];
+        this.mask = capacity - 1;
+        this.size = source.size();
+
+        source.forEach((key, value) -> {
+            int index = indexFor(Objects.requireNonNull(key));
+            while (keys[index] != null)
+                index = (index + 1) & mask;
+
+            keys[index] = key;
+            values[index] = Objects.requireNonNull(value);
+        });
+    }
+
+    /**
+     * Returns the value of the provided key
+     *
+     * @param key Key to be looked up
+     * @return Value or null when not found
+     */
+    @Override
+    public String get(final Object key) {
+        if (!(key instanceof String))
+            return null;
+
+        int index = indexFor((String) key);
+        String candidate;
+        while ((candidate = keys[index]) != null) {
+            if (candidate.equals(key))
+                return values[index];
+
+            index = (index + 1) & mask;
+        }
+
+        return null;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void forEach(final BiConsumer<? super String, ? super String> action) {
+        for (int index = 0; index < keys.length; index++)
+            if (keys[index] != null)
+                action.accept(keys[index], values[index]);
+    }
+
+    /**
+     * Returns an unmodifiable copy of the entries of this map
+     *
+     * <p>This method is meant for compatibility and bulk operations only (like copying the values into a
+     * {@link Properties} instance). Lookups should use {@link #get(Object)} instead.</p>
+     *
+     * @return Entries of this map
+     */
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        final Map<String, String> entries = new HashMap<>(size * 2);
+        forEach(entries::put);
+        return Collections.unmodifiableMap(entries).entrySet();
+    }
+
+    /**
+     * Returns the initial table index for the provided key
+     *
+     * @param key Key
+     * @return Table index
+     */
+    private int indexFor(final String key) {
+        final int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
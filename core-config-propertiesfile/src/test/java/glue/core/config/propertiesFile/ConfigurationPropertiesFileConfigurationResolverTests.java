@@ -7,7 +7,6 @@ import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.slf4j.Logger;
 
-import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
@@ -26,13 +25,13 @@ public class ConfigurationPropertiesFileConfigurationResolverTests {
     @Mock
     private Logger logger;
     @Mock
-    private Properties properties;
+    private ConfigurationPropertiesStore store;
 
     private ConfigurationPropertiesFileConfigurationResolver resolver;
 
     @Before
     public void setup() {
-        this.resolver = new ConfigurationPropertiesFileConfigurationResolver(properties, logger);
+        this.resolver = new ConfigurationPropertiesFileConfigurationResolver(store, logger);
     }
 
     @Test
@@ -40,7 +39,7 @@ public class ConfigurationPropertiesFileConfigurationResolverTests {
         // scenario
         final String configKey = "test";
         final String expectedValue = "12354";
-        doReturn(expectedValue).when(properties).getProperty(configKey);
+        doReturn(expectedValue).when(store).get(configKey);
 
         // execution
         final String actualValue = resolver.resolve(configKey);
@@ -0,0 +1,97 @@
+package glue.core.config.propertiesFile;
+
+import glue.config.api.cache.ConfigurationCache;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.Logger;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test cases for {@link ConfigurationPropertiesFileWatcher}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-11
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ConfigurationPropertiesFileWatcherTests {
+
+    @Mock
+    private ConfigurationCache cache;
+    @Mock
+    private Logger logger;
+
+    private Path externalFile;
+    private ConfigurationPropertiesStore store;
+    private ConfigurationPropertiesFileWatcher watcher;
+
+    @Before
+    public void setup() throws Exception {
+        this.externalFile = Files.createTempDirectory("glue-config").resolve("external.properties");
+        Files.write(externalFile, "external.key=initial".getBytes(StandardCharsets.ISO_8859_1));
+        System.setProperty(ConfigurationPropertiesLoader.EXTERNAL_FILE_PROPERTY, externalFile.toString());
+
+        final ConfigurationPropertiesLoader loader = new ConfigurationPropertiesLoader(logger);
+        this.store = new ConfigurationPropertiesStore(loader, cache, logger);
+        this.watcher = new ConfigurationPropertiesFileWatcher(loader, store, logger);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        watcher.stop();
+        System.clearProperty(ConfigurationPropertiesLoader.EXTERNAL_FILE_PROPERTY);
+        Files.deleteIfExists(externalFile);
+        Files.deleteIfExists(externalFile.getParent());
+    }
+
+    @Test
+    public void shouldLoadExternalFileValues() {
+        // execution
+        final String actualValue = store.get("external.key");
+
+        // validation
+        assertThat(actualValue, is(equalTo("initial")));
+    }
+
+    @Test
+    public void shouldReloadValuesWhenExternalFileChanges() throws Exception {
+        // scenario
+        watcher.start();
+
+        // execution
+        Files.write(externalFile, "external.key=changed".getBytes(StandardCharsets.ISO_8859_1));
+
+        // validation
+        verify(cache, timeout(30000)).invalidate("external.key");
+        assertThat(store.get("external.key"), is(equalTo("changed")));
+    }
+
+    @Test
+    public void shouldReloadValuesChangedDuringCheckpoint() throws Exception {
+        // scenario
+        watcher.start();
+        watcher.beforeCheckpoint();
+        Files.write(externalFile, "external.key=restored".getBytes(StandardCharsets.ISO_8859_1));
+
+        // execution
+        watcher.afterRestore();
+
+        // validation
+        verify(cache, times(1)).invalidate("external.key");
+        assertThat(store.get("external.key"), is(equalTo("restored")));
+    }
+
+}
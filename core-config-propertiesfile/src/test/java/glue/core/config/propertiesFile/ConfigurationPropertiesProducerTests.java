@@ -1,5 +1,6 @@
 package glue.core.config.propertiesFile;
 
+import glue.config.api.cache.ConfigurationCache;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -25,12 +26,17 @@ public class ConfigurationPropertiesProducerTests {
 
     @Mock
     private Logger logger;
+    @Mock
+    private ConfigurationCache cache;
 
     private ConfigurationPropertiesProducer producer;
 
     @Before
     public void setup() {
-        this.producer = new ConfigurationPropertiesProducer(logger);
+        this.producer = new ConfigurationPropertiesProducer(
+                new ConfigurationPropertiesStore(new ConfigurationPropertiesLoader(logger), cache, logger),
+                logger
+        );
     }
 
     @Test
@@ -0,0 +1,109 @@
+package glue.core.config.propertiesFile;
+
+import glue.config.api.cache.ConfigurationCache;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.Logger;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test cases for {@link ConfigurationPropertiesStore}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-11
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ConfigurationPropertiesStoreTests {
+
+    @Mock
+    private ConfigurationPropertiesLoader loader;
+    @Mock
+    private ConfigurationCache cache;
+    @Mock
+    private Logger logger;
+
+    private ConfigurationPropertiesStore store;
+
+    @Before
+    public void setup() {
+        final Map<String, String> values = new HashMap<>();
+        values.put("unchanged", "1");
+        values.put("changed", "2");
+        values.put("removed", "3");
+        doReturn(values).when(loader).load();
+
+        this.store = new ConfigurationPropertiesStore(loader, cache, logger);
+    }
+
+    @Test
+    public void shouldResolveValuesFromTheLoadedSnapshot() {
+        // execution
+        final String actualValue = store.get("changed");
+
+        // validation
+        assertThat(actualValue, is(equalTo("2")));
+    }
+
+    @Test
+    public void shouldPublishNewValuesOnReload() {
+        // scenario
+        final Map<String, String> newValues = new HashMap<>();
+        newValues.put("unchanged", "1");
+        newValues.put("changed", "20");
+        newValues.put("added", "4");
+        doReturn(newValues).when(loader).load();
+
+        // execution
+        store.reload();
+
+        // validation
+        assertThat(store.get("changed"), is(equalTo("20")));
+        assertThat(store.get("added"), is(equalTo("4")));
+        assertThat(store.get("removed"), is(nullValue()));
+    }
+
+    @Test
+    public void shouldInvalidateOnlyChangedKeysOnReload() {
+        // scenario
+        final Map<String, String> newValues = new HashMap<>();
+        newValues.put("unchanged", "1");
+        newValues.put("changed", "20");
+        newValues.put("added", "4");
+        doReturn(newValues).when(loader).load();
+
+        // execution
+        store.reload();
+
+        // validation
+        verify(cache, times(1)).invalidate("changed");
+        verify(cache, times(1)).invalidate("added");
+        verify(cache, times(1)).invalidate("removed");
+        verify(cache, never()).invalidate("unchanged");
+    }
+
+    @Test
+    public void shouldKeepPreviousValuesWhenReloadFails() {
+        // scenario
+        doThrow(new IllegalStateException("Broken file")).when(loader).load();
+
+        // execution
+        store.reload();
+
+        // validation
+        assertThat(store.get("changed"), is(equalTo("2")));
+        verify(cache, never()).invalidate(anyString());
+    }
+
+}
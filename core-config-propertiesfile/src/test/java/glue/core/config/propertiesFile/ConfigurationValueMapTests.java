@@ -0,0 +1,91 @@
+package glue.core.config.propertiesFile;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test cases for {@link ConfigurationValueMap}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-12
+ */
+public class ConfigurationValueMapTests {
+
+    @Test
+    public void shouldResolveAllStoredValues() {
+        // scenario
+        final Map<String, String> values = new HashMap<>();
+        for (int index = 0; index < 1000; index++)
+            values.put("key" + index, "value" + index);
+
+        // execution
+        final ConfigurationValueMap valueMap = new ConfigurationValueMap(values);
+
+        // validation
+        assertThat(valueMap.size(), is(1000));
+        values.forEach((key, value) -> assertThat(valueMap.get(key), is(equalTo(value))));
+    }
+
+    @Test
+    public void shouldReturnNullForUnknownKeys() {
+        // scenario
+        final Map<String, String> values = new HashMap<>();
+        values.put("known", "value");
+
+        // execution
+        final ConfigurationValueMap valueMap = new ConfigurationValueMap(values);
+
+        // validation
+        assertThat(valueMap.get("unknown"), is(nullValue()));
+        assertThat(valueMap.containsKey("unknown"), is(false));
+    }
+
+    @Test
+    public void shouldSupportEmptyMaps() {
+        // execution
+        final ConfigurationValueMap valueMap = new ConfigurationValueMap(new HashMap<>());
+
+        // validation
+        assertThat(valueMap.isEmpty(), is(true));
+        assertThat(valueMap.get("any"), is(nullValue()));
+    }
+
+    @Test
+    public void shouldResolveCollidingKeys() {
+        // scenario
+        final Map<String, String> values = new HashMap<>();
+        values.put("Aa", "first");
+        values.put("BB", "second");
+
+        // execution
+        final ConfigurationValueMap valueMap = new ConfigurationValueMap(values);
+
+        // validation
+        assertThat(valueMap.get("Aa"), is(equalTo("first")));
+        assertThat(valueMap.get("BB"), is(equalTo("second")));
+    }
+
+    @Test
+    public void shouldBeCopiableIntoProperties() {
+        // scenario
+        final Map<String, String> values = new HashMap<>();
+        values.put("key", "value");
+        final Properties properties = new Properties();
+
+        // execution
+        properties.putAll(new ConfigurationValueMap(values));
+
+        // validation
+        assertThat(properties.getProperty("key"), is(equalTo("value")));
+        assertThat(new ConfigurationValueMap(values).equals(values), is(true));
+    }
+
+}
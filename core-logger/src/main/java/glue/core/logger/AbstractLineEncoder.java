@@ -0,0 +1,129 @@
+package glue.core.logger;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.encoder.EncoderBase;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+
+/**
+ * Base class of the allocation-light Logback encoders
+ *
+ * <p>Each event is formatted as a line in a buffer reused by each thread, which is encoded in UTF-8 to a reused byte
+ * buffer, so the only allocation per event is the returned array. The formatted timestamp is cached and only rebuilt
+ * when the second changes.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+abstract class AbstractLineEncoder extends EncoderBase<ILoggingEvent> {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final DateTimeFormatter secondFormatter;
+    private final ThreadLocal<Buffers> buffers = ThreadLocal.withInitial(Buffers::new);
+
+    /**
+     * Constructor with the timestamp formatter initialization
+     *
+     * @param secondFormatter Formatter of the timestamp up to the seconds, followed by the milliseconds separator
+     */
+    AbstractLineEncoder(final DateTimeFormatter secondFormatter) {
+        this.secondFormatter = secondFormatter;
+    }
+
+    /**
+     * Formats the event
+     *
+     * @param event Logging event
+     * @param line Buffer where the event must be written
+     */
+    abstract void format(ILoggingEvent event, StringBuilder line);
+
+    @Override
+    public byte[] headerBytes() {
+        return EMPTY;
+    }
+
+    @Override
+    public byte[] encode(final ILoggingEvent event) {
+        final Buffers buffers = this.buffers.get();
+        buffers.line.setLength(0);
+        format(event, buffers.line);
+        return buffers.encode();
+    }
+
+    @Override
+    public byte[] footerBytes() {
+        return EMPTY;
+    }
+
+    /**
+     * Appends the timestamp of the event, up to the milliseconds
+     *
+     * @param line Target buffer
+     * @param timestamp Event timestamp, in epoch milliseconds
+     */
+    void appendTimestamp(final StringBuilder line, final long timestamp) {
+        final Buffers buffers = this.buffers.get();
+        final long second = Math.floorDiv(timestamp, 1000);
+        if (second != buffers.second) {
+            buffers.second = second;
+            buffers.secondPrefix = secondFormatter.format(Instant.ofEpochSecond(second));
+        }
+
+        final int millis = (int) Math.floorMod(timestamp, 1000);
+        line.append(buffers.secondPrefix);
+        if (millis < 100)
+            line.append('0');
+        if (millis < 10)
+            line.append('0');
+        line.append(millis);
+    }
+
+    /**
+     * Buffers reused by the encoding thread
+     */
+    private static final class Buffers {
+
+        private final StringBuilder line = new StringBuilder(256);
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+        private char[] chars = new char[256];
+        private ByteBuffer bytes = ByteBuffer.allocate(1024);
+        private long second = Long.MIN_VALUE;
+        private String secondPrefix;
+
+        /**
+         * Encodes the line built so far in UTF-8
+         *
+         * @return Encoded line
+         */
+        private byte[] encode() {
+            final int length = line.length();
+            if (chars.length < length)
+                chars = new char[Math.max(length, chars.length * 2)];
+            line.getChars(0, length, chars, 0);
+
+            final int maxBytes = (int) Math.ceil(length * encoder.maxBytesPerChar());
+            if (bytes.capacity() < maxBytes)
+                bytes = ByteBuffer.allocate(maxBytes);
+
+            bytes.clear();
+            encoder.reset();
+            final CharBuffer input = CharBuffer.wrap(chars, 0, length);
+            CoderResult result = encoder.encode(input, bytes, true);
+            if (!result.isError())
+                result = encoder.flush(bytes);
+            if (result.isError())
+                return line.toString().getBytes(StandardCharsets.UTF_8);
+
+            return Arrays.copyOf(bytes.array(), bytes.position());
+        }
+    }
+}
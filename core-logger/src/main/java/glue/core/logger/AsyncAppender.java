@@ -0,0 +1,291 @@
+package glue.core.logger;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous Logback appender
+ *
+ * <p>This appender moves the I/O of the attached appenders out of the logging threads. Events are queued in a bounded
+ * ring buffer and written by a single worker thread, in batches. What happens when the buffer is full is defined by
+ * the {@link DiscardPolicy}, discarding the events below WARN by default. Caller data isn't extracted unless
+ * enabled, since it requires a stack trace for each event.</p>
+ *
+ * <p>The appender is flushed during the application shutdown (see {@link LoggerModule}), after which the events are
+ * written synchronously by the logging threads, so the last messages of the shutdown aren't lost.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+public class AsyncAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+        implements AppenderAttachable<ILoggingEvent> {
+
+    private static final int DEFAULT_QUEUE_SIZE = 8192;
+    private static final int MAX_BATCH_SIZE = 256;
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+    private final AtomicLong appendedCount = new AtomicLong();
+    private final AtomicLong completedCount = new AtomicLong();
+    private final AtomicLong discardedCount = new AtomicLong();
+    private int queueSize = DEFAULT_QUEUE_SIZE;
+    private DiscardPolicy discardPolicy = DiscardPolicy.DISCARD_BELOW_WARN;
+    private int maxFlushTime = 5000;
+    private boolean includeCallerData;
+    private volatile boolean synchronous;
+    private BlockingQueue<ILoggingEvent> queue;
+    private Thread worker;
+
+    @Override
+    public void start() {
+        if (isStarted())
+            return;
+        if (queueSize < 1) {
+            addError("Invalid queue size " + queueSize);
+            return;
+        }
+
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.worker = new Thread(this::processEvents, "glue-logger-" + getName());
+        worker.setDaemon(true);
+        synchronous = false;
+        super.start();
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted())
+            return;
+
+        if (!flush(maxFlushTime, TimeUnit.MILLISECONDS))
+            addWarn("Appender " + getName() + " stopped with " + queue.size() + " events not written");
+
+        super.stop();
+        worker.interrupt();
+        try {
+            worker.join(maxFlushTime);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        appenders.detachAndStopAllAppenders();
+    }
+
+    /**
+     * Waits for the events queued until now to be written
+     *
+     * @param timeout Maximum time to wait
+     * @param unit Time unit of the timeout
+     * @return True when all events were written, false when the timeout expired
+     */
+    public boolean flush(final long timeout, final TimeUnit unit) {
+        if (queue == null)
+            return true;
+
+        final long target = appendedCount.get();
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (completedCount.get() < target) {
+            if (System.nanoTime() - deadline >= 0 || !worker.isAlive())
+                return false;
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+
+        return true;
+    }
+
+    /**
+     * Switches between the asynchronous and synchronous modes. When synchronous, the events are written by the
+     * logging threads. Events already queued are still written by the worker thread.
+     *
+     * @param synchronous True to write the events synchronously, false to queue them
+     */
+    public void setSynchronous(final boolean synchronous) {
+        this.synchronous = synchronous;
+    }
+
+    /**
+     * Returns the current metrics of the appender
+     *
+     * @return Appender metrics
+     */
+    public AsyncAppenderMetrics getMetrics() {
+        return new AsyncAppenderMetrics(
+                getName(),
+                queueSize,
+                queue == null ? 0 : queue.size(),
+                appendedCount.get(),
+                discardedCount.get()
+        );
+    }
+
+    @Override
+    protected void append(final ILoggingEvent event) {
+        if (synchronous) {
+            appenders.appendLoopOnAppenders(event);
+            return;
+        }
+
+        event.prepareForDeferredProcessing();
+        if (includeCallerData)
+            event.getCallerData();
+
+        if (enqueue(event))
+            appendedCount.incrementAndGet();
+        else
+            discardedCount.incrementAndGet();
+    }
+
+    /**
+     * Queues the event following the discard policy
+     *
+     * @param event Logging event
+     * @return True when queued, false when discarded
+     */
+    private boolean enqueue(final ILoggingEvent event) {
+        if (queue.offer(event))
+            return true;
+
+        switch (discardPolicy) {
+            case DISCARD_NEWEST:
+                return false;
+            case DISCARD_OLDEST:
+                while (!queue.offer(event))
+                    if (queue.poll() != null) {
+                        completedCount.incrementAndGet();
+                        discardedCount.incrementAndGet();
+                    }
+                return true;
+            case DISCARD_BELOW_WARN:
+                return event.getLevel().isGreaterOrEqual(Level.WARN) && put(event);
+            default:
+                return put(event);
+        }
+    }
+
+    /**
+     * Queues the event, waiting for room in the queue
+     *
+     * @param event Logging event
+     * @return True when queued, false when interrupted while waiting
+     */
+    private boolean put(final ILoggingEvent event) {
+        try {
+            queue.put(event);
+            return true;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Writes the queued events to the attached appenders until the appender is stopped
+     */
+    private void processEvents() {
+        final List<ILoggingEvent> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (isStarted() || !queue.isEmpty())
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+                for (final ILoggingEvent event : batch)
+                    write(event);
+                batch.clear();
+            } catch (final InterruptedException ex) {
+                if (!isStarted())
+                    break;
+            }
+
+        ILoggingEvent event;
+        while ((event = queue.poll()) != null)
+            write(event);
+    }
+
+    private void write(final ILoggingEvent event) {
+        try {
+            appenders.appendLoopOnAppenders(event);
+        } catch (final RuntimeException ex) {
+            addError("Error writing the logging event", ex);
+        } finally {
+            completedCount.incrementAndGet();
+        }
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public void setQueueSize(final int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public DiscardPolicy getDiscardPolicy() {
+        return discardPolicy;
+    }
+
+    public void setDiscardPolicy(final DiscardPolicy discardPolicy) {
+        this.discardPolicy = discardPolicy;
+    }
+
+    public int getMaxFlushTime() {
+        return maxFlushTime;
+    }
+
+    public void setMaxFlushTime(final int maxFlushTime) {
+        this.maxFlushTime = maxFlushTime;
+    }
+
+    public boolean isIncludeCallerData() {
+        return includeCallerData;
+    }
+
+    public void setIncludeCallerData(final boolean includeCallerData) {
+        this.includeCallerData = includeCallerData;
+    }
+
+    @Override
+    public void addAppender(final Appender<ILoggingEvent> appender) {
+        appenders.addAppender(appender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(final String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(final Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(final Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(final String name) {
+        return appenders.detachAppender(name);
+    }
+}
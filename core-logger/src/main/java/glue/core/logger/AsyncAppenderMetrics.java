@@ -0,0 +1,59 @@
+package glue.core.logger;
+
+/**
+ * Point-in-time metrics of an {@link AsyncAppender}
+ *
+ * <p>Instances are immutable snapshots, retrieved using {@link AsyncAppenderRegistry#getMetrics()}.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+public final class AsyncAppenderMetrics {
+
+    private final String name;
+    private final int capacity;
+    private final int queueDepth;
+    private final long appendedCount;
+    private final long discardedCount;
+
+    /**
+     * Constructor with all metrics initialization
+     *
+     * @param name Appender name
+     * @param capacity Queue capacity
+     * @param queueDepth Number of events waiting in the queue
+     * @param appendedCount Number of events accepted in the queue
+     * @param discardedCount Number of events discarded because the queue was full
+     */
+    AsyncAppenderMetrics(final String name,
+                         final int capacity,
+                         final int queueDepth,
+                         final long appendedCount,
+                         final long discardedCount) {
+        this.name = name;
+        this.capacity = capacity;
+        this.queueDepth = queueDepth;
+        this.appendedCount = appendedCount;
+        this.discardedCount = discardedCount;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public long getAppendedCount() {
+        return appendedCount;
+    }
+
+    public long getDiscardedCount() {
+        return discardedCount;
+    }
+}
@@ -0,0 +1,96 @@
+package glue.core.logger;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import org.slf4j.ILoggerFactory;
+import org.slf4j.LoggerFactory;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Registry of the {@link AsyncAppender} instances of the Logback configuration
+ *
+ * <p>This class looks up the asynchronous appenders attached to the Logback loggers, exposing their metrics (like the
+ * queue depth and the number of discarded events) and allowing them to be flushed.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+@Singleton
+public class AsyncAppenderRegistry {
+
+    private final ILoggerFactory loggerFactory;
+
+    /**
+     * Default constructor, using the Logback {@link LoggerContext} bound to SLF4J
+     */
+    @Inject
+    AsyncAppenderRegistry() {
+        this(LoggerFactory.getILoggerFactory());
+    }
+
+    /**
+     * Constructor with {@link ILoggerFactory} initialization
+     *
+     * @param loggerFactory SLF4J logger factory
+     */
+    AsyncAppenderRegistry(final ILoggerFactory loggerFactory) {
+        this.loggerFactory = loggerFactory;
+    }
+
+    /**
+     * Returns the current metrics of all asynchronous appenders
+     *
+     * @return Appender metrics
+     */
+    public List<AsyncAppenderMetrics> getMetrics() {
+        return getAppenders()
+                .stream()
+                .map(AsyncAppender::getMetrics)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the current metrics of the asynchronous appender with the provided name
+     *
+     * @param name Appender name
+     * @return Appender metrics, when found
+     */
+    public Optional<AsyncAppenderMetrics> getMetrics(final String name) {
+        return getMetrics()
+                .stream()
+                .filter(metrics -> Objects.equals(metrics.getName(), name))
+                .findFirst();
+    }
+
+    /**
+     * Returns the asynchronous appenders attached to the Logback loggers. Nothing is returned when SLF4J isn't bound
+     * to Logback.
+     *
+     * @return Asynchronous appenders
+     */
+    List<AsyncAppender> getAppenders() {
+        if (!(loggerFactory instanceof LoggerContext))
+            return Collections.emptyList();
+
+        final Set<AsyncAppender> appenders = new LinkedHashSet<>();
+        ((LoggerContext) loggerFactory)
+                .getLoggerList()
+                .forEach(logger -> collect(logger, appenders));
+        return new ArrayList<>(appenders);
+    }
+
+    private static void collect(final AppenderAttachable<?> attachable, final Set<AsyncAppender> appenders) {
+        final Iterator<? extends Appender<?>> iterator = attachable.iteratorForAppenders();
+        while (iterator.hasNext()) {
+            final Appender<?> appender = iterator.next();
+            if (appender instanceof AsyncAppender && appenders.add((AsyncAppender) appender))
+                collect((AsyncAppender) appender, appenders);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package glue.core.logger;
+
+/**
+ * Discard policies of the {@link AsyncAppender}
+ *
+ * <p>The policy defines what happens with the logging events produced while the appender queue is full.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+public enum DiscardPolicy {
+
+    /**
+     * Blocks the logging thread until there's room in the queue. No event is lost.
+     */
+    BLOCK,
+
+    /**
+     * Discards the event being logged
+     */
+    DISCARD_NEWEST,
+
+    /**
+     * Discards the oldest queued event to make room for the event being logged
+     */
+    DISCARD_OLDEST,
+
+    /**
+     * Discards the event being logged when its level is lower than WARN, blocking the logging thread otherwise
+     */
+    DISCARD_BELOW_WARN
+}
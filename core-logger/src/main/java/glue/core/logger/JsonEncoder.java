@@ -0,0 +1,107 @@
+package glue.core.logger;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.CoreConstants;
+
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+/**
+ * Structured Logback encoder
+ *
+ * <p>This encoder writes each event as a JSON object in a single line, with the {@code timestamp} (ISO-8601, UTC),
+ * {@code level}, {@code thread}, {@code logger} and {@code message} fields, followed by each {@link org.slf4j.MDC}
+ * entry (like the request ID and the access log details) as a field and the {@code exception} stack trace, when
+ * present. Like the {@link LayoutEncoder}, it doesn't create intermediate strings (see
+ * {@link AbstractLineEncoder}).</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+public class JsonEncoder extends AbstractLineEncoder {
+
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter
+            .ofPattern("yyyy-MM-dd'T'HH:mm:ss.")
+            .withZone(ZoneOffset.UTC);
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * Default constructor
+     */
+    public JsonEncoder() {
+        super(TIMESTAMP_FORMATTER);
+    }
+
+    @Override
+    void format(final ILoggingEvent event, final StringBuilder line) {
+        line.append("{\"timestamp\":\"");
+        appendTimestamp(line, event.getTimeStamp());
+        line.append("Z\"");
+
+        appendField(line, "level", event.getLevel().levelStr);
+        appendField(line, "thread", event.getThreadName());
+        appendField(line, "logger", event.getLoggerName());
+        appendField(line, "message", event.getFormattedMessage());
+        for (final Map.Entry<String, String> entry : event.getMDCPropertyMap().entrySet())
+            appendField(line, entry.getKey(), entry.getValue());
+
+        final IThrowableProxy throwable = event.getThrowableProxy();
+        if (throwable != null)
+            appendField(line, "exception", ThrowableProxyUtil.asString(throwable));
+
+        line.append('}').append(CoreConstants.LINE_SEPARATOR);
+    }
+
+    private static void appendField(final StringBuilder line, final String name, final String value) {
+        line.append(',');
+        appendString(line, name);
+        line.append(':');
+        if (value == null)
+            line.append("null");
+        else
+            appendString(line, value);
+    }
+
+    /**
+     * Appends the value as a JSON string, escaping the quotes, backslashes and control characters
+     *
+     * @param line Target buffer
+     * @param value Value to be appended
+     */
+    private static void appendString(final StringBuilder line, final String value) {
+        line.append('"');
+        for (int index = 0; index < value.length(); index++) {
+            final char character = value.charAt(index);
+            switch (character) {
+                case '"':
+                    line.append("\\\"");
+                    break;
+                case '\\':
+                    line.append("\\\\");
+                    break;
+                case '\n':
+                    line.append("\\n");
+                    break;
+                case '\r':
+                    line.append("\\r");
+                    break;
+                case '\t':
+                    line.append("\\t");
+                    break;
+                default:
+                    if (character < 0x20 || character == '\u2028' || character == '\u2029')
+                        line.append("\\u")
+                                .append(HEX_DIGITS[(character >> 12) & 0xF])
+                                .append(HEX_DIGITS[(character >> 8) & 0xF])
+                                .append(HEX_DIGITS[(character >> 4) & 0xF])
+                                .append(HEX_DIGITS[character & 0xF]);
+                    else
+                        line.append(character);
+            }
+        }
+        line.append('"');
+    }
+}
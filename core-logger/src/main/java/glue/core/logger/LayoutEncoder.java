@@ -0,0 +1,54 @@
+package glue.core.logger;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.CoreConstants;
+import glue.core.context.RequestContext;
+
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Allocation-light Logback encoder
+ *
+ * <p>This encoder writes the events using the {@code %d [%thread] %level %logger - %m%n} layout followed by the stack
+ * trace of the exception, when present. The request ID (see {@link RequestContext}) is written after the thread name
+ * for the events logged while handling a request. Unlike the pattern based encoders, it doesn't create intermediate
+ * strings (see {@link AbstractLineEncoder}).</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+public class LayoutEncoder extends AbstractLineEncoder {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter
+            .ofPattern("yyyy-MM-dd HH:mm:ss,")
+            .withZone(ZoneId.systemDefault());
+
+    /**
+     * Default constructor
+     */
+    public LayoutEncoder() {
+        super(DATE_FORMATTER);
+    }
+
+    @Override
+    void format(final ILoggingEvent event, final StringBuilder line) {
+        appendTimestamp(line, event.getTimeStamp());
+        line.append(" [").append(event.getThreadName()).append("] ");
+
+        final String requestId = event.getMDCPropertyMap().get(RequestContext.REQUEST_ID_KEY);
+        if (requestId != null)
+            line.append('[').append(requestId).append("] ");
+
+        line.append(event.getLevel().levelStr).append(' ')
+                .append(event.getLoggerName()).append(" - ")
+                .append(event.getFormattedMessage())
+                .append(CoreConstants.LINE_SEPARATOR);
+
+        final IThrowableProxy throwable = event.getThrowableProxy();
+        if (throwable != null)
+            line.append(ThrowableProxyUtil.asString(throwable));
+    }
+}
@@ -0,0 +1,74 @@
+package glue.core.logger;
+
+import glue.core.module.ModuleLifecycle;
+import glue.core.module.Priority;
+import org.slf4j.Logger;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Glue module of the logging pipeline
+ *
+ * <p>This module flushes the asynchronous appenders (see {@link AsyncAppender}) during the application shutdown. It's
+ * stopped with the lowest priority, when the appenders are flushed and switched to the synchronous mode, so the
+ * messages logged until the JVM exits are written as well.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+@Singleton
+class LoggerModule implements ModuleLifecycle {
+
+    private static final long FLUSH_TIMEOUT_SECONDS = 10;
+
+    private final AsyncAppenderRegistry registry;
+    private final Logger logger;
+
+    /**
+     * Constructor with {@link AsyncAppenderRegistry} and {@link Logger} initialization
+     *
+     * @param registry Asynchronous appender registry
+     * @param logger Logger
+     */
+    @Inject
+    LoggerModule(final AsyncAppenderRegistry registry, final Logger logger) {
+        this.registry = registry;
+        this.logger = logger;
+    }
+
+    /**
+     * Starts the module, switching the appenders to the asynchronous mode
+     */
+    @Override
+    public void start() {
+        registry.getAppenders().forEach(appender -> appender.setSynchronous(false));
+    }
+
+    /**
+     * Flushes the appenders and switches them to the synchronous mode
+     */
+    @Override
+    public void stop() {
+        for (final AsyncAppender appender : registry.getAppenders()) {
+            final AsyncAppenderMetrics metrics = appender.getMetrics();
+            logger.info("Flushing logging appender {} ({} events written, {} discarded)",
+                    metrics.getName(), metrics.getAppendedCount(), metrics.getDiscardedCount());
+
+            if (!appender.flush(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS))
+                logger.warn("Logging appender {} wasn't flushed in time", metrics.getName());
+            appender.setSynchronous(true);
+        }
+    }
+
+    @Override
+    public Integer getStartPriority() {
+        return Priority.HIGH.asInteger();
+    }
+
+    @Override
+    public Integer getStopPriority() {
+        return Priority.LOW.asInteger();
+    }
+}
@@ -6,7 +6,7 @@ import org.slf4j.LoggerFactory;
 import javax.enterprise.inject.Default;
 import javax.enterprise.inject.Produces;
 import javax.enterprise.inject.spi.InjectionPoint;
-import java.util.Optional;
+import javax.inject.Singleton;
 
 /**
  * SLF4J {@link Logger} provider
@@ -14,12 +14,23 @@ import java.util.Optional;
  * <p>This class produces {@link Logger} instances for SLF4J backed by the Logback implementation. Instances
  * are produced using the class where the injection is happening as the target class for the logger.</p>
  *
+ * <p>Produced loggers are cached per target class, so the injection of a logger in dependent beans, which happens
+ * for every bean instance, doesn't hit the logger factory each time.</p>
+ *
  * @author Lucas Dillmann
  * @since 1.0.0, 2018-11-20
  */
 @Default
+@Singleton
 public class LoggerProvider {
 
+    private static final ClassValue<Logger> LOGGERS = new ClassValue<Logger>() {
+        @Override
+        protected Logger computeValue(final Class<?> type) {
+            return LoggerFactory.getLogger(type.getName());
+        }
+    };
+
     /**
      * Produces a SLF4J {@link Logger} instance
      *
@@ -33,11 +44,10 @@ public class LoggerProvider {
     @Produces
     public Logger logger(final InjectionPoint injectionPoint) {
         final Class<?> client = injectionPoint.getMember().getDeclaringClass();
-        final String loggerName = Optional
-                .ofNullable(client)
-                .map(Class::getName)
-                .orElse(Logger.ROOT_LOGGER_NAME);
-        return LoggerFactory.getLogger(loggerName);
+        if (client == null)
+            return LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME);
+
+        return LOGGERS.get(client);
     }
 
 }
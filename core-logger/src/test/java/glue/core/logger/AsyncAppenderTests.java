@@ -0,0 +1,217 @@
+package glue.core.logger;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test cases for {@link AsyncAppender}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+public class AsyncAppenderTests {
+
+    private LoggerContext context;
+    private Logger logger;
+    private AsyncAppender appender;
+    private CapturingAppender target;
+
+    @Before
+    public void setup() {
+        this.context = new LoggerContext();
+        this.logger = context.getLogger("test");
+        this.target = new CapturingAppender();
+        target.setContext(context);
+        target.start();
+
+        this.appender = new AsyncAppender();
+        appender.setContext(context);
+        appender.setName("test");
+        appender.addAppender(target);
+    }
+
+    @After
+    public void tearDown() {
+        target.release.countDown();
+        appender.stop();
+    }
+
+    @Test
+    public void shouldWriteEventsInTheWorkerThread() {
+        // scenario
+        target.release.countDown();
+        appender.start();
+
+        // execution
+        appender.doAppend(event(Level.INFO, "first"));
+        appender.doAppend(event(Level.INFO, "second"));
+
+        // validation
+        assertThat(appender.flush(5, TimeUnit.SECONDS), is(true));
+        assertThat(target.events.size(), is(2));
+        assertThat(target.events.get(1).getFormattedMessage(), is("second"));
+        assertThat(target.threads.get(0), is("glue-logger-test"));
+    }
+
+    @Test
+    public void shouldDiscardNewestEventsWhenFull() throws Exception {
+        // scenario
+        appender.setQueueSize(1);
+        appender.setDiscardPolicy(DiscardPolicy.DISCARD_NEWEST);
+        appender.start();
+        appender.doAppend(event(Level.INFO, "blocked"));
+        target.awaitFirstEvent();
+        appender.doAppend(event(Level.INFO, "queued"));
+
+        // execution
+        appender.doAppend(event(Level.INFO, "discarded"));
+        target.release.countDown();
+
+        // validation
+        assertThat(appender.flush(5, TimeUnit.SECONDS), is(true));
+        assertThat(target.events.size(), is(2));
+        assertThat(target.events.get(1).getFormattedMessage(), is("queued"));
+        assertThat(appender.getMetrics().getDiscardedCount(), is(1L));
+    }
+
+    @Test
+    public void shouldDiscardOldestEventsWhenFull() throws Exception {
+        // scenario
+        appender.setQueueSize(1);
+        appender.setDiscardPolicy(DiscardPolicy.DISCARD_OLDEST);
+        appender.start();
+        appender.doAppend(event(Level.INFO, "blocked"));
+        target.awaitFirstEvent();
+        appender.doAppend(event(Level.INFO, "discarded"));
+
+        // execution
+        appender.doAppend(event(Level.INFO, "queued"));
+        target.release.countDown();
+
+        // validation
+        assertThat(appender.flush(5, TimeUnit.SECONDS), is(true));
+        assertThat(target.events.size(), is(2));
+        assertThat(target.events.get(1).getFormattedMessage(), is("queued"));
+        assertThat(appender.getMetrics().getDiscardedCount(), is(1L));
+    }
+
+    @Test
+    public void shouldKeepWarningsWhenDiscardingBelowWarn() throws Exception {
+        // scenario
+        appender.setQueueSize(1);
+        appender.start();
+        appender.doAppend(event(Level.INFO, "blocked"));
+        target.awaitFirstEvent();
+        appender.doAppend(event(Level.INFO, "queued"));
+        appender.doAppend(event(Level.DEBUG, "discarded"));
+
+        // execution
+        final Thread warning = new Thread(() -> appender.doAppend(event(Level.WARN, "warning")));
+        warning.start();
+        TimeUnit.MILLISECONDS.sleep(50);
+        target.release.countDown();
+        warning.join(5000);
+
+        // validation
+        assertThat(appender.flush(5, TimeUnit.SECONDS), is(true));
+        assertThat(target.events.size(), is(3));
+        assertThat(target.events.get(2).getFormattedMessage(), is("warning"));
+        assertThat(appender.getMetrics().getDiscardedCount(), is(1L));
+    }
+
+    @Test
+    public void shouldExposeQueueDepth() throws Exception {
+        // scenario
+        appender.start();
+        appender.doAppend(event(Level.INFO, "blocked"));
+        target.awaitFirstEvent();
+
+        // execution
+        appender.doAppend(event(Level.INFO, "first"));
+        appender.doAppend(event(Level.INFO, "second"));
+
+        // validation
+        final AsyncAppenderMetrics metrics = appender.getMetrics();
+        assertThat(metrics.getName(), is("test"));
+        assertThat(metrics.getCapacity(), is(8192));
+        assertThat(metrics.getQueueDepth(), is(2));
+        assertThat(metrics.getAppendedCount(), is(3L));
+    }
+
+    @Test
+    public void shouldWriteInTheLoggingThreadWhenSynchronous() {
+        // scenario
+        target.release.countDown();
+        appender.start();
+        appender.setSynchronous(true);
+
+        // execution
+        appender.doAppend(event(Level.INFO, "message"));
+
+        // validation
+        assertThat(target.events.size(), is(1));
+        assertThat(target.threads.get(0), is(Thread.currentThread().getName()));
+    }
+
+    @Test
+    public void shouldWriteQueuedEventsOnStop() {
+        // scenario
+        target.release.countDown();
+        appender.start();
+        for (int index = 0; index < 100; index++)
+            appender.doAppend(event(Level.INFO, "message"));
+
+        // execution
+        appender.stop();
+
+        // validation
+        assertThat(target.events.size(), is(100));
+        assertThat(target.isStarted(), is(false));
+    }
+
+    private LoggingEvent event(final Level level, final String message) {
+        return new LoggingEvent(Logger.class.getName(), logger, level, message, null, null);
+    }
+
+    /**
+     * Appender that captures the events, blocking after the first one until released
+     */
+    private static class CapturingAppender extends AppenderBase<ILoggingEvent> {
+
+        private final List<ILoggingEvent> events = new CopyOnWriteArrayList<>();
+        private final List<String> threads = new CopyOnWriteArrayList<>();
+        private final CountDownLatch firstEvent = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        protected void append(final ILoggingEvent event) {
+            events.add(event);
+            threads.add(Thread.currentThread().getName());
+            firstEvent.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void awaitFirstEvent() throws InterruptedException {
+            firstEvent.await(5, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package glue.core.logger;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test cases for {@link JsonEncoder}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+public class JsonEncoderTests {
+
+    private Logger logger;
+    private JsonEncoder encoder;
+
+    @Before
+    public void setup() {
+        this.logger = new LoggerContext().getLogger("glue.test");
+        this.encoder = new JsonEncoder();
+    }
+
+    @Test
+    public void shouldEncodeTheEventWithTheMdcFields() {
+        // scenario
+        final LocalDateTime time = LocalDateTime.of(2019, 1, 18, 10, 20, 30, 7_000_000);
+        final LoggingEvent event = event(Level.INFO, "Hello {}", null, "wörld");
+        final Map<String, String> mdc = new LinkedHashMap<>();
+        mdc.put("requestId", "request-1");
+        mdc.put("databaseMicros", "1500");
+        event.setMDCPropertyMap(mdc);
+        event.setThreadName("main");
+        event.setTimeStamp(time.toInstant(ZoneOffset.UTC).toEpochMilli());
+
+        // execution
+        final String line = new String(encoder.encode(event), StandardCharsets.UTF_8);
+
+        // validation
+        assertThat(line, is("{\"timestamp\":\"2019-01-18T10:20:30.007Z\",\"level\":\"INFO\",\"thread\":\"main\","
+                + "\"logger\":\"glue.test\",\"message\":\"Hello wörld\",\"requestId\":\"request-1\","
+                + "\"databaseMicros\":\"1500\"}" + System.lineSeparator()));
+    }
+
+    @Test
+    public void shouldEscapeTheStringValues() {
+        // scenario
+        final LoggingEvent event = event(Level.WARN, "\"quoted\" \\ line\nbreak\u0001", null);
+
+        // execution
+        final String line = new String(encoder.encode(event), StandardCharsets.UTF_8);
+
+        // validation
+        assertThat(line, containsString("\"message\":\"\\\"quoted\\\" \\\\ line\\nbreak\\u0001\""));
+        assertThat(line.indexOf('\n'), is(line.length() - 1));
+    }
+
+    @Test
+    public void shouldEncodeTheStackTrace() {
+        // scenario
+        final LoggingEvent event = event(Level.ERROR, "failure", new IllegalStateException("cause"));
+
+        // execution
+        final String line = new String(encoder.encode(event), StandardCharsets.UTF_8);
+
+        // validation
+        assertThat(line, containsString("\"exception\":\"java.lang.IllegalStateException: cause"));
+        assertThat(line, containsString("at glue.core.logger.JsonEncoderTests"));
+        assertThat(line, endsWith("\"}" + System.lineSeparator()));
+    }
+
+    private LoggingEvent event(final Level level, final String message, final Throwable throwable,
+                               final Object... arguments) {
+        return new LoggingEvent(Logger.class.getName(), logger, level, message, throwable, arguments);
+    }
+}
@@ -0,0 +1,101 @@
+package glue.core.logger;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test cases for {@link LayoutEncoder}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+public class LayoutEncoderTests {
+
+    private Logger logger;
+    private LayoutEncoder encoder;
+
+    @Before
+    public void setup() {
+        this.logger = new LoggerContext().getLogger("glue.test");
+        this.encoder = new LayoutEncoder();
+    }
+
+    @Test
+    public void shouldEncodeTheEventLine() {
+        // scenario
+        final LocalDateTime time = LocalDateTime.of(2019, 1, 18, 10, 20, 30, 7_000_000);
+        final LoggingEvent event = event(Level.INFO, "Hello {}", null, "wörld");
+        event.setThreadName("main");
+        event.setTimeStamp(time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+
+        // execution
+        final String line = new String(encoder.encode(event), StandardCharsets.UTF_8);
+
+        // validation
+        assertThat(line, is("2019-01-18 10:20:30,007 [main] INFO glue.test - Hello wörld" + System.lineSeparator()));
+    }
+
+    @Test
+    public void shouldEncodeTheRequestIdWhenPresent() {
+        // scenario
+        final LoggingEvent event = event(Level.INFO, "Hello", null);
+        event.setThreadName("main");
+        event.setMDCPropertyMap(Collections.singletonMap("requestId", "request-1"));
+
+        // execution
+        final String line = new String(encoder.encode(event), StandardCharsets.UTF_8);
+
+        // validation
+        assertThat(line, endsWith(" [main] [request-1] INFO glue.test - Hello" + System.lineSeparator()));
+    }
+
+    @Test
+    public void shouldEncodeTheTimestampOfEachEvent() {
+        // scenario
+        final LocalDateTime time = LocalDateTime.of(2019, 1, 18, 10, 20, 30, 999_000_000);
+        final LoggingEvent first = event(Level.INFO, "first", null);
+        final LoggingEvent second = event(Level.INFO, "second", null);
+        first.setTimeStamp(time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        second.setTimeStamp(first.getTimeStamp() + 1);
+
+        // execution
+        encoder.encode(first);
+        final String line = new String(encoder.encode(second), StandardCharsets.UTF_8);
+
+        // validation
+        final String expectedDate = time.plusNanos(1_000_000).format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss,SSS"));
+        assertThat(line, startsWith(expectedDate + " ["));
+    }
+
+    @Test
+    public void shouldEncodeTheStackTrace() {
+        // scenario
+        final LoggingEvent event = event(Level.ERROR, "failure", new IllegalStateException("cause"));
+
+        // execution
+        final String output = new String(encoder.encode(event), StandardCharsets.UTF_8);
+
+        // validation
+        assertThat(output, containsString(" ERROR glue.test - failure" + System.lineSeparator()));
+        assertThat(output, containsString("java.lang.IllegalStateException: cause"));
+        assertThat(output, containsString("at glue.core.logger.LayoutEncoderTests"));
+    }
+
+    private LoggingEvent event(final Level level, final String message, final Throwable throwable,
+                               final Object... arguments) {
+        return new LoggingEvent(Logger.class.getName(), logger, level, message, throwable, arguments);
+    }
+}
@@ -0,0 +1,79 @@
+package glue.core.logger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.Logger;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test cases for {@link LoggerModule}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class LoggerModuleTests {
+
+    @Mock
+    private AsyncAppenderRegistry registry;
+
+    @Mock
+    private AsyncAppender appender;
+
+    @Mock
+    private Logger logger;
+
+    private LoggerModule module;
+
+    @Before
+    public void setup() {
+        this.module = new LoggerModule(registry, logger);
+        doReturn(Collections.singletonList(appender)).when(registry).getAppenders();
+        doReturn(new AsyncAppenderMetrics("test", 10, 0, 5, 0)).when(appender).getMetrics();
+    }
+
+    @Test
+    public void shouldFlushAndSwitchToSynchronousModeOnStop() {
+        // scenario
+        doReturn(true).when(appender).flush(anyLong(), eq(TimeUnit.SECONDS));
+
+        // execution
+        module.stop();
+
+        // validation
+        verify(appender, times(1)).flush(anyLong(), eq(TimeUnit.SECONDS));
+        verify(appender, times(1)).setSynchronous(true);
+        verify(logger, never()).warn(anyString(), eq("test"));
+    }
+
+    @Test
+    public void shouldWarnWhenNotFlushedInTime() {
+        // scenario
+        doReturn(false).when(appender).flush(anyLong(), eq(TimeUnit.SECONDS));
+
+        // execution
+        module.stop();
+
+        // validation
+        verify(logger, times(1)).warn(anyString(), eq("test"));
+        verify(appender, times(1)).setSynchronous(true);
+    }
+
+    @Test
+    public void shouldSwitchToAsynchronousModeOnStart() {
+        // execution
+        module.start();
+
+        // validation
+        verify(appender, times(1)).setSynchronous(false);
+    }
+}
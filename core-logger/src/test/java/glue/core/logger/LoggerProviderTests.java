@@ -36,4 +36,37 @@ public class LoggerProviderTests {
         verify(member, times(1)).getDeclaringClass();
     }
 
+    @Test
+    public void shouldReuseTheLoggerOfTheSameClass() {
+        // scenario
+        final InjectionPoint injectionPoint = mock(InjectionPoint.class);
+        final Member member = mock(Member.class);
+        class TestClass {}
+        doReturn(member).when(injectionPoint).getMember();
+        doReturn(TestClass.class).when(member).getDeclaringClass();
+        final LoggerProvider provider = new LoggerProvider();
+
+        // execution
+        final Logger first = provider.logger(injectionPoint);
+        final Logger second = provider.logger(injectionPoint);
+
+        // validation
+        assertThat(first, is(sameInstance(second)));
+        assertThat(first.getName(), is(TestClass.class.getName()));
+    }
+
+    @Test
+    public void shouldProduceTheRootLoggerWithoutDeclaringClass() {
+        // scenario
+        final InjectionPoint injectionPoint = mock(InjectionPoint.class);
+        final Member member = mock(Member.class);
+        doReturn(member).when(injectionPoint).getMember();
+
+        // execution
+        final Logger logger = new LoggerProvider().logger(injectionPoint);
+
+        // validation
+        assertThat(logger.getName(), is(Logger.ROOT_LOGGER_NAME));
+    }
+
 }
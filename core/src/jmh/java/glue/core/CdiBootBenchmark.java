@@ -0,0 +1,92 @@
+package glue.core;
+
+import glue.core.benchmark.BootBenchmarkApplication;
+import glue.core.benchmark.BootBenchmarkBean;
+import org.jboss.jandex.Indexer;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark comparing the CDI boot time using the prebuilt Jandex index and using the classpath scanning
+ *
+ * <p>Each invocation boots and shuts down the Weld container through the {@link CdiController}, which is a single
+ * shot operation. The application index is generated during the setup in a temporary directory, made available to
+ * the controller through the thread context class loader.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class CdiBootBenchmark {
+
+    @Param({"INDEX", "SCAN"})
+    public String discoveryMode;
+
+    private Path indexDirectory;
+    private URLClassLoader indexClassLoader;
+
+    @Setup
+    public void setup() throws IOException {
+        final Indexer indexer = new Indexer();
+        index(indexer, BootBenchmarkApplication.class);
+        index(indexer, BootBenchmarkBean.class);
+
+        this.indexDirectory = Files.createTempDirectory("glue-jandex");
+        final Path indexFile = indexDirectory.resolve(BeanDiscoveryIndex.INDEX_RESOURCE);
+        Files.createDirectories(indexFile.getParent());
+        try (OutputStream output = Files.newOutputStream(indexFile)) {
+            new IndexWriter(output).write(indexer.complete());
+        }
+
+        this.indexClassLoader = new URLClassLoader(
+                new URL[]{indexDirectory.toUri().toURL()}, getClass().getClassLoader()
+        );
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        indexClassLoader.close();
+        Files.delete(indexDirectory.resolve(BeanDiscoveryIndex.INDEX_RESOURCE));
+        Files.delete(indexDirectory.resolve(BeanDiscoveryIndex.INDEX_RESOURCE).getParent());
+        Files.delete(indexDirectory);
+    }
+
+    @Benchmark
+    public CdiController boot() {
+        final Thread thread = Thread.currentThread();
+        final ClassLoader originalClassLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(indexClassLoader);
+
+        final CdiController controller;
+        try {
+            controller = new CdiController(
+                    BootBenchmarkApplication.class, CdiController.DiscoveryMode.valueOf(discoveryMode)
+            );
+        } finally {
+            thread.setContextClassLoader(originalClassLoader);
+        }
+
+        WeldContainer.instance("Glue").shutdown();
+        return controller;
+    }
+
+    private void index(final Indexer indexer, final Class<?> type) throws IOException {
+        try (InputStream input = type.getResourceAsStream(type.getSimpleName() + ".class")) {
+            indexer.index(input);
+        }
+    }
+}
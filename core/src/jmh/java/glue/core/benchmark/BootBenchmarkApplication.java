@@ -0,0 +1,10 @@
+package glue.core.benchmark;
+
+/**
+ * Application main class used by the CDI boot benchmark
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-17
+ */
+public class BootBenchmarkApplication {
+}
@@ -0,0 +1,13 @@
+package glue.core.benchmark;
+
+import javax.inject.Singleton;
+
+/**
+ * Application bean used by the CDI boot benchmark
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-17
+ */
+@Singleton
+public class BootBenchmarkBean {
+}
@@ -0,0 +1,222 @@
+package glue.core;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.CompositeIndex;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexView;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Prebuilt Jandex index of the application classes
+ *
+ * <p>This class looks for the {@code META-INF/jandex.idx} files generated at build time by the {@code jandex}
+ * Gradle task and merges all of them, since the application classes may be spread across many classpath entries.
+ * When the merged index includes the application main class, it is used by the {@link CdiController} to list the
+ * application classes instead of scanning the whole classpath.</p>
+ *
+ * <p>Classpath entries may hold application classes that no index covers, like the classes of a fat jar where only
+ * one of the merged {@code jandex.idx} files was kept. Those classes are found by listing the application package in
+ * the classpath entries (see {@link #getUnindexedClassNames(ClassLoader, String)}).</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-17
+ */
+final class BeanDiscoveryIndex {
+
+    static final String INDEX_RESOURCE = "META-INF/jandex.idx";
+
+    private static final String PACKAGE_INFO = "package-info";
+    private static final String CLASS_EXTENSION = ".class";
+
+    private final IndexView index;
+
+    /**
+     * Constructor with the Jandex {@link IndexView} initialization
+     *
+     * @param index Jandex index
+     */
+    private BeanDiscoveryIndex(final IndexView index) {
+        this.index = index;
+    }
+
+    /**
+     * Looks for the indexes available in the classpath and merges them
+     *
+     * <p>Invalid or unreadable indexes are ignored.</p>
+     *
+     * @param classLoader Class loader used to find the indexes
+     * @param applicationMainClass Application main class
+     * @return Merged application index, empty when none of the available indexes includes the application main class
+     */
+    static Optional<BeanDiscoveryIndex> find(final ClassLoader classLoader, final Class<?> applicationMainClass) {
+        final List<IndexView> indexes = new ArrayList<>();
+
+        try {
+            final Enumeration<URL> resources = classLoader.getResources(INDEX_RESOURCE);
+            while (resources.hasMoreElements())
+                read(resources.nextElement()).ifPresent(indexes::add);
+        } catch (final IOException ex) {
+            return Optional.empty();
+        }
+
+        final CompositeIndex index = CompositeIndex.create(indexes);
+        if (index.getClassByName(DotName.createSimple(applicationMainClass.getName())) == null)
+            return Optional.empty();
+
+        return Optional.of(new BeanDiscoveryIndex(index));
+    }
+
+    /**
+     * Returns the name of the indexed classes of the provided package and its sub-packages
+     *
+     * @param packageName Package name
+     * @return Sorted list of class names
+     */
+    List<String> getClassNames(final String packageName) {
+        final String prefix = packageName.isEmpty() ? "" : packageName + ".";
+
+        return index
+                .getKnownClasses()
+                .stream()
+                .map(ClassInfo::name)
+                .map(DotName::toString)
+                .filter(name -> isApplicationClass(name, prefix))
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the name of the classes of the provided package and its sub-packages that are available in the
+     * classpath entries but not in the index
+     *
+     * <p>Only directories and jar files are listed. Entries that can't be listed are ignored.</p>
+     *
+     * @param classLoader Class loader used to find the classpath entries of the package
+     * @param packageName Package name
+     * @return Sorted list of class names
+     */
+    List<String> getUnindexedClassNames(final ClassLoader classLoader, final String packageName) {
+        final String packagePath = packageName.replace('.', '/');
+        final String prefix = packageName.isEmpty() ? "" : packageName + ".";
+        final Set<String> classNames = new TreeSet<>();
+
+        try {
+            final Enumeration<URL> locations = classLoader.getResources(packagePath);
+            while (locations.hasMoreElements())
+                classNames.addAll(listClassNames(locations.nextElement(), packagePath));
+        } catch (final IOException ex) {
+            return Collections.emptyList();
+        }
+
+        return classNames
+                .stream()
+                .filter(name -> isApplicationClass(name, prefix))
+                .filter(name -> index.getClassByName(DotName.createSimple(name)) == null)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Lists the name of the classes found in the provided package location, including the sub-packages
+     *
+     * @param location Package location
+     * @param packagePath Package path
+     * @return Class names, empty when the location can't be listed
+     */
+    private static List<String> listClassNames(final URL location, final String packagePath) {
+        try {
+            switch (location.getProtocol()) {
+                case "file":
+                    return listDirectory(Paths.get(location.toURI()), packagePath);
+                case "jar":
+                    return listJar((JarURLConnection) location.openConnection(), packagePath);
+                default:
+                    return Collections.emptyList();
+            }
+        } catch (final IOException | URISyntaxException | RuntimeException ex) {
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Lists the name of the classes found in the provided package directory
+     *
+     * @param directory Package directory
+     * @param packagePath Package path
+     * @return Class names
+     * @throws IOException when the directory can't be listed
+     */
+    private static List<String> listDirectory(final Path directory, final String packagePath) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files
+                    .map(file -> directory.relativize(file).toString().replace('\\', '/'))
+                    .filter(path -> path.endsWith(CLASS_EXTENSION))
+                    .map(path -> toClassName(packagePath.isEmpty() ? path : packagePath + "/" + path))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Lists the name of the classes found in the provided package of a jar file
+     *
+     * @param connection Connection to the package in the jar file
+     * @param packagePath Package path
+     * @return Class names
+     * @throws IOException when the jar file can't be read
+     */
+    private static List<String> listJar(final JarURLConnection connection, final String packagePath) throws IOException {
+        connection.setUseCaches(false);
+        final String prefix = packagePath.isEmpty() ? "" : packagePath + "/";
+
+        try (JarFile jarFile = connection.getJarFile()) {
+            return jarFile
+                    .stream()
+                    .map(JarEntry::getName)
+                    .filter(path -> path.startsWith(prefix) && path.endsWith(CLASS_EXTENSION))
+                    .map(BeanDiscoveryIndex::toClassName)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Checks if the provided class is a class of the application package
+     *
+     * @param className Class name
+     * @param prefix Application package prefix
+     * @return True when the class is an application class, false otherwise
+     */
+    private static boolean isApplicationClass(final String className, final String prefix) {
+        return className.startsWith(prefix) && !className.endsWith(PACKAGE_INFO);
+    }
+
+    private static String toClassName(final String path) {
+        return path.substring(0, path.length() - CLASS_EXTENSION.length()).replace('/', '.');
+    }
+
+    /**
+     * Reads the index from the provided location
+     *
+     * @param location Index location
+     * @return Read index, empty when invalid or unreadable
+     */
+    private static Optional<IndexView> read(final URL location) {
+        try (InputStream input = location.openStream()) {
+            return Optional.of(new IndexReader(input).read());
+        } catch (final IOException | IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+}
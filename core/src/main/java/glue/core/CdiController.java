@@ -1,9 +1,16 @@
 package glue.core;
 
+import glue.core.exception.StartupException;
+import glue.core.profiler.StartupPhase;
+import glue.core.profiler.StartupProfiler;
 import org.jboss.weld.environment.se.Weld;
 import org.jboss.weld.environment.se.WeldContainer;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Glue IoC controller class
@@ -14,11 +21,55 @@ import java.util.Objects;
  * <p>The main goal here is to enable the entire Glue ecosystem. All modules are detected using this class, integrating
  * all the features provided by they.</p>
  *
+ * <p>When the application is packaged with prebuilt Jandex indexes (see {@link BeanDiscoveryIndex}), the application
+ * classes are read from the merged indexes and the classpath isn't scanned. Only the application package is listed
+ * in the classpath entries, looking for classes that no index covers. Glue modules are discovered using their
+ * {@code beans.xml} files and Weld reads their own prebuilt indexes. Without an index the classpath scanning is used
+ * as a fallback. The behaviour can be customized using the {@code glue.cdi.discovery} system property, with the
+ * values {@code auto} (default), {@code index} (the index is required) or {@code scan} (the index is ignored).</p>
+ *
  * @author Lucas Dillmann
  * @since 1.0.0, 2018-11-20
  */
 class CdiController {
 
+    static final String DISCOVERY_MODE_PROPERTY = "glue.cdi.discovery";
+
+    /**
+     * Bean discovery modes
+     */
+    enum DiscoveryMode {
+
+        /**
+         * Uses the prebuilt index when available, scanning the classpath otherwise
+         */
+        AUTO,
+
+        /**
+         * Uses the prebuilt index, failing when it isn't available
+         */
+        INDEX,
+
+        /**
+         * Always scans the classpath
+         */
+        SCAN;
+
+        /**
+         * Returns the discovery mode defined by the system property, {@link #AUTO} when not defined
+         *
+         * @return Discovery mode
+         */
+        static DiscoveryMode fromSystemProperty() {
+            final String value = System.getProperty(DISCOVERY_MODE_PROPERTY, AUTO.name());
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (final IllegalArgumentException ex) {
+                throw new StartupException("Invalid value for " + DISCOVERY_MODE_PROPERTY + ": " + value, ex);
+            }
+        }
+    }
+
     private final Class<?> applicationMainClass;
     private final WeldContainer injector;
 
@@ -31,15 +82,37 @@ class CdiController {
      * @param applicationMainClass Application main class
      */
     CdiController(final Class<?> applicationMainClass) {
+        this(applicationMainClass, DiscoveryMode.fromSystemProperty());
+    }
+
+    /**
+     * Constructor with application main class and discovery mode initialization
+     *
+     * @param applicationMainClass Application main class
+     * @param discoveryMode Bean discovery mode
+     */
+    CdiController(final Class<?> applicationMainClass, final DiscoveryMode discoveryMode) {
         Objects.requireNonNull(applicationMainClass);
+        Objects.requireNonNull(discoveryMode);
         this.applicationMainClass = applicationMainClass;
-        this.injector = new Weld()
-                .enableDiscovery()
-                .scanClasspathEntries()
-                .containerId("Glue")
-                .addPackages(true, applicationMainClass.getPackage())
-                .skipShutdownHook()
-                .initialize();
+
+        final StartupPhase phase = StartupProfiler.getInstance().begin("cdi.initialize");
+        try {
+            final Weld weld = new Weld()
+                    .enableDiscovery()
+                    .containerId("Glue")
+                    .skipShutdownHook();
+
+            final Optional<BeanDiscoveryIndex> index = findIndex(discoveryMode);
+            if (index.isPresent())
+                addIndexedClasses(weld, index.get());
+            else
+                weld.scanClasspathEntries().addPackages(true, applicationMainClass.getPackage());
+
+            this.injector = weld.initialize();
+        } finally {
+            phase.close();
+        }
     }
 
     /**
@@ -54,4 +127,61 @@ class CdiController {
         context.setIocProvider(injector);
         context.start();
     }
+
+    /**
+     * Looks for the prebuilt index of the application, according to the discovery mode
+     *
+     * @param discoveryMode Bean discovery mode
+     * @return Application index, empty when the classpath should be scanned
+     * @throws StartupException when the index is required but not available
+     */
+    private Optional<BeanDiscoveryIndex> findIndex(final DiscoveryMode discoveryMode) {
+        if (discoveryMode == DiscoveryMode.SCAN)
+            return Optional.empty();
+
+        final Optional<BeanDiscoveryIndex> index = BeanDiscoveryIndex.find(getClassLoader(), applicationMainClass);
+        if (!index.isPresent() && discoveryMode == DiscoveryMode.INDEX)
+            throw new StartupException("Jandex index for " + applicationMainClass.getName() + " not found at "
+                    + BeanDiscoveryIndex.INDEX_RESOURCE + ". Please check if the application was built with the "
+                    + "jandex Gradle task.");
+
+        return index;
+    }
+
+    /**
+     * Adds the classes of the application base package as bean classes, including the ones not covered by the index
+     *
+     * <p>Classes that can't be loaded, usually due to optional dependencies missing in the classpath, are ignored
+     * just like Weld does when scanning the classpath.</p>
+     *
+     * @param weld Weld instance
+     * @param index Application index
+     */
+    private void addIndexedClasses(final Weld weld, final BeanDiscoveryIndex index) {
+        final ClassLoader classLoader = getClassLoader();
+        final String packageName = applicationMainClass.getPackage().getName();
+        final List<String> classNames = new ArrayList<>(index.getClassNames(packageName));
+        classNames.addAll(index.getUnindexedClassNames(classLoader, packageName));
+
+        for (final String className : classNames) {
+            try {
+                weld.addBeanClass(Class.forName(className, false, classLoader));
+            } catch (final ClassNotFoundException | LinkageError ex) {
+                // ignored, see method documentation
+            }
+        }
+    }
+
+    /**
+     * Returns the class loader used to find the application index and classes
+     *
+     * <p>Just like Weld, the thread context class loader is used when available.</p>
+     *
+     * @return Class loader
+     */
+    private ClassLoader getClassLoader() {
+        return Optional
+                .ofNullable(Thread.currentThread().getContextClassLoader())
+                .orElse(applicationMainClass.getClassLoader());
+    }
 }
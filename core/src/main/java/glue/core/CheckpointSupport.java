@@ -0,0 +1,168 @@
+package glue.core;
+
+import glue.core.exception.CheckpointException;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * JVM checkpoint and restore support
+ *
+ * <p>This class integrates Glue with CRaC (Coordinated Restore at Checkpoint) when it's available, allowing a started
+ * application to be snapshotted and restored in milliseconds. Glue targets Java 8, so the CRaC API is accessed using
+ * reflection: the {@code jdk.crac} package of CRaC enabled JDKs is used when available, falling back to the
+ * {@code org.crac} compatibility library when present in the classpath.</p>
+ *
+ * <p>When the JVM is checkpointed (using {@link #checkpointRestore()} or {@code jcmd <pid> JDK.checkpoint}) the
+ * modules are notified to release their resources (see
+ * {@link glue.core.module.ModuleLifecycle#beforeCheckpoint()}) and notified again once restored (see
+ * {@link glue.core.module.ModuleLifecycle#afterRestore()}). Without CRaC, {@link #checkpointRestore()} runs both
+ * notifications in-process, allowing the hooks to be exercised and measured.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+public final class CheckpointSupport {
+
+    private static final String[] CRAC_PACKAGES = {"jdk.crac", "org.crac"};
+    private static final List<Listener> LISTENERS = new CopyOnWriteArrayList<>();
+    private static final Method CHECKPOINT_RESTORE;
+    private static final Object RESOURCE;
+
+    /**
+     * Checkpoint and restore listener
+     */
+    interface Listener {
+
+        /**
+         * Notifies that the JVM is about to be checkpointed
+         */
+        void beforeCheckpoint();
+
+        /**
+         * Notifies that the JVM was restored from a checkpoint
+         */
+        void afterRestore();
+    }
+
+    static {
+        Method checkpointRestore = null;
+        Object resource = null;
+
+        for (final String cracPackage : CRAC_PACKAGES)
+            try {
+                final Class<?> coreType = Class.forName(cracPackage + ".Core");
+                final Class<?> contextType = Class.forName(cracPackage + ".Context");
+                final Class<?> resourceType = Class.forName(cracPackage + ".Resource");
+
+                resource = Proxy.newProxyInstance(
+                        CheckpointSupport.class.getClassLoader(),
+                        new Class<?>[]{resourceType},
+                        (proxy, method, arguments) -> dispatch(proxy, method, arguments)
+                );
+                final Object globalContext = coreType.getMethod("getGlobalContext").invoke(null);
+                contextType.getMethod("register", resourceType).invoke(globalContext, resource);
+                checkpointRestore = coreType.getMethod("checkpointRestore");
+                break;
+            } catch (final ReflectiveOperationException | LinkageError ex) {
+                resource = null;
+            }
+
+        CHECKPOINT_RESTORE = checkpointRestore;
+        RESOURCE = resource;
+    }
+
+    private CheckpointSupport() {
+    }
+
+    /**
+     * Checks if CRaC is available in the running JVM
+     *
+     * @return True when available, false otherwise
+     */
+    public static boolean isAvailable() {
+        return CHECKPOINT_RESTORE != null && RESOURCE != null;
+    }
+
+    /**
+     * Checkpoints the JVM and restores it
+     *
+     * <p>With CRaC the method returns after the JVM is restored from the snapshot. Without CRaC the checkpoint and
+     * restore notifications are done in-process and the JVM keeps running.</p>
+     *
+     * @throws CheckpointException when the checkpoint or the restore fails
+     */
+    public static void checkpointRestore() {
+        if (!isAvailable()) {
+            beforeCheckpoint();
+            afterRestore();
+            return;
+        }
+
+        try {
+            CHECKPOINT_RESTORE.invoke(null);
+        } catch (final InvocationTargetException ex) {
+            throw new CheckpointException("JVM checkpoint failed", ex.getCause());
+        } catch (final IllegalAccessException ex) {
+            throw new CheckpointException("JVM checkpoint failed", ex);
+        }
+    }
+
+    /**
+     * Registers a checkpoint and restore listener
+     *
+     * @param listener Listener to be registered
+     */
+    static void register(final Listener listener) {
+        LISTENERS.add(listener);
+    }
+
+    /**
+     * Removes a checkpoint and restore listener
+     *
+     * @param listener Listener to be removed
+     */
+    static void unregister(final Listener listener) {
+        LISTENERS.remove(listener);
+    }
+
+    private static void beforeCheckpoint() {
+        final List<Listener> listeners = new ArrayList<>(LISTENERS);
+        Collections.reverse(listeners);
+        listeners.forEach(Listener::beforeCheckpoint);
+    }
+
+    private static void afterRestore() {
+        LISTENERS.forEach(Listener::afterRestore);
+    }
+
+    /**
+     * Handles the invocations of the CRaC resource proxy
+     *
+     * @param proxy Proxy instance
+     * @param method Invoked method
+     * @param arguments Invocation arguments
+     * @return Invocation result
+     */
+    private static Object dispatch(final Object proxy, final Method method, final Object[] arguments) {
+        switch (method.getName()) {
+            case "beforeCheckpoint":
+                beforeCheckpoint();
+                return null;
+            case "afterRestore":
+                afterRestore();
+                return null;
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "equals":
+                return proxy == arguments[0];
+            default:
+                return CheckpointSupport.class.getName() + "$Resource";
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package glue.core;
 
+import glue.core.profiler.StartupPhase;
+import glue.core.profiler.StartupProfiler;
+
 /**
  * Glue application startup
  *
@@ -14,6 +17,9 @@ package glue.core;
  * <p>The automatic bean discovery is done recursively using what you provide here as the start point. Any beans
  * that reside in a parent package will not be detected without the {@code beans.xml} file.</p>
  *
+ * <p>The startup sequence is profiled using the {@link StartupProfiler}, which reports how the startup time was
+ * spent once the application is started.</p>
+ *
  * @author Lucas Dillmann
  * @since 1.0.0, 2018-11-24
  */
@@ -47,7 +53,15 @@ public final class GlueApplication {
      */
     public static void start(Class<?> applicationClass) {
         initStartupTime();
-        new CdiController(applicationClass).start();
+
+        final StartupProfiler profiler = StartupProfiler.getInstance();
+        final StartupPhase phase = profiler.begin("glue.startup");
+        try {
+            new CdiController(applicationClass).start();
+        } finally {
+            phase.close();
+            profiler.finish();
+        }
     }
 
 }
@@ -2,19 +2,17 @@ package glue.core;
 
 import glue.core.exception.StartupException;
 import glue.core.module.ModuleLifecycle;
-import glue.core.module.Priority;
+import glue.core.profiler.StartupPhase;
+import glue.core.profiler.StartupProfiler;
 import org.slf4j.Logger;
 
 import javax.enterprise.inject.Any;
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
-import java.util.function.Function;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
@@ -26,7 +24,18 @@ import java.util.stream.StreamSupport;
  * <p>All of the actions done by this class are executed automatically. The startup of the application is done when the
  * IoC from Glue was started and a instance from this class is created. The shutdown is executed using a JVM shutdown
  * listener. Whenever the JVM receives the SIGTERM signal from the OS this class starts the shutdown sequence,
- * informing all modules that they need to stop.</p>
+ * informing all modules that they need to stop. When the shutdown is requested by the JVM itself, the JVM is left to
+ * exit on its own instead of calling {@link System#exit(int)}.</p>
+ *
+ * <p>Modules are started concurrently whenever their priorities and dependencies allow it. For more information read
+ * the {@link ModuleStartupScheduler} documentation. The shutdown is graceful, waiting for the in-flight work before
+ * stopping the modules. For more information read the {@link ModuleShutdownScheduler} documentation.</p>
+ *
+ * <p>Once started, the modules are notified when the JVM is checkpointed and restored. For more information read the
+ * {@link CheckpointSupport} documentation.</p>
+ *
+ * <p>Lazy modules may be left out of the application startup, being started on their first use. For more
+ * information read the {@link ModuleActivator} documentation.</p>
  *
  * @author Lucas Dillmann
  * @since 1.0.0, 2018-11-20
@@ -38,30 +47,42 @@ class LifecycleController {
     private static final String NO_MODULES_ERROR = "No Glue modules found at classpath. We can't start the application when there's nothing to start.";
 
     private final List<ModuleLifecycle> modules;
+    private final ModuleActivator activator;
     private final Instance<GlueApplicationContext> applicationContext;
     private final Logger logger;
     private final ShutdownListener jvmListener;
+    private final ModuleStartupScheduler startupScheduler;
+    private final ModuleShutdownScheduler shutdownScheduler;
+    private final ModuleCheckpointCoordinator checkpointCoordinator;
+    private final AtomicBoolean stopped;
 
     /**
-     * Constructor with modules, log, application context and JVM listener initialization
+     * Constructor with modules, log, application context, JVM listener and lazy module activator initialization
      *
      * @param modules            Application modules available in the classpath
      * @param logger             Logger
      * @param applicationContext Application context
      * @param jvmListener        JVM shutdown listener
+     * @param activator          Lazy module activator
      */
     @Inject
     LifecycleController(@Any Instance<ModuleLifecycle> modules,
                         Instance<Logger> logger,
                         Instance<ShutdownListener> jvmListener,
-                        Instance<GlueApplicationContext> applicationContext) {
+                        Instance<GlueApplicationContext> applicationContext,
+                        ModuleActivator activator) {
         validateLogger(logger);
         validateModules(modules);
 
         this.modules = StreamSupport.stream(modules.spliterator(), false).collect(Collectors.toList());
+        this.activator = activator;
         this.logger = logger.get();
         this.jvmListener = jvmListener.get();
         this.applicationContext = applicationContext;
+        this.startupScheduler = new ModuleStartupScheduler(this.logger);
+        this.shutdownScheduler = new ModuleShutdownScheduler(this.logger);
+        this.checkpointCoordinator = new ModuleCheckpointCoordinator(activator.getActiveModules(), this.logger);
+        this.stopped = new AtomicBoolean();
     }
 
     /**
@@ -95,13 +116,19 @@ class LifecycleController {
         jvmListener.start(this::stop);
 
         try {
-            getSortedModules(ModuleLifecycle::getStartPriority).forEach(ModuleLifecycle::start);
+            final StartupPhase phase = StartupProfiler.getInstance().begin("lifecycle.start");
+            try {
+                startupScheduler.start(activator.initialize(modules), activator::markStarted);
+            } finally {
+                phase.close();
+            }
         } catch (final Exception ex) {
             logger.error("Error starting application", ex);
             stop();
             return;
         }
 
+        CheckpointSupport.register(checkpointCoordinator);
         final Long startupTime = System.currentTimeMillis() - GlueApplication.getStartupTime();
         logger.info("Glue started after {} milliseconds", startupTime);
     }
@@ -112,15 +139,24 @@ class LifecycleController {
      * <p>This method uses the detected modules and inform they that the application is shutting down. This allow
      * the soft shutdown principle, where all the previous started modules can nicely stop they jobs (close connections,
      * stop threads and others).</p>
+     *
+     * <p>Calling this method more than once has no effect.</p>
      */
     void stop() {
+        if (!stopped.compareAndSet(false, true))
+            return;
+
         logger.info("Glue is shutting down");
+        activator.close();
+        CheckpointSupport.unregister(checkpointCoordinator);
+        final boolean jvmShutdownInProgress = jvmListener.isJvmShutdownInProgress();
         shutdownJvmListener();
         shutdownModules();
         shutdownIocProvider();
 
         logger.info("Good bye");
-        shutdownJvm();
+        if (!jvmShutdownInProgress)
+            shutdownJvm();
     }
 
     /**
@@ -132,11 +168,10 @@ class LifecycleController {
     }
 
     /**
-     * Shutdown all Glue modules detected at startup
+     * Shutdown all Glue modules started so far, including the activated lazy modules
      */
     private void shutdownModules() {
-        logger.debug("Stopping Glue modules");
-        getSortedModules(ModuleLifecycle::getStopPriority).forEach(this::stopSilently);
+        shutdownScheduler.stop(activator.getActiveModules());
     }
 
     /**
@@ -147,20 +182,6 @@ class LifecycleController {
         applicationContext.get().getIocProvider().shutdown();
     }
 
-    /**
-     * Tries to stop the module. If it fails, logs the exception and don't propagate exception.
-     *
-     * @param module Module to be stopped
-     */
-    private void stopSilently(final ModuleLifecycle module) {
-        logger.info("Stopping module from {}", module.getClass().getSimpleName());
-        try {
-            module.stop();
-        } catch (final Exception ex) {
-            logger.error("Error stopping module", ex);
-        }
-    }
-
     /**
      * Stops the JVM
      */
@@ -168,20 +189,4 @@ class LifecycleController {
         logger.debug("Shutting down JVM");
         System.exit(0);
     }
-
-    /**
-     * Create and returns a sorted stream from the detected modules using the priority to do the sorting
-     *
-     * @param priorityProvider Lambda function for priority method
-     * @return Sorted stream from the detected modules
-     */
-    private Stream<ModuleLifecycle> getSortedModules(final Function<ModuleLifecycle, Integer> priorityProvider) {
-        return modules
-                .stream()
-                .sorted(Comparator.comparing(
-                        module -> Optional
-                                .ofNullable(priorityProvider.apply(module))
-                                .orElse(Priority.REGULAR.asInteger())
-                ));
-    }
 }
@@ -0,0 +1,228 @@
+package glue.core;
+
+import glue.core.exception.StartupException;
+import glue.core.module.ModuleLifecycle;
+import org.slf4j.Logger;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Lazy module activator
+ *
+ * <p>This class starts the lazy modules (see {@link ModuleLifecycle#isLazy()}) on their first use. The lazy
+ * activation is disabled by default and can be enabled using the {@code glue.lifecycle.lazy} system property. When
+ * disabled, all modules are started with the application.</p>
+ *
+ * <p>Lazy modules are activated all at once before the first request is handled (see
+ * {@code glue.web.container.api.WebContainer#beforeFirstRequest(Runnable)}) or one by one using
+ * {@link #activate(Class)}, which can be called by the code that uses the module, like its bean producers. The declared
+ * dependencies of a lazy module (see {@link ModuleLifecycle#getDependencies()}) are activated with it. A lazy module
+ * that is a declared dependency of a module started with the application is started with the application as well.
+ * Start priorities only define the order of the modules activated together.</p>
+ *
+ * <p>Once started the modules are managed like the others, being stopped on the application shutdown and notified
+ * about JVM checkpoints. After each activation the modules already started are notified (see
+ * {@link ModuleLifecycle#afterLazyActivation(Collection)}). When the activation fails, the modules that weren't
+ * started are kept pending, being started again by the next activation.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+@Singleton
+public class ModuleActivator {
+
+    static final String LAZY_ACTIVATION_PROPERTY = "glue.lifecycle.lazy";
+
+    private final Logger logger;
+    private final ModuleStartupScheduler startupScheduler;
+    private final List<ModuleLifecycle> pendingModules;
+    private final List<ModuleLifecycle> activeModules;
+    private boolean closed;
+
+    /**
+     * Constructor with {@link Logger} initialization
+     *
+     * @param logger Logger
+     */
+    @Inject
+    ModuleActivator(final Logger logger) {
+        this.logger = logger;
+        this.startupScheduler = new ModuleStartupScheduler(logger);
+        this.pendingModules = new ArrayList<>();
+        this.activeModules = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * Activates the provided lazy module and its lazy dependencies, when not activated yet
+     *
+     * @param moduleType Type of the module to be activated
+     * @throws StartupException when any of the modules fails to start
+     */
+    public void activate(final Class<? extends ModuleLifecycle> moduleType) {
+        activate(module -> moduleType.isInstance(module));
+    }
+
+    /**
+     * Activates all lazy modules not activated yet
+     *
+     * @throws StartupException when any of the modules fails to start
+     */
+    public void activateAll() {
+        activate(module -> true);
+    }
+
+    /**
+     * Checks if there are lazy modules not activated yet
+     *
+     * @return True when there are pending modules, false otherwise
+     */
+    public synchronized boolean hasPendingModules() {
+        return !pendingModules.isEmpty();
+    }
+
+    /**
+     * Splits the application modules in the ones that must be started with the application and the lazy ones, which
+     * are kept pending until activated
+     *
+     * <p>The modules to be started with the application become active once started (see
+     * {@link #markStarted(ModuleLifecycle)}).</p>
+     *
+     * @param modules Application modules
+     * @return Modules to be started with the application
+     */
+    synchronized List<ModuleLifecycle> initialize(final List<ModuleLifecycle> modules) {
+        final List<ModuleLifecycle> eagerModules = new ArrayList<>(modules);
+        if (Boolean.getBoolean(LAZY_ACTIVATION_PROPERTY)) {
+            final List<ModuleLifecycle> lazyModules = eagerModules
+                    .stream()
+                    .filter(ModuleLifecycle::isLazy)
+                    .collect(Collectors.toList());
+            eagerModules.removeAll(lazyModules);
+
+            List<ModuleLifecycle> requiredModules;
+            while (!(requiredModules = getDependencies(eagerModules, lazyModules)).isEmpty()) {
+                lazyModules.removeAll(requiredModules);
+                eagerModules.addAll(requiredModules);
+            }
+
+            pendingModules.addAll(lazyModules);
+            lazyModules.forEach(module -> logger.info("Module {} will be started on its first use", getName(module)));
+        }
+
+        return eagerModules;
+    }
+
+    /**
+     * Marks the provided module as started, making it active
+     *
+     * @param module Started module
+     */
+    void markStarted(final ModuleLifecycle module) {
+        activeModules.add(module);
+    }
+
+    /**
+     * Returns the started modules, including the activated lazy modules. The returned list reflects later
+     * activations.
+     *
+     * @return Active modules
+     */
+    List<ModuleLifecycle> getActiveModules() {
+        return Collections.unmodifiableList(activeModules);
+    }
+
+    /**
+     * Stops the activations. Pending modules won't be started anymore.
+     */
+    synchronized void close() {
+        closed = true;
+        pendingModules.clear();
+    }
+
+    /**
+     * Activates the pending modules accepted by the provided filter and their pending dependencies
+     *
+     * @param filter Filter of the modules to be activated
+     */
+    private synchronized void activate(final Predicate<ModuleLifecycle> filter) {
+        if (closed || pendingModules.isEmpty())
+            return;
+
+        final List<ModuleLifecycle> selectedModules = pendingModules
+                .stream()
+                .filter(filter)
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        List<ModuleLifecycle> requiredModules = selectedModules;
+        while (!requiredModules.isEmpty()) {
+            requiredModules = getDependencies(requiredModules, pendingModules)
+                    .stream()
+                    .filter(module -> !selectedModules.contains(module))
+                    .collect(Collectors.toList());
+            selectedModules.addAll(requiredModules);
+        }
+
+        if (selectedModules.isEmpty())
+            return;
+
+        final List<String> names = selectedModules.stream().map(ModuleActivator::getName).collect(Collectors.toList());
+        logger.info("Activating lazy modules {}", names);
+        final long startTime = System.nanoTime();
+
+        pendingModules.removeAll(selectedModules);
+        final List<ModuleLifecycle> previousModules = new ArrayList<>(activeModules);
+        final List<ModuleLifecycle> startedModules = new CopyOnWriteArrayList<>();
+
+        try {
+            startupScheduler.start(selectedModules, module -> {
+                startedModules.add(module);
+                markStarted(module);
+            });
+        } catch (final StartupException ex) {
+            selectedModules
+                    .stream()
+                    .filter(module -> !startedModules.contains(module))
+                    .forEach(pendingModules::add);
+            logger.error("Error activating lazy modules {}", names, ex);
+            throw ex;
+        }
+
+        for (final ModuleLifecycle module : previousModules)
+            module.afterLazyActivation(Collections.unmodifiableList(selectedModules));
+
+        logger.info("Lazy modules {} activated after {} ms", names,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    }
+
+    /**
+     * Returns the candidates that are declared dependencies of any of the provided modules
+     *
+     * @param modules Modules whose dependencies will be checked
+     * @param candidates Candidate dependencies
+     * @return Candidates that are dependencies of the modules
+     */
+    private static List<ModuleLifecycle> getDependencies(final Collection<ModuleLifecycle> modules,
+                                                         final Collection<ModuleLifecycle> candidates) {
+        final Set<Class<? extends ModuleLifecycle>> dependencyTypes = modules
+                .stream()
+                .map(ModuleLifecycle::getDependencies)
+                .filter(Objects::nonNull)
+                .flatMap(Set::stream)
+                .collect(Collectors.toSet());
+
+        return candidates
+                .stream()
+                .filter(candidate -> dependencyTypes.stream().anyMatch(type -> type.isInstance(candidate)))
+                .collect(Collectors.toList());
+    }
+
+    private static String getName(final ModuleLifecycle module) {
+        return module.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,115 @@
+package glue.core;
+
+import glue.core.exception.CheckpointException;
+import glue.core.module.ModuleLifecycle;
+import glue.core.module.Priority;
+import org.slf4j.Logger;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Checkpoint and restore coordinator of the application modules
+ *
+ * <p>This class notifies the modules when the JVM is checkpointed and restored (see {@link CheckpointSupport}). Modules
+ * are prepared for the checkpoint following their stop priorities and restored following their start priorities.
+ * When a module fails to prepare, the modules already prepared are restored and the checkpoint is aborted.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+class ModuleCheckpointCoordinator implements CheckpointSupport.Listener {
+
+    private final List<ModuleLifecycle> modules;
+    private final Logger logger;
+
+    /**
+     * Constructor with modules and {@link Logger} initialization
+     *
+     * @param modules Application modules
+     * @param logger Logger
+     */
+    ModuleCheckpointCoordinator(final List<ModuleLifecycle> modules, final Logger logger) {
+        this.modules = modules;
+        this.logger = logger;
+    }
+
+    /**
+     * Prepares all modules for the checkpoint
+     *
+     * @throws CheckpointException when a module fails to prepare, aborting the checkpoint
+     */
+    @Override
+    public void beforeCheckpoint() {
+        logger.info("Preparing Glue modules for the JVM checkpoint");
+        final long startTime = System.nanoTime();
+        final Deque<ModuleLifecycle> preparedModules = new ArrayDeque<>();
+
+        for (final ModuleLifecycle module : sort(ModuleLifecycle::getStopPriority))
+            try {
+                module.beforeCheckpoint();
+                preparedModules.push(module);
+            } catch (final RuntimeException ex) {
+                logger.error("Module {} failed to prepare for the checkpoint. Checkpoint aborted.", getName(module), ex);
+                restore(preparedModules);
+                throw new CheckpointException("Checkpoint aborted by module " + getName(module), ex);
+            }
+
+        logger.info("Glue modules ready for the JVM checkpoint after {} ms", getElapsedTime(startTime));
+    }
+
+    /**
+     * Restores all modules after the JVM restore
+     *
+     * @throws CheckpointException when any module fails to restore
+     */
+    @Override
+    public void afterRestore() {
+        logger.info("Restoring Glue modules after the JVM restore");
+        final long startTime = System.nanoTime();
+
+        final List<String> failedModules = restore(sort(ModuleLifecycle::getStartPriority));
+        if (!failedModules.isEmpty())
+            throw new CheckpointException("Modules failed to restore: " + String.join(", ", failedModules));
+
+        logger.info("Glue modules restored after {} ms", getElapsedTime(startTime));
+    }
+
+    /**
+     * Restores the provided modules, in order. Failures are logged and don't stop the remaining modules.
+     *
+     * @param modules Modules to be restored
+     * @return Names of the modules that failed to restore
+     */
+    private List<String> restore(final Collection<ModuleLifecycle> modules) {
+        final List<String> failedModules = new ArrayList<>();
+        for (final ModuleLifecycle module : modules)
+            try {
+                module.afterRestore();
+            } catch (final RuntimeException ex) {
+                logger.error("Module {} failed to restore", getName(module), ex);
+                failedModules.add(getName(module));
+            }
+
+        return failedModules;
+    }
+
+    private List<ModuleLifecycle> sort(final Function<ModuleLifecycle, Integer> priorityProvider) {
+        return modules
+                .stream()
+                .sorted(Comparator.comparing(module -> Optional
+                        .ofNullable(priorityProvider.apply(module))
+                        .orElse(Priority.REGULAR.asInteger())))
+                .collect(Collectors.toList());
+    }
+
+    private static long getElapsedTime(final long startTime) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    }
+
+    private static String getName(final ModuleLifecycle module) {
+        return module.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,385 @@
+package glue.core;
+
+import glue.core.module.ModuleLifecycle;
+import glue.core.module.Priority;
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Graceful module shutdown scheduler
+ *
+ * <p>This class stops the application modules in three phases:</p>
+ *
+ * <ol>
+ *     <li><b>Suspend:</b> all modules are asked to stop accepting new work (see {@link ModuleLifecycle#suspend()})</li>
+ *     <li><b>Drain:</b> the in-flight work of all modules is awaited concurrently, up to the drain timeout (see
+ *     {@link ModuleLifecycle#awaitDrain(long, TimeUnit)})</li>
+ *     <li><b>Stop:</b> the modules are stopped following their stop priorities, up to the stop timeout. A module is
+ *     stopped after the modules with a higher stop priority and, among the modules with the same stop priority, after
+ *     the modules that depend on it. Modules without ordering constraints between them are stopped concurrently.</li>
+ * </ol>
+ *
+ * <p>Stop priorities take precedence over the declared dependencies, allowing the modules that take traffic (like
+ * the web container) to stop before the modules they front, even when those declare them as a dependency.</p>
+ *
+ * <p>Modules whose work wasn't drained or that weren't stopped in time are reported as forcibly terminated. The
+ * timeouts can be customized, in milliseconds, using the {@code glue.lifecycle.shutdown.drainTimeout} (defaults to
+ * 30 seconds) and {@code glue.lifecycle.shutdown.stopTimeout} (defaults to 10 seconds) system properties.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-17
+ */
+class ModuleShutdownScheduler {
+
+    static final String DRAIN_TIMEOUT_PROPERTY = "glue.lifecycle.shutdown.drainTimeout";
+    static final String STOP_TIMEOUT_PROPERTY = "glue.lifecycle.shutdown.stopTimeout";
+
+    private static final long DEFAULT_DRAIN_TIMEOUT = 30_000;
+    private static final long DEFAULT_STOP_TIMEOUT = 10_000;
+
+    private final Logger logger;
+
+    /**
+     * Constructor with {@link Logger} initialization
+     *
+     * @param logger Logger
+     */
+    ModuleShutdownScheduler(final Logger logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * Stops the provided modules using the default timeouts
+     *
+     * @param modules Modules to be stopped
+     * @return Modules that were forcibly terminated
+     */
+    Set<ModuleLifecycle> stop(final List<ModuleLifecycle> modules) {
+        return stop(
+                modules,
+                Duration.ofMillis(Long.getLong(DRAIN_TIMEOUT_PROPERTY, DEFAULT_DRAIN_TIMEOUT)),
+                Duration.ofMillis(Long.getLong(STOP_TIMEOUT_PROPERTY, DEFAULT_STOP_TIMEOUT))
+        );
+    }
+
+    /**
+     * Stops the provided modules
+     *
+     * <p>Failures of the modules are logged and never propagated, allowing the remaining modules to stop.</p>
+     *
+     * @param modules Modules to be stopped
+     * @param drainTimeout Maximum time to wait for the in-flight work of the modules
+     * @param stopTimeout Maximum time to wait for the modules to stop
+     * @return Modules that were forcibly terminated
+     */
+    Set<ModuleLifecycle> stop(final List<ModuleLifecycle> modules,
+                              final Duration drainTimeout,
+                              final Duration stopTimeout) {
+        final long startTime = System.nanoTime();
+        final ExecutorService executor = Executors.newCachedThreadPool(new ShutdownThreadFactory());
+
+        try {
+            suspendModules(modules);
+            final Set<ModuleLifecycle> undrainedModules = drainModules(modules, executor, drainTimeout);
+            final Set<ModuleLifecycle> unstoppedModules = stopModules(modules, executor, stopTimeout);
+            report(undrainedModules, unstoppedModules, startTime);
+
+            final Set<ModuleLifecycle> terminatedModules = newIdentitySet();
+            terminatedModules.addAll(undrainedModules);
+            terminatedModules.addAll(unstoppedModules);
+            return terminatedModules;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Suspends all modules, asking them to stop accepting new work
+     *
+     * @param modules Application modules
+     */
+    private void suspendModules(final List<ModuleLifecycle> modules) {
+        logger.debug("Suspending Glue modules");
+        for (final ModuleLifecycle module : modules)
+            try {
+                module.suspend();
+            } catch (final Exception ex) {
+                logger.error("Error suspending module {}", getName(module), ex);
+            }
+    }
+
+    /**
+     * Waits concurrently for the in-flight work of all modules, up to the timeout
+     *
+     * @param modules Application modules
+     * @param executor Executor where the modules will be awaited
+     * @param timeout Drain timeout
+     * @return Modules whose work wasn't drained in time
+     */
+    private Set<ModuleLifecycle> drainModules(final List<ModuleLifecycle> modules,
+                                              final ExecutorService executor,
+                                              final Duration timeout) {
+        logger.info("Waiting up to {} ms for in-flight work to finish", timeout.toMillis());
+        final long deadline = System.nanoTime() + timeout.toNanos();
+
+        final Map<ModuleLifecycle, Future<Boolean>> drains = new IdentityHashMap<>();
+        for (final ModuleLifecycle module : modules)
+            drains.put(module, executor.submit(() ->
+                    module.awaitDrain(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)));
+
+        final Set<ModuleLifecycle> undrainedModules = newIdentitySet();
+        drains.forEach((module, drain) -> {
+            try {
+                if (!drain.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS))
+                    undrainedModules.add(module);
+            } catch (final TimeoutException ex) {
+                drain.cancel(true);
+                undrainedModules.add(module);
+            } catch (final ExecutionException ex) {
+                logger.error("Error waiting for module {} to drain", getName(module), ex.getCause());
+                undrainedModules.add(module);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                drain.cancel(true);
+                undrainedModules.add(module);
+            }
+        });
+
+        return undrainedModules;
+    }
+
+    /**
+     * Stops the modules following the stop graph, up to the timeout
+     *
+     * @param modules Application modules
+     * @param executor Executor where the modules will be stopped
+     * @param timeout Stop timeout
+     * @return Modules not stopped in time
+     */
+    private Set<ModuleLifecycle> stopModules(final List<ModuleLifecycle> modules,
+                                             final ExecutorService executor,
+                                             final Duration timeout) {
+        logger.debug("Stopping Glue modules");
+        final long deadline = System.nanoTime() + timeout.toNanos();
+
+        final Map<ModuleLifecycle, Set<ModuleLifecycle>> predecessors = buildStopGraph(modules);
+        final Map<ModuleLifecycle, Set<ModuleLifecycle>> successors = new IdentityHashMap<>();
+        final Map<ModuleLifecycle, Integer> pendingPredecessors = new IdentityHashMap<>();
+        predecessors.forEach((module, modulePredecessors) -> {
+            pendingPredecessors.put(module, modulePredecessors.size());
+            modulePredecessors.forEach(predecessor ->
+                    successors.computeIfAbsent(predecessor, key -> newIdentitySet()).add(module));
+        });
+
+        final CompletionService<ModuleLifecycle> completionService = new ExecutorCompletionService<>(executor);
+        final Set<ModuleLifecycle> unstoppedModules = newIdentitySet();
+        unstoppedModules.addAll(modules);
+
+        int runningModules = 0;
+        for (final ModuleLifecycle module : modules)
+            if (pendingPredecessors.get(module) == 0) {
+                submitStop(completionService, module);
+                runningModules++;
+            }
+
+        try {
+            while (runningModules > 0) {
+                final Future<ModuleLifecycle> stop = completionService
+                        .poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (stop == null)
+                    break;
+
+                final ModuleLifecycle stoppedModule = stop.get();
+                unstoppedModules.remove(stoppedModule);
+                runningModules--;
+
+                for (final ModuleLifecycle successor : successors.getOrDefault(stoppedModule, Collections.emptySet()))
+                    if (pendingPredecessors.merge(successor, -1, Integer::sum) == 0) {
+                        submitStop(completionService, successor);
+                        runningModules++;
+                    }
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException ex) {
+            logger.error("Unexpected error stopping modules", ex.getCause());
+        }
+
+        return unstoppedModules;
+    }
+
+    /**
+     * Submits the stop of the provided module
+     *
+     * <p>Stop failures are logged and the module is considered stopped, allowing the modules it depends on to stop
+     * as well.</p>
+     *
+     * @param completionService Completion service
+     * @param module Module to be stopped
+     */
+    private void submitStop(final CompletionService<ModuleLifecycle> completionService, final ModuleLifecycle module) {
+        completionService.submit(() -> {
+            logger.info("Stopping module from {}", getName(module));
+            try {
+                module.stop();
+            } catch (final Exception ex) {
+                logger.error("Error stopping module", ex);
+            }
+            return module;
+        });
+    }
+
+    /**
+     * Builds the stop graph of the provided modules
+     *
+     * <p>A module is stopped after the modules with a higher stop priority and, among the modules with the same stop
+     * priority, after the modules that declare it as a dependency. Stop priorities take precedence over declared
+     * dependencies. When the result has a cycle the modules are stopped sequentially, following the stop
+     * priorities.</p>
+     *
+     * @param modules Application modules
+     * @return Map of each module and the modules that must be stopped before it
+     */
+    private Map<ModuleLifecycle, Set<ModuleLifecycle>> buildStopGraph(final List<ModuleLifecycle> modules) {
+        final Function<ModuleLifecycle, Integer> priority = module -> Optional
+                .ofNullable(module.getStopPriority())
+                .orElse(Priority.REGULAR.asInteger());
+
+        final Map<ModuleLifecycle, Set<ModuleLifecycle>> graph = new IdentityHashMap<>();
+        for (final ModuleLifecycle module : modules) {
+            final Set<ModuleLifecycle> predecessors = newIdentitySet();
+            for (final ModuleLifecycle candidate : modules) {
+                if (candidate == module)
+                    continue;
+
+                final int candidatePriority = priority.apply(candidate);
+                final int modulePriority = priority.apply(module);
+                final boolean higherPriority = candidatePriority < modulePriority;
+                final boolean samePriority = candidatePriority == modulePriority;
+                if (higherPriority || (samePriority && dependsOn(candidate, module)))
+                    predecessors.add(candidate);
+            }
+
+            graph.put(module, predecessors);
+        }
+
+        if (!hasCycles(graph))
+            return graph;
+
+        logger.warn("Module dependencies have a cycle. Modules will be stopped sequentially.");
+        final List<ModuleLifecycle> sortedModules = modules
+                .stream()
+                .sorted(Comparator.comparing(priority))
+                .collect(Collectors.toList());
+
+        final Map<ModuleLifecycle, Set<ModuleLifecycle>> sequentialGraph = new IdentityHashMap<>();
+        for (int index = 0; index < sortedModules.size(); index++) {
+            final Set<ModuleLifecycle> predecessors = newIdentitySet();
+            if (index > 0)
+                predecessors.add(sortedModules.get(index - 1));
+            sequentialGraph.put(sortedModules.get(index), predecessors);
+        }
+
+        return sequentialGraph;
+    }
+
+    /**
+     * Checks if the graph has cycles, using the Kahn's algorithm
+     *
+     * @param graph Stop graph
+     * @return True when the graph has cycles, false otherwise
+     */
+    private boolean hasCycles(final Map<ModuleLifecycle, Set<ModuleLifecycle>> graph) {
+        final Map<ModuleLifecycle, Integer> pendingPredecessors = new IdentityHashMap<>();
+        graph.forEach((module, predecessors) -> pendingPredecessors.put(module, predecessors.size()));
+
+        final Deque<ModuleLifecycle> ready = new ArrayDeque<>();
+        pendingPredecessors.forEach((module, count) -> {
+            if (count == 0)
+                ready.add(module);
+        });
+
+        int visitedModules = 0;
+        while (!ready.isEmpty()) {
+            final ModuleLifecycle module = ready.poll();
+            visitedModules++;
+            graph.forEach((successor, predecessors) -> {
+                if (predecessors.contains(module) && pendingPredecessors.merge(successor, -1, Integer::sum) == 0)
+                    ready.add(successor);
+            });
+        }
+
+        return visitedModules < graph.size();
+    }
+
+    /**
+     * Logs the shutdown report
+     *
+     * @param undrainedModules Modules whose work wasn't drained in time
+     * @param unstoppedModules Modules not stopped in time
+     * @param startTime Shutdown start time, from {@link System#nanoTime()}
+     */
+    private void report(final Set<ModuleLifecycle> undrainedModules,
+                        final Set<ModuleLifecycle> unstoppedModules,
+                        final long startTime) {
+        final long elapsedTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        if (undrainedModules.isEmpty() && unstoppedModules.isEmpty()) {
+            logger.info("Graceful shutdown finished in {} ms", elapsedTime);
+            return;
+        }
+
+        logger.warn("Graceful shutdown finished in {} ms with forcibly terminated modules. In-flight work not " +
+                        "drained: {}. Not stopped in time: {}",
+                elapsedTime, getNames(undrainedModules), getNames(unstoppedModules));
+    }
+
+    private static String getNames(final Set<ModuleLifecycle> modules) {
+        if (modules.isEmpty())
+            return "none";
+
+        return modules
+                .stream()
+                .map(ModuleShutdownScheduler::getName)
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String getName(final ModuleLifecycle module) {
+        return module.getClass().getSimpleName();
+    }
+
+    private static boolean dependsOn(final ModuleLifecycle module, final ModuleLifecycle dependency) {
+        return Optional
+                .ofNullable(module.getDependencies())
+                .orElse(Collections.emptySet())
+                .stream()
+                .anyMatch(type -> type.isInstance(dependency));
+    }
+
+    private static <T> Set<T> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Thread factory for the module shutdown threads
+     *
+     * <p>Threads are daemons, so modules that don't stop in time don't hold the JVM.</p>
+     */
+    private static final class ShutdownThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, "glue-module-shutdown-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package glue.core;
+
+import glue.core.exception.StartupException;
+import glue.core.module.ModuleLifecycle;
+import glue.core.module.Priority;
+import glue.core.profiler.StartupPhase;
+import glue.core.profiler.StartupProfiler;
+import org.slf4j.Logger;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Parallel module startup scheduler
+ *
+ * <p>This class starts the application modules following a dependency graph (DAG) built from the modules start
+ * priorities and declared dependencies (see {@link ModuleLifecycle#getDependencies()}). Every module depends on all
+ * modules with a higher start priority and on its declared dependencies. Modules whose dependencies are all started
+ * are started concurrently, using a bounded pool of threads.</p>
+ *
+ * <p>The pool size can be customized using the {@code glue.lifecycle.startup.parallelism} system property and
+ * defaults to the number of available processors. The startup is fail fast: when a module fails to start, all
+ * pending module startups are cancelled and the failure is reported once the module startups already running finish
+ * (waiting for them up to {@value #TERMINATION_TIMEOUT_SECONDS} seconds). Every module that finishes its startup is
+ * reported to the provided listener, allowing the caller to know which modules must be stopped.</p>
+ *
+ * <p>The startup of every module is recorded as a {@link StartupPhase} nested in the phase that was open when the
+ * startup was requested.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-16
+ */
+class ModuleStartupScheduler {
+
+    static final String PARALLELISM_PROPERTY = "glue.lifecycle.startup.parallelism";
+    static final long TERMINATION_TIMEOUT_SECONDS = 30;
+
+    private final Logger logger;
+
+    /**
+     * Constructor with {@link Logger} initialization
+     *
+     * @param logger Logger
+     */
+    ModuleStartupScheduler(final Logger logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * Starts the provided modules using the default parallelism
+     *
+     * @param modules Modules to be started
+     * @param startListener Listener notified of every module that finishes its startup
+     * @throws StartupException when any module fails to start or the dependencies have a cycle
+     */
+    void start(final List<ModuleLifecycle> modules, final Consumer<ModuleLifecycle> startListener) {
+        start(modules, startListener, getParallelism());
+    }
+
+    /**
+     * Starts the provided modules
+     *
+     * @param modules Modules to be started
+     * @param startListener Listener notified of every module that finishes its startup
+     * @param parallelism Maximum number of modules being started at the same time
+     * @throws StartupException when any module fails to start or the dependencies have a cycle
+     */
+    void start(final List<ModuleLifecycle> modules,
+               final Consumer<ModuleLifecycle> startListener,
+               final int parallelism) {
+        final Map<ModuleLifecycle, Set<ModuleLifecycle>> dependencies = buildDependencyGraph(modules);
+        validateCycles(dependencies);
+
+        final Map<ModuleLifecycle, Set<ModuleLifecycle>> dependents = new IdentityHashMap<>();
+        final Map<ModuleLifecycle, Integer> pendingDependencies = new IdentityHashMap<>();
+        dependencies.forEach((module, moduleDependencies) -> {
+            pendingDependencies.put(module, moduleDependencies.size());
+            moduleDependencies.forEach(dependency ->
+                    dependents.computeIfAbsent(dependency, key -> newIdentitySet()).add(module));
+        });
+
+        final ExecutorService executor = Executors.newFixedThreadPool(
+                Math.max(1, Math.min(parallelism, modules.size())), new StartupThreadFactory()
+        );
+        final CompletionService<ModuleLifecycle> completionService = new ExecutorCompletionService<>(executor);
+        final StartupPhase parentPhase = StartupProfiler.getInstance().getCurrentPhase().orElse(null);
+        final List<ModuleLifecycle> startedModules = new CopyOnWriteArrayList<>();
+        final Consumer<ModuleLifecycle> listener = module -> {
+            startedModules.add(module);
+            startListener.accept(module);
+        };
+        boolean succeeded = false;
+
+        try {
+            int runningModules = 0;
+            for (final ModuleLifecycle module : modules)
+                if (pendingDependencies.get(module) == 0) {
+                    submit(completionService, module, parentPhase, listener);
+                    runningModules++;
+                }
+
+            while (runningModules > 0) {
+                final ModuleLifecycle startedModule = completionService.take().get();
+                runningModules--;
+
+                for (final ModuleLifecycle dependent : dependents.getOrDefault(startedModule, Collections.emptySet())) {
+                    final int remainingDependencies = pendingDependencies.merge(dependent, -1, Integer::sum);
+                    if (remainingDependencies == 0) {
+                        submit(completionService, dependent, parentPhase, listener);
+                        runningModules++;
+                    }
+                }
+            }
+
+            succeeded = true;
+        } catch (final ExecutionException ex) {
+            final Throwable cause = ex.getCause();
+            if (cause instanceof StartupException)
+                throw (StartupException) cause;
+
+            throw new StartupException("Module startup failed: " + cause.getMessage(), cause);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new StartupException("Module startup was interrupted", ex);
+        } finally {
+            executor.shutdownNow();
+            if (!succeeded)
+                awaitTermination(executor, startedModules);
+        }
+    }
+
+    /**
+     * Waits for the module startups still running after a startup failure, logging the modules that were started
+     *
+     * @param executor Startup executor, already shut down
+     * @param startedModules Modules that finished their startup
+     */
+    private void awaitTermination(final ExecutorService executor, final List<ModuleLifecycle> startedModules) {
+        try {
+            if (!executor.awaitTermination(TERMINATION_TIMEOUT_SECONDS, TimeUnit.SECONDS))
+                logger.warn("Module startups still running after {} seconds of the startup failure",
+                        TERMINATION_TIMEOUT_SECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        final List<String> names = new ArrayList<>();
+        startedModules.forEach(module -> names.add(module.getClass().getSimpleName()));
+        logger.warn("Module startup failed. Modules started before the failure: {}", names);
+    }
+
+    /**
+     * Submits the startup of the provided module, logging how long it took
+     *
+     * @param completionService Completion service
+     * @param module Module to be started
+     * @param parentPhase Startup phase where the module startup phase will be nested
+     * @param startListener Listener notified when the module finishes its startup
+     */
+    private void submit(final CompletionService<ModuleLifecycle> completionService,
+                        final ModuleLifecycle module,
+                        final StartupPhase parentPhase,
+                        final Consumer<ModuleLifecycle> startListener) {
+        completionService.submit(() -> {
+            final long startTime = System.nanoTime();
+            final String phaseName = "module." + module.getClass().getSimpleName();
+            final StartupPhase phase = StartupProfiler.getInstance().begin(phaseName, parentPhase);
+            try {
+                module.start();
+            } finally {
+                phase.close();
+            }
+            startListener.accept(module);
+            logger.info("Module {} started in {} ms", module.getClass().getSimpleName(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+            return module;
+        });
+    }
+
+    /**
+     * Builds the dependency graph of the provided modules
+     *
+     * @param modules Application modules
+     * @return Map of each module and the modules it depends on
+     */
+    private Map<ModuleLifecycle, Set<ModuleLifecycle>> buildDependencyGraph(final List<ModuleLifecycle> modules) {
+        final Function<ModuleLifecycle, Integer> priority = module -> Optional
+                .ofNullable(module.getStartPriority())
+                .orElse(Priority.REGULAR.asInteger());
+
+        final Map<ModuleLifecycle, Set<ModuleLifecycle>> graph = new IdentityHashMap<>();
+        for (final ModuleLifecycle module : modules) {
+            final Set<ModuleLifecycle> moduleDependencies = newIdentitySet();
+            final Set<Class<? extends ModuleLifecycle>> declaredDependencies = Optional
+                    .ofNullable(module.getDependencies())
+                    .orElse(Collections.emptySet());
+
+            for (final ModuleLifecycle candidate : modules) {
+                if (candidate == module)
+                    continue;
+
+                final boolean higherPriority = priority.apply(candidate) < priority.apply(module);
+                final boolean declared = declaredDependencies.stream().anyMatch(type -> type.isInstance(candidate));
+                if (higherPriority || declared)
+                    moduleDependencies.add(candidate);
+            }
+
+            graph.put(module, moduleDependencies);
+        }
+
+        return graph;
+    }
+
+    /**
+     * Validates that the dependency graph has no cycles
+     *
+     * @param graph Dependency graph
+     * @throws StartupException when a cycle is found
+     */
+    private void validateCycles(final Map<ModuleLifecycle, Set<ModuleLifecycle>> graph) {
+        final Set<ModuleLifecycle> visited = newIdentitySet();
+        final Deque<ModuleLifecycle> path = new ArrayDeque<>();
+        graph.keySet().forEach(module -> visit(module, graph, visited, path));
+    }
+
+    /**
+     * Depth-first visit of the dependency graph looking for cycles
+     *
+     * @param module Module being visited
+     * @param graph Dependency graph
+     * @param visited Modules already fully visited
+     * @param path Modules of the current path
+     */
+    private void visit(final ModuleLifecycle module,
+                       final Map<ModuleLifecycle, Set<ModuleLifecycle>> graph,
+                       final Set<ModuleLifecycle> visited,
+                       final Deque<ModuleLifecycle> path) {
+        if (visited.contains(module))
+            return;
+
+        if (path.contains(module)) {
+            final StringJoiner cycle = new StringJoiner(" -> ");
+            path.descendingIterator().forEachRemaining(element -> cycle.add(element.getClass().getSimpleName()));
+            cycle.add(module.getClass().getSimpleName());
+            throw new StartupException("Cyclic module dependencies detected: " + cycle);
+        }
+
+        path.push(module);
+        graph.get(module).forEach(dependency -> visit(dependency, graph, visited, path));
+        path.pop();
+        visited.add(module);
+    }
+
+    /**
+     * Returns the startup parallelism, using the system property when available
+     *
+     * @return Startup parallelism
+     */
+    private int getParallelism() {
+        return Integer.getInteger(PARALLELISM_PROPERTY, Runtime.getRuntime().availableProcessors());
+    }
+
+    private static <T> Set<T> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Thread factory for the module startup threads
+     */
+    private static final class StartupThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            return new Thread(runnable, "glue-module-startup-" + counter.incrementAndGet());
+        }
+    }
+}
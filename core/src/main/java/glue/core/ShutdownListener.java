@@ -12,6 +12,9 @@ import java.util.Objects;
  * <p>This class registers himself under the JVM {@link Runtime} to know when the JVM receives the SIGTERM signal
  * from the OS, forwarding the message to the consumer when it arrives.</p>
  *
+ * <p>Once the JVM shutdown is in progress the hook can't be removed anymore, neither the JVM can be asked to exit.
+ * Use {@link #isJvmShutdownInProgress()} to check that.</p>
+ *
  * @author Lucas Dillmann
  * @since 1.0.0, 2018-11-20
  */
@@ -20,6 +23,7 @@ class ShutdownListener {
 
     private final Logger logger;
     private Thread currentListener;
+    private volatile boolean jvmShutdownInProgress;
 
     /**
      * Constructor with logger initialization
@@ -47,6 +51,7 @@ class ShutdownListener {
 
         final Runnable targetRunnable = () -> {
             logger.info("Application shutdown event received");
+            jvmShutdownInProgress = true;
             consumer.run();
         };
 
@@ -65,7 +70,18 @@ class ShutdownListener {
             throw new IllegalStateException("The listeneing can't be stopped since it isn't running");
 
         logger.info("Stopping the listening for JVM shutdown events");
-        Runtime.getRuntime().removeShutdownHook(currentListener);
+        if (!jvmShutdownInProgress)
+            Runtime.getRuntime().removeShutdownHook(currentListener);
+
         currentListener = null;
     }
+
+    /**
+     * Checks if the JVM shutdown is in progress, meaning that the shutdown event was received
+     *
+     * @return True when the JVM is shutting down, false otherwise
+     */
+    boolean isJvmShutdownInProgress() {
+        return jvmShutdownInProgress;
+    }
 }
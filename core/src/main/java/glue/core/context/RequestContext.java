@@ -0,0 +1,234 @@
+package glue.core.context;
+
+import org.slf4j.MDC;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request correlation context
+ *
+ * <p>This class ties the work done for a request together. Each request gets an ID, exposed to the logging
+ * framework using the {@link MDC} (key {@value #REQUEST_ID_KEY}), so every message logged while handling the request
+ * (including the SQL statements) can be correlated. The modules also record the time spent in each phase of the
+ * request (like the JAX-RS resource or the database), which is reported when the request completes.</p>
+ *
+ * <p>The context is bound to the thread handling the request. Tasks submitted to the Glue executors carry the context
+ * and the MDC of the submitting thread (see {@link #propagate(Runnable)}).</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+public final class RequestContext implements AutoCloseable {
+
+    /**
+     * MDC key of the request ID
+     */
+    public static final String REQUEST_ID_KEY = "requestId";
+
+    private static final ThreadLocal<RequestContext> CURRENT = new ThreadLocal<>();
+
+    private final String requestId;
+    private final long startTime;
+    private final Map<String, Timing> timings;
+    private RequestContext previousContext;
+    private String previousRequestId;
+
+    private RequestContext(final String requestId) {
+        this.requestId = requestId;
+        this.startTime = System.nanoTime();
+        this.timings = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Opens a new context and binds it to the current thread. The context must be closed by the same thread.
+     *
+     * @param requestId Request ID
+     * @return Opened context
+     */
+    public static RequestContext open(final String requestId) {
+        final RequestContext context = new RequestContext(requestId);
+        context.previousContext = CURRENT.get();
+        context.previousRequestId = MDC.get(REQUEST_ID_KEY);
+        bind(context);
+        return context;
+    }
+
+    /**
+     * Returns the context bound to the current thread
+     *
+     * @return Current context, empty when the thread isn't handling a request
+     */
+    public static Optional<RequestContext> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * Records the time spent in a phase of the current request. Does nothing when the thread isn't handling a
+     * request.
+     *
+     * @param phase Phase name
+     * @param nanos Elapsed time in nanoseconds
+     */
+    public static void recordCurrent(final String phase, final long nanos) {
+        final RequestContext context = CURRENT.get();
+        if (context != null)
+            context.record(phase, nanos);
+    }
+
+    /**
+     * Wraps the task to run with the context and the {@link MDC} of the calling thread
+     *
+     * @param task Task to be wrapped
+     * @return Wrapped task, or the task itself when there's nothing to propagate
+     */
+    public static Runnable propagate(final Runnable task) {
+        final RequestContext context = CURRENT.get();
+        final Map<String, String> mdc = MDC.getCopyOfContextMap();
+        if (context == null && (mdc == null || mdc.isEmpty()))
+            return task;
+
+        return () -> {
+            final RequestContext previousContext = CURRENT.get();
+            final Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+            restore(context, mdc);
+            try {
+                task.run();
+            } finally {
+                restore(previousContext, previousMdc);
+            }
+        };
+    }
+
+    /**
+     * Wraps the task to run with the context and the {@link MDC} of the calling thread
+     *
+     * @param task Task to be wrapped
+     * @param <T> Task result type
+     * @return Wrapped task, or the task itself when there's nothing to propagate
+     */
+    public static <T> Callable<T> propagate(final Callable<T> task) {
+        final RequestContext context = CURRENT.get();
+        final Map<String, String> mdc = MDC.getCopyOfContextMap();
+        if (context == null && (mdc == null || mdc.isEmpty()))
+            return task;
+
+        return () -> {
+            final RequestContext previousContext = CURRENT.get();
+            final Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+            restore(context, mdc);
+            try {
+                return task.call();
+            } finally {
+                restore(previousContext, previousMdc);
+            }
+        };
+    }
+
+    /**
+     * Records the time spent in a phase of the request. Phases can be recorded many times, even concurrently, being
+     * accumulated.
+     *
+     * @param phase Phase name
+     * @param nanos Elapsed time in nanoseconds
+     */
+    public void record(final String phase, final long nanos) {
+        final Timing timing = timings.computeIfAbsent(phase, key -> new Timing());
+        timing.time.add(nanos);
+        timing.count.increment();
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+
+    /**
+     * Returns the time elapsed since the context was opened
+     *
+     * @param unit Time unit of the result
+     * @return Elapsed time
+     */
+    public long getElapsedTime(final TimeUnit unit) {
+        return unit.convert(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the names of the recorded phases
+     *
+     * @return Phase names
+     */
+    public Set<String> getPhases() {
+        return Collections.unmodifiableSet(timings.keySet());
+    }
+
+    /**
+     * Returns the accumulated time of a phase
+     *
+     * @param phase Phase name
+     * @param unit Time unit of the result
+     * @return Accumulated time, zero when the phase wasn't recorded
+     */
+    public long getTime(final String phase, final TimeUnit unit) {
+        final Timing timing = timings.get(phase);
+        return timing == null ? 0 : unit.convert(timing.time.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns how many times a phase was recorded
+     *
+     * @param phase Phase name
+     * @return Number of records, zero when the phase wasn't recorded
+     */
+    public long getCount(final String phase) {
+        final Timing timing = timings.get(phase);
+        return timing == null ? 0 : timing.count.sum();
+    }
+
+    /**
+     * Unbinds the context from the current thread, restoring the previous context and request ID
+     */
+    @Override
+    public void close() {
+        if (previousContext != null)
+            CURRENT.set(previousContext);
+        else
+            CURRENT.remove();
+
+        if (previousRequestId != null)
+            MDC.put(REQUEST_ID_KEY, previousRequestId);
+        else
+            MDC.remove(REQUEST_ID_KEY);
+    }
+
+    private static void bind(final RequestContext context) {
+        CURRENT.set(context);
+        MDC.put(REQUEST_ID_KEY, context.requestId);
+    }
+
+    private static void restore(final RequestContext context, final Map<String, String> mdc) {
+        if (context != null)
+            CURRENT.set(context);
+        else
+            CURRENT.remove();
+
+        if (mdc != null)
+            MDC.setContextMap(mdc);
+        else
+            MDC.clear();
+    }
+
+    /**
+     * Accumulated time of a phase
+     */
+    private static final class Timing {
+
+        private final LongAdder time = new LongAdder();
+        private final LongAdder count = new LongAdder();
+    }
+}
@@ -0,0 +1,34 @@
+package glue.core.exception;
+
+/**
+ * Glue checkpoint exception
+ *
+ * <p>This class defines a common use exception for any errors found while the JVM is checkpointed or restored.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+public class CheckpointException extends ApplicationException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructor with exception message initialization
+     *
+     * @param message Exception message
+     */
+    public CheckpointException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructor with exception message and cause initialization
+     *
+     * @param message Exception message
+     * @param cause Exception cause
+     */
+    public CheckpointException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
@@ -0,0 +1,84 @@
+package glue.core.executor;
+
+/**
+ * Point-in-time metrics of a managed thread pool
+ *
+ * <p>Instances are immutable snapshots, retrieved using {@link ExecutorRegistry#getMetrics()}. The queue wait of the
+ * schedulers is the delay between the time the task was scheduled to run and the time it actually started.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+public final class ExecutorMetrics {
+
+    private final String name;
+    private final int poolSize;
+    private final int activeCount;
+    private final int queueDepth;
+    private final long completedTaskCount;
+    private final long rejectedTaskCount;
+    private final LatencyHistogram queueWait;
+    private final LatencyHistogram execution;
+
+    /**
+     * Constructor with all metrics initialization
+     *
+     * @param name Pool name
+     * @param poolSize Current number of threads
+     * @param activeCount Number of threads running tasks
+     * @param queueDepth Number of tasks waiting for a thread
+     * @param completedTaskCount Number of completed tasks
+     * @param rejectedTaskCount Number of rejected tasks
+     * @param queueWait Histogram of the time the tasks waited for a thread
+     * @param execution Histogram of the tasks execution time
+     */
+    ExecutorMetrics(final String name,
+                    final int poolSize,
+                    final int activeCount,
+                    final int queueDepth,
+                    final long completedTaskCount,
+                    final long rejectedTaskCount,
+                    final LatencyHistogram queueWait,
+                    final LatencyHistogram execution) {
+        this.name = name;
+        this.poolSize = poolSize;
+        this.activeCount = activeCount;
+        this.queueDepth = queueDepth;
+        this.completedTaskCount = completedTaskCount;
+        this.rejectedTaskCount = rejectedTaskCount;
+        this.queueWait = queueWait;
+        this.execution = execution;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public int getActiveCount() {
+        return activeCount;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public long getCompletedTaskCount() {
+        return completedTaskCount;
+    }
+
+    public long getRejectedTaskCount() {
+        return rejectedTaskCount;
+    }
+
+    public LatencyHistogram getQueueWait() {
+        return queueWait;
+    }
+
+    public LatencyHistogram getExecution() {
+        return execution;
+    }
+}
@@ -0,0 +1,85 @@
+package glue.core.executor;
+
+import glue.core.module.ModuleLifecycle;
+import glue.core.module.Priority;
+import org.slf4j.Logger;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Glue module of the managed thread pools
+ *
+ * <p>This module drains the pools of the {@link ExecutorRegistry} during the application shutdown, waiting for their
+ * running and queued tasks, and then stops them. The pools keep accepting tasks while draining, since the in-flight
+ * work of other modules may still submit them. Pools are stopped after the web container and before the data
+ * sources.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+@Singleton
+class ExecutorModule implements ModuleLifecycle {
+
+    private final ExecutorRegistry registry;
+    private final Logger logger;
+
+    /**
+     * Constructor with {@link ExecutorRegistry} and {@link Logger} initialization
+     *
+     * @param registry Executor registry
+     * @param logger Logger
+     */
+    @Inject
+    ExecutorModule(final ExecutorRegistry registry, final Logger logger) {
+        this.registry = registry;
+        this.logger = logger;
+    }
+
+    /**
+     * Starts the module. Pools are created on demand, so nothing is done here.
+     */
+    @Override
+    public void start() {
+        logger.debug("Managed thread pools are created on demand");
+    }
+
+    /**
+     * Waits for the running and queued tasks of the pools
+     *
+     * @param timeout Maximum time to wait
+     * @param unit Time unit of the timeout
+     * @return True when all pools are idle, false otherwise
+     * @throws InterruptedException when interrupted while waiting
+     */
+    @Override
+    public boolean awaitDrain(final long timeout, final TimeUnit unit) throws InterruptedException {
+        final Set<String> busyPools = registry.awaitIdle(timeout, unit);
+        if (busyPools.isEmpty())
+            return true;
+
+        logger.warn("Thread pools {} didn't finish their tasks in time and will be forcibly stopped", busyPools);
+        return false;
+    }
+
+    /**
+     * Stops all pools
+     */
+    @Override
+    public void stop() {
+        logger.info("Stopping managed thread pools");
+        registry.getMetrics().forEach(metrics -> logger.debug(
+                "Thread pool {} completed {} tasks ({} rejected), mean execution time of {} ms",
+                metrics.getName(), metrics.getCompletedTaskCount(), metrics.getRejectedTaskCount(),
+                metrics.getExecution().getMean(TimeUnit.MILLISECONDS)
+        ));
+        registry.shutdown();
+    }
+
+    @Override
+    public Integer getStopPriority() {
+        return Priority.REGULAR.asInteger();
+    }
+}
@@ -0,0 +1,74 @@
+package glue.core.executor;
+
+import javax.enterprise.inject.Produces;
+import javax.enterprise.inject.spi.InjectionPoint;
+import javax.inject.Inject;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * CDI producer of the managed thread pools
+ *
+ * <p>This class produces the {@link ExecutorService} and {@link ScheduledExecutorService} instances for the
+ * injection points annotated with {@link ManagedExecutor} and {@link ManagedScheduler}, delegating to the
+ * {@link ExecutorRegistry}.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+public class ExecutorProducer {
+
+    private final ExecutorRegistry registry;
+
+    /**
+     * Constructor with {@link ExecutorRegistry} initialization
+     *
+     * @param registry Executor registry
+     */
+    @Inject
+    public ExecutorProducer(final ExecutorRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Produces the named thread pool of the injection point
+     *
+     * @param injectionPoint Injection details
+     * @return Thread pool
+     */
+    @Produces
+    @ManagedExecutor
+    public ExecutorService executor(final InjectionPoint injectionPoint) {
+        final ManagedExecutor settings = injectionPoint
+                .getQualifiers()
+                .stream()
+                .filter(ManagedExecutor.class::isInstance)
+                .map(ManagedExecutor.class::cast)
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+
+        return registry.getExecutor(
+                settings.value(), settings.threads(), settings.queueCapacity(), settings.rejectionPolicy()
+        );
+    }
+
+    /**
+     * Produces the named scheduler of the injection point
+     *
+     * @param injectionPoint Injection details
+     * @return Scheduler
+     */
+    @Produces
+    @ManagedScheduler
+    public ScheduledExecutorService scheduler(final InjectionPoint injectionPoint) {
+        final ManagedScheduler settings = injectionPoint
+                .getQualifiers()
+                .stream()
+                .filter(ManagedScheduler.class::isInstance)
+                .map(ManagedScheduler.class::cast)
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+
+        return registry.getScheduler(settings.value(), settings.threads());
+    }
+}
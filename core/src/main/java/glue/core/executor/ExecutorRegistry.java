@@ -0,0 +1,234 @@
+package glue.core.executor;
+
+import org.slf4j.Logger;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Registry of the managed thread pools
+ *
+ * <p>This class creates and tracks the named thread pools and schedulers of the application, usually injected using
+ * the {@link ManagedExecutor} and {@link ManagedScheduler} qualifiers. Pools are created on their first request and
+ * shared by name, exposing their {@link ExecutorMetrics}. The pools threads follow the runtime {@link ThreadMode}.</p>
+ *
+ * <p>All pools are drained and stopped along with the application modules (see {@link ExecutorModule}). The named
+ * pools are bounded, while the pool of the {@link GlueExecutor} is unbounded.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+@Singleton
+public class ExecutorRegistry {
+
+    static final String DEFAULT_NAME = "glue-pool";
+    static final String DEFAULT_SCHEDULER_NAME = "glue-scheduler";
+
+    private static final String PROPERTY_PREFIX = "glue.executor.";
+    private static final long IDLE_POLL_MILLIS = 50;
+    private static final long UNBOUNDED_KEEP_ALIVE_SECONDS = 60;
+
+    private final ThreadMode threadMode;
+    private final Logger logger;
+    private final Map<String, ManagedPool> pools;
+
+    /**
+     * Constructor with {@link Logger} initialization
+     *
+     * <p>The thread mode is defined by the {@code glue.threads.mode} system property.</p>
+     *
+     * @param logger Logger
+     */
+    @Inject
+    public ExecutorRegistry(final Logger logger) {
+        this(ThreadMode.fromSystemProperty(), logger);
+    }
+
+    /**
+     * Constructor with {@link ThreadMode} and {@link Logger} initialization
+     *
+     * @param threadMode Thread mode of the pools
+     * @param logger Logger
+     */
+    ExecutorRegistry(final ThreadMode threadMode, final Logger logger) {
+        this.threadMode = threadMode;
+        this.logger = logger;
+        this.pools = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the named thread pool, creating it with the provided settings when needed
+     *
+     * <p>The settings can be overridden using the {@code glue.executor.<name>.threads},
+     * {@code glue.executor.<name>.queueCapacity} and {@code glue.executor.<name>.rejectionPolicy} system properties.
+     * When the pool already exists the settings are ignored.</p>
+     *
+     * @param name Pool name
+     * @param threads Number of threads, where zero uses the number of available processors
+     * @param queueCapacity Maximum number of queued tasks
+     * @param rejectionPolicy Rejection policy
+     * @return Thread pool
+     * @throws IllegalStateException when the name belongs to a scheduler
+     */
+    public ExecutorService getExecutor(final String name,
+                                       final int threads,
+                                       final int queueCapacity,
+                                       final RejectionPolicy rejectionPolicy) {
+        return register(name, ManagedThreadPoolExecutor.class, key -> {
+            final int poolThreads = getProperty(name, "threads", threads, Integer::valueOf);
+            final int poolQueueCapacity = getProperty(name, "queueCapacity", queueCapacity, Integer::valueOf);
+            final RejectionPolicy poolRejectionPolicy = getProperty(name, "rejectionPolicy", rejectionPolicy,
+                    value -> RejectionPolicy.valueOf(value.toUpperCase(Locale.ROOT)));
+
+            final int effectiveThreads = poolThreads > 0 ? poolThreads : Runtime.getRuntime().availableProcessors();
+            logger.info("Creating thread pool {} with {} threads and queue capacity of {}",
+                    name, effectiveThreads, poolQueueCapacity);
+            return new ManagedThreadPoolExecutor(name, effectiveThreads, poolQueueCapacity, poolRejectionPolicy,
+                    threadMode.newThreadFactory(name + "-"));
+        });
+    }
+
+    /**
+     * Returns the named unbounded thread pool, creating it when needed
+     *
+     * <p>The pool starts a new thread whenever all of its threads are busy. Idle platform threads are kept for reuse,
+     * while virtual threads are cheap to create and are released after each task.</p>
+     *
+     * @param name Pool name
+     * @return Thread pool
+     * @throws IllegalStateException when the name belongs to a scheduler
+     */
+    ExecutorService getUnboundedExecutor(final String name) {
+        return register(name, ManagedThreadPoolExecutor.class, key -> {
+            logger.info("Creating unbounded thread pool {} using {} threads", name, threadMode);
+            final long keepAliveSeconds = threadMode == ThreadMode.VIRTUAL ? 0 : UNBOUNDED_KEEP_ALIVE_SECONDS;
+            return ManagedThreadPoolExecutor.unbounded(name, keepAliveSeconds,
+                    threadMode.newThreadFactory(name + "-"));
+        });
+    }
+
+    /**
+     * Returns the thread mode of the pools
+     *
+     * @return Thread mode
+     */
+    public ThreadMode getThreadMode() {
+        return threadMode;
+    }
+
+    /**
+     * Returns the named scheduler, creating it when needed
+     *
+     * <p>The number of threads can be overridden using the {@code glue.executor.<name>.threads} system property.
+     * When the scheduler already exists the number of threads is ignored.</p>
+     *
+     * @param name Scheduler name
+     * @param threads Number of threads
+     * @return Scheduler
+     * @throws IllegalStateException when the name belongs to a thread pool
+     */
+    public ScheduledExecutorService getScheduler(final String name, final int threads) {
+        return register(name, ManagedScheduledExecutor.class, key -> {
+            final int schedulerThreads = Math.max(1, getProperty(name, "threads", threads, Integer::valueOf));
+            logger.info("Creating scheduler {} with {} threads", name, schedulerThreads);
+            return new ManagedScheduledExecutor(name, schedulerThreads, threadMode.newThreadFactory(name + "-"));
+        });
+    }
+
+    /**
+     * Returns the current metrics of all pools
+     *
+     * @return Metrics sorted by pool name
+     */
+    public List<ExecutorMetrics> getMetrics() {
+        return pools
+                .values()
+                .stream()
+                .map(ManagedPool::getMetrics)
+                .sorted(Comparator.comparing(ExecutorMetrics::getName))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the current metrics of the named pool
+     *
+     * @param name Pool name
+     * @return Pool metrics, empty when the pool doesn't exist
+     */
+    public Optional<ExecutorMetrics> getMetrics(final String name) {
+        return Optional.ofNullable(pools.get(name)).map(ManagedPool::getMetrics);
+    }
+
+    /**
+     * Waits for all pools to finish their running and queued tasks
+     *
+     * @param timeout Maximum time to wait
+     * @param unit Time unit of the timeout
+     * @return Names of the pools still busy after the timeout, empty when all pools are idle
+     * @throws InterruptedException when interrupted while waiting
+     */
+    Set<String> awaitIdle(final long timeout, final TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        Set<String> busyPools = getBusyPools();
+
+        while (!busyPools.isEmpty() && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(IDLE_POLL_MILLIS);
+            busyPools = getBusyPools();
+        }
+
+        return busyPools;
+    }
+
+    /**
+     * Stops all pools, interrupting the running tasks and discarding the queued ones
+     */
+    void shutdown() {
+        pools.values().forEach(pool -> {
+            final int discardedTasks = pool.shutdownNow().size();
+            if (discardedTasks > 0)
+                logger.warn("{} pending tasks of the pool {} were discarded", discardedTasks, pool.getName());
+        });
+    }
+
+    private Set<String> getBusyPools() {
+        return pools
+                .values()
+                .stream()
+                .filter(pool -> !pool.isIdle())
+                .map(ManagedPool::getName)
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private <T extends ManagedPool> T register(final String name,
+                                               final Class<T> type,
+                                               final Function<String, T> factory) {
+        final ManagedPool pool = pools.computeIfAbsent(name, factory::apply);
+        if (!type.isInstance(pool))
+            throw new IllegalStateException("Name " + name + " is already used by another kind of pool");
+
+        return type.cast(pool);
+    }
+
+    private static <T> T getProperty(final String name,
+                                     final String setting,
+                                     final T defaultValue,
+                                     final Function<String, T> parser) {
+        final String key = PROPERTY_PREFIX + name + "." + setting;
+        final String value = System.getProperty(key);
+        if (value == null)
+            return defaultValue;
+
+        try {
+            return parser.apply(value.trim());
+        } catch (final IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid value for " + key + ": " + value, ex);
+        }
+    }
+}
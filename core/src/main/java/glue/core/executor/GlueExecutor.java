@@ -0,0 +1,103 @@
+package glue.core.executor;
+
+import glue.core.context.RequestContext;
+import org.slf4j.Logger;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Glue application executor
+ *
+ * <p>Shared {@link ExecutorService} for the modules and applications asynchronous work. Tasks are executed using the
+ * threads of the runtime {@link ThreadMode}: with virtual threads each task gets its own thread, so blocking work
+ * (like JDBC and JPA calls) scales without a larger thread pool. Tasks run with the request context and the MDC of
+ * the submitting thread (see {@link RequestContext}).</p>
+ *
+ * <p>The tasks run in the unbounded {@code glue-executor} pool of the {@link ExecutorRegistry}, which exposes its
+ * metrics and drains and stops it along with the other managed pools (see {@link ExecutorModule}). When still
+ * running, the executor is shut down along with the IoC provider, interrupting the running tasks.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+@Singleton
+public class GlueExecutor extends AbstractExecutorService {
+
+    static final String POOL_NAME = "glue-executor";
+
+    private final ThreadMode threadMode;
+    private final ExecutorService delegate;
+    private final Logger logger;
+
+    /**
+     * Constructor with {@link ExecutorRegistry} and {@link Logger} initialization
+     *
+     * @param registry Executor registry, where the executor pool is created
+     * @param logger Logger
+     */
+    @Inject
+    public GlueExecutor(final ExecutorRegistry registry, final Logger logger) {
+        this.threadMode = registry.getThreadMode();
+        this.logger = logger;
+        this.delegate = registry.getUnboundedExecutor(POOL_NAME);
+    }
+
+    /**
+     * Returns the thread mode used by the executor
+     *
+     * @return Thread mode
+     */
+    public ThreadMode getThreadMode() {
+        return threadMode;
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        delegate.execute(RequestContext.propagate(command));
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * Shuts down the executor when the IoC provider is stopping
+     */
+    @PreDestroy
+    void destroy() {
+        if (isShutdown())
+            return;
+
+        logger.info("Shutting down Glue executor");
+        final List<Runnable> pendingTasks = shutdownNow();
+        if (!pendingTasks.isEmpty())
+            logger.warn("{} pending tasks of the Glue executor were discarded", pendingTasks.size());
+    }
+}
@@ -0,0 +1,139 @@
+package glue.core.executor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram
+ *
+ * <p>Latencies are counted in exponential buckets of microseconds, where the bucket {@code n} holds the values lower
+ * than {@code 2^n} microseconds. Percentiles are approximated by the upper bound of their bucket, so the precision
+ * is always within a factor of two. The histograms returned by {@link ExecutorMetrics} are snapshots that don't
+ * change after created.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+public final class LatencyHistogram {
+
+    private static final int BUCKETS = 40;
+
+    private final AtomicLongArray buckets;
+    private final LongAdder sum;
+    private final LongAccumulator max;
+
+    /**
+     * Constructor of an empty histogram
+     */
+    LatencyHistogram() {
+        this.buckets = new AtomicLongArray(BUCKETS);
+        this.sum = new LongAdder();
+        this.max = new LongAccumulator(Math::max, 0);
+    }
+
+    /**
+     * Records a latency
+     *
+     * @param nanos Latency in nanoseconds
+     */
+    void record(final long nanos) {
+        final long value = Math.max(0, nanos);
+        buckets.incrementAndGet(getBucket(value));
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * Creates a copy of the current state of the histogram
+     *
+     * @return Histogram snapshot
+     */
+    LatencyHistogram snapshot() {
+        final LatencyHistogram snapshot = new LatencyHistogram();
+        for (int index = 0; index < BUCKETS; index++)
+            snapshot.buckets.set(index, buckets.get(index));
+        snapshot.sum.add(sum.sum());
+        snapshot.max.accumulate(max.get());
+        return snapshot;
+    }
+
+    /**
+     * Returns the number of recorded latencies
+     *
+     * @return Number of recorded latencies
+     */
+    public long getCount() {
+        long count = 0;
+        for (int index = 0; index < BUCKETS; index++)
+            count += buckets.get(index);
+        return count;
+    }
+
+    /**
+     * Returns the mean latency
+     *
+     * @param unit Time unit of the result
+     * @return Mean latency, zero when empty
+     */
+    public long getMean(final TimeUnit unit) {
+        final long count = getCount();
+        return count == 0 ? 0 : unit.convert(sum.sum() / count, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the maximum recorded latency
+     *
+     * @param unit Time unit of the result
+     * @return Maximum latency, zero when empty
+     */
+    public long getMax(final TimeUnit unit) {
+        return unit.convert(max.get(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the approximated latency percentile
+     *
+     * @param percentile Percentile, between 0 and 100
+     * @param unit Time unit of the result
+     * @return Upper bound of the bucket where the percentile is, limited to the maximum latency. Zero when empty.
+     */
+    public long getPercentile(final double percentile, final TimeUnit unit) {
+        if (percentile < 0 || percentile > 100)
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+
+        final long count = getCount();
+        if (count == 0)
+            return 0;
+
+        final long threshold = Math.max(1, (long) Math.ceil(count * percentile / 100));
+        long accumulated = 0;
+        for (int index = 0; index < BUCKETS; index++) {
+            accumulated += buckets.get(index);
+            if (accumulated >= threshold) {
+                final long upperBound = TimeUnit.MICROSECONDS.toNanos(1L << index);
+                return unit.convert(Math.min(upperBound, max.get()), TimeUnit.NANOSECONDS);
+            }
+        }
+
+        return getMax(unit);
+    }
+
+    /**
+     * Returns the number of latencies of each bucket
+     *
+     * @return Bucket counts, where the index {@code n} holds the latencies lower than {@code 2^n} microseconds
+     */
+    public long[] getBucketCounts() {
+        final long[] counts = new long[BUCKETS];
+        for (int index = 0; index < BUCKETS; index++)
+            counts[index] = buckets.get(index);
+        return counts;
+    }
+
+    private static int getBucket(final long nanos) {
+        final long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+    }
+}
@@ -0,0 +1,59 @@
+package glue.core.executor;
+
+import javax.enterprise.util.Nonbinding;
+import javax.inject.Qualifier;
+import java.lang.annotation.*;
+
+/**
+ * CDI qualifier for managed {@link java.util.concurrent.ExecutorService} injections
+ *
+ * <p>Injection points annotated with this qualifier receive the named thread pool from the {@link ExecutorRegistry},
+ * which is created on the first injection using the settings of the annotation. All injections of the same name
+ * share the same pool. The pools are monitored, drained and stopped along with the application.</p>
+ *
+ * <p>The settings of a pool can be overridden using the {@code glue.executor.<name>.threads},
+ * {@code glue.executor.<name>.queueCapacity} and {@code glue.executor.<name>.rejectionPolicy} system
+ * properties.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.FIELD, ElementType.PARAMETER, ElementType.METHOD})
+@Documented
+@Qualifier
+public @interface ManagedExecutor {
+
+    /**
+     * Defines the name of the pool, also used as the name prefix of its threads
+     *
+     * @return Pool name
+     */
+    @Nonbinding
+    String value() default ExecutorRegistry.DEFAULT_NAME;
+
+    /**
+     * Defines the number of threads of the pool. Defaults to the number of available processors.
+     *
+     * @return Number of threads
+     */
+    @Nonbinding
+    int threads() default 0;
+
+    /**
+     * Defines the maximum number of tasks waiting for a thread. Zero hands the tasks directly to the threads.
+     *
+     * @return Queue capacity
+     */
+    @Nonbinding
+    int queueCapacity() default 1024;
+
+    /**
+     * Defines what happens with the tasks submitted when the threads are busy and the queue is full
+     *
+     * @return Rejection policy
+     */
+    @Nonbinding
+    RejectionPolicy rejectionPolicy() default RejectionPolicy.ABORT;
+
+}
@@ -0,0 +1,33 @@
+package glue.core.executor;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Thread pool managed by the {@link ExecutorRegistry}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+interface ManagedPool extends ExecutorService {
+
+    /**
+     * Returns the pool name
+     *
+     * @return Pool name
+     */
+    String getName();
+
+    /**
+     * Returns the current metrics of the pool
+     *
+     * @return Pool metrics
+     */
+    ExecutorMetrics getMetrics();
+
+    /**
+     * Checks if the pool has no running or pending tasks
+     *
+     * @return True when idle, false otherwise
+     */
+    boolean isIdle();
+}
@@ -0,0 +1,87 @@
+package glue.core.executor;
+
+import glue.core.context.RequestContext;
+
+import java.util.concurrent.*;
+
+/**
+ * Scheduler managed by the {@link ExecutorRegistry}
+ *
+ * <p>Cancelled tasks are removed from the queue immediately and the delayed tasks are discarded on shutdown. The
+ * queue wait of each task is measured as the delay between its scheduled time and its actual start. One-shot tasks
+ * run with the request context and the MDC of the scheduling thread (see {@link RequestContext}), while periodic tasks
+ * run without them, since they outlive the request that scheduled them.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+final class ManagedScheduledExecutor extends ScheduledThreadPoolExecutor implements ManagedPool {
+
+    private final String name;
+    private final TaskStatistics statistics;
+
+    /**
+     * Constructor with the scheduler settings initialization
+     *
+     * @param name Scheduler name
+     * @param threads Number of threads
+     * @param threadFactory Thread factory
+     */
+    ManagedScheduledExecutor(final String name, final int threads, final ThreadFactory threadFactory) {
+        this(name, threads, threadFactory, new TaskStatistics());
+    }
+
+    private ManagedScheduledExecutor(final String name,
+                                     final int threads,
+                                     final ThreadFactory threadFactory,
+                                     final TaskStatistics statistics) {
+        super(threads, threadFactory, statistics.countingRejections(new AbortPolicy()));
+        this.name = name;
+        this.statistics = statistics;
+        setRemoveOnCancelPolicy(true);
+        setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(final Runnable command, final long delay, final TimeUnit unit) {
+        return super.schedule(RequestContext.propagate(command), delay, unit);
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(final Callable<V> callable, final long delay, final TimeUnit unit) {
+        return super.schedule(RequestContext.propagate(callable), delay, unit);
+    }
+
+    @Override
+    protected void beforeExecute(final Thread thread, final Runnable task) {
+        super.beforeExecute(thread, task);
+        final long lateness = task instanceof Delayed ? -((Delayed) task).getDelay(TimeUnit.NANOSECONDS) : 0;
+        statistics.onStart(lateness);
+    }
+
+    @Override
+    protected void afterExecute(final Runnable task, final Throwable failure) {
+        statistics.onFinish();
+        super.afterExecute(task, failure);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public ExecutorMetrics getMetrics() {
+        return statistics.toMetrics(name, this);
+    }
+
+    /**
+     * Checks if the scheduler has no running tasks. Tasks waiting for their scheduled time aren't considered.
+     *
+     * @return True when idle, false otherwise
+     */
+    @Override
+    public boolean isIdle() {
+        return getActiveCount() == 0;
+    }
+}
@@ -0,0 +1,39 @@
+package glue.core.executor;
+
+import javax.enterprise.util.Nonbinding;
+import javax.inject.Qualifier;
+import java.lang.annotation.*;
+
+/**
+ * CDI qualifier for managed {@link java.util.concurrent.ScheduledExecutorService} injections
+ *
+ * <p>Injection points annotated with this qualifier receive the named scheduler from the {@link ExecutorRegistry},
+ * which is created on the first injection. All injections of the same name share the same scheduler. The number of
+ * threads can be overridden using the {@code glue.executor.<name>.threads} system property.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.FIELD, ElementType.PARAMETER, ElementType.METHOD})
+@Documented
+@Qualifier
+public @interface ManagedScheduler {
+
+    /**
+     * Defines the name of the scheduler, also used as the name prefix of its threads
+     *
+     * @return Scheduler name
+     */
+    @Nonbinding
+    String value() default ExecutorRegistry.DEFAULT_SCHEDULER_NAME;
+
+    /**
+     * Defines the number of threads of the scheduler
+     *
+     * @return Number of threads
+     */
+    @Nonbinding
+    int threads() default 1;
+
+}
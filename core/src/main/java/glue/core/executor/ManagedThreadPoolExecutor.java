@@ -0,0 +1,129 @@
+package glue.core.executor;
+
+import glue.core.context.RequestContext;
+
+import java.util.concurrent.*;
+
+/**
+ * Bounded thread pool managed by the {@link ExecutorRegistry}
+ *
+ * <p>The pool has a fixed number of threads, released when idle, and a bounded queue. Tasks submitted when the
+ * threads are busy and the queue is full are handled by the {@link RejectionPolicy}. The submission time of each task
+ * is tracked, allowing the time waiting in the queue to be measured. Unbounded pools (see
+ * {@link #unbounded(String, long, ThreadFactory)}) create threads on demand and never queue or reject tasks. Tasks run with the request context and the MDC of
+ * the submitting thread (see {@link RequestContext}).</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+final class ManagedThreadPoolExecutor extends ThreadPoolExecutor implements ManagedPool {
+
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private final String name;
+    private final TaskStatistics statistics;
+
+    /**
+     * Constructor with the pool settings initialization
+     *
+     * @param name Pool name
+     * @param threads Number of threads
+     * @param queueCapacity Maximum number of queued tasks, where zero hands the tasks directly to the threads
+     * @param rejectionPolicy Rejection policy
+     * @param threadFactory Thread factory
+     */
+    ManagedThreadPoolExecutor(final String name,
+                              final int threads,
+                              final int queueCapacity,
+                              final RejectionPolicy rejectionPolicy,
+                              final ThreadFactory threadFactory) {
+        this(name, threads, threads, KEEP_ALIVE_SECONDS, createQueue(queueCapacity), rejectionPolicy, threadFactory,
+                new TaskStatistics());
+        allowCoreThreadTimeOut(true);
+    }
+
+    private ManagedThreadPoolExecutor(final String name,
+                                      final int coreThreads,
+                                      final int maximumThreads,
+                                      final long keepAliveSeconds,
+                                      final BlockingQueue<Runnable> queue,
+                                      final RejectionPolicy rejectionPolicy,
+                                      final ThreadFactory threadFactory,
+                                      final TaskStatistics statistics) {
+        super(coreThreads, maximumThreads, keepAliveSeconds, TimeUnit.SECONDS, queue, threadFactory,
+                statistics.countingRejections(rejectionPolicy.toHandler()));
+        this.name = name;
+        this.statistics = statistics;
+    }
+
+    /**
+     * Creates an unbounded pool, which starts a new thread whenever all of its threads are busy
+     *
+     * @param name Pool name
+     * @param keepAliveSeconds Time idle threads are kept for reuse, where zero releases them after each task
+     * @param threadFactory Thread factory
+     * @return Unbounded pool
+     */
+    static ManagedThreadPoolExecutor unbounded(final String name,
+                                               final long keepAliveSeconds,
+                                               final ThreadFactory threadFactory) {
+        return new ManagedThreadPoolExecutor(name, 0, Integer.MAX_VALUE, keepAliveSeconds, new SynchronousQueue<>(),
+                RejectionPolicy.ABORT, threadFactory, new TaskStatistics());
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        super.execute(new QueuedTask(RequestContext.propagate(command)));
+    }
+
+    @Override
+    protected void beforeExecute(final Thread thread, final Runnable task) {
+        super.beforeExecute(thread, task);
+        final long queueWait = task instanceof QueuedTask ? System.nanoTime() - ((QueuedTask) task).submitTime : 0;
+        statistics.onStart(queueWait);
+    }
+
+    @Override
+    protected void afterExecute(final Runnable task, final Throwable failure) {
+        statistics.onFinish();
+        super.afterExecute(task, failure);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public ExecutorMetrics getMetrics() {
+        return statistics.toMetrics(name, this);
+    }
+
+    @Override
+    public boolean isIdle() {
+        return getActiveCount() == 0 && getQueue().isEmpty();
+    }
+
+    private static BlockingQueue<Runnable> createQueue(final int capacity) {
+        return capacity > 0 ? new ArrayBlockingQueue<>(capacity) : new SynchronousQueue<>();
+    }
+
+    /**
+     * Task wrapper holding the submission time
+     */
+    private static final class QueuedTask implements Runnable {
+
+        private final Runnable delegate;
+        private final long submitTime;
+
+        private QueuedTask(final Runnable delegate) {
+            this.delegate = delegate;
+            this.submitTime = System.nanoTime();
+        }
+
+        @Override
+        public void run() {
+            delegate.run();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package glue.core.executor;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Rejection policies of the managed thread pools
+ *
+ * <p>The policy defines what happens with the tasks submitted when all threads of the pool are busy and its queue is
+ * full.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+public enum RejectionPolicy {
+
+    /**
+     * Rejects the task, throwing a {@link java.util.concurrent.RejectedExecutionException}
+     */
+    ABORT,
+
+    /**
+     * Runs the task in the submitting thread, slowing down the producers
+     */
+    CALLER_RUNS,
+
+    /**
+     * Silently discards the task
+     */
+    DISCARD,
+
+    /**
+     * Discards the oldest queued task and submits the task again
+     */
+    DISCARD_OLDEST;
+
+    /**
+     * Returns the {@link RejectedExecutionHandler} implementing the policy
+     *
+     * @return Rejected execution handler
+     */
+    RejectedExecutionHandler toHandler() {
+        switch (this) {
+            case CALLER_RUNS:
+                return new ThreadPoolExecutor.CallerRunsPolicy();
+            case DISCARD:
+                return new ThreadPoolExecutor.DiscardPolicy();
+            case DISCARD_OLDEST:
+                return new ThreadPoolExecutor.DiscardOldestPolicy();
+            default:
+                return new ThreadPoolExecutor.AbortPolicy();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package glue.core.executor;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Task statistics of a managed thread pool
+ *
+ * <p>This class is notified by the pools before and after each task and when a task is rejected, collecting the
+ * values used to build the {@link ExecutorMetrics}.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+final class TaskStatistics {
+
+    private final LatencyHistogram queueWait = new LatencyHistogram();
+    private final LatencyHistogram execution = new LatencyHistogram();
+    private final LongAdder rejectedTasks = new LongAdder();
+    private final ThreadLocal<Long> startTime = new ThreadLocal<>();
+
+    /**
+     * Notifies that a task is starting in the current thread
+     *
+     * @param queueWaitNanos Time the task waited for a thread, in nanoseconds
+     */
+    void onStart(final long queueWaitNanos) {
+        queueWait.record(queueWaitNanos);
+        startTime.set(System.nanoTime());
+    }
+
+    /**
+     * Notifies that the task running in the current thread has finished
+     */
+    void onFinish() {
+        final Long start = startTime.get();
+        if (start == null)
+            return;
+
+        execution.record(System.nanoTime() - start);
+        startTime.remove();
+    }
+
+    /**
+     * Wraps the handler, counting the rejected tasks before delegating to it
+     *
+     * @param handler Rejected execution handler
+     * @return Counting handler
+     */
+    RejectedExecutionHandler countingRejections(final RejectedExecutionHandler handler) {
+        return (task, executor) -> {
+            rejectedTasks.increment();
+            handler.rejectedExecution(task, executor);
+        };
+    }
+
+    /**
+     * Builds the current metrics of the pool
+     *
+     * @param name Pool name
+     * @param executor Pool executor
+     * @return Pool metrics
+     */
+    ExecutorMetrics toMetrics(final String name, final ThreadPoolExecutor executor) {
+        return new ExecutorMetrics(
+                name,
+                executor.getPoolSize(),
+                executor.getActiveCount(),
+                executor.getQueue().size(),
+                executor.getCompletedTaskCount(),
+                rejectedTasks.sum(),
+                queueWait.snapshot(),
+                execution.snapshot()
+        );
+    }
+}
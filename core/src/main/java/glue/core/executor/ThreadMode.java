@@ -0,0 +1,101 @@
+package glue.core.executor;
+
+import glue.core.exception.StartupException;
+
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Glue runtime thread modes
+ *
+ * <p>The thread mode defines which kind of threads executes the application work, like the HTTP requests and the
+ * tasks submitted to the {@link GlueExecutor}. It's defined using the {@code glue.threads.mode} system property, with
+ * the values {@code platform} (default) or {@code virtual}. The virtual mode requires Java 21 or newer.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+public enum ThreadMode {
+
+    /**
+     * Operating system threads, usually pooled to limit its number
+     */
+    PLATFORM,
+
+    /**
+     * Lightweight JDK threads, created for each task without pooling
+     */
+    VIRTUAL;
+
+    public static final String THREAD_MODE_PROPERTY = "glue.threads.mode";
+
+    /**
+     * Returns the thread mode defined by the system property, {@link #PLATFORM} when not defined
+     *
+     * @return Thread mode
+     * @throws StartupException when the value is invalid or the thread mode isn't supported by the running JDK
+     */
+    public static ThreadMode fromSystemProperty() {
+        final String value = System.getProperty(THREAD_MODE_PROPERTY, PLATFORM.name());
+
+        final ThreadMode mode;
+        try {
+            mode = valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException ex) {
+            throw new StartupException("Invalid value for " + THREAD_MODE_PROPERTY + ": " + value, ex);
+        }
+
+        if (!mode.isSupported())
+            throw new StartupException("Thread mode " + mode + " isn't supported by the running JDK");
+
+        return mode;
+    }
+
+    /**
+     * Checks if the thread mode is supported by the running JDK
+     *
+     * @return True when supported, false otherwise
+     */
+    public boolean isSupported() {
+        return this == PLATFORM || VirtualThreads.isSupported();
+    }
+
+    /**
+     * Creates a thread factory for the mode
+     *
+     * <p>Threads are daemons and named using the provided prefix followed by a sequential number.</p>
+     *
+     * @param namePrefix Name prefix of the threads
+     * @return Thread factory
+     */
+    public ThreadFactory newThreadFactory(final String namePrefix) {
+        if (this == VIRTUAL)
+            return VirtualThreads.newThreadFactory(namePrefix);
+
+        final AtomicLong counter = new AtomicLong();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, namePrefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Creates an unbounded executor for the mode
+     *
+     * <p>Platform threads are pooled and reused when idle. Virtual threads are cheap to create, so a new one is
+     * started for each task.</p>
+     *
+     * @param namePrefix Name prefix of the threads
+     * @return Executor service
+     */
+    public ExecutorService newExecutor(final String namePrefix) {
+        if (this == VIRTUAL)
+            return VirtualThreads.newExecutor(namePrefix);
+
+        return Executors.newCachedThreadPool(newThreadFactory(namePrefix));
+    }
+}
@@ -0,0 +1,100 @@
+package glue.core.executor;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Reflective access to the JDK virtual threads
+ *
+ * <p>Glue targets Java 8, so the virtual threads API (available since Java 21) is accessed using reflection. The
+ * API is resolved once and considered unsupported when missing or when it can't be used, like in the JDK versions
+ * where it's a preview feature not enabled.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+final class VirtualThreads {
+
+    private static final Method OF_VIRTUAL;
+    private static final Method NAME;
+    private static final Method FACTORY;
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        Method ofVirtual = null;
+        Method name = null;
+        Method factory = null;
+        Method newThreadPerTaskExecutor = null;
+
+        try {
+            final Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            name = builderType.getMethod("name", String.class, long.class);
+            factory = builderType.getMethod("factory");
+            newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            ofVirtual.invoke(null);
+        } catch (final ReflectiveOperationException | LinkageError ex) {
+            ofVirtual = null;
+        }
+
+        OF_VIRTUAL = ofVirtual;
+        NAME = name;
+        FACTORY = factory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Checks if the running JDK supports virtual threads
+     *
+     * @return True when supported, false otherwise
+     */
+    static boolean isSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Creates a factory of virtual threads
+     *
+     * @param namePrefix Name prefix of the threads, followed by a sequential number
+     * @return Virtual thread factory
+     * @throws UnsupportedOperationException when virtual threads aren't supported
+     */
+    static ThreadFactory newThreadFactory(final String namePrefix) {
+        checkSupported();
+
+        try {
+            final Object builder = NAME.invoke(OF_VIRTUAL.invoke(null), namePrefix, 1L);
+            return (ThreadFactory) FACTORY.invoke(builder);
+        } catch (final IllegalAccessException | InvocationTargetException ex) {
+            throw new IllegalStateException("Unable to create a virtual thread factory", ex);
+        }
+    }
+
+    /**
+     * Creates an executor that starts a new virtual thread for each task
+     *
+     * @param namePrefix Name prefix of the threads, followed by a sequential number
+     * @return Thread per task executor
+     * @throws UnsupportedOperationException when virtual threads aren't supported
+     */
+    static ExecutorService newExecutor(final String namePrefix) {
+        final ThreadFactory threadFactory = newThreadFactory(namePrefix);
+
+        try {
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, threadFactory);
+        } catch (final IllegalAccessException | InvocationTargetException ex) {
+            throw new IllegalStateException("Unable to create a virtual thread executor", ex);
+        }
+    }
+
+    private static void checkSupported() {
+        if (!isSupported())
+            throw new UnsupportedOperationException("Virtual threads aren't supported by the running JDK");
+    }
+}
@@ -1,5 +1,10 @@
 package glue.core.module;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Glue module lifecycle interface
  *
@@ -7,6 +12,21 @@ package glue.core.module;
  * starting up or beign stopped implementations of this interface will be called, allowing the module to do what they
  * need to do in such scenarios.</p>
  *
+ * <p>Modules are started following their priorities and declared dependencies. Modules without ordering constraints
+ * between them (same priority and no dependency) may be started concurrently.</p>
+ *
+ * <p>The shutdown is done in phases: first all modules are asked to stop accepting new work
+ * ({@link #suspend()}), then the in-flight work is awaited up to a deadline ({@link #awaitDrain(long, TimeUnit)})
+ * and only then the modules are stopped, following their stop priorities and, for modules with the same stop priority,
+ * in the reverse order of their dependencies.</p>
+ *
+ * <p>When the JVM is checkpointed (see {@link glue.core.CheckpointSupport}), the modules are asked to release the
+ * resources that can't be part of the snapshot, like sockets and files ({@link #beforeCheckpoint()}), and to
+ * reacquire them once the JVM is restored ({@link #afterRestore()}).</p>
+ *
+ * <p>Modules that are rarely used may declare themselves lazy ({@link #isLazy()}). When the lazy activation is enabled
+ * (see {@link glue.core.ModuleActivator}) such modules aren't started with the application, but on their first use.</p>
+ *
  * @author Lucas Dillmann
  * @since 1.0.0, 2018-11-24
  */
@@ -27,6 +47,79 @@ public interface ModuleLifecycle {
      */
     void stop();
 
+    /**
+     * Suspends the module
+     *
+     * <p>This method is called when the application starts shutting down, before any module is stopped. Modules
+     * should stop accepting new work (like new requests) but keep handling the work already in progress. The default
+     * implementation does nothing.</p>
+     */
+    default void suspend() {
+    }
+
+    /**
+     * Waits for the in-flight work of the module to finish
+     *
+     * <p>This method is called after all modules were suspended and before they're stopped. Implementations should
+     * block until the work in progress (like requests or transactions) is finished or the timeout expires. The
+     * default implementation returns immediately, since there's nothing to wait for.</p>
+     *
+     * @param timeout Maximum time to wait
+     * @param unit Time unit of the timeout
+     * @return True when all in-flight work finished, false when the timeout expired and the remaining work will be
+     * forcibly terminated
+     * @throws InterruptedException when interrupted while waiting
+     */
+    default boolean awaitDrain(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return true;
+    }
+
+    /**
+     * Prepares the module for a checkpoint of the JVM
+     *
+     * <p>This method is called before the JVM is checkpointed, following the stop priorities. Modules should close the
+     * resources that can't be part of the snapshot (like network connections, listening sockets and watched files)
+     * without stopping. Failures abort the checkpoint. The default implementation does nothing.</p>
+     */
+    default void beforeCheckpoint() {
+    }
+
+    /**
+     * Resumes the module after the JVM is restored from a checkpoint
+     *
+     * <p>This method is called after the JVM is restored, following the start priorities. Modules should reopen the
+     * resources closed by {@link #beforeCheckpoint()} and refresh the state that may have changed in the new
+     * environment, like configurations. The default implementation does nothing.</p>
+     */
+    default void afterRestore() {
+    }
+
+    /**
+     * Notifies the module that lazy modules were activated
+     *
+     * <p>This method is called on the modules already started whenever lazy modules are started (see
+     * {@link #isLazy()}), allowing them to apply what the activated modules may have registered. The default
+     * implementation does nothing.</p>
+     *
+     * @param activatedModules Modules that were just activated
+     */
+    default void afterLazyActivation(final Collection<ModuleLifecycle> activatedModules) {
+    }
+
+    /**
+     * Defines if the module can be started lazily
+     *
+     * <p>Lazy modules are only started on their first use (the first request or an explicit activation, see
+     * {@link glue.core.ModuleActivator}) when the lazy activation is enabled, being started with the application
+     * otherwise. A lazy module is started with the application anyway when a module that isn't lazy declares it as
+     * a dependency. The default value is false.</p>
+     *
+     * @return True when the module can be started lazily, false otherwise
+     */
+    default boolean isLazy() {
+        return false;
+    }
+
     /**
      * Defines the module startup priority
      *
@@ -53,4 +146,19 @@ public interface ModuleLifecycle {
         return Priority.REGULAR.asInteger();
     }
 
+    /**
+     * Defines the modules that must be started before this one
+     *
+     * <p>This method returns the module classes this module depends on. Dependencies are only an ordering constraint:
+     * a declared dependency that isn't available in the classpath is ignored. On shutdown, the module is stopped
+     * before its dependencies with the same stop priority, since the stop priorities take precedence (see
+     * {@link #getStopPriority()}). The default value is an empty set, meaning that only the priorities are taken into
+     * account.</p>
+     *
+     * @return Module dependencies
+     */
+    default Set<Class<? extends ModuleLifecycle>> getDependencies() {
+        return Collections.emptySet();
+    }
+
 }
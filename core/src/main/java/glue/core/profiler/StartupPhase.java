@@ -0,0 +1,170 @@
+package glue.core.profiler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Startup phase recorded by the {@link StartupProfiler}
+ *
+ * <p>A phase starts when it is created by {@link StartupProfiler#begin(String)} and ends when it is closed, usually
+ * in a {@code finally} block. Phases can be nested and the nested phases are exposed as its children.</p>
+ *
+ * <p>The allocated bytes are measured on the thread that started the phase, so allocations done by nested phases
+ * running on other threads are not included. When the JVM doesn't support allocation measurement the value is
+ * {@code -1}.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-17
+ */
+public final class StartupPhase implements AutoCloseable {
+
+    private final StartupProfiler profiler;
+    private final String name;
+    private final StartupPhase parent;
+    private final String threadName;
+    private final long startTime;
+    private final long startAllocatedBytes;
+    private final List<StartupPhase> children;
+    private final Object event;
+    private volatile long endTime;
+    private volatile long allocatedBytes;
+    private volatile boolean closed;
+
+    /**
+     * Constructor with phase details initialization
+     *
+     * @param profiler Profiler that owns this phase, null for disabled phases
+     * @param name Phase name
+     * @param parent Parent phase, null for root phases
+     * @param startAllocatedBytes Bytes allocated by the current thread when the phase started
+     * @param event JFR event of the phase, null when JFR isn't in use
+     */
+    StartupPhase(final StartupProfiler profiler,
+                 final String name,
+                 final StartupPhase parent,
+                 final long startAllocatedBytes,
+                 final Object event) {
+        this.profiler = profiler;
+        this.name = name;
+        this.parent = parent;
+        this.threadName = Thread.currentThread().getName();
+        this.startTime = System.nanoTime();
+        this.startAllocatedBytes = startAllocatedBytes;
+        this.children = new CopyOnWriteArrayList<>();
+        this.event = event;
+        this.allocatedBytes = -1;
+    }
+
+    /**
+     * Returns the phase name
+     *
+     * @return Phase name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the parent phase
+     *
+     * @return Parent phase, empty when this is a root phase
+     */
+    public Optional<StartupPhase> getParent() {
+        return Optional.ofNullable(parent);
+    }
+
+    /**
+     * Returns the name of the thread that started the phase
+     *
+     * @return Thread name
+     */
+    public String getThreadName() {
+        return threadName;
+    }
+
+    /**
+     * Returns the phase duration in nanoseconds
+     *
+     * <p>When the phase is still open, the elapsed time until now is returned.</p>
+     *
+     * @return Phase duration in nanoseconds
+     */
+    public long getDurationNanos() {
+        return (closed ? endTime : System.nanoTime()) - startTime;
+    }
+
+    /**
+     * Returns the bytes allocated by the thread that started the phase while the phase was open
+     *
+     * @return Allocated bytes, {@code -1} when not supported by the JVM or the phase is still open
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * Returns the nested phases
+     *
+     * @return Unmodifiable list of the nested phases, in their start order
+     */
+    public List<StartupPhase> getChildren() {
+        return Collections.unmodifiableList(new ArrayList<>(children));
+    }
+
+    /**
+     * Checks if the phase was already closed
+     *
+     * @return True when closed, false otherwise
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Ends the phase
+     *
+     * <p>Closing a phase more than once has no effect.</p>
+     */
+    @Override
+    public void close() {
+        if (closed || profiler == null)
+            return;
+
+        this.endTime = System.nanoTime();
+        if (startAllocatedBytes >= 0)
+            this.allocatedBytes = ThreadAllocationCounter.getAllocatedBytes() - startAllocatedBytes;
+
+        this.closed = true;
+        profiler.onClose(this);
+    }
+
+    /**
+     * Returns the start time of the phase, from {@link System#nanoTime()}
+     *
+     * @return Start time in nanoseconds
+     */
+    long getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * Returns the JFR event of the phase
+     *
+     * @return JFR event, null when JFR isn't in use
+     */
+    Object getEvent() {
+        return event;
+    }
+
+    /**
+     * Registers a nested phase
+     *
+     * @param child Nested phase
+     */
+    void addChild(final StartupPhase child) {
+        children.add(child);
+    }
+}
@@ -0,0 +1,119 @@
+package glue.core.profiler;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JDK Flight Recorder events for the startup phases
+ *
+ * <p>This class emits one {@code glue.StartupPhase} JFR event per startup phase, with the phase name, parent name
+ * and allocated bytes. Since Glue targets Java 8, where the {@code jdk.jfr} API isn't available, the event type is
+ * defined at runtime using {@code jdk.jfr.EventFactory} through reflection. When the API isn't available
+ * {@link #create()} returns an empty optional.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-17
+ */
+final class StartupPhaseEvents {
+
+    static final String EVENT_NAME = "glue.StartupPhase";
+
+    private static final int NAME_FIELD = 0;
+    private static final int PARENT_FIELD = 1;
+    private static final int ALLOCATED_BYTES_FIELD = 2;
+
+    private final Object factory;
+    private final Method newEvent;
+    private final Method begin;
+    private final Method end;
+    private final Method set;
+    private final Method commit;
+
+    private StartupPhaseEvents(final Object factory) throws ReflectiveOperationException {
+        final Class<?> eventClass = Class.forName("jdk.jfr.Event");
+        this.factory = factory;
+        this.newEvent = factory.getClass().getMethod("newEvent");
+        this.begin = eventClass.getMethod("begin");
+        this.end = eventClass.getMethod("end");
+        this.set = eventClass.getMethod("set", int.class, Object.class);
+        this.commit = eventClass.getMethod("commit");
+    }
+
+    /**
+     * Creates the JFR event type of the startup phases
+     *
+     * @return Startup phase events when the JFR API is available, empty optional otherwise
+     */
+    static Optional<StartupPhaseEvents> create() {
+        try {
+            final Class<?> annotationElementClass = Class.forName("jdk.jfr.AnnotationElement");
+            final Class<?> valueDescriptorClass = Class.forName("jdk.jfr.ValueDescriptor");
+            final Class<?> eventFactoryClass = Class.forName("jdk.jfr.EventFactory");
+
+            final Constructor<?> annotationElement = annotationElementClass.getConstructor(Class.class, Object.class);
+            final Constructor<?> valueDescriptor = valueDescriptorClass.getConstructor(Class.class, String.class);
+
+            final List<Object> annotations = Arrays.asList(
+                    annotationElement.newInstance(annotationType("jdk.jfr.Name"), EVENT_NAME),
+                    annotationElement.newInstance(annotationType("jdk.jfr.Label"), "Glue Startup Phase"),
+                    annotationElement.newInstance(annotationType("jdk.jfr.Category"), new String[]{"Glue"})
+            );
+            final List<Object> fields = Arrays.asList(
+                    valueDescriptor.newInstance(String.class, "name"),
+                    valueDescriptor.newInstance(String.class, "parent"),
+                    valueDescriptor.newInstance(long.class, "allocatedBytes")
+            );
+
+            final Method factoryMethod = eventFactoryClass.getMethod("create", List.class, List.class);
+            return Optional.of(new StartupPhaseEvents(factoryMethod.invoke(null, annotations, fields)));
+        } catch (final ReflectiveOperationException | LinkageError | RuntimeException ex) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Creates and begins a new event
+     *
+     * @return Started event, null when it can't be created
+     */
+    Object begin() {
+        try {
+            final Object event = newEvent.invoke(factory);
+            begin.invoke(event);
+            return event;
+        } catch (final ReflectiveOperationException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Ends and commits the event of the provided phase
+     *
+     * @param phase Closed startup phase
+     */
+    void commit(final StartupPhase phase) {
+        final Object event = phase.getEvent();
+        if (event == null)
+            return;
+
+        try {
+            end.invoke(event);
+            set.invoke(event, NAME_FIELD, phase.getName());
+            set.invoke(event, PARENT_FIELD, phase.getParent().map(StartupPhase::getName).orElse(null));
+            set.invoke(event, ALLOCATED_BYTES_FIELD, phase.getAllocatedBytes());
+            commit.invoke(event);
+        } catch (final ReflectiveOperationException ex) {
+            // JFR events are best effort only
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Annotation> annotationType(final String name) throws ClassNotFoundException {
+        return (Class<? extends Annotation>) Class.forName(name);
+    }
+
+}
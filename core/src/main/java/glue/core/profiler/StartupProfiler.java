@@ -0,0 +1,214 @@
+package glue.core.profiler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Glue boot sequence profiler
+ *
+ * <p>This class records the time spent by each phase of the application startup, like the CDI container
+ * initialization and the start of every module, as a tree of nested {@link StartupPhase}s. When supported by the JVM,
+ * the bytes allocated during each phase are recorded as well.</p>
+ *
+ * <p>Phases are nested automatically when started from the same thread. Phases executed in other threads can be
+ * bound to their parent using {@link #begin(String, StartupPhase)}:</p>
+ *
+ * <pre>
+ * final StartupPhase phase = StartupProfiler.getInstance().begin("hibernate.entityManagerFactory");
+ * try {
+ *     // do something
+ * } finally {
+ *     phase.close();
+ * }
+ * </pre>
+ *
+ * <p>Since the profiling starts before the CDI container is available, this class isn't a CDI bean and a single
+ * instance is shared by the application. After the startup, {@link #finish()} logs the report as a tree and stops the
+ * recording. The profiler can be customized using the following system properties:</p>
+ *
+ * <ul>
+ *     <li>{@code glue.profiler.enabled}: enables or disables the profiler, defaults to {@code true}</li>
+ *     <li>{@code glue.profiler.report}: path of a file where the report will be written as JSON</li>
+ *     <li>{@code glue.profiler.jfr}: emits a JDK Flight Recorder event per phase when the JVM supports it,
+ *     defaults to {@code false}</li>
+ * </ul>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-17
+ */
+public final class StartupProfiler {
+
+    static final String ENABLED_PROPERTY = "glue.profiler.enabled";
+    static final String REPORT_PROPERTY = "glue.profiler.report";
+    static final String JFR_PROPERTY = "glue.profiler.jfr";
+
+    private static final StartupPhase DISABLED_PHASE = new StartupPhase(null, "disabled", null, -1, null);
+
+    private final Path reportFile;
+    private final StartupPhaseEvents events;
+    private final Logger logger;
+    private final List<StartupPhase> rootPhases;
+    private final ThreadLocal<Deque<StartupPhase>> openPhases;
+    private volatile boolean enabled;
+
+    /**
+     * Constructor with profiler settings initialization
+     *
+     * @param enabled Defines if the profiler is enabled
+     * @param reportFile File where the JSON report will be written, null when not needed
+     * @param events JFR events, null when not needed
+     * @param logger Logger
+     */
+    StartupProfiler(final boolean enabled,
+                    final Path reportFile,
+                    final StartupPhaseEvents events,
+                    final Logger logger) {
+        this.enabled = enabled;
+        this.reportFile = reportFile;
+        this.events = events;
+        this.logger = logger;
+        this.rootPhases = new CopyOnWriteArrayList<>();
+        this.openPhases = ThreadLocal.withInitial(ArrayDeque::new);
+    }
+
+    /**
+     * Returns the application profiler instance
+     *
+     * @return Startup profiler
+     */
+    public static StartupProfiler getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    /**
+     * Checks if the profiler is still recording phases
+     *
+     * @return True when recording, false otherwise
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts a new phase, nested in the innermost open phase of the current thread
+     *
+     * @param name Phase name
+     * @return Started phase, which must be closed when the phase ends
+     */
+    public StartupPhase begin(final String name) {
+        return begin(name, getCurrentPhase().orElse(null));
+    }
+
+    /**
+     * Starts a new phase nested in the provided phase
+     *
+     * @param name Phase name
+     * @param parent Parent phase, null to start a root phase
+     * @return Started phase, which must be closed when the phase ends
+     */
+    public StartupPhase begin(final String name, final StartupPhase parent) {
+        if (!enabled)
+            return DISABLED_PHASE;
+
+        final StartupPhase actualParent = parent == DISABLED_PHASE ? null : parent;
+        final StartupPhase phase = new StartupPhase(
+                this, name, actualParent, ThreadAllocationCounter.getAllocatedBytes(),
+                events == null ? null : events.begin()
+        );
+
+        if (actualParent == null)
+            rootPhases.add(phase);
+        else
+            actualParent.addChild(phase);
+
+        openPhases.get().push(phase);
+        return phase;
+    }
+
+    /**
+     * Returns the innermost open phase of the current thread
+     *
+     * @return Current phase, empty when there's none
+     */
+    public Optional<StartupPhase> getCurrentPhase() {
+        final Deque<StartupPhase> phases = openPhases.get();
+        while (!phases.isEmpty() && phases.peek().isClosed())
+            phases.pop();
+
+        return Optional.ofNullable(phases.peek());
+    }
+
+    /**
+     * Finishes the profiling, logging and writing the report
+     *
+     * <p>After this method is called, no more phases are recorded. The report is logged as a tree and, when the
+     * {@code glue.profiler.report} system property is defined, written to the file as JSON.</p>
+     *
+     * @return Startup report, empty when the profiler is disabled or was already finished
+     */
+    public Optional<StartupReport> finish() {
+        if (!enabled)
+            return Optional.empty();
+
+        this.enabled = false;
+        openPhases.remove();
+
+        final StartupReport report = new StartupReport(new ArrayList<>(rootPhases));
+        logger.info(report.toTree());
+        writeReport(report);
+        return Optional.of(report);
+    }
+
+    /**
+     * Handles a closed phase
+     *
+     * @param phase Closed phase
+     */
+    void onClose(final StartupPhase phase) {
+        openPhases.get().remove(phase);
+        if (events != null)
+            events.commit(phase);
+    }
+
+    /**
+     * Writes the JSON report to the report file, when defined
+     *
+     * @param report Startup report
+     */
+    private void writeReport(final StartupReport report) {
+        if (reportFile == null)
+            return;
+
+        try {
+            Files.write(reportFile, report.toJson().getBytes(StandardCharsets.UTF_8));
+            logger.info("Startup profile written to {}", reportFile.toAbsolutePath());
+        } catch (final IOException ex) {
+            logger.warn("Unable to write the startup profile to {}", reportFile.toAbsolutePath(), ex);
+        }
+    }
+
+    /**
+     * Lazy holder of the application profiler instance
+     */
+    private static final class InstanceHolder {
+
+        private static final StartupProfiler INSTANCE = new StartupProfiler(
+                Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true")),
+                Optional.ofNullable(System.getProperty(REPORT_PROPERTY)).map(Paths::get).orElse(null),
+                Boolean.getBoolean(JFR_PROPERTY) ? StartupPhaseEvents.create().orElse(null) : null,
+                LoggerFactory.getLogger(StartupProfiler.class)
+        );
+    }
+}
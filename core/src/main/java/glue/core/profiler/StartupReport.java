@@ -0,0 +1,112 @@
+package glue.core.profiler;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup profiling report
+ *
+ * <p>This class holds the root phases recorded by the {@link StartupProfiler} and renders them as a human readable
+ * tree, for logging purposes, or as a JSON document, for tooling purposes.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-17
+ */
+public final class StartupReport {
+
+    private final List<StartupPhase> phases;
+
+    /**
+     * Constructor with root phases initialization
+     *
+     * @param phases Root phases
+     */
+    StartupReport(final List<StartupPhase> phases) {
+        this.phases = Collections.unmodifiableList(phases);
+    }
+
+    /**
+     * Returns the root phases
+     *
+     * @return Unmodifiable list of the root phases
+     */
+    public List<StartupPhase> getPhases() {
+        return phases;
+    }
+
+    /**
+     * Renders the report as a tree, one phase per line
+     *
+     * @return Tree representation of the report
+     */
+    public String toTree() {
+        final StringBuilder builder = new StringBuilder("Startup profile:");
+        phases.forEach(phase -> appendTree(builder, phase, 1));
+        return builder.toString();
+    }
+
+    /**
+     * Renders the report as a JSON document
+     *
+     * @return JSON representation of the report
+     */
+    public String toJson() {
+        final StringBuilder builder = new StringBuilder("{\"phases\":");
+        appendJson(builder, phases);
+        return builder.append('}').toString();
+    }
+
+    private void appendTree(final StringBuilder builder, final StartupPhase phase, final int depth) {
+        builder.append(System.lineSeparator());
+        for (int index = 1; index < depth; index++)
+            builder.append("|  ");
+
+        builder.append("+- ")
+                .append(phase.getName())
+                .append(": ")
+                .append(TimeUnit.NANOSECONDS.toMillis(phase.getDurationNanos()))
+                .append(" ms");
+
+        if (phase.getAllocatedBytes() >= 0)
+            builder.append(", ").append(phase.getAllocatedBytes() / 1024).append(" KB allocated");
+
+        builder.append(" [").append(phase.getThreadName()).append(']');
+        phase.getChildren().forEach(child -> appendTree(builder, child, depth + 1));
+    }
+
+    private void appendJson(final StringBuilder builder, final List<StartupPhase> phases) {
+        builder.append('[');
+        for (int index = 0; index < phases.size(); index++) {
+            final StartupPhase phase = phases.get(index);
+            if (index > 0)
+                builder.append(',');
+
+            builder.append("{\"name\":");
+            appendJsonString(builder, phase.getName());
+            builder.append(",\"thread\":");
+            appendJsonString(builder, phase.getThreadName());
+            builder.append(",\"durationMillis\":")
+                    .append(phase.getDurationNanos() / 1_000_000D)
+                    .append(",\"allocatedBytes\":")
+                    .append(phase.getAllocatedBytes())
+                    .append(",\"children\":");
+            appendJson(builder, phase.getChildren());
+            builder.append('}');
+        }
+        builder.append(']');
+    }
+
+    private void appendJsonString(final StringBuilder builder, final String value) {
+        builder.append('"');
+        for (final char character : value.toCharArray()) {
+            if (character == '"' || character == '\\')
+                builder.append('\\').append(character);
+            else if (character < 0x20)
+                builder.append(String.format("\\u%04x", (int) character));
+            else
+                builder.append(character);
+        }
+        builder.append('"');
+    }
+}
@@ -0,0 +1,59 @@
+package glue.core.profiler;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Thread allocation counter
+ *
+ * <p>This class reads the amount of bytes allocated by the current thread using the HotSpot specific
+ * {@code com.sun.management.ThreadMXBean}. When the JVM doesn't provide it, or the thread allocated memory
+ * measurement is disabled, {@code -1} is returned.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-17
+ */
+final class ThreadAllocationCounter {
+
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN = findThreadBean();
+
+    private ThreadAllocationCounter() {
+    }
+
+    /**
+     * Checks if the allocation measurement is supported by the JVM
+     *
+     * @return True when supported, false otherwise
+     */
+    static boolean isSupported() {
+        return THREAD_BEAN != null;
+    }
+
+    /**
+     * Returns the bytes allocated by the current thread since its start
+     *
+     * @return Allocated bytes, {@code -1} when not supported
+     */
+    static long getAllocatedBytes() {
+        if (THREAD_BEAN == null)
+            return -1;
+
+        return THREAD_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static com.sun.management.ThreadMXBean findThreadBean() {
+        try {
+            final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+            if (!(threadBean instanceof com.sun.management.ThreadMXBean))
+                return null;
+
+            final com.sun.management.ThreadMXBean hotspotBean = (com.sun.management.ThreadMXBean) threadBean;
+            if (!hotspotBean.isThreadAllocatedMemorySupported() || !hotspotBean.isThreadAllocatedMemoryEnabled())
+                return null;
+
+            return hotspotBean;
+        } catch (final LinkageError | RuntimeException ex) {
+            return null;
+        }
+    }
+}
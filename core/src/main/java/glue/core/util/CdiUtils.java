@@ -2,6 +2,8 @@ package glue.core.util;
 
 import org.slf4j.Logger;
 
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.Dependent;
 import javax.enterprise.context.spi.CreationalContext;
 import javax.enterprise.inject.spi.Bean;
 import javax.enterprise.inject.spi.BeanManager;
@@ -9,12 +11,8 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
-import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * CDI related utility methods
@@ -22,6 +20,12 @@ import java.util.stream.Collectors;
  * <p>This class holds utility methods for CDI related operations, like finding all available implementations
  * of a generic, parameterized type.</p>
  *
+ * <p>Lookups are cached by raw type, generic type and qualifiers. Normal scoped and pseudo-scoped (like
+ * {@link Singleton}) beans are cached as contextual references, so their lifecycle stays under control of their
+ * contexts. {@link Dependent} beans are created once per lookup key and the same instance is returned by every
+ * lookup with that key, so callers must not keep state in them. Those instances are owned by this class and destroyed
+ * alongside it.</p>
+ *
  * @author Lucas Dillmann
  * @since 1.0.0, 2018-12-13
  */
@@ -30,6 +34,8 @@ public class CdiUtils {
 
     private final BeanManager beanManager;
     private final Logger logger;
+    private final Map<BeanLookupKey, Optional<ResolvedBean<?>>> typedBeans;
+    private final Map<BeanLookupKey, List<ResolvedBean<?>>> allTypedBeans;
 
     /**
      * Constructor with {@link BeanManager} and {@link Logger} initialization
@@ -41,6 +47,8 @@ public class CdiUtils {
     public CdiUtils(final BeanManager beanManager, final Logger logger) {
         this.beanManager = beanManager;
         this.logger = logger;
+        this.typedBeans = new ConcurrentHashMap<>();
+        this.allTypedBeans = new ConcurrentHashMap<>();
     }
 
     /**
@@ -63,13 +71,21 @@ public class CdiUtils {
         Objects.requireNonNull(rawType);
         Objects.requireNonNull(genericType);
 
-        final Set<Bean<?>> beans = findBeans(rawType, genericType, qualifiers);
-        if (beans.isEmpty())
-            return Optional.empty();
+        final BeanLookupKey key = new BeanLookupKey(rawType, genericType, qualifiers);
+        Optional<ResolvedBean<?>> resolvedBean = typedBeans.get(key);
+        if (resolvedBean == null) {
+            final Set<Bean<?>> beans = findBeans(key);
+            resolvedBean = beans.isEmpty()
+                    ? Optional.empty()
+                    : Optional.of(resolve(beanManager.resolve(beans), key));
+            final Optional<ResolvedBean<?>> currentBean = typedBeans.putIfAbsent(key, resolvedBean);
+            if (currentBean != null) {
+                resolvedBean.ifPresent(ResolvedBean::release);
+                resolvedBean = currentBean;
+            }
+        }
 
-        final Bean<T> bean = (Bean<T>) beanManager.resolve(beans);
-        final T beanInstance = produceBean(bean);
-        return Optional.ofNullable(beanInstance);
+        return resolvedBean.map(bean -> (T) bean.getInstance());
     }
 
     /**
@@ -90,69 +106,166 @@ public class CdiUtils {
         Objects.requireNonNull(rawType);
         Objects.requireNonNull(genericType);
 
-        return findBeans(rawType, genericType, qualifiers)
-                .stream()
-                .map(bean -> (Bean<T>) bean)
-                .map(this::produceBean)
-                .collect(Collectors.toList());
+        final BeanLookupKey key = new BeanLookupKey(rawType, genericType, qualifiers);
+        List<ResolvedBean<?>> resolvedBeans = allTypedBeans.get(key);
+        if (resolvedBeans == null) {
+            resolvedBeans = resolveAll(findBeans(key), key);
+            final List<ResolvedBean<?>> currentBeans = allTypedBeans.putIfAbsent(key, resolvedBeans);
+            if (currentBeans != null) {
+                resolvedBeans.forEach(ResolvedBean::release);
+                resolvedBeans = currentBeans;
+            }
+        }
+
+        final List<T> beanInstances = new ArrayList<>(resolvedBeans.size());
+        for (final ResolvedBean<?> resolvedBean : resolvedBeans)
+            beanInstances.add((T) resolvedBean.getInstance());
+
+        return beanInstances;
+    }
+
+    /**
+     * Destroys all {@link Dependent} instances created by this class and clears the lookup caches
+     */
+    @PreDestroy
+    void destroy() {
+        typedBeans.values().forEach(resolvedBean -> resolvedBean.ifPresent(ResolvedBean::release));
+        allTypedBeans.values().forEach(resolvedBeans -> resolvedBeans.forEach(ResolvedBean::release));
+        typedBeans.clear();
+        allTypedBeans.clear();
+    }
+
+    /**
+     * Resolves all the provided beans
+     *
+     * <p>When the resolution of any bean fails, the {@link Dependent} instances already created are destroyed.</p>
+     *
+     * @param beans Beans to be resolved
+     * @param key Lookup key
+     * @return Resolved beans
+     */
+    private List<ResolvedBean<?>> resolveAll(final Set<Bean<?>> beans, final BeanLookupKey key) {
+        final List<ResolvedBean<?>> resolvedBeans = new ArrayList<>(beans.size());
+        try {
+            for (final Bean<?> bean : beans)
+                resolvedBeans.add(resolve(bean, key));
+        } catch (final RuntimeException ex) {
+            resolvedBeans.forEach(ResolvedBean::release);
+            throw ex;
+        }
+
+        return resolvedBeans;
     }
 
     /**
      * Executes the bean search using CDI APIs
      *
-     * @param rawType Raw bean type
-     * @param genericType Generic bean type
-     * @param qualifiers Qualifiers
-     * @param <T> Generic bean raw type
+     * @param key Lookup key
      * @return Collection of found beans
      */
-    private <T> Set<Bean<?>> findBeans(final Class<T> rawType,
-                                       final Class<?> genericType,
-                                       final Annotation... qualifiers) {
-        logger.debug("Looking for all beans compatible with raw type of {} and generic type of {}", rawType.getName(), genericType.getName());
-        final ParameterizedType parameterizedType = buildParameterizedType(rawType, genericType);
-        final Set<Bean<?>> beans = beanManager.getBeans(parameterizedType, qualifiers);
-
-        logger.debug("{} beans found for {} with generic type of {}", beans.size(), rawType.getName(), genericType.getName());
+    private Set<Bean<?>> findBeans(final BeanLookupKey key) {
+        LogUtils.debug(logger, "Looking for all beans compatible with raw type of {} and generic type of {}", key.rawType.getName(), key.genericType.getName());
+        final Set<Bean<?>> beans = beanManager.getBeans(key.parameterizedType, key.qualifiers);
+
+        if (LogUtils.isDebugEnabled(logger))
+            logger.debug("{} beans found for {} with generic type of {}", beans.size(), key.rawType.getName(), key.genericType.getName());
         return beans;
     }
 
     /**
-     * Produce a Bean instance using CDI
+     * Resolves the instance of the provided bean
+     *
+     * <p>{@link Dependent} beans are created and tracked for destruction. Any other bean is obtained as a contextual
+     * reference from its context.</p>
      *
      * @param bean Bean to be produced
+     * @param key Lookup key
      * @param <T> Generic bean type
-     * @return Produced bean
+     * @return Resolved bean
      */
-    private <T> T produceBean(final Bean<T> bean) {
+    private <T> ResolvedBean<T> resolve(final Bean<T> bean, final BeanLookupKey key) {
         final CreationalContext<T> creationalContext = beanManager.createCreationalContext(bean);
-        return bean.create(creationalContext);
+        if (Dependent.class.equals(bean.getScope()))
+            return new ResolvedBean<>(bean, bean.create(creationalContext), creationalContext);
+
+        return new ResolvedBean<>(bean, (T) beanManager.getReference(bean, key.parameterizedType, creationalContext), null);
+    }
+
+    /**
+     * Bean lookup cache key
+     */
+    private static final class BeanLookupKey {
+
+        private final Class<?> rawType;
+        private final Class<?> genericType;
+        private final Annotation[] qualifiers;
+        private final ParameterizedType parameterizedType;
+        private final int hashCode;
+
+        private BeanLookupKey(final Class<?> rawType, final Class<?> genericType, final Annotation[] qualifiers) {
+            this.rawType = rawType;
+            this.genericType = genericType;
+            this.qualifiers = qualifiers.clone();
+            this.parameterizedType = new ParameterizedTypeImpl(rawType, genericType);
+            this.hashCode = 31 * parameterizedType.hashCode() + Arrays.hashCode(this.qualifiers);
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (this == other)
+                return true;
+
+            if (!(other instanceof BeanLookupKey))
+                return false;
+
+            final BeanLookupKey that = (BeanLookupKey) other;
+            return rawType.equals(that.rawType)
+                    && genericType.equals(that.genericType)
+                    && Arrays.equals(qualifiers, that.qualifiers);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
     }
 
     /**
-     * Produces a dynamic instance of a {@link ParameterizedType} for the given raw and generic types
+     * Bean resolved by a lookup
      *
-     * @param rawType Raw type
-     * @param genericType Generic type
-     * @return Parameterized type instance
+     * @param <T> Generic bean type
      */
-    private ParameterizedType buildParameterizedType(final Class<?> rawType, final Class<?> genericType) {
-        return new ParameterizedType() {
-            @Override
-            public Type[] getActualTypeArguments() {
-                return new Class<?>[]{genericType};
-            }
+    private static final class ResolvedBean<T> {
 
-            @Override
-            public Type getRawType() {
-                return rawType;
-            }
+        private final Bean<T> bean;
+        private final T instance;
+        private final CreationalContext<T> creationalContext;
 
-            @Override
-            public Type getOwnerType() {
-                return rawType;
-            }
-        };
+        /**
+         * Constructor with bean, instance and {@link CreationalContext} initialization
+         *
+         * @param bean Bean
+         * @param instance Bean instance
+         * @param creationalContext Creational context of the {@link Dependent} instances, null for contextual
+         *                          references
+         */
+        private ResolvedBean(final Bean<T> bean, final T instance, final CreationalContext<T> creationalContext) {
+            this.bean = bean;
+            this.instance = instance;
+            this.creationalContext = creationalContext;
+        }
+
+        private T getInstance() {
+            return instance;
+        }
+
+        /**
+         * Destroys the instance when it's a {@link Dependent} one. Contextual references are left to their contexts.
+         */
+        private void release() {
+            if (creationalContext != null)
+                bean.destroy(instance, creationalContext);
+        }
     }
 
 }
@@ -0,0 +1,104 @@
+package glue.core.util;
+
+import org.slf4j.Logger;
+
+import java.util.function.Supplier;
+
+/**
+ * Logging related utilities
+ *
+ * <p>This class guards the debug logging of the Glue hot paths. The level is checked before anything is built, so
+ * when debug is disabled no arguments array is allocated and no message is formatted. The overloads with fixed
+ * arguments avoid the varargs array of {@link Logger#debug(String, Object...)} and the {@link Supplier} overload
+ * defers messages that are expensive to build. Lambdas that capture values are allocated at the call site, so hot
+ * paths should prefer the fixed arguments overloads or an {@link #isDebugEnabled(Logger)} guarded block.</p>
+ *
+ * <p>The debug logging of Glue can be turned off entirely using the {@code glue.logger.debug} system property. The
+ * flag is a constant, so the JIT compiler removes the guarded code entirely when it's false.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+public final class LogUtils {
+
+    static final String DEBUG_PROPERTY = "glue.logger.debug";
+    private static final boolean DEBUG_ENABLED = Boolean.parseBoolean(System.getProperty(DEBUG_PROPERTY, "true"));
+
+    private LogUtils() {
+    }
+
+    /**
+     * Checks if the debug level is enabled for the provided logger
+     *
+     * @param logger Logger to be checked
+     * @return True when enabled, false otherwise
+     */
+    public static boolean isDebugEnabled(final Logger logger) {
+        return DEBUG_ENABLED && logger.isDebugEnabled();
+    }
+
+    /**
+     * Logs a debug message
+     *
+     * @param logger Target logger
+     * @param message Message
+     */
+    public static void debug(final Logger logger, final String message) {
+        if (isDebugEnabled(logger))
+            logger.debug(message);
+    }
+
+    /**
+     * Logs a debug message with one argument
+     *
+     * @param logger Target logger
+     * @param format Message format
+     * @param argument Message argument
+     */
+    public static void debug(final Logger logger, final String format, final Object argument) {
+        if (isDebugEnabled(logger))
+            logger.debug(format, argument);
+    }
+
+    /**
+     * Logs a debug message with two arguments
+     *
+     * @param logger Target logger
+     * @param format Message format
+     * @param first First message argument
+     * @param second Second message argument
+     */
+    public static void debug(final Logger logger, final String format, final Object first, final Object second) {
+        if (isDebugEnabled(logger))
+            logger.debug(format, first, second);
+    }
+
+    /**
+     * Logs a debug message with three arguments
+     *
+     * @param logger Target logger
+     * @param format Message format
+     * @param first First message argument
+     * @param second Second message argument
+     * @param third Third message argument
+     */
+    public static void debug(final Logger logger,
+                             final String format,
+                             final Object first,
+                             final Object second,
+                             final Object third) {
+        if (isDebugEnabled(logger))
+            logger.debug(format, first, second, third);
+    }
+
+    /**
+     * Logs a debug message built only when the debug level is enabled
+     *
+     * @param logger Target logger
+     * @param message Message supplier
+     */
+    public static void debug(final Logger logger, final Supplier<String> message) {
+        if (isDebugEnabled(logger))
+            logger.debug(message.get());
+    }
+}
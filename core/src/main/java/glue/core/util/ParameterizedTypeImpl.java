@@ -0,0 +1,82 @@
+package glue.core.util;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Immutable {@link ParameterizedType} implementation
+ *
+ * <p>This class follows the same {@link #equals(Object)} and {@link #hashCode()} contract of the JDK implementation,
+ * allowing its instances to be compared with types obtained through the Reflection API and to be safely used as
+ * keys of maps and caches.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-06
+ */
+final class ParameterizedTypeImpl implements ParameterizedType {
+
+    private final Class<?> rawType;
+    private final Type[] actualTypeArguments;
+    private final Type ownerType;
+
+    /**
+     * Package protected constructor with raw type and type arguments initialization
+     *
+     * @param rawType Raw type
+     * @param actualTypeArguments Actual type arguments
+     */
+    ParameterizedTypeImpl(final Class<?> rawType, final Type... actualTypeArguments) {
+        Objects.requireNonNull(rawType);
+        this.rawType = rawType;
+        this.actualTypeArguments = actualTypeArguments.clone();
+        this.ownerType = rawType.getDeclaringClass();
+    }
+
+    @Override
+    public Type[] getActualTypeArguments() {
+        return actualTypeArguments.clone();
+    }
+
+    @Override
+    public Type getRawType() {
+        return rawType;
+    }
+
+    @Override
+    public Type getOwnerType() {
+        return ownerType;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other)
+            return true;
+
+        if (!(other instanceof ParameterizedType))
+            return false;
+
+        final ParameterizedType that = (ParameterizedType) other;
+        return rawType.equals(that.getRawType())
+                && Objects.equals(ownerType, that.getOwnerType())
+                && Arrays.equals(actualTypeArguments, that.getActualTypeArguments());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(actualTypeArguments) ^ Objects.hashCode(ownerType) ^ rawType.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder(rawType.getName()).append('<');
+        for (int index = 0; index < actualTypeArguments.length; index++) {
+            if (index > 0)
+                builder.append(", ");
+            builder.append(actualTypeArguments[index].getTypeName());
+        }
+
+        return builder.append('>').toString();
+    }
+}
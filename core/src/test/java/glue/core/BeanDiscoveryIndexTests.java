@@ -0,0 +1,173 @@
+package glue.core;
+
+import glue.core.util.CdiUtils;
+import glue.core.util.ExceptionUtils;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test cases for {@link BeanDiscoveryIndex}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-17
+ */
+public class BeanDiscoveryIndexTests {
+
+    private Path indexDirectory;
+    private Path otherDirectory;
+    private Path indexFile;
+
+    @Before
+    public void setup() throws IOException {
+        this.indexDirectory = Files.createTempDirectory("glue-jandex");
+        this.otherDirectory = Files.createTempDirectory("glue-jandex");
+        this.indexFile = indexDirectory.resolve(BeanDiscoveryIndex.INDEX_RESOURCE);
+        Files.createDirectories(indexFile.getParent());
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        delete(indexDirectory);
+        delete(otherDirectory);
+    }
+
+    @Test
+    public void shouldFindTheIndexOfTheApplicationMainClass() throws IOException {
+        // scenario
+        writeIndex(GlueApplication.class, CdiUtils.class, ExceptionUtils.class);
+
+        // execution
+        final Optional<BeanDiscoveryIndex> index = BeanDiscoveryIndex.find(createClassLoader(), GlueApplication.class);
+
+        // validation
+        assertThat(index.isPresent(), is(true));
+    }
+
+    @Test
+    public void shouldIgnoreIndexesWithoutTheApplicationMainClass() throws IOException {
+        // scenario
+        writeIndex(CdiUtils.class);
+
+        // execution
+        final Optional<BeanDiscoveryIndex> index = BeanDiscoveryIndex.find(createClassLoader(), GlueApplication.class);
+
+        // validation
+        assertThat(index.isPresent(), is(false));
+    }
+
+    @Test
+    public void shouldIgnoreInvalidIndexes() throws IOException {
+        // scenario
+        Files.write(indexFile, new byte[]{1, 2, 3});
+
+        // execution
+        final Optional<BeanDiscoveryIndex> index = BeanDiscoveryIndex.find(createClassLoader(), GlueApplication.class);
+
+        // validation
+        assertThat(index.isPresent(), is(false));
+    }
+
+    @Test
+    public void shouldListTheClassesOfThePackageAndSubPackages() throws IOException {
+        // scenario
+        writeIndex(GlueApplication.class, CdiUtils.class, ExceptionUtils.class);
+        final BeanDiscoveryIndex index = BeanDiscoveryIndex.find(createClassLoader(), GlueApplication.class).get();
+
+        // execution
+        final List<String> packageClasses = index.getClassNames("glue.core");
+        final List<String> subPackageClasses = index.getClassNames("glue.core.util");
+
+        // validation
+        assertThat(packageClasses, is(asList(
+                GlueApplication.class.getName(), CdiUtils.class.getName(), ExceptionUtils.class.getName()
+        )));
+        assertThat(subPackageClasses, is(asList(CdiUtils.class.getName(), ExceptionUtils.class.getName())));
+    }
+
+    @Test
+    public void shouldMergeAllIndexesOfTheClasspath() throws IOException {
+        // scenario
+        writeIndex(GlueApplication.class);
+        writeIndex(otherDirectory.resolve(BeanDiscoveryIndex.INDEX_RESOURCE), CdiUtils.class);
+        final BeanDiscoveryIndex index = BeanDiscoveryIndex.find(createClassLoader(), GlueApplication.class).get();
+
+        // execution
+        final List<String> classes = index.getClassNames("glue.core");
+
+        // validation
+        assertThat(classes, is(asList(GlueApplication.class.getName(), CdiUtils.class.getName())));
+    }
+
+    @Test
+    public void shouldListTheClassesNotCoveredByTheIndex() throws IOException {
+        // scenario
+        writeIndex(GlueApplication.class);
+        copyClass(indexDirectory, GlueApplication.class);
+        copyClass(otherDirectory, CdiUtils.class);
+        final ClassLoader classLoader = createClassLoader();
+        final BeanDiscoveryIndex index = BeanDiscoveryIndex.find(classLoader, GlueApplication.class).get();
+
+        // execution
+        final List<String> classes = index.getUnindexedClassNames(classLoader, "glue.core");
+
+        // validation
+        assertThat(classes, is(Collections.singletonList(CdiUtils.class.getName())));
+    }
+
+    private ClassLoader createClassLoader() throws IOException {
+        return new URLClassLoader(new URL[]{indexDirectory.toUri().toURL(), otherDirectory.toUri().toURL()}, null);
+    }
+
+    private void writeIndex(final Class<?>... types) throws IOException {
+        writeIndex(indexFile, types);
+    }
+
+    private void writeIndex(final Path file, final Class<?>... types) throws IOException {
+        final Indexer indexer = new Indexer();
+        for (final Class<?> type : types)
+            try (InputStream input = type.getResourceAsStream(type.getSimpleName() + ".class")) {
+                indexer.index(input);
+            }
+
+        Files.createDirectories(file.getParent());
+        try (OutputStream output = Files.newOutputStream(file)) {
+            new IndexWriter(output).write(indexer.complete());
+        }
+    }
+
+    private void copyClass(final Path directory, final Class<?> type) throws IOException {
+        final Path classFile = directory.resolve(type.getName().replace('.', '/') + ".class");
+        Files.createDirectories(classFile.getParent());
+        try (InputStream input = type.getResourceAsStream(type.getSimpleName() + ".class")) {
+            Files.copy(input, classFile);
+        }
+    }
+
+    private void delete(final Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (final Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList()))
+                Files.delete(file);
+        }
+    }
+}
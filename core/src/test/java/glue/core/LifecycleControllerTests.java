@@ -53,6 +53,7 @@ public class LifecycleControllerTests {
     private Instance<GlueApplicationContext> applicationContextInstance;
     @Mock
     private WeldContainer weldContainer;
+    private ModuleActivator activator;
     @Rule
     public ExpectedException expectedException = ExpectedException.none();
 
@@ -66,12 +67,13 @@ public class LifecycleControllerTests {
         doReturn(loggerDelegate).when(logger).get();
         doReturn(weldContainer).when(applicationContext).getIocProvider();
         doReturn(true).when(modulesIterator).hasNext();
+        this.activator = new ModuleActivator(loggerDelegate);
     }
 
     @Test
     public void shouldStartJvmShutdownListener() {
         // scenario
-        final LifecycleController controller = new LifecycleController(modules, logger, shutdownListener, applicationContextInstance);
+        final LifecycleController controller = new LifecycleController(modules, logger, shutdownListener, applicationContextInstance, activator);
 
         // execution
         controller.start();
@@ -88,7 +90,7 @@ public class LifecycleControllerTests {
         doCallRealMethod().when(testModule).getStopPriority();
         final List<ModuleLifecycle> testModules = Arrays.asList(testModule);
         doReturn(testModules.spliterator()).when(modules).spliterator();
-        final LifecycleController controller = new LifecycleController(modules, logger, shutdownListener, applicationContextInstance);
+        final LifecycleController controller = new LifecycleController(modules, logger, shutdownListener, applicationContextInstance, activator);
 
         // execution
         controller.start();
@@ -105,7 +107,7 @@ public class LifecycleControllerTests {
         doCallRealMethod().when(testModule).getStopPriority();
         final List<ModuleLifecycle> testModules = Arrays.asList(testModule);
         doReturn(testModules.spliterator()).when(modules).spliterator();
-        final LifecycleController controller = spy(new LifecycleController(modules, logger, shutdownListener, applicationContextInstance));
+        final LifecycleController controller = spy(new LifecycleController(modules, logger, shutdownListener, applicationContextInstance, activator));
         doNothing().when(controller).shutdownJvm();
 
         // execution
@@ -125,7 +127,7 @@ public class LifecycleControllerTests {
         expectedException.expect(any(StartupException.class));
 
         // execution
-        new LifecycleController(modules, logger, shutdownListener, applicationContextInstance);
+        new LifecycleController(modules, logger, shutdownListener, applicationContextInstance, activator);
     }
 
     @Test
@@ -137,8 +139,35 @@ public class LifecycleControllerTests {
         expectedException.expect(any(StartupException.class));
 
         // execution
-        new LifecycleController(modules, logger, shutdownListener, applicationContextInstance);
+        new LifecycleController(modules, logger, shutdownListener, applicationContextInstance, activator);
 
     }
 
+    @Test
+    public void shouldStopActivatedLazyModules() {
+        // scenario
+        System.setProperty(ModuleActivator.LAZY_ACTIVATION_PROPERTY, "true");
+        final ModuleLifecycle lazyModule = mock(ModuleLifecycle.class);
+        doReturn(true).when(lazyModule).isLazy();
+        doCallRealMethod().when(lazyModule).getStartPriority();
+        doCallRealMethod().when(lazyModule).getStopPriority();
+        doReturn(Arrays.asList(lazyModule).spliterator()).when(modules).spliterator();
+        final LifecycleController controller = spy(new LifecycleController(modules, logger, shutdownListener, applicationContextInstance, activator));
+        doNothing().when(controller).shutdownJvm();
+
+        // execution
+        try {
+            controller.start();
+            verify(lazyModule, never()).start();
+            activator.activateAll();
+            controller.stop();
+        } finally {
+            System.clearProperty(ModuleActivator.LAZY_ACTIVATION_PROPERTY);
+        }
+
+        // validation
+        verify(lazyModule, times(1)).start();
+        verify(lazyModule, times(1)).stop();
+    }
+
 }
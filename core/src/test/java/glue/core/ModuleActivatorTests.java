@@ -0,0 +1,167 @@
+package glue.core;
+
+import glue.core.exception.StartupException;
+import glue.core.module.ModuleLifecycle;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.Logger;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Test cases for {@link ModuleActivator}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ModuleActivatorTests {
+
+    @Mock
+    private Logger logger;
+
+    private ModuleActivator activator;
+    private List<String> events;
+
+    @Before
+    public void setup() {
+        System.setProperty(ModuleActivator.LAZY_ACTIVATION_PROPERTY, "true");
+        this.activator = new ModuleActivator(logger);
+        this.events = new CopyOnWriteArrayList<>();
+    }
+
+    @After
+    public void tearDown() {
+        System.clearProperty(ModuleActivator.LAZY_ACTIVATION_PROPERTY);
+    }
+
+    @Test
+    public void shouldStartAllModulesWhenLazyActivationIsDisabled() {
+        // scenario
+        System.clearProperty(ModuleActivator.LAZY_ACTIVATION_PROPERTY);
+        final TestModule eager = new TestModule("eager", events);
+        final TestModule lazy = new TestModule("lazy", events).lazy();
+
+        // execution
+        final List<ModuleLifecycle> startupModules = activator.initialize(Arrays.asList(eager, lazy));
+
+        // validation
+        assertThat(startupModules, is(Arrays.<ModuleLifecycle>asList(eager, lazy)));
+        assertThat(activator.hasPendingModules(), is(false));
+    }
+
+    @Test
+    public void shouldKeepLazyModulesPendingUntilActivated() {
+        // scenario
+        final TestModule eager = new TestModule("eager", events);
+        final TestModule lazy = new TestModule("lazy", events).lazy();
+        final List<ModuleLifecycle> startupModules = activator.initialize(Arrays.asList(eager, lazy));
+        startupModules.forEach(activator::markStarted);
+
+        // execution
+        activator.activateAll();
+        activator.activateAll();
+
+        // validation
+        assertThat(startupModules, is(Collections.<ModuleLifecycle>singletonList(eager)));
+        assertThat(events, is(Arrays.asList("start:lazy", "activated:eager:[lazy]")));
+        assertThat(activator.getActiveModules(), is(Arrays.<ModuleLifecycle>asList(eager, lazy)));
+        assertThat(activator.hasPendingModules(), is(false));
+    }
+
+    @Test
+    public void shouldStartLazyDependenciesOfEagerModulesWithTheApplication() {
+        // scenario
+        final TestModule dependency = new TestModule.Dependency("dependency", events).lazy();
+        final TestModule eager = new TestModule("eager", events).dependingOn(TestModule.Dependency.class);
+
+        // execution
+        final List<ModuleLifecycle> startupModules = activator.initialize(Arrays.asList(eager, dependency));
+
+        // validation
+        assertThat(startupModules, is(Arrays.<ModuleLifecycle>asList(eager, dependency)));
+        assertThat(activator.hasPendingModules(), is(false));
+    }
+
+    @Test
+    public void shouldActivateModuleWithItsLazyDependencies() {
+        // scenario
+        final TestModule dependent = new TestModule.Dependent("dependent", events)
+                .lazy()
+                .dependingOn(TestModule.Dependency.class);
+        final TestModule other = new TestModule("other", events).lazy();
+        activator.initialize(Arrays.asList(dependent, other, new TestModule.Dependency("dependency", events).lazy()));
+
+        // execution
+        activator.activate(TestModule.Dependent.class);
+
+        // validation
+        assertThat(events, is(Arrays.asList("start:dependency", "start:dependent")));
+        assertThat(activator.hasPendingModules(), is(true));
+    }
+
+    @Test
+    public void shouldNotActivateModulesAfterClosed() {
+        // scenario
+        activator.initialize(Collections.singletonList(new TestModule("lazy", events).lazy()));
+
+        // execution
+        activator.close();
+        activator.activateAll();
+
+        // validation
+        assertThat(events.isEmpty(), is(true));
+        assertThat(activator.getActiveModules().isEmpty(), is(true));
+    }
+
+    @Test
+    public void shouldKeepModulesThatFailedToStartPending() {
+        // scenario
+        final TestModule lazy = new TestModule("lazy", events)
+                .lazy()
+                .onStart(TestModule.failure("Startup failure of lazy"));
+        activator.initialize(Collections.singletonList(lazy));
+
+        // execution
+        try {
+            activator.activateAll();
+            fail("Activation failure should be reported");
+        } catch (final StartupException ex) {
+            // validation
+            assertThat(activator.getActiveModules().isEmpty(), is(true));
+            assertThat(activator.hasPendingModules(), is(true));
+        }
+    }
+
+    @Test
+    public void shouldStartFailedModulesOnTheNextActivation() {
+        // scenario
+        final TestModule lazy = new TestModule("lazy", events)
+                .lazy()
+                .onStart(TestModule.failure("Startup failure of lazy"));
+        activator.initialize(Collections.singletonList(lazy));
+        try {
+            activator.activateAll();
+            fail("Activation failure should be reported");
+        } catch (final StartupException ex) {
+            lazy.onStart(() -> {});
+        }
+
+        // execution
+        activator.activateAll();
+
+        // validation
+        assertThat(events, is(Collections.singletonList("start:lazy")));
+        assertThat(activator.getActiveModules(), is(Collections.<ModuleLifecycle>singletonList(lazy)));
+        assertThat(activator.hasPendingModules(), is(false));
+    }
+}
@@ -0,0 +1,114 @@
+package glue.core;
+
+import glue.core.exception.CheckpointException;
+import glue.core.module.Priority;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Test cases for {@link ModuleCheckpointCoordinator}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ModuleCheckpointCoordinatorTests {
+
+    @Mock
+    private Logger logger;
+
+    private List<String> events;
+
+    @Before
+    public void setup() {
+        this.events = new ArrayList<>();
+    }
+
+    @Test
+    public void shouldFollowStopPrioritiesBeforeCheckpointAndStartPrioritiesAfterRestore() {
+        // scenario
+        final TestModule web = new TestModule("web", events).withPriorities(Priority.LOW, Priority.HIGH);
+        final TestModule database = new TestModule("database", events).withPriorities(Priority.HIGH, Priority.LOW);
+        final ModuleCheckpointCoordinator coordinator = new ModuleCheckpointCoordinator(Arrays.asList(web, database), logger);
+
+        // execution
+        coordinator.beforeCheckpoint();
+        coordinator.afterRestore();
+
+        // validation
+        assertThat(events, is(Arrays.asList("checkpoint:web", "checkpoint:database", "restore:database", "restore:web")));
+    }
+
+    @Test
+    public void shouldRestorePreparedModulesWhenCheckpointIsAborted() {
+        // scenario
+        final TestModule first = new TestModule("first", events).withPriorities(Priority.REGULAR, Priority.HIGH);
+        final TestModule second = new TestModule("second", events).withPriorities(Priority.REGULAR, Priority.REGULAR);
+        final TestModule third = new TestModule("third", events).withPriorities(Priority.REGULAR, Priority.LOW)
+                .onCheckpoint(TestModule.failure("Checkpoint failure of third"));
+        final ModuleCheckpointCoordinator coordinator =
+                new ModuleCheckpointCoordinator(Arrays.asList(first, second, third), logger);
+
+        // execution
+        try {
+            coordinator.beforeCheckpoint();
+            fail("Checkpoint should be aborted");
+        } catch (final CheckpointException ex) {
+            // validation
+            assertThat(events, is(Arrays.asList(
+                    "checkpoint:first", "checkpoint:second", "restore:second", "restore:first"
+            )));
+        }
+    }
+
+    @Test
+    public void shouldRestoreRemainingModulesWhenOneFailsToRestore() {
+        // scenario
+        final TestModule first = new TestModule("first", events)
+                .withPriorities(Priority.HIGH, Priority.REGULAR)
+                .onRestore(TestModule.failure("Restore failure of first"));
+        final TestModule second = new TestModule("second", events).withPriorities(Priority.LOW, Priority.REGULAR);
+        final ModuleCheckpointCoordinator coordinator = new ModuleCheckpointCoordinator(Arrays.asList(first, second), logger);
+
+        // execution
+        try {
+            coordinator.afterRestore();
+            fail("Restore failure should be reported");
+        } catch (final CheckpointException ex) {
+            // validation
+            assertThat(events, is(Arrays.asList("restore:second")));
+        }
+    }
+
+    @Test
+    public void shouldNotifyRegisteredListenersInProcessWhenCracIsNotAvailable() {
+        // scenario
+        Assume.assumeThat(CheckpointSupport.isAvailable(), is(false));
+        final ModuleCheckpointCoordinator coordinator =
+                new ModuleCheckpointCoordinator(Arrays.asList(new TestModule("module", events)), logger);
+        CheckpointSupport.register(coordinator);
+
+        // execution
+        try {
+            CheckpointSupport.checkpointRestore();
+        } finally {
+            CheckpointSupport.unregister(coordinator);
+        }
+
+        // validation
+        assertThat(events, is(Arrays.asList("checkpoint:module", "restore:module")));
+    }
+}
@@ -0,0 +1,164 @@
+package glue.core;
+
+import glue.core.module.ModuleLifecycle;
+import glue.core.module.Priority;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test cases for {@link ModuleShutdownScheduler}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-17
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ModuleShutdownSchedulerTests {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Mock
+    private Logger logger;
+
+    private ModuleShutdownScheduler scheduler;
+    private List<String> events;
+
+    @Before
+    public void setup() {
+        this.scheduler = new ModuleShutdownScheduler(logger);
+        this.events = new CopyOnWriteArrayList<>();
+    }
+
+    @Test
+    public void shouldSuspendAndDrainAllModulesBeforeStoppingThem() {
+        // scenario
+        final TestModule first = new TestModule("first", events).withStopPriority(Priority.HIGH);
+        final TestModule second = new TestModule("second", events).withStopPriority(Priority.LOW);
+
+        // execution
+        final Set<ModuleLifecycle> terminated = scheduler.stop(Arrays.asList(first, second), TIMEOUT, TIMEOUT);
+
+        // validation
+        assertThat(terminated.isEmpty(), is(true));
+        assertThat(events.subList(0, 2), is(Arrays.asList("suspend:first", "suspend:second")));
+        assertThat(new HashSet<>(events.subList(2, 4)), is(new HashSet<>(Arrays.asList("drain:first", "drain:second"))));
+        assertThat(events.subList(4, 6), is(Arrays.asList("stop:first", "stop:second")));
+    }
+
+    @Test
+    public void shouldStopDependentsBeforeTheirDependenciesWithTheSamePriority() {
+        // scenario
+        final TestModule dependent = new TestModule("dependent", events).dependingOn(TestModule.Dependency.class);
+        final TestModule dependency = new TestModule.Dependency("dependency", events);
+
+        // execution
+        scheduler.stop(Arrays.asList(dependency, dependent), TIMEOUT, TIMEOUT);
+
+        // validation
+        assertThat(events.indexOf("stop:dependent") < events.indexOf("stop:dependency"), is(true));
+    }
+
+    @Test
+    public void shouldStopTheWebContainerBeforeTheModulesItFronts() {
+        // scenario
+        final TestModule jaxRs = new TestModule("jaxRs", events).dependingOn(TestModule.Dependency.class);
+        final TestModule webContainer = new TestModule.Dependency("webContainer", events)
+                .withStopPriority(Priority.HIGH);
+
+        // execution
+        final Set<ModuleLifecycle> terminated = scheduler.stop(Arrays.asList(jaxRs, webContainer), TIMEOUT, TIMEOUT);
+
+        // validation
+        assertThat(terminated.isEmpty(), is(true));
+        assertThat(events.indexOf("stop:webContainer") < events.indexOf("stop:jaxRs"), is(true));
+    }
+
+    @Test
+    public void shouldStopIndependentModulesConcurrently() {
+        // scenario
+        final CountDownLatch bothStopping = new CountDownLatch(2);
+        final Runnable awaitOther = () -> {
+            bothStopping.countDown();
+            try {
+                assertTrue(bothStopping.await(5, TimeUnit.SECONDS));
+            } catch (final InterruptedException ex) {
+                throw new IllegalStateException(ex);
+            }
+        };
+        final TestModule first = new TestModule("first", events).onStop(awaitOther);
+        final TestModule second = new TestModule("second", events).onStop(awaitOther);
+
+        // execution
+        final Set<ModuleLifecycle> terminated = scheduler.stop(Arrays.asList(first, second), TIMEOUT, TIMEOUT);
+
+        // validation
+        assertThat(terminated.isEmpty(), is(true));
+        assertThat(bothStopping.getCount(), is(0L));
+    }
+
+    @Test
+    public void shouldReportModulesNotDrainedInTime() {
+        // scenario
+        final TestModule drained = new TestModule("drained", events);
+        final TestModule busy = new TestModule("busy", events).undrained();
+
+        // execution
+        final Set<ModuleLifecycle> terminated = scheduler.stop(Arrays.asList(drained, busy), TIMEOUT, TIMEOUT);
+
+        // validation
+        assertThat(terminated.size(), is(1));
+        assertThat(terminated.contains(busy), is(true));
+        assertThat(events.contains("stop:busy"), is(true));
+    }
+
+    @Test
+    public void shouldReportModulesNotStoppedInTime() {
+        // scenario
+        final CountDownLatch release = new CountDownLatch(1);
+        final TestModule stuck = new TestModule("stuck", events).withStopPriority(Priority.HIGH).onStop(() -> {
+            try {
+                release.await();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        final TestModule waiting = new TestModule("waiting", events).withStopPriority(Priority.LOW);
+
+        // execution
+        final Set<ModuleLifecycle> terminated = scheduler
+                .stop(Arrays.asList(stuck, waiting), TIMEOUT, Duration.ofMillis(100));
+        release.countDown();
+
+        // validation
+        assertThat(terminated.size(), is(2));
+        assertThat(events.contains("stop:waiting"), is(false));
+    }
+
+    @Test
+    public void shouldKeepStoppingWhenModuleFails() {
+        // scenario
+        final TestModule failing = new TestModule("failing", events)
+                .withStopPriority(Priority.HIGH)
+                .onStop(TestModule.failure("failed"));
+        final TestModule next = new TestModule("next", events).withStopPriority(Priority.LOW);
+
+        // execution
+        scheduler.stop(Arrays.asList(failing, next), TIMEOUT, TIMEOUT);
+
+        // validation
+        assertThat(events.contains("stop:next"), is(true));
+    }
+}
@@ -0,0 +1,156 @@
+package glue.core;
+
+import glue.core.exception.StartupException;
+import glue.core.module.ModuleLifecycle;
+import glue.core.module.Priority;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.Logger;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Test cases for {@link ModuleStartupScheduler}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-16
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ModuleStartupSchedulerTests {
+
+    @Mock
+    private Logger logger;
+
+    private ModuleStartupScheduler scheduler;
+    private List<String> events;
+    private List<ModuleLifecycle> reportedModules;
+
+    @Before
+    public void setup() {
+        this.scheduler = new ModuleStartupScheduler(logger);
+        this.events = new CopyOnWriteArrayList<>();
+        this.reportedModules = new CopyOnWriteArrayList<>();
+    }
+
+    @Test
+    public void shouldStartIndependentModulesConcurrently() {
+        // scenario
+        final CountDownLatch bothRunning = new CountDownLatch(2);
+        final Runnable awaitOther = () -> {
+            bothRunning.countDown();
+            try {
+                assertTrue(bothRunning.await(5, TimeUnit.SECONDS));
+            } catch (final InterruptedException ex) {
+                throw new IllegalStateException(ex);
+            }
+        };
+
+        // execution
+        scheduler.start(Arrays.asList(
+                new TestModule("first", events).onStart(awaitOther),
+                new TestModule("second", events).onStart(awaitOther)
+        ), reportedModules::add, 2);
+
+        // validation
+        assertThat(events.size(), is(2));
+    }
+
+    @Test
+    public void shouldRespectPriorities() {
+        // execution
+        scheduler.start(Arrays.asList(
+                new TestModule("low", events).withStartPriority(Priority.LOW),
+                new TestModule("regular", events),
+                new TestModule("high", events).withStartPriority(Priority.HIGH)
+        ), reportedModules::add, 4);
+
+        // validation
+        assertThat(events, is(Arrays.asList("start:high", "start:regular", "start:low")));
+    }
+
+    @Test
+    public void shouldRespectDeclaredDependencies() {
+        // scenario
+        final TestModule dependent = new TestModule("dependent", events).dependingOn(TestModule.Dependency.class);
+        final TestModule dependency = new TestModule.Dependency("dependency", events);
+
+        // execution
+        scheduler.start(Arrays.asList(dependent, dependency), reportedModules::add, 4);
+
+        // validation
+        assertThat(events, is(Arrays.asList("start:dependency", "start:dependent")));
+    }
+
+    @Test
+    public void shouldNotStartDependentsOfFailedModules() {
+        // scenario
+        final TestModule failing = new TestModule("failing", events)
+                .withStartPriority(Priority.HIGH)
+                .onStart(TestModule.failure("Startup failure"));
+        final TestModule dependent = new TestModule("dependent", events);
+
+        // execution
+        try {
+            scheduler.start(Arrays.asList(failing, dependent), reportedModules::add, 4);
+            fail("StartupException expected");
+        } catch (final StartupException ex) {
+
+            // validation
+            assertThat(ex.getCause().getMessage(), is("Startup failure"));
+            assertThat(events.contains("start:dependent"), is(false));
+        }
+    }
+
+    @Test
+    public void shouldWaitForRunningStartupsBeforeReportingFailures() {
+        // scenario
+        final CountDownLatch slowModuleRunning = new CountDownLatch(1);
+        final TestModule failing = new TestModule("failing", events).onStart(() -> {
+            try {
+                slowModuleRunning.await(5, TimeUnit.SECONDS);
+            } catch (final InterruptedException ex) {
+                throw new IllegalStateException(ex);
+            }
+            throw new IllegalStateException("Startup failure");
+        });
+        final TestModule slow = new TestModule("slow", events).onStart(() -> {
+            slowModuleRunning.countDown();
+            final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(300);
+            while (System.nanoTime() < deadline)
+                Thread.yield();
+        });
+
+        // execution
+        try {
+            scheduler.start(Arrays.asList(failing, slow), reportedModules::add, 2);
+            fail("StartupException expected");
+        } catch (final StartupException ex) {
+
+            // validation
+            assertThat(events, is(Collections.singletonList("start:slow")));
+            assertThat(reportedModules, is(Collections.<ModuleLifecycle>singletonList(slow)));
+        }
+    }
+
+    @Test(expected = StartupException.class)
+    public void shouldDetectCyclicDependencies() {
+        // scenario
+        final TestModule module = new TestModule("module", events).dependingOn(TestModule.Dependency.class);
+        final TestModule dependency = new TestModule.Dependency("dependency", events).dependingOn(TestModule.class);
+
+        // execution
+        scheduler.start(Arrays.asList(module, dependency), reportedModules::add, 4);
+    }
+
+}
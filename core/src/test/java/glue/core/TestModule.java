@@ -0,0 +1,190 @@
+package glue.core;
+
+import glue.core.module.ModuleLifecycle;
+import glue.core.module.Priority;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Module used by the lifecycle test cases
+ *
+ * <p>The module records its lifecycle events in the provided list, using the event name followed by the module name
+ * (like {@code start:web}). Events are recorded after the configured actions, so actions that throw an exception
+ * aren't recorded.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+class TestModule implements ModuleLifecycle {
+
+    private static final Runnable NO_ACTION = () -> {};
+
+    private final String name;
+    private final List<String> events;
+    private Priority startPriority = Priority.REGULAR;
+    private Priority stopPriority = Priority.REGULAR;
+    private Set<Class<? extends ModuleLifecycle>> dependencies = Collections.emptySet();
+    private boolean lazy;
+    private boolean drained = true;
+    private Runnable startAction = NO_ACTION;
+    private Runnable stopAction = NO_ACTION;
+    private Runnable checkpointAction = NO_ACTION;
+    private Runnable restoreAction = NO_ACTION;
+
+    /**
+     * Constructor with module name and events list initialization
+     *
+     * @param name Module name
+     * @param events List where the lifecycle events are recorded
+     */
+    TestModule(final String name, final List<String> events) {
+        this.name = name;
+        this.events = events;
+    }
+
+    TestModule withPriorities(final Priority startPriority, final Priority stopPriority) {
+        this.startPriority = startPriority;
+        this.stopPriority = stopPriority;
+        return this;
+    }
+
+    TestModule withStartPriority(final Priority startPriority) {
+        this.startPriority = startPriority;
+        return this;
+    }
+
+    TestModule withStopPriority(final Priority stopPriority) {
+        this.stopPriority = stopPriority;
+        return this;
+    }
+
+    TestModule dependingOn(final Class<? extends ModuleLifecycle> dependency) {
+        this.dependencies = Collections.singleton(dependency);
+        return this;
+    }
+
+    TestModule lazy() {
+        this.lazy = true;
+        return this;
+    }
+
+    TestModule undrained() {
+        this.drained = false;
+        return this;
+    }
+
+    TestModule onStart(final Runnable action) {
+        this.startAction = action;
+        return this;
+    }
+
+    TestModule onStop(final Runnable action) {
+        this.stopAction = action;
+        return this;
+    }
+
+    TestModule onCheckpoint(final Runnable action) {
+        this.checkpointAction = action;
+        return this;
+    }
+
+    TestModule onRestore(final Runnable action) {
+        this.restoreAction = action;
+        return this;
+    }
+
+    @Override
+    public void start() {
+        startAction.run();
+        events.add("start:" + name);
+    }
+
+    @Override
+    public void stop() {
+        stopAction.run();
+        events.add("stop:" + name);
+    }
+
+    @Override
+    public void suspend() {
+        events.add("suspend:" + name);
+    }
+
+    @Override
+    public boolean awaitDrain(final long timeout, final TimeUnit unit) {
+        events.add("drain:" + name);
+        return drained;
+    }
+
+    @Override
+    public void beforeCheckpoint() {
+        checkpointAction.run();
+        events.add("checkpoint:" + name);
+    }
+
+    @Override
+    public void afterRestore() {
+        restoreAction.run();
+        events.add("restore:" + name);
+    }
+
+    @Override
+    public void afterLazyActivation(final Collection<ModuleLifecycle> activatedModules) {
+        final StringJoiner names = new StringJoiner(",", "[", "]");
+        activatedModules.forEach(module -> names.add(((TestModule) module).name));
+        events.add("activated:" + name + ":" + names);
+    }
+
+    @Override
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    @Override
+    public Integer getStartPriority() {
+        return startPriority.asInteger();
+    }
+
+    @Override
+    public Integer getStopPriority() {
+        return stopPriority.asInteger();
+    }
+
+    @Override
+    public Set<Class<? extends ModuleLifecycle>> getDependencies() {
+        return dependencies;
+    }
+
+    /**
+     * Action that fails with the provided message
+     *
+     * @param message Failure message
+     * @return Failing action
+     */
+    static Runnable failure(final String message) {
+        return () -> {
+            throw new IllegalStateException(message);
+        };
+    }
+
+    /**
+     * Test module with its own type, allowing other modules to declare it as a dependency
+     */
+    static class Dependency extends TestModule {
+
+        Dependency(final String name, final List<String> events) {
+            super(name, events);
+        }
+    }
+
+    /**
+     * Test module with its own type, allowing it to be activated by type
+     */
+    static class Dependent extends TestModule {
+
+        Dependent(final String name, final List<String> events) {
+            super(name, events);
+        }
+    }
+}
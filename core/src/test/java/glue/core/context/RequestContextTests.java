@@ -0,0 +1,117 @@
+package glue.core.context;
+
+import org.junit.After;
+import org.junit.Test;
+import org.slf4j.MDC;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test cases for {@link RequestContext}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+public class RequestContextTests {
+
+    @After
+    public void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    public void shouldBindTheContextUntilClosed() {
+        // execution
+        final RequestContext context = RequestContext.open("request-1");
+        final boolean bound = RequestContext.current().isPresent();
+        final String requestId = MDC.get(RequestContext.REQUEST_ID_KEY);
+        context.close();
+
+        // validation
+        assertThat(bound, is(true));
+        assertThat(requestId, is("request-1"));
+        assertThat(RequestContext.current().isPresent(), is(false));
+        assertThat(MDC.get(RequestContext.REQUEST_ID_KEY), is(nullValue()));
+    }
+
+    @Test
+    public void shouldRestoreThePreviousContextWhenClosed() {
+        // scenario
+        try (RequestContext outer = RequestContext.open("outer")) {
+
+            // execution
+            RequestContext.open("inner").close();
+
+            // validation
+            assertThat(RequestContext.current().orElse(null), is(sameInstance(outer)));
+            assertThat(MDC.get(RequestContext.REQUEST_ID_KEY), is("outer"));
+        }
+    }
+
+    @Test
+    public void shouldAccumulateThePhaseTimings() {
+        // scenario
+        try (RequestContext context = RequestContext.open("request-1")) {
+
+            // execution
+            RequestContext.recordCurrent("database", TimeUnit.MILLISECONDS.toNanos(2));
+            context.record("database", TimeUnit.MILLISECONDS.toNanos(3));
+
+            // validation
+            assertThat(context.getPhases(), hasItem("database"));
+            assertThat(context.getTime("database", TimeUnit.MILLISECONDS), is(5L));
+            assertThat(context.getCount("database"), is(2L));
+            assertThat(context.getCount("jaxrs"), is(0L));
+        }
+    }
+
+    @Test
+    public void shouldIgnoreTimingsOutsideOfARequest() {
+        // execution
+        RequestContext.recordCurrent("database", 1);
+
+        // validation
+        assertThat(RequestContext.current().isPresent(), is(false));
+    }
+
+    @Test
+    public void shouldPropagateTheContextToTheTask() throws Exception {
+        // scenario
+        final Callable<String> task;
+        final RequestContext context;
+        try (RequestContext opened = RequestContext.open("request-1")) {
+            MDC.put("tenant", "glue");
+            task = RequestContext.propagate(() -> {
+                RequestContext.recordCurrent("task", 1);
+                return MDC.get(RequestContext.REQUEST_ID_KEY) + "/" + MDC.get("tenant");
+            });
+            context = opened;
+        }
+        MDC.clear();
+
+        // execution
+        final String result = task.call();
+
+        // validation
+        assertThat(result, is("request-1/glue"));
+        assertThat(context.getCount("task"), is(1L));
+        assertThat(RequestContext.current().isPresent(), is(false));
+        assertThat(MDC.getCopyOfContextMap() == null || MDC.getCopyOfContextMap().isEmpty(), is(true));
+    }
+
+    @Test
+    public void shouldNotWrapTheTaskWithoutContext() {
+        // scenario
+        final Runnable task = () -> { };
+
+        // execution
+        final Runnable result = RequestContext.propagate(task);
+
+        // validation
+        assertThat(result, is(sameInstance(task)));
+    }
+}
@@ -0,0 +1,191 @@
+package glue.core.executor;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.Logger;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test cases for {@link ExecutorRegistry}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ExecutorRegistryTests {
+
+    @Mock
+    private Logger logger;
+
+    private ExecutorRegistry registry;
+    private CountDownLatch release;
+
+    @Before
+    public void setup() {
+        this.registry = new ExecutorRegistry(ThreadMode.PLATFORM, logger);
+        this.release = new CountDownLatch(1);
+    }
+
+    @After
+    public void tearDown() {
+        release.countDown();
+        registry.shutdown();
+        System.clearProperty("glue.executor.test.threads");
+    }
+
+    @Test
+    public void shouldShareExecutorsByName() {
+        // execution
+        final ExecutorService first = registry.getExecutor("test", 1, 10, RejectionPolicy.ABORT);
+        final ExecutorService second = registry.getExecutor("test", 2, 20, RejectionPolicy.DISCARD);
+
+        // validation
+        assertThat(first, sameInstance(second));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldFailWhenNameIsUsedByAnotherKindOfPool() {
+        // scenario
+        registry.getScheduler("test", 1);
+
+        // execution
+        registry.getExecutor("test", 1, 10, RejectionPolicy.ABORT);
+    }
+
+    @Test
+    public void shouldOverrideSettingsUsingSystemProperties() throws Exception {
+        // scenario
+        System.setProperty("glue.executor.test.threads", "3");
+        final ExecutorService executor = registry.getExecutor("test", 1, 10, RejectionPolicy.ABORT);
+
+        // execution
+        for (int index = 0; index < 3; index++)
+            executor.execute(this::awaitRelease);
+
+        // validation
+        assertThat(awaitActiveCount("test", 3), is(true));
+    }
+
+    @Test
+    public void shouldExposeQueueDepthAndActiveCount() throws Exception {
+        // scenario
+        final ExecutorService executor = registry.getExecutor("test", 1, 10, RejectionPolicy.ABORT);
+
+        // execution
+        executor.execute(this::awaitRelease);
+        executor.execute(this::awaitRelease);
+        executor.execute(this::awaitRelease);
+
+        // validation
+        assertThat(awaitActiveCount("test", 1), is(true));
+        final ExecutorMetrics metrics = registry.getMetrics("test").get();
+        assertThat(metrics.getPoolSize(), is(1));
+        assertThat(metrics.getQueueDepth(), is(2));
+    }
+
+    @Test
+    public void shouldCountRejectedTasks() throws Exception {
+        // scenario
+        final ExecutorService executor = registry.getExecutor("test", 1, 1, RejectionPolicy.DISCARD);
+        executor.execute(this::awaitRelease);
+        awaitActiveCount("test", 1);
+
+        // execution
+        executor.execute(this::awaitRelease);
+        executor.execute(this::awaitRelease);
+
+        // validation
+        assertThat(registry.getMetrics("test").get().getRejectedTaskCount(), is(1L));
+    }
+
+    @Test
+    public void shouldRecordTaskLatencies() throws Exception {
+        // scenario
+        final ExecutorService executor = registry.getExecutor("test", 1, 10, RejectionPolicy.ABORT);
+
+        // execution
+        executor.submit(() -> {
+            TimeUnit.MILLISECONDS.sleep(20);
+            return null;
+        }).get(5, TimeUnit.SECONDS);
+        executor.submit(() -> { }).get(5, TimeUnit.SECONDS);
+        registry.awaitIdle(5, TimeUnit.SECONDS);
+
+        // validation
+        final ExecutorMetrics metrics = registry.getMetrics("test").get();
+        assertThat(metrics.getCompletedTaskCount(), is(2L));
+        assertThat(metrics.getQueueWait().getCount(), is(2L));
+        assertThat(metrics.getExecution().getCount(), is(2L));
+        assertThat(metrics.getExecution().getMax(TimeUnit.MILLISECONDS) >= 20, is(true));
+    }
+
+    @Test
+    public void shouldRunScheduledTasks() throws Exception {
+        // scenario
+        final ScheduledExecutorService scheduler = registry.getScheduler("test", 1);
+
+        // execution
+        final ScheduledFuture<String> result = scheduler.schedule(() -> "done", 10, TimeUnit.MILLISECONDS);
+
+        // validation
+        assertThat(result.get(5, TimeUnit.SECONDS), is("done"));
+        assertThat(registry.awaitIdle(5, TimeUnit.SECONDS).isEmpty(), is(true));
+        assertThat(registry.getMetrics("test").get().getExecution().getCount(), is(1L));
+    }
+
+    @Test
+    public void shouldReportBusyPoolsWhenNotIdleInTime() throws Exception {
+        // scenario
+        registry.getExecutor("test", 1, 10, RejectionPolicy.ABORT).execute(this::awaitRelease);
+        registry.getScheduler("idle", 1).schedule(() -> { }, 1, TimeUnit.HOURS);
+
+        // execution
+        final Set<String> busyPools = registry.awaitIdle(100, TimeUnit.MILLISECONDS);
+
+        // validation
+        assertThat(busyPools, is(Collections.singleton("test")));
+    }
+
+    @Test
+    public void shouldInterruptTasksOnShutdown() throws Exception {
+        // scenario
+        final ExecutorService executor = registry.getExecutor("test", 1, 10, RejectionPolicy.ABORT);
+        executor.execute(this::awaitRelease);
+
+        // execution
+        registry.shutdown();
+
+        // validation
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS), is(true));
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean awaitActiveCount(final String name, final int activeCount) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            if (registry.getMetrics(name).get().getActiveCount() == activeCount)
+                return true;
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,123 @@
+package glue.core.executor;
+
+import glue.core.context.RequestContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.Logger;
+import org.slf4j.MDC;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test cases for {@link GlueExecutor}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class GlueExecutorTests {
+
+    @Mock
+    private Logger logger;
+
+    private ExecutorRegistry registry;
+    private GlueExecutor executor;
+
+    @Before
+    public void setup() {
+        this.registry = new ExecutorRegistry(ThreadMode.PLATFORM, logger);
+        this.executor = new GlueExecutor(registry, logger);
+    }
+
+    @After
+    public void tearDown() {
+        registry.shutdown();
+    }
+
+    @Test
+    public void shouldExecuteSubmittedTasks() throws Exception {
+        // execution
+        final Future<String> result = executor.submit(() -> Thread.currentThread().getName());
+
+        // validation
+        assertThat(result.get(5, TimeUnit.SECONDS).startsWith("glue-executor-"), is(true));
+        assertThat(executor.getThreadMode(), is(ThreadMode.PLATFORM));
+    }
+
+    @Test
+    public void shouldRunTheTasksInAManagedPool() throws Exception {
+        // scenario
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        started.await(5, TimeUnit.SECONDS);
+
+        // execution
+        final Set<String> busyPools = registry.awaitIdle(0, TimeUnit.MILLISECONDS);
+        release.countDown();
+
+        // validation
+        assertThat(busyPools, is(Collections.singleton(GlueExecutor.POOL_NAME)));
+        assertThat(registry.awaitIdle(5, TimeUnit.SECONDS).isEmpty(), is(true));
+        assertThat(registry.getMetrics(GlueExecutor.POOL_NAME).get().getCompletedTaskCount(), is(1L));
+    }
+
+    @Test
+    public void shouldPropagateTheRequestContextToTheTasks() throws Exception {
+        // scenario
+        final Future<String> result;
+        try (RequestContext context = RequestContext.open("request-1")) {
+
+            // execution
+            result = executor.submit(() -> {
+                RequestContext.recordCurrent("task", 1);
+                return MDC.get(RequestContext.REQUEST_ID_KEY);
+            });
+
+            // validation
+            assertThat(result.get(5, TimeUnit.SECONDS), is("request-1"));
+            assertThat(context.getCount("task"), is(1L));
+        }
+    }
+
+    @Test
+    public void shouldInterruptRunningTasksWhenDestroyed() throws Exception {
+        // scenario
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (final InterruptedException ex) {
+                interrupted.countDown();
+            }
+        });
+        started.await(5, TimeUnit.SECONDS);
+
+        // execution
+        executor.destroy();
+
+        // validation
+        assertThat(interrupted.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS), is(true));
+    }
+}
@@ -0,0 +1,88 @@
+package glue.core.executor;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test cases for {@link LatencyHistogram}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+public class LatencyHistogramTests {
+
+    private LatencyHistogram histogram;
+
+    @Before
+    public void setup() {
+        this.histogram = new LatencyHistogram();
+    }
+
+    @Test
+    public void shouldReturnZeroWhenEmpty() {
+        // validation
+        assertThat(histogram.getCount(), is(0L));
+        assertThat(histogram.getMean(TimeUnit.MICROSECONDS), is(0L));
+        assertThat(histogram.getPercentile(99, TimeUnit.MICROSECONDS), is(0L));
+    }
+
+    @Test
+    public void shouldCountLatenciesInExponentialBuckets() {
+        // execution
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(0));
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(1));
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(3));
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(1000));
+
+        // validation
+        final long[] buckets = histogram.getBucketCounts();
+        assertThat(buckets[0], is(1L));
+        assertThat(buckets[1], is(1L));
+        assertThat(buckets[2], is(1L));
+        assertThat(buckets[10], is(1L));
+        assertThat(histogram.getCount(), is(4L));
+    }
+
+    @Test
+    public void shouldApproximatePercentilesByBucketUpperBound() {
+        // scenario
+        for (int index = 0; index < 99; index++)
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(100));
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(50));
+
+        // execution
+        final long median = histogram.getPercentile(50, TimeUnit.MICROSECONDS);
+        final long max = histogram.getPercentile(100, TimeUnit.MICROSECONDS);
+
+        // validation
+        assertThat(median, is(128L));
+        assertThat(max, is(50_000L));
+        assertThat(histogram.getMax(TimeUnit.MILLISECONDS), is(50L));
+        assertThat(histogram.getMean(TimeUnit.MICROSECONDS), is(599L));
+    }
+
+    @Test
+    public void shouldKeepSnapshotsUnchanged() {
+        // scenario
+        histogram.record(10);
+        final LatencyHistogram snapshot = histogram.snapshot();
+
+        // execution
+        histogram.record(20);
+
+        // validation
+        assertThat(snapshot.getCount(), is(1L));
+        assertThat(histogram.getCount(), is(2L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectInvalidPercentiles() {
+        // execution
+        histogram.getPercentile(101, TimeUnit.MICROSECONDS);
+    }
+}
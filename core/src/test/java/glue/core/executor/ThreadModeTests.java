@@ -0,0 +1,96 @@
+package glue.core.executor;
+
+import glue.core.exception.StartupException;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.*;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeFalse;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Test cases for {@link ThreadMode}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+public class ThreadModeTests {
+
+    @After
+    public void tearDown() {
+        System.clearProperty(ThreadMode.THREAD_MODE_PROPERTY);
+    }
+
+    @Test
+    public void shouldUsePlatformThreadsByDefault() {
+        // execution
+        final ThreadMode mode = ThreadMode.fromSystemProperty();
+
+        // validation
+        assertThat(mode, is(ThreadMode.PLATFORM));
+    }
+
+    @Test
+    public void shouldReadThreadModeIgnoringCase() {
+        // scenario
+        System.setProperty(ThreadMode.THREAD_MODE_PROPERTY, " Platform ");
+
+        // execution
+        final ThreadMode mode = ThreadMode.fromSystemProperty();
+
+        // validation
+        assertThat(mode, is(ThreadMode.PLATFORM));
+    }
+
+    @Test(expected = StartupException.class)
+    public void shouldFailWithInvalidThreadMode() {
+        // scenario
+        System.setProperty(ThreadMode.THREAD_MODE_PROPERTY, "green");
+
+        // execution
+        ThreadMode.fromSystemProperty();
+    }
+
+    @Test(expected = StartupException.class)
+    public void shouldFailWhenVirtualThreadsAreNotSupported() {
+        // scenario
+        assumeFalse(ThreadMode.VIRTUAL.isSupported());
+        System.setProperty(ThreadMode.THREAD_MODE_PROPERTY, "virtual");
+
+        // execution
+        ThreadMode.fromSystemProperty();
+    }
+
+    @Test
+    public void shouldExecuteTasksUsingNamedDaemonPlatformThreads() throws Exception {
+        // scenario
+        final ExecutorService executor = ThreadMode.PLATFORM.newExecutor("test-");
+
+        // execution
+        final Thread thread = executor.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // validation
+        assertThat(thread.getName(), startsWith("test-"));
+        assertThat(thread.isDaemon(), is(true));
+    }
+
+    @Test
+    public void shouldExecuteTasksUsingNamedVirtualThreads() throws Exception {
+        // scenario
+        assumeTrue(ThreadMode.VIRTUAL.isSupported());
+        final ExecutorService executor = ThreadMode.VIRTUAL.newExecutor("test-");
+
+        // execution
+        final Thread thread = executor.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // validation
+        assertThat(thread.getName(), startsWith("test-"));
+        assertThat(Thread.class.getMethod("isVirtual").invoke(thread), is(true));
+    }
+}
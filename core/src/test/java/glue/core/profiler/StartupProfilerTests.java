@@ -0,0 +1,179 @@
+package glue.core.profiler;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.Logger;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test cases for {@link StartupProfiler}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-17
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class StartupProfilerTests {
+
+    @Mock
+    private Logger logger;
+
+    private StartupProfiler profiler;
+
+    @Before
+    public void setup() {
+        this.profiler = new StartupProfiler(true, null, null, logger);
+    }
+
+    @Test
+    public void shouldNestPhasesStartedInTheSameThread() {
+        // scenario
+        final StartupPhase root = profiler.begin("root");
+        final StartupPhase child = profiler.begin("child");
+        child.close();
+        root.close();
+
+        // execution
+        final StartupReport report = profiler.finish().get();
+
+        // validation
+        assertThat(report.getPhases().size(), is(1));
+        assertThat(report.getPhases().get(0), is(sameInstance(root)));
+        assertThat(root.getChildren().size(), is(1));
+        assertThat(root.getChildren().get(0), is(sameInstance(child)));
+        assertThat(child.getParent().get(), is(sameInstance(root)));
+    }
+
+    @Test
+    public void shouldNestPhasesStartedInOtherThreadsUsingTheProvidedParent() throws InterruptedException {
+        // scenario
+        final AtomicReference<StartupPhase> child = new AtomicReference<>();
+        final StartupPhase root = profiler.begin("root");
+        final Thread thread = new Thread(() -> {
+            try (StartupPhase phase = profiler.begin("child", root)) {
+                child.set(phase);
+            }
+        });
+
+        // execution
+        thread.start();
+        thread.join();
+        root.close();
+
+        // validation
+        assertThat(root.getChildren().size(), is(1));
+        assertThat(root.getChildren().get(0), is(sameInstance(child.get())));
+        assertThat(child.get().getThreadName(), is(thread.getName()));
+    }
+
+    @Test
+    public void shouldStartRootPhasesAfterTheCurrentPhaseIsClosed() {
+        // scenario
+        profiler.begin("first").close();
+
+        // execution
+        profiler.begin("second").close();
+
+        // validation
+        final StartupReport report = profiler.finish().get();
+        assertThat(report.getPhases().size(), is(2));
+        assertThat(profiler.getCurrentPhase().isPresent(), is(false));
+    }
+
+    @Test
+    public void shouldMeasureTheAllocatedBytesWhenSupported() {
+        // scenario
+        final StartupPhase phase = profiler.begin("allocation");
+        final byte[][] allocations = new byte[64][];
+        for (int index = 0; index < allocations.length; index++)
+            allocations[index] = new byte[1024];
+
+        // execution
+        phase.close();
+
+        // validation
+        if (ThreadAllocationCounter.isSupported())
+            assertThat(phase.getAllocatedBytes() >= 64 * 1024, is(true));
+        else
+            assertThat(phase.getAllocatedBytes(), is(-1L));
+    }
+
+    @Test
+    public void shouldStopRecordingAfterFinished() {
+        // scenario
+        profiler.finish();
+
+        // execution
+        final StartupPhase phase = profiler.begin("late");
+
+        // validation
+        assertThat(profiler.isEnabled(), is(false));
+        assertThat(phase.getParent().isPresent(), is(false));
+        assertThat(profiler.getCurrentPhase().isPresent(), is(false));
+        assertThat(profiler.finish().isPresent(), is(false));
+    }
+
+    @Test
+    public void shouldNotRecordPhasesWhenDisabled() {
+        // scenario
+        final StartupProfiler disabledProfiler = new StartupProfiler(false, null, null, logger);
+
+        // execution
+        disabledProfiler.begin("root").close();
+        final Optional<StartupReport> report = disabledProfiler.finish();
+
+        // validation
+        assertThat(report.isPresent(), is(false));
+        verifyZeroInteractions(logger);
+    }
+
+    @Test
+    public void shouldLogTheReportAsTree() {
+        // scenario
+        final StartupPhase root = profiler.begin("root");
+        profiler.begin("child").close();
+        root.close();
+
+        // execution
+        final String tree = profiler.finish().get().toTree();
+
+        // validation
+        assertThat(tree, containsString("+- root: "));
+        assertThat(tree, containsString("|  +- child: "));
+        verify(logger, times(1)).info(tree);
+    }
+
+    @Test
+    public void shouldWriteTheReportAsJson() throws Exception {
+        // scenario
+        final Path reportFile = Files.createTempFile("glue-startup", ".json");
+        final StartupProfiler reportingProfiler = new StartupProfiler(true, reportFile, null, logger);
+        final StartupPhase root = reportingProfiler.begin("root \"phase\"");
+        reportingProfiler.begin("child").close();
+        root.close();
+
+        // execution
+        reportingProfiler.finish();
+
+        // validation
+        final String json = new String(Files.readAllBytes(reportFile), StandardCharsets.UTF_8);
+        assertThat(json, containsString("{\"phases\":[{\"name\":\"root \\\"phase\\\"\""));
+        assertThat(json, containsString("\"children\":[{\"name\":\"child\""));
+        verify(logger, never()).warn(anyString(), any(), any());
+        Files.delete(reportFile);
+    }
+}
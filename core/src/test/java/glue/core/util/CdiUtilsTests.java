@@ -7,9 +7,11 @@ import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.slf4j.Logger;
 
+import javax.enterprise.context.Dependent;
 import javax.enterprise.context.spi.CreationalContext;
 import javax.enterprise.inject.spi.Bean;
 import javax.enterprise.inject.spi.BeanManager;
+import javax.inject.Singleton;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.util.HashSet;
@@ -19,10 +21,11 @@ import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Matchers.any;
-import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.*;
 
 /**
  * Test cases for {@link CdiUtils}
@@ -57,6 +60,7 @@ public class CdiUtilsTests {
         doReturn(creationalContext).when(beanManager).createCreationalContext(bean);
         doReturn(bean).when(beanManager).resolve(beans);
         doReturn(new TestBean()).when(bean).create(creationalContext);
+        doReturn(Dependent.class).when(bean).getScope();
 
         this.utils = new CdiUtils(beanManager, logger);
     }
@@ -82,4 +86,126 @@ public class CdiUtilsTests {
         assertThat(actualBeans.size(), is(1));
         assertThat(actualBeans.get(0), is(instanceOf(TestBean.class)));
     }
+
+    @Test
+    public void shouldCacheBeanLookups() {
+        // execution
+        utils.getTypedBean(TestBean.class, GenericType.class);
+        utils.getTypedBean(TestBean.class, GenericType.class);
+
+        // validation
+        verify(beanManager, times(1)).getBeans(any(Type.class));
+        verify(beanManager, times(1)).resolve(any());
+    }
+
+    @Test
+    public void shouldCacheAllBeansLookups() {
+        // execution
+        utils.getAllTypedBeans(TestBean.class, GenericType.class);
+        utils.getAllTypedBeans(TestBean.class, GenericType.class);
+
+        // validation
+        verify(beanManager, times(1)).getBeans(any(Type.class));
+    }
+
+    @Test
+    public void shouldCreateDependentInstancesOncePerLookupKey() {
+        // scenario
+        when(bean.create(creationalContext)).thenReturn(new TestBean(), new TestBean());
+
+        // execution
+        final Optional<TestBean<GenericType>> firstBean = utils.getTypedBean(TestBean.class, GenericType.class);
+        final Optional<TestBean<GenericType>> secondBean = utils.getTypedBean(TestBean.class, GenericType.class);
+
+        // validation
+        assertThat(firstBean.get(), is(sameInstance(secondBean.get())));
+        verify(bean, times(1)).create(creationalContext);
+    }
+
+    @Test
+    public void shouldDestroyDependentInstances() {
+        // scenario
+        when(bean.create(creationalContext)).thenReturn(new TestBean(), new TestBean());
+        final Optional<TestBean<GenericType>> createdBean = utils.getTypedBean(TestBean.class, GenericType.class);
+        final List<TestBean<GenericType>> createdBeans = utils.getAllTypedBeans(TestBean.class, GenericType.class);
+
+        // execution
+        utils.destroy();
+
+        // validation
+        verify(bean, times(1)).destroy(createdBean.get(), creationalContext);
+        verify(bean, times(1)).destroy(createdBeans.get(0), creationalContext);
+    }
+
+    @Test
+    public void shouldNotDestroyContextualReferences() {
+        // scenario
+        doReturn(Singleton.class).when(bean).getScope();
+        doReturn(new TestBean<>()).when(beanManager).getReference(eq(bean), any(Type.class), eq(creationalContext));
+        utils.getTypedBean(TestBean.class, GenericType.class);
+
+        // execution
+        utils.destroy();
+
+        // validation
+        verify(bean, never()).destroy(any(), any());
+    }
+
+    @Test
+    public void shouldCacheEmptyLookups() {
+        // scenario
+        doReturn(new HashSet<>()).when(beanManager).getBeans(any(Type.class));
+
+        // execution
+        utils.getTypedBean(TestBean.class, GenericType.class);
+        final Optional<TestBean<GenericType>> actualBean = utils.getTypedBean(TestBean.class, GenericType.class);
+
+        // validation
+        assertThat(actualBean.isPresent(), is(false));
+        verify(beanManager, times(1)).getBeans(any(Type.class));
+    }
+
+    @Test
+    public void shouldUseContextualReferencesForNonDependentBeans() {
+        // scenario
+        final TestBean<GenericType> expectedBean = new TestBean<>();
+        doReturn(Singleton.class).when(bean).getScope();
+        doReturn(expectedBean).when(beanManager).getReference(eq(bean), any(Type.class), eq(creationalContext));
+
+        // execution
+        final Optional<TestBean<GenericType>> actualBean = utils.getTypedBean(TestBean.class, GenericType.class);
+
+        // validation
+        assertThat(actualBean.get(), is(sameInstance(expectedBean)));
+        verify(bean, never()).create(creationalContext);
+    }
+
+    @Test
+    public void shouldCacheContextualReferences() {
+        // scenario
+        doReturn(Singleton.class).when(bean).getScope();
+        doReturn(new TestBean<>()).when(beanManager).getReference(eq(bean), any(Type.class), eq(creationalContext));
+
+        // execution
+        final Optional<TestBean<GenericType>> firstBean = utils.getTypedBean(TestBean.class, GenericType.class);
+        final Optional<TestBean<GenericType>> secondBean = utils.getTypedBean(TestBean.class, GenericType.class);
+
+        // validation
+        assertThat(firstBean.get(), is(sameInstance(secondBean.get())));
+        verify(beanManager, times(1)).getReference(eq(bean), any(Type.class), eq(creationalContext));
+    }
+
+    @Test
+    public void shouldNotBeAffectedByChangesOnTheQualifiersArray() {
+        // scenario
+        final Annotation[] qualifiers = { mock(Annotation.class) };
+        utils.getTypedBean(TestBean.class, GenericType.class, qualifiers);
+
+        // execution
+        qualifiers[0] = mock(Annotation.class);
+        utils.getTypedBean(TestBean.class, GenericType.class, qualifiers);
+
+        // validation
+        verify(beanManager, times(2)).getBeans(any(Type.class), any(Annotation[].class));
+    }
 }
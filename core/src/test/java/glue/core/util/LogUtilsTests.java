@@ -0,0 +1,74 @@
+package glue.core.util;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.Logger;
+
+import java.util.function.Supplier;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.anyObject;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test cases for {@link LogUtils}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class LogUtilsTests {
+
+    @Mock
+    private Logger logger;
+
+    @Mock
+    private Supplier<String> message;
+
+    @Test
+    public void shouldLogWhenDebugIsEnabled() {
+        // scenario
+        doReturn(true).when(logger).isDebugEnabled();
+
+        // execution
+        LogUtils.debug(logger, "{} {} {}", "first", "second", "third");
+
+        // validation
+        assertThat(LogUtils.isDebugEnabled(logger), is(true));
+        verify(logger, times(1)).debug("{} {} {}", "first", "second", "third");
+    }
+
+    @Test
+    public void shouldNotLogWhenDebugIsDisabled() {
+        // execution
+        LogUtils.debug(logger, "message");
+        LogUtils.debug(logger, "{}", "first");
+        LogUtils.debug(logger, "{} {}", "first", "second");
+        LogUtils.debug(logger, "{} {} {}", "first", "second", "third");
+
+        // validation
+        verify(logger, never()).debug(anyString());
+        verify(logger, never()).debug(anyString(), (Object) anyObject());
+        verify(logger, never()).debug(anyString(), anyObject(), anyObject());
+        verify(logger, never()).debug(anyString(), (Object[]) anyVararg());
+    }
+
+    @Test
+    public void shouldBuildSuppliedMessagesOnlyWhenDebugIsEnabled() {
+        // scenario
+        doReturn("message").when(message).get();
+
+        // execution
+        LogUtils.debug(logger, message);
+        doReturn(true).when(logger).isDebugEnabled();
+        LogUtils.debug(logger, message);
+
+        // validation
+        verify(message, times(1)).get();
+        verify(logger, times(1)).debug("message");
+    }
+}
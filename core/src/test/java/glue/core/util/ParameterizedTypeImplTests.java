@@ -0,0 +1,62 @@
+package glue.core.util;
+
+import org.junit.Test;
+
+import java.lang.reflect.ParameterizedType;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test cases for {@link ParameterizedTypeImpl}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-06
+ */
+public class ParameterizedTypeImplTests {
+
+    private List<String> listOfStrings;
+    private Map.Entry<String, Integer> mapEntry;
+
+    @Test
+    public void shouldBeEqualToJdkImplementation() throws Exception {
+        // scenario
+        final ParameterizedType jdkType = (ParameterizedType) getClass()
+                .getDeclaredField("listOfStrings")
+                .getGenericType();
+        final ParameterizedType type = new ParameterizedTypeImpl(List.class, String.class);
+
+        // validation
+        assertThat(type.equals(jdkType), is(true));
+        assertThat(jdkType.equals(type), is(true));
+        assertThat(type.hashCode(), is(jdkType.hashCode()));
+    }
+
+    @Test
+    public void shouldUseDeclaringClassAsOwnerType() throws Exception {
+        // scenario
+        final ParameterizedType jdkType = (ParameterizedType) getClass()
+                .getDeclaredField("mapEntry")
+                .getGenericType();
+        final ParameterizedType type = new ParameterizedTypeImpl(Map.Entry.class, String.class, Integer.class);
+
+        // validation
+        assertThat(type.getOwnerType(), is(jdkType.getOwnerType()));
+        assertThat(type, is(jdkType));
+        assertThat(type.hashCode(), is(jdkType.hashCode()));
+    }
+
+    @Test
+    public void shouldNotBeEqualWhenArgumentsDiffer() {
+        // scenario
+        final ParameterizedType type = new ParameterizedTypeImpl(List.class, String.class);
+        final ParameterizedType anotherType = new ParameterizedTypeImpl(List.class, Integer.class);
+
+        // validation
+        assertThat(type, is(not(anotherType)));
+    }
+
+}
@@ -0,0 +1,47 @@
+package glue.persistence.datasource.api;
+
+import java.util.Objects;
+
+/**
+ * Named data source definition bean
+ *
+ * <p>This class identifies one of the data sources of the application, holding its name, its
+ * {@link DataSourceRole} and the {@link ConnectionProperties} used to produce it. Each definition gets its own
+ * connection pool (see {@link DataSourceProvider#produce(DataSourceDefinition)}).</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+public final class DataSourceDefinition {
+
+    private final String name;
+    private final DataSourceRole role;
+    private final ConnectionProperties connectionProperties;
+
+    /**
+     * Constructor with all properties initialization
+     *
+     * @param name Data source name
+     * @param role Data source role
+     * @param connectionProperties Connection properties
+     */
+    public DataSourceDefinition(final String name,
+                                final DataSourceRole role,
+                                final ConnectionProperties connectionProperties) {
+        this.name = Objects.requireNonNull(name);
+        this.role = Objects.requireNonNull(role);
+        this.connectionProperties = Objects.requireNonNull(connectionProperties);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public DataSourceRole getRole() {
+        return role;
+    }
+
+    public ConnectionProperties getConnectionProperties() {
+        return connectionProperties;
+    }
+}
@@ -8,6 +8,7 @@ import org.slf4j.Logger;
 import javax.enterprise.inject.Default;
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Glue {@link ModuleLifecycle} implementation for Persistence DataSource API
@@ -65,10 +66,68 @@ public class DataSourceModule implements ModuleLifecycle {
      */
     @Override
     public void stop() {
+        if (isProviderUnavailable())
+            return;
+
+        logger.info("Shutting down Persistence DataSource API");
+        provider.get().shutdown();
+    }
+
+    /**
+     * Waits for the connections in use to be returned, allowing in-flight transactions to finish
+     *
+     * @param timeout Maximum time to wait
+     * @param unit Time unit of the timeout
+     * @return True when no connection is in use, false when the timeout expired
+     * @throws InterruptedException when interrupted while waiting
+     */
+    @Override
+    public boolean awaitDrain(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return isProviderUnavailable() || provider.get().awaitIdle(timeout, unit);
+    }
+
+    /**
+     * Closes the pooled connections before a JVM checkpoint
+     */
+    @Override
+    public void beforeCheckpoint() {
+        if (isProviderUnavailable())
+            return;
+
+        logger.info("Closing DataSource connections for the checkpoint");
+        provider.get().closeConnections();
+    }
+
+    /**
+     * Reopens the pooled connections after a JVM restore
+     */
+    @Override
+    public void afterRestore() {
+        if (isProviderUnavailable())
+            return;
+
+        logger.info("Reopening DataSource connections after the restore");
+        provider.get().reopenConnections();
     }
 
     @Override
     public Integer getStartPriority() {
         return Priority.HIGH.asInteger();
     }
+
+    /**
+     * Defines the module shutdown priority
+     *
+     * <p>Data sources are closed after the other modules, since they may use its connections until they stop.</p>
+     *
+     * @return Module stop priority
+     */
+    @Override
+    public Integer getStopPriority() {
+        return Priority.LOW.asInteger();
+    }
+
+    private boolean isProviderUnavailable() {
+        return provider.isUnsatisfied() || provider.isAmbiguous();
+    }
 }
@@ -1,6 +1,7 @@
 package glue.persistence.datasource.api;
 
 import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JDBC DataSource provider interface
@@ -22,4 +23,57 @@ public interface DataSourceProvider {
      */
     DataSource produce(ConnectionProperties connectionProperties);
 
+    /**
+     * Produces a {@link DataSource} instance for the given named {@link DataSourceDefinition}
+     *
+     * <p>This method is called once for each data source of the application, allowing the implementations to
+     * identify (and tune) each pool by its name and role. The default implementation ignores both.</p>
+     *
+     * @param definition Data source definition
+     * @return Produced {@link DataSource}
+     */
+    default DataSource produce(final DataSourceDefinition definition) {
+        return produce(definition.getConnectionProperties());
+    }
+
+    /**
+     * Waits for the connections in use of the produced {@link DataSource}s to be returned
+     *
+     * <p>This method is called on the application shutdown, allowing in-flight transactions to finish before the
+     * data sources are closed. The default implementation returns immediately.</p>
+     *
+     * @param timeout Maximum time to wait
+     * @param unit Time unit of the timeout
+     * @return True when no connection is in use, false when the timeout expired
+     * @throws InterruptedException when interrupted while waiting
+     */
+    default boolean awaitIdle(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return true;
+    }
+
+    /**
+     * Closes the produced {@link DataSource}s
+     *
+     * <p>This method is called on the application shutdown. The default implementation does nothing.</p>
+     */
+    default void shutdown() {
+    }
+
+    /**
+     * Closes the physical connections of the produced {@link DataSource}s, keeping them usable
+     *
+     * <p>This method is called before a JVM checkpoint, since open connections can't be part of the snapshot. The
+     * default implementation does nothing.</p>
+     */
+    default void closeConnections() {
+    }
+
+    /**
+     * Allows the produced {@link DataSource}s to open physical connections again
+     *
+     * <p>This method is called after a JVM restore. The default implementation does nothing.</p>
+     */
+    default void reopenConnections() {
+    }
+
 }
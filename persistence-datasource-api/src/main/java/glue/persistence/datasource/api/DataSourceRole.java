@@ -0,0 +1,20 @@
+package glue.persistence.datasource.api;
+
+/**
+ * Roles of the named data sources
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+public enum DataSourceRole {
+
+    /**
+     * Read-write database, used by default
+     */
+    PRIMARY,
+
+    /**
+     * Read-only copy of the primary database, used by the read-only transactions
+     */
+    REPLICA
+}
@@ -0,0 +1,70 @@
+package glue.persistence.datasource.api.routing;
+
+/**
+ * Routing hints of the {@link RoutingDataSource}
+ *
+ * <p>The connections are taken from the primary data source unless the current thread is inside a read-only scope,
+ * where they're taken from the replicas. The scope must be opened before the transaction starts, since the connection
+ * is acquired when it begins, and closed by the same thread:</p>
+ *
+ * <pre>{@code
+ * final DataSourceRouting.Scope scope = DataSourceRouting.readOnly();
+ * try {
+ *     return repository.findAll();
+ * } finally {
+ *     scope.close();
+ * }
+ * }</pre>
+ *
+ * <p>CDI beans can use the {@link ReadOnly} annotation instead.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+public final class DataSourceRouting {
+
+    private static final ThreadLocal<Boolean> READ_ONLY = new ThreadLocal<>();
+
+    private DataSourceRouting() {
+    }
+
+    /**
+     * Opens a read-only scope in the current thread
+     *
+     * @return Opened scope, which restores the previous state when closed
+     */
+    public static Scope readOnly() {
+        final Scope scope = new Scope(READ_ONLY.get());
+        READ_ONLY.set(Boolean.TRUE);
+        return scope;
+    }
+
+    /**
+     * Checks if the current thread is inside a read-only scope
+     *
+     * @return True when inside a read-only scope, false otherwise
+     */
+    public static boolean isReadOnly() {
+        return READ_ONLY.get() != null;
+    }
+
+    /**
+     * Routing scope of the current thread
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final Boolean previousState;
+
+        private Scope(final Boolean previousState) {
+            this.previousState = previousState;
+        }
+
+        @Override
+        public void close() {
+            if (previousState != null)
+                READ_ONLY.set(previousState);
+            else
+                READ_ONLY.remove();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package glue.persistence.datasource.api.routing;
+
+/**
+ * Policies for balancing the read-only connections between the replicas
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+public enum LoadBalancingPolicy {
+
+    /**
+     * Replicas are used in turns
+     */
+    ROUND_ROBIN,
+
+    /**
+     * The replica with fewer connections in use is chosen, replicas in turns breaking the ties
+     */
+    LEAST_CONNECTIONS
+}
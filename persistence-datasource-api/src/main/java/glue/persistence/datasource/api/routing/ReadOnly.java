@@ -0,0 +1,22 @@
+package glue.persistence.datasource.api.routing;
+
+import javax.interceptor.InterceptorBinding;
+import java.lang.annotation.*;
+
+/**
+ * Routes the connections acquired by the annotated methods to the replicas
+ *
+ * <p>Methods (or all the methods of the classes) with this annotation run inside a read-only scope of the
+ * {@link DataSourceRouting}. The scope is opened before the transaction interceptors run, so transactions started by
+ * the method use a replica.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+@Inherited
+@Documented
+@InterceptorBinding
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface ReadOnly {
+}
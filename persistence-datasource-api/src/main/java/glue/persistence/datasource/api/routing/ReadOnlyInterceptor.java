@@ -0,0 +1,37 @@
+package glue.persistence.datasource.api.routing;
+
+import javax.annotation.Priority;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+
+/**
+ * CDI interceptor of the {@link ReadOnly} methods
+ *
+ * <p>The interceptor runs before the platform and library interceptors, like the transaction ones.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+@ReadOnly
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_BEFORE)
+class ReadOnlyInterceptor {
+
+    /**
+     * Invokes the intercepted method inside a read-only scope
+     *
+     * @param context Invocation context
+     * @return Method result
+     * @throws Exception when thrown by the method
+     */
+    @AroundInvoke
+    Object route(final InvocationContext context) throws Exception {
+        final DataSourceRouting.Scope scope = DataSourceRouting.readOnly();
+        try {
+            return context.proceed();
+        } finally {
+            scope.close();
+        }
+    }
+}
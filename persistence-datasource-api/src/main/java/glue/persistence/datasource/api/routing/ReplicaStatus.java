@@ -0,0 +1,60 @@
+package glue.persistence.datasource.api.routing;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Snapshot of the status of a replica of a {@link RoutingDataSource}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+public final class ReplicaStatus {
+
+    private final String name;
+    private final boolean available;
+    private final Duration replicationLag;
+    private final int activeConnections;
+
+    ReplicaStatus(final String name,
+                  final boolean available,
+                  final Duration replicationLag,
+                  final int activeConnections) {
+        this.name = name;
+        this.available = available;
+        this.replicationLag = replicationLag;
+        this.activeConnections = activeConnections;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Checks if the replica is receiving read-only connections
+     *
+     * @return False when the replica was removed from the routing by a failure or by its replication lag
+     */
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * Returns the replication lag measured on the last health check
+     *
+     * @return Replication lag, empty when not measured
+     */
+    public Optional<Duration> getReplicationLag() {
+        return Optional.ofNullable(replicationLag);
+    }
+
+    public int getActiveConnections() {
+        return activeConnections;
+    }
+
+    @Override
+    public String toString() {
+        return "ReplicaStatus{name=" + name + ", available=" + available + ", replicationLag=" + replicationLag
+                + ", activeConnections=" + activeConnections + "}";
+    }
+}
@@ -0,0 +1,340 @@
+package glue.persistence.datasource.api.routing;
+
+import glue.core.util.LogUtils;
+import org.slf4j.Logger;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * {@link DataSource} that routes the read-only connections to the replicas
+ *
+ * <p>Connections are taken from the primary data source, unless requested inside a read-only scope (see
+ * {@link DataSourceRouting}), when they're taken from one of the available replicas following the
+ * {@link LoadBalancingPolicy}. When no replica is available the primary is used.</p>
+ *
+ * <p>Replicas that fail to provide a connection are removed from the routing right away. The replicas are checked
+ * periodically, validating a connection and, when configured, measuring their replication lag (see
+ * {@link RoutingProperties}). Replicas that fail the check or lag too much are removed from the routing, being added
+ * back once they pass it again.</p>
+ *
+ * <p>The pools of the primary and the replicas are owned by the
+ * {@link glue.persistence.datasource.api.DataSourceProvider} that produced them, so closing this data source only
+ * stops the health checks.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+public class RoutingDataSource implements DataSource, AutoCloseable {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final RoutingProperties properties;
+    private final Logger logger;
+    private final AtomicInteger nextReplica;
+    private volatile ScheduledFuture<?> healthCheck;
+
+    /**
+     * Constructor with the data sources, {@link RoutingProperties} and {@link Logger} initialization
+     *
+     * @param primary Primary data source
+     * @param replicas Replica data sources by name
+     * @param properties Routing properties
+     * @param logger Logger
+     */
+    RoutingDataSource(final DataSource primary,
+                      final Map<String, DataSource> replicas,
+                      final RoutingProperties properties,
+                      final Logger logger) {
+        this.primary = primary;
+        this.properties = properties;
+        this.logger = logger;
+        this.nextReplica = new AtomicInteger();
+        this.replicas = Collections.unmodifiableList(replicas
+                .entrySet()
+                .stream()
+                .map(entry -> new Replica(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Schedules the periodic health checks of the replicas
+     *
+     * @param scheduler Scheduler of the checks
+     */
+    void startHealthChecks(final ScheduledExecutorService scheduler) {
+        final long interval = properties.getHealthCheckInterval().toMillis();
+        if (replicas.isEmpty() || interval <= 0)
+            return;
+
+        healthCheck = scheduler.scheduleWithFixedDelay(this::checkReplicas, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!DataSourceRouting.isReadOnly())
+            return primary.getConnection();
+
+        return getReplicaConnection(null, null);
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        if (!DataSourceRouting.isReadOnly())
+            return primary.getConnection(username, password);
+
+        return getReplicaConnection(username, password);
+    }
+
+    /**
+     * Returns the status of the replicas
+     *
+     * @return Replicas status, in their declaration order
+     */
+    public List<ReplicaStatus> getReplicaStatus() {
+        final List<ReplicaStatus> status = new ArrayList<>(replicas.size());
+        for (final Replica replica : replicas) {
+            final long lag = replica.replicationLag;
+            status.add(new ReplicaStatus(replica.name, replica.available, lag < 0 ? null : Duration.ofMillis(lag),
+                    replica.activeConnections.get()));
+        }
+
+        return status;
+    }
+
+    /**
+     * Stops the health checks of the replicas
+     */
+    @Override
+    public void close() {
+        final ScheduledFuture<?> currentHealthCheck = healthCheck;
+        if (currentHealthCheck != null)
+            currentHealthCheck.cancel(false);
+    }
+
+    /**
+     * Checks the health and the replication lag of the replicas, updating their availability
+     */
+    void checkReplicas() {
+        for (final Replica replica : replicas)
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    remove(replica, "connection validation failed");
+                    continue;
+                }
+
+                final Optional<String> lagQuery = properties.getLagQuery();
+                if (lagQuery.isPresent()) {
+                    final long lag = queryReplicationLag(connection, lagQuery.get());
+                    replica.replicationLag = lag;
+
+                    final Optional<Duration> maxLag = properties.getMaxReplicationLag();
+                    if (maxLag.isPresent() && lag > maxLag.get().toMillis()) {
+                        remove(replica, "replication lag of " + lag + " ms");
+                        continue;
+                    }
+                }
+
+                restore(replica);
+            } catch (final SQLException | RuntimeException ex) {
+                remove(replica, ex.getMessage());
+            }
+    }
+
+    /**
+     * Returns a connection of an available replica, falling back to the primary when none is available
+     *
+     * @param username Authentication username, null to use the default one
+     * @param password Authentication password
+     * @return Database connection
+     * @throws SQLException when the connection fails
+     */
+    private Connection getReplicaConnection(final String username, final String password) throws SQLException {
+        Replica replica;
+        while ((replica = selectReplica()) != null)
+            try {
+                return replica.open(username, password);
+            } catch (final SQLException ex) {
+                remove(replica, ex.getMessage());
+            }
+
+        LogUtils.debug(logger, "No replica available, using the primary data source for a read-only connection");
+        return username == null ? primary.getConnection() : primary.getConnection(username, password);
+    }
+
+    /**
+     * Selects an available replica following the load balancing policy
+     *
+     * @return Selected replica, null when none is available
+     */
+    private Replica selectReplica() {
+        final int size = replicas.size();
+        if (size == 0)
+            return null;
+
+        final int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+        final boolean leastConnections = properties.getLoadBalancingPolicy() == LoadBalancingPolicy.LEAST_CONNECTIONS;
+        Replica selected = null;
+        for (int index = 0; index < size; index++) {
+            final Replica replica = replicas.get((start + index) % size);
+            if (!replica.available)
+                continue;
+            if (!leastConnections)
+                return replica;
+            if (selected == null || replica.activeConnections.get() < selected.activeConnections.get())
+                selected = replica;
+        }
+
+        return selected;
+    }
+
+    private void remove(final Replica replica, final String reason) {
+        if (!replica.available)
+            return;
+
+        replica.available = false;
+        logger.warn("Replica {} removed from the read-only routing: {}", replica.name, reason);
+    }
+
+    private void restore(final Replica replica) {
+        if (replica.available)
+            return;
+
+        replica.available = true;
+        logger.info("Replica {} added back to the read-only routing", replica.name);
+    }
+
+    private static long queryReplicationLag(final Connection connection, final String lagQuery) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            return resultSet.next() ? Math.max(0, resultSet.getLong(1)) : 0;
+        }
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return primary.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(final PrintWriter out) throws SQLException {
+        primary.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(final int seconds) throws SQLException {
+        primary.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return primary.getLoginTimeout();
+    }
+
+    @Override
+    public java.util.logging.Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return primary.getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> type) throws SQLException {
+        if (type.isInstance(this))
+            return type.cast(this);
+
+        return primary.unwrap(type);
+    }
+
+    @Override
+    public boolean isWrapperFor(final Class<?> type) throws SQLException {
+        return type.isInstance(this) || primary.isWrapperFor(type);
+    }
+
+    /**
+     * Replica data source and its routing state
+     */
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private final AtomicInteger activeConnections = new AtomicInteger();
+        private volatile boolean available = true;
+        private volatile long replicationLag = -1;
+
+        private Replica(final String name, final DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        /**
+         * Opens a connection, tracking it until closed
+         *
+         * @param username Authentication username, null to use the default one
+         * @param password Authentication password
+         * @return Tracked connection
+         * @throws SQLException when the connection fails
+         */
+        private Connection open(final String username, final String password) throws SQLException {
+            final Connection connection = username == null
+                    ? dataSource.getConnection()
+                    : dataSource.getConnection(username, password);
+
+            activeConnections.incrementAndGet();
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    new TrackedConnection(connection, activeConnections)
+            );
+        }
+    }
+
+    /**
+     * Handler of the replica connections, releasing them from the replica count when closed
+     */
+    private static final class TrackedConnection implements InvocationHandler {
+
+        private final Connection connection;
+        private final AtomicInteger activeConnections;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private TrackedConnection(final Connection connection, final AtomicInteger activeConnections) {
+            this.connection = connection;
+            this.activeConnections = activeConnections;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] arguments) throws Throwable {
+            try {
+                return method.invoke(connection, arguments);
+            } catch (final InvocationTargetException ex) {
+                throw ex.getCause();
+            } finally {
+                if ("close".equals(method.getName()) && method.getParameterCount() == 0
+                        && closed.compareAndSet(false, true))
+                    activeConnections.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package glue.persistence.datasource.api.routing;
+
+import glue.core.executor.ExecutorRegistry;
+import glue.persistence.datasource.api.DataSourceDefinition;
+import glue.persistence.datasource.api.DataSourceProvider;
+import glue.persistence.datasource.api.DataSourceRole;
+import org.slf4j.Logger;
+
+import javax.enterprise.inject.Default;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link RoutingDataSource} factory
+ *
+ * <p>This class produces one pool for each named data source using the {@link DataSourceProvider} and combines them
+ * in a {@link RoutingDataSource}. The health checks of the replicas run on the {@value #HEALTH_CHECK_SCHEDULER}
+ * scheduler of the {@link ExecutorRegistry}, which is stopped before the data sources on the application
+ * shutdown.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+@Default
+@Singleton
+public class RoutingDataSourceFactory {
+
+    static final String HEALTH_CHECK_SCHEDULER = "glue-datasource-health";
+
+    private final DataSourceProvider provider;
+    private final ExecutorRegistry executorRegistry;
+    private final Logger logger;
+
+    /**
+     * Constructor with {@link DataSourceProvider}, {@link ExecutorRegistry} and {@link Logger} initialization
+     *
+     * @param provider DataSource provider
+     * @param executorRegistry Executor registry
+     * @param logger Logger
+     */
+    @Inject
+    public RoutingDataSourceFactory(final DataSourceProvider provider,
+                                    final ExecutorRegistry executorRegistry,
+                                    final Logger logger) {
+        this.provider = provider;
+        this.executorRegistry = executorRegistry;
+        this.logger = logger;
+    }
+
+    /**
+     * Produces a {@link RoutingDataSource} for the provided data sources
+     *
+     * @param definitions Data sources definitions, where exactly one must be the primary
+     * @param properties Routing properties
+     * @return Produced routing data source
+     * @throws IllegalArgumentException when the definitions don't have exactly one primary or repeat a name
+     */
+    public RoutingDataSource build(final List<DataSourceDefinition> definitions, final RoutingProperties properties) {
+        validate(definitions);
+
+        DataSource primary = null;
+        final Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (final DataSourceDefinition definition : definitions)
+            if (definition.getRole() == DataSourceRole.PRIMARY)
+                primary = provider.produce(definition);
+            else
+                replicas.put(definition.getName(), provider.produce(definition));
+
+        logger.info("Routing the read-only connections to the replicas {} using {} load balancing",
+                replicas.keySet(), properties.getLoadBalancingPolicy());
+        final RoutingDataSource dataSource = new RoutingDataSource(primary, replicas, properties, logger);
+        if (!replicas.isEmpty())
+            dataSource.startHealthChecks(executorRegistry.getScheduler(HEALTH_CHECK_SCHEDULER, 1));
+
+        return dataSource;
+    }
+
+    private static void validate(final List<DataSourceDefinition> definitions) {
+        final Map<String, DataSourceRole> roles = new LinkedHashMap<>();
+        for (final DataSourceDefinition definition : definitions)
+            if (roles.put(definition.getName(), definition.getRole()) != null)
+                throw new IllegalArgumentException("Data source name defined more than once: " + definition.getName());
+
+        final long primaries = roles.values().stream().filter(DataSourceRole.PRIMARY::equals).count();
+        if (primaries != 1)
+            throw new IllegalArgumentException("Exactly one primary data source is required, found " + primaries);
+    }
+}
@@ -0,0 +1,61 @@
+package glue.persistence.datasource.api.routing;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Routing properties bean
+ *
+ * <p>This class holds the settings of a {@link RoutingDataSource}: how the read-only connections are balanced
+ * between the replicas and how the health of the replicas is checked.</p>
+ *
+ * <p>When a lag query is provided, it's executed on each replica during the health checks and must return the
+ * replication lag in milliseconds as the first column (a null value being handled as no lag). Replicas lagging more
+ * than the maximum replication lag are removed from the routing until they catch up. On PostgreSQL, for example,
+ * {@code SELECT EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000} can be used.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+public final class RoutingProperties {
+
+    private final LoadBalancingPolicy loadBalancingPolicy;
+    private final Duration healthCheckInterval;
+    private final Duration maxReplicationLag;
+    private final String lagQuery;
+
+    /**
+     * Constructor with all properties initialization
+     *
+     * @param loadBalancingPolicy Load balancing policy of the replicas
+     * @param healthCheckInterval Interval between the health checks of the replicas, where zero disables them
+     * @param maxReplicationLag Maximum replication lag of the replicas, null when unlimited
+     * @param lagQuery Query that returns the replication lag in milliseconds, null when not checked
+     */
+    public RoutingProperties(final LoadBalancingPolicy loadBalancingPolicy,
+                             final Duration healthCheckInterval,
+                             final Duration maxReplicationLag,
+                             final String lagQuery) {
+        this.loadBalancingPolicy = Objects.requireNonNull(loadBalancingPolicy);
+        this.healthCheckInterval = Objects.requireNonNull(healthCheckInterval);
+        this.maxReplicationLag = maxReplicationLag;
+        this.lagQuery = lagQuery;
+    }
+
+    public LoadBalancingPolicy getLoadBalancingPolicy() {
+        return loadBalancingPolicy;
+    }
+
+    public Duration getHealthCheckInterval() {
+        return healthCheckInterval;
+    }
+
+    public Optional<Duration> getMaxReplicationLag() {
+        return Optional.ofNullable(maxReplicationLag);
+    }
+
+    public Optional<String> getLagQuery() {
+        return Optional.ofNullable(lagQuery);
+    }
+}
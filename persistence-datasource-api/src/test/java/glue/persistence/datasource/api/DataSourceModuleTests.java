@@ -11,7 +11,10 @@ import org.mockito.runners.MockitoJUnitRunner;
 import org.slf4j.Logger;
 
 import javax.enterprise.inject.Instance;
+import java.util.concurrent.TimeUnit;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.*;
 
 /**
@@ -79,4 +82,37 @@ public class DataSourceModuleTests {
                 any(Class.class)
         );
     }
+
+    @Test
+    public void shouldShutdownProviderWhenStopped() {
+        // execution
+        module.stop();
+
+        // validation
+        verify(provider, times(1)).shutdown();
+    }
+
+    @Test
+    public void shouldAwaitProviderConnectionsWhenDraining() throws InterruptedException {
+        // scenario
+        doReturn(false).when(provider).awaitIdle(10, TimeUnit.SECONDS);
+
+        // execution
+        final boolean drained = module.awaitDrain(10, TimeUnit.SECONDS);
+
+        // validation
+        assertThat(drained, is(false));
+        verify(provider, times(1)).awaitIdle(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void shouldCloseAndReopenProviderConnectionsAroundCheckpoints() {
+        // execution
+        module.beforeCheckpoint();
+        module.afterRestore();
+
+        // validation
+        verify(provider, times(1)).closeConnections();
+        verify(provider, times(1)).reopenConnections();
+    }
 }
@@ -0,0 +1,112 @@
+package glue.persistence.datasource.api.routing;
+
+import glue.core.executor.ExecutorRegistry;
+import glue.persistence.datasource.api.ConnectionProperties;
+import glue.persistence.datasource.api.DataSourceDefinition;
+import glue.persistence.datasource.api.DataSourceProvider;
+import glue.persistence.datasource.api.DataSourceRole;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.Logger;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test cases for {@link RoutingDataSourceFactory}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class RoutingDataSourceFactoryTests {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+    @Mock
+    private DataSourceProvider provider;
+    @Mock
+    private ExecutorRegistry executorRegistry;
+    @Mock
+    private ScheduledExecutorService scheduler;
+    @Mock
+    private Logger logger;
+
+    private RoutingDataSourceFactory factory;
+    private RoutingProperties properties;
+
+    @Before
+    public void setup() {
+        doReturn(mock(DataSource.class)).when(provider).produce(any(DataSourceDefinition.class));
+        doReturn(scheduler).when(executorRegistry).getScheduler(RoutingDataSourceFactory.HEALTH_CHECK_SCHEDULER, 1);
+        this.factory = new RoutingDataSourceFactory(provider, executorRegistry, logger);
+        this.properties = new RoutingProperties(LoadBalancingPolicy.ROUND_ROBIN, Duration.ofSeconds(5), null, null);
+    }
+
+    @Test
+    public void shouldProduceOnePoolPerDataSource() {
+        // scenario
+        final List<DataSourceDefinition> definitions = Arrays.asList(
+                definition("primary", DataSourceRole.PRIMARY),
+                definition("replica-1", DataSourceRole.REPLICA),
+                definition("replica-2", DataSourceRole.REPLICA)
+        );
+
+        // execution
+        final RoutingDataSource dataSource = factory.build(definitions, properties);
+
+        // validation
+        assertThat(dataSource.getReplicaStatus().size(), is(2));
+        for (final DataSourceDefinition definition : definitions)
+            verify(provider, times(1)).produce(definition);
+        verify(scheduler, times(1)).scheduleWithFixedDelay(any(Runnable.class), eq(5000L), eq(5000L),
+                eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void shouldRequireOnePrimary() {
+        // scenario
+        expectedException.expect(IllegalArgumentException.class);
+
+        // execution
+        try {
+            factory.build(Arrays.asList(definition("replica-1", DataSourceRole.REPLICA)), properties);
+        } finally {
+
+            // validation
+            verify(provider, never()).produce(any(DataSourceDefinition.class));
+        }
+    }
+
+    @Test
+    public void shouldRejectRepeatedNames() {
+        // scenario
+        expectedException.expect(IllegalArgumentException.class);
+
+        // execution
+        factory.build(Arrays.asList(
+                definition("primary", DataSourceRole.PRIMARY),
+                definition("primary", DataSourceRole.REPLICA)
+        ), properties);
+    }
+
+    private DataSourceDefinition definition(final String name, final DataSourceRole role) {
+        return new DataSourceDefinition(name, role,
+                new ConnectionProperties("jdbc:h2:mem:" + name, "sa", "", null, null));
+    }
+}
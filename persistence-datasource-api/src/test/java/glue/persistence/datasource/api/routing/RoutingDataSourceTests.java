@@ -0,0 +1,184 @@
+package glue.persistence.datasource.api.routing;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.Logger;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test cases for {@link RoutingDataSource}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class RoutingDataSourceTests {
+
+    @Mock
+    private DataSource primary;
+    @Mock
+    private DataSource firstReplica;
+    @Mock
+    private DataSource secondReplica;
+    @Mock
+    private Connection primaryConnection;
+    @Mock
+    private Connection firstConnection;
+    @Mock
+    private Connection secondConnection;
+    @Mock
+    private Logger logger;
+
+    private Map<String, DataSource> replicas;
+
+    @Before
+    public void setup() throws Exception {
+        doReturn(primaryConnection).when(primary).getConnection();
+        doReturn(firstConnection).when(firstReplica).getConnection();
+        doReturn(secondConnection).when(secondReplica).getConnection();
+        doReturn("first").when(firstConnection).getCatalog();
+        doReturn("second").when(secondConnection).getCatalog();
+        doReturn(true).when(firstConnection).isValid(anyInt());
+        doReturn(true).when(secondConnection).isValid(anyInt());
+
+        this.replicas = new LinkedHashMap<>();
+        replicas.put("first", firstReplica);
+        replicas.put("second", secondReplica);
+    }
+
+    @Test
+    public void shouldUseThePrimaryOutsideOfReadOnlyScopes() throws Exception {
+        // scenario
+        final RoutingDataSource dataSource = build(LoadBalancingPolicy.ROUND_ROBIN, null, null);
+
+        // execution
+        final Connection connection = dataSource.getConnection();
+
+        // validation
+        assertThat(connection, is(sameInstance(primaryConnection)));
+        verify(firstReplica, never()).getConnection();
+    }
+
+    @Test
+    public void shouldBalanceReadOnlyConnectionsInTurns() throws Exception {
+        // scenario
+        final RoutingDataSource dataSource = build(LoadBalancingPolicy.ROUND_ROBIN, null, null);
+
+        // execution
+        final String first;
+        final String second;
+        final String third;
+        final DataSourceRouting.Scope scope = DataSourceRouting.readOnly();
+        try {
+            first = dataSource.getConnection().getCatalog();
+            second = dataSource.getConnection().getCatalog();
+            third = dataSource.getConnection().getCatalog();
+        } finally {
+            scope.close();
+        }
+
+        // validation
+        assertThat(first, is("first"));
+        assertThat(second, is("second"));
+        assertThat(third, is("first"));
+        assertThat(DataSourceRouting.isReadOnly(), is(false));
+    }
+
+    @Test
+    public void shouldPreferTheReplicaWithFewerConnections() throws Exception {
+        // scenario
+        final RoutingDataSource dataSource = build(LoadBalancingPolicy.LEAST_CONNECTIONS, null, null);
+
+        final DataSourceRouting.Scope scope = DataSourceRouting.readOnly();
+        try {
+            final Connection held = dataSource.getConnection();
+            dataSource.getConnection().close();
+
+            // execution
+            final String catalog = dataSource.getConnection().getCatalog();
+
+            // validation
+            assertThat(held.getCatalog(), is("first"));
+            assertThat(catalog, is("second"));
+            assertThat(dataSource.getReplicaStatus().get(0).getActiveConnections(), is(1));
+        } finally {
+            scope.close();
+        }
+    }
+
+    @Test
+    public void shouldRemoveFailedReplicasAndFallBackToThePrimary() throws Exception {
+        // scenario
+        doThrow(new SQLException("Connection refused")).when(firstReplica).getConnection();
+        doThrow(new SQLException("Connection refused")).when(secondReplica).getConnection();
+        final RoutingDataSource dataSource = build(LoadBalancingPolicy.ROUND_ROBIN, null, null);
+
+        // execution
+        final Connection connection;
+        final DataSourceRouting.Scope scope = DataSourceRouting.readOnly();
+        try {
+            connection = dataSource.getConnection();
+        } finally {
+            scope.close();
+        }
+
+        // validation
+        assertThat(connection, is(sameInstance(primaryConnection)));
+        assertThat(dataSource.getReplicaStatus().get(0).isAvailable(), is(false));
+        assertThat(dataSource.getReplicaStatus().get(1).isAvailable(), is(false));
+    }
+
+    @Test
+    public void shouldRemoveLaggingReplicasUntilTheyCatchUp() throws Exception {
+        // scenario
+        stubReplicationLag(firstConnection, 10_000L, 50L);
+        stubReplicationLag(secondConnection, 20L, 20L);
+        final RoutingDataSource dataSource = build(LoadBalancingPolicy.ROUND_ROBIN, Duration.ofSeconds(1), "lag");
+
+        // execution
+        dataSource.checkReplicas();
+        final boolean availableWhileLagging = dataSource.getReplicaStatus().get(0).isAvailable();
+        dataSource.checkReplicas();
+
+        // validation
+        assertThat(availableWhileLagging, is(false));
+        assertThat(dataSource.getReplicaStatus().get(0).isAvailable(), is(true));
+        assertThat(dataSource.getReplicaStatus().get(0).getReplicationLag().orElse(null), is(Duration.ofMillis(50)));
+        assertThat(dataSource.getReplicaStatus().get(1).isAvailable(), is(true));
+    }
+
+    private RoutingDataSource build(final LoadBalancingPolicy policy,
+                                    final Duration maxLag,
+                                    final String lagQuery) {
+        final RoutingProperties properties = new RoutingProperties(policy, Duration.ZERO, maxLag, lagQuery);
+        return new RoutingDataSource(primary, replicas, properties, logger);
+    }
+
+    private void stubReplicationLag(final Connection connection,
+                                    final long firstLag,
+                                    final long secondLag) throws SQLException {
+        final Statement statement = mock(Statement.class);
+        final ResultSet resultSet = mock(ResultSet.class);
+        doReturn(statement).when(connection).createStatement();
+        doReturn(resultSet).when(statement).executeQuery("lag");
+        doReturn(true).when(resultSet).next();
+        when(resultSet.getLong(1)).thenReturn(firstLag, secondLag);
+    }
+}
@@ -1,6 +1,9 @@
 package glue.persistence.datasource.hikaricp;
 
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 import glue.persistence.datasource.api.ConnectionProperties;
+import glue.persistence.datasource.api.DataSourceDefinition;
 import glue.persistence.datasource.api.DataSourceProvider;
 import org.slf4j.Logger;
 
@@ -8,10 +11,17 @@ import javax.enterprise.inject.Default;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 
 /**
  * {@link DataSourceProvider} implementation for HikariCP connection pool
  *
+ * <p>The produced pools are tracked, allowing the application shutdown to wait for the active connections to be
+ * returned before closing them. Around JVM checkpoints the pools are suspended and their connections evicted, being
+ * resumed once the JVM is restored.</p>
+ *
  * @author Lucas Dillmann
  * @since 1.0.0, 2018-12-08
  */
@@ -19,8 +29,12 @@ import javax.sql.DataSource;
 @Singleton
 public class HikariCpDataSourceProvider implements DataSourceProvider {
 
+    private static final long IDLE_POLL_INTERVAL_MILLIS = 50;
+    private static final long EVICTION_TIMEOUT_SECONDS = 10;
+
     private final HikariCpFactory factory;
     private final Logger logger;
+    private final List<HikariDataSource> dataSources;
 
     /**
      * Constructor with {@link HikariCpFactory} and {@link Logger} intialization
@@ -32,6 +46,7 @@ public class HikariCpDataSourceProvider implements DataSourceProvider {
     public HikariCpDataSourceProvider(final HikariCpFactory factory, final Logger logger) {
         this.factory = factory;
         this.logger = logger;
+        this.dataSources = new CopyOnWriteArrayList<>();
     }
 
     /**
@@ -43,6 +58,158 @@ public class HikariCpDataSourceProvider implements DataSourceProvider {
     @Override
     public DataSource produce(final ConnectionProperties connectionProperties) {
         logger.debug("Forwarding HikariCP DataSource production to internal factory");
-        return factory.build(connectionProperties);
+        final HikariDataSource dataSource = factory.build(connectionProperties);
+        dataSources.add(dataSource);
+        return dataSource;
+    }
+
+    /**
+     * Produces a {@link DataSource} pool for the given named {@link DataSourceDefinition}
+     *
+     * @param definition Data source definition
+     * @return Produced {@link DataSource}
+     */
+    @Override
+    public DataSource produce(final DataSourceDefinition definition) {
+        logger.debug("Forwarding HikariCP DataSource production of {} to internal factory", definition.getName());
+        final HikariDataSource dataSource = factory.build(definition);
+        dataSources.add(dataSource);
+        return dataSource;
+    }
+
+    /**
+     * Waits for the active connections of the produced pools to be returned
+     *
+     * @param timeout Maximum time to wait
+     * @param unit Time unit of the timeout
+     * @return True when no connection is active, false when the timeout expired
+     * @throws InterruptedException when interrupted while waiting
+     */
+    @Override
+    public boolean awaitIdle(final long timeout, final TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+        int activeConnections;
+        while ((activeConnections = getActiveConnections()) > 0) {
+            final long remainingTime = deadline - System.nanoTime();
+            if (remainingTime <= 0) {
+                logger.warn("{} active HikariCP connections weren't returned in time and will be forcibly closed",
+                        activeConnections);
+                return false;
+            }
+
+            Thread.sleep(Math.min(IDLE_POLL_INTERVAL_MILLIS, TimeUnit.NANOSECONDS.toMillis(remainingTime) + 1));
+        }
+
+        return true;
+    }
+
+    /**
+     * Closes the produced pools
+     */
+    @Override
+    public void shutdown() {
+        for (final HikariDataSource dataSource : dataSources) {
+            logger.info("Closing HikariCP pool {}", dataSource.getPoolName());
+            dataSource.close();
+        }
+
+        dataSources.clear();
+    }
+
+    /**
+     * Suspends the produced pools and evicts their connections, waiting for them to be closed
+     */
+    @Override
+    public void closeConnections() {
+        for (final HikariDataSource dataSource : dataSources) {
+            final HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            if (pool == null || dataSource.isClosed())
+                continue;
+
+            try {
+                pool.suspendPool();
+            } catch (final IllegalStateException ex) {
+                logger.warn("HikariCP pool {} doesn't allow suspension. New connections may be opened before the "
+                        + "checkpoint.", dataSource.getPoolName());
+            }
+
+            pool.softEvictConnections();
+        }
+
+        awaitEviction();
+    }
+
+    /**
+     * Resumes the produced pools, allowing new connections to be opened
+     */
+    @Override
+    public void reopenConnections() {
+        for (final HikariDataSource dataSource : dataSources) {
+            final HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            if (pool == null || dataSource.isClosed())
+                continue;
+
+            try {
+                pool.resumePool();
+            } catch (final IllegalStateException ex) {
+                logger.debug("HikariCP pool {} wasn't suspended", dataSource.getPoolName());
+            }
+        }
+    }
+
+    /**
+     * Waits for the evicted connections to be closed. Connections in use are closed when returned to the pool.
+     */
+    private void awaitEviction() {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(EVICTION_TIMEOUT_SECONDS);
+
+        int openConnections;
+        while ((openConnections = getTotalConnections()) > 0) {
+            if (System.nanoTime() >= deadline) {
+                logger.warn("{} HikariCP connections are still open and will be part of the checkpoint",
+                        openConnections);
+                return;
+            }
+
+            try {
+                Thread.sleep(IDLE_POLL_INTERVAL_MILLIS);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of open connections of all produced pools
+     *
+     * @return Open connections
+     */
+    private int getTotalConnections() {
+        int totalConnections = 0;
+        for (final HikariDataSource dataSource : dataSources) {
+            final HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            if (pool != null && !dataSource.isClosed())
+                totalConnections += pool.getTotalConnections();
+        }
+
+        return totalConnections;
+    }
+
+    /**
+     * Returns the number of active connections of all produced pools
+     *
+     * @return Active connections
+     */
+    private int getActiveConnections() {
+        int activeConnections = 0;
+        for (final HikariDataSource dataSource : dataSources) {
+            final HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            if (pool != null && !dataSource.isClosed())
+                activeConnections += pool.getActiveConnections();
+        }
+
+        return activeConnections;
     }
 }
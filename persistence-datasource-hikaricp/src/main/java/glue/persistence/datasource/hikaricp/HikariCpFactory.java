@@ -1,8 +1,15 @@
 package glue.persistence.datasource.hikaricp;
 
 import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariConfigMXBean;
 import com.zaxxer.hikari.HikariDataSource;
+import glue.config.api.change.ConfigurationChangeBatch;
+import glue.config.api.change.ConfigurationChangeRegistry;
+import glue.config.api.change.ConfigurationSubscription;
+import glue.core.CheckpointSupport;
 import glue.persistence.datasource.api.ConnectionProperties;
+import glue.persistence.datasource.api.DataSourceDefinition;
+import glue.persistence.datasource.api.DataSourceRole;
 import org.slf4j.Logger;
 
 import javax.enterprise.inject.Default;
@@ -16,6 +23,15 @@ import java.util.Objects;
  * <p>This class is able to produce HikariCP DataSource for connection pools using configurations set by the
  * project.</p>
  *
+ * <p>Pool settings that HikariCP supports changing at runtime (pool sizes, timeouts and leak detection threshold)
+ * are retuned on the produced pools whenever their configuration values change, without the need of a restart.</p>
+ *
+ * <p>Named data sources (see {@link DataSourceDefinition}) get one pool each, named after the configured pool name
+ * and the data source name. The pools of the replicas are always read-only.</p>
+ *
+ * <p>Pool suspension is enabled by default when the JVM supports checkpoints (see {@link CheckpointSupport}), allowing
+ * the pools to be emptied before the snapshot.</p>
+ *
  * @author Lucas Dillmann
  * @since 1.0.0, 2018-12-08
  */
@@ -24,17 +40,23 @@ import java.util.Objects;
 class HikariCpFactory {
 
     private final HikariCpConfiguration configuration;
+    private final ConfigurationChangeRegistry changeRegistry;
     private final Logger logger;
 
     /**
-     * Constructor with {@link HikariCpConfiguration} and {@link Logger} initialization
+     * Constructor with {@link HikariCpConfiguration}, {@link ConfigurationChangeRegistry} and {@link Logger}
+     * initialization
      *
      * @param configuration HikariCP configuration
+     * @param changeRegistry Configuration changes registry
      * @param logger Logger
      */
     @Inject
-    public HikariCpFactory(final HikariCpConfiguration configuration, final Logger logger) {
+    public HikariCpFactory(final HikariCpConfiguration configuration,
+                           final ConfigurationChangeRegistry changeRegistry,
+                           final Logger logger) {
         this.configuration = configuration;
+        this.changeRegistry = changeRegistry;
         this.logger = logger;
     }
 
@@ -52,8 +74,70 @@ class HikariCpFactory {
         Objects.requireNonNull(connectionProperties);
 
         logger.info("Producing a DataSource using HikariCP for {}", connectionProperties.getJdbcUrl());
+        return start(buildConfig(connectionProperties));
+    }
+
+    /**
+     * Produces the {@link HikariDataSource} pool of a named data source
+     *
+     * <p>This method works like {@link #build(ConnectionProperties)}, naming the pool after the data source and
+     * making it read-only when the data source is a replica.</p>
+     *
+     * @param definition Data source definition
+     * @return Produced Hikari DataSource
+     */
+    public HikariDataSource build(final DataSourceDefinition definition) {
+        Objects.requireNonNull(definition);
+
+        final ConnectionProperties connectionProperties = definition.getConnectionProperties();
+        logger.info("Producing the {} DataSource {} using HikariCP for {}", definition.getRole(),
+                definition.getName(), connectionProperties.getJdbcUrl());
+
         final HikariConfig config = buildConfig(connectionProperties);
-        return new HikariDataSource(config);
+        config.setPoolName(configuration
+                .getPoolName()
+                .map(poolName -> poolName + "-" + definition.getName())
+                .orElse(definition.getName()));
+        if (definition.getRole() == DataSourceRole.REPLICA)
+            config.setReadOnly(true);
+
+        return start(config);
+    }
+
+    /**
+     * Applies the changed configuration values that HikariCP supports changing at runtime to the provided pool
+     *
+     * @param dataSource Pool to be retuned
+     * @param batch Configuration changes
+     */
+    void retune(final HikariDataSource dataSource, final ConfigurationChangeBatch batch) {
+        if (dataSource.isClosed())
+            return;
+
+        logger.info("Retuning HikariCP pool {} after configuration changes: {}", dataSource.getPoolName(), batch.getChanges());
+        final HikariConfigMXBean pool = dataSource.getHikariConfigMXBean();
+
+        configuration.getMaximumPoolSize().ifPresent(pool::setMaximumPoolSize);
+        configuration.getMinimumIdle().ifPresent(pool::setMinimumIdle);
+        configuration.getConnectionTimeout().ifPresent(pool::setConnectionTimeout);
+        configuration.getIdleTimeout().ifPresent(pool::setIdleTimeout);
+        configuration.getMaxLifetime().ifPresent(pool::setMaxLifetime);
+        configuration.getValidationTimeout().ifPresent(pool::setValidationTimeout);
+        configuration.getLeakDetectionThreshold().ifPresent(pool::setLeakDetectionThreshold);
+    }
+
+    /**
+     * Starts the pool, subscribing it for configuration changes until it gets closed
+     *
+     * @param config HikariCP configuration properties
+     * @return Started Hikari DataSource
+     */
+    private HikariDataSource start(final HikariConfig config) {
+        final SubscribedHikariDataSource dataSource = new SubscribedHikariDataSource(config);
+        final ConfigurationSubscription subscription =
+                changeRegistry.subscribe(HikariCpConfiguration.class, batch -> retune(dataSource, batch));
+        dataSource.setSubscription(subscription);
+        return dataSource;
     }
 
     /**
@@ -82,7 +166,7 @@ class HikariCpFactory {
         configuration.getMaximumPoolSize().ifPresent(config::setMaximumPoolSize);
         configuration.getInitializationFailTimeout().ifPresent(config::setInitializationFailTimeout);
         configuration.isIsolateInternalQueries().ifPresent(config::setIsolateInternalQueries);
-        configuration.isAllowPoolSuspension().ifPresent(config::setAllowPoolSuspension);
+        config.setAllowPoolSuspension(configuration.isAllowPoolSuspension().orElse(CheckpointSupport.isAvailable()));
         configuration.isReadOnly().ifPresent(config::setReadOnly);
         configuration.isRegisterMbeans().ifPresent(config::setRegisterMbeans);
         configuration.getCatalog().ifPresent(config::setCatalog);
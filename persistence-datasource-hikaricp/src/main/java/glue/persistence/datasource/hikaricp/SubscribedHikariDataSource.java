@@ -0,0 +1,50 @@
+package glue.persistence.datasource.hikaricp;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import glue.config.api.change.ConfigurationSubscription;
+
+/**
+ * HikariCP pool subscribed for configuration changes
+ *
+ * <p>The subscription is cancelled when the pool is closed, releasing the pool from the configuration change
+ * listeners.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+class SubscribedHikariDataSource extends HikariDataSource {
+
+    private volatile ConfigurationSubscription subscription;
+
+    /**
+     * Constructor with {@link HikariConfig} initialization
+     *
+     * @param config HikariCP configuration properties
+     */
+    SubscribedHikariDataSource(final HikariConfig config) {
+        super(config);
+    }
+
+    /**
+     * Defines the configuration changes subscription of the pool
+     *
+     * @param subscription Configuration changes subscription
+     */
+    void setSubscription(final ConfigurationSubscription subscription) {
+        this.subscription = subscription;
+    }
+
+    /**
+     * Cancels the configuration changes subscription and closes the pool
+     */
+    @Override
+    public void close() {
+        final ConfigurationSubscription current = subscription;
+        subscription = null;
+        if (current != null)
+            current.cancel();
+
+        super.close();
+    }
+}
@@ -1,6 +1,7 @@
 package glue.persistence.datasource.hikaricp;
 
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 import glue.persistence.datasource.api.ConnectionProperties;
 import org.junit.Before;
 import org.junit.Test;
@@ -10,12 +11,17 @@ import org.mockito.runners.MockitoJUnitRunner;
 import org.slf4j.Logger;
 
 import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * Test cases for {@link HikariCpDataSourceProvider}
@@ -31,6 +37,8 @@ public class HikariCpDataSourceProviderTests {
     @Mock
     private HikariDataSource dataSource;
     @Mock
+    private HikariPoolMXBean pool;
+    @Mock
     private Logger logger;
 
     private HikariCpDataSourceProvider provider;
@@ -38,6 +46,7 @@ public class HikariCpDataSourceProviderTests {
     @Before
     public void setup() {
         doReturn(dataSource).when(factory).build(any(ConnectionProperties.class));
+        doReturn(pool).when(dataSource).getHikariPoolMXBean();
         this.provider = new HikariCpDataSourceProvider(factory, logger);
     }
 
@@ -54,4 +63,83 @@ public class HikariCpDataSourceProviderTests {
         assertThat(actualDataSource, is(dataSource));
     }
 
+    @Test
+    public void shouldWaitForActiveConnectionsToBeReturned() throws InterruptedException {
+        // scenario
+        when(pool.getActiveConnections()).thenReturn(2, 1, 0);
+        provider.produce(new ConnectionProperties(null, null, null, null, null));
+
+        // execution
+        final boolean idle = provider.awaitIdle(5, TimeUnit.SECONDS);
+
+        // validation
+        assertThat(idle, is(true));
+        verify(pool, times(3)).getActiveConnections();
+    }
+
+    @Test
+    public void shouldStopWaitingWhenTimeoutExpires() throws InterruptedException {
+        // scenario
+        when(pool.getActiveConnections()).thenReturn(1);
+        provider.produce(new ConnectionProperties(null, null, null, null, null));
+
+        // execution
+        final boolean idle = provider.awaitIdle(100, TimeUnit.MILLISECONDS);
+
+        // validation
+        assertThat(idle, is(false));
+    }
+
+    @Test
+    public void shouldCloseProducedDataSourcesOnShutdown() {
+        // scenario
+        provider.produce(new ConnectionProperties(null, null, null, null, null));
+
+        // execution
+        provider.shutdown();
+
+        // validation
+        verify(dataSource, times(1)).close();
+    }
+
+    @Test
+    public void shouldSuspendPoolsAndEvictConnectionsBeforeCheckpoint() {
+        // scenario
+        when(pool.getTotalConnections()).thenReturn(3, 0);
+        provider.produce(new ConnectionProperties(null, null, null, null, null));
+
+        // execution
+        provider.closeConnections();
+
+        // validation
+        verify(pool, times(1)).suspendPool();
+        verify(pool, times(1)).softEvictConnections();
+        verify(pool, times(2)).getTotalConnections();
+    }
+
+    @Test
+    public void shouldEvictConnectionsWhenPoolSuspensionIsNotAllowed() {
+        // scenario
+        doThrow(new IllegalStateException()).when(pool).suspendPool();
+        provider.produce(new ConnectionProperties(null, null, null, null, null));
+
+        // execution
+        provider.closeConnections();
+
+        // validation
+        verify(pool, times(1)).softEvictConnections();
+    }
+
+    @Test
+    public void shouldResumePoolsAfterRestore() {
+        // scenario
+        provider.produce(new ConnectionProperties(null, null, null, null, null));
+
+        // execution
+        provider.reopenConnections();
+
+        // validation
+        verify(pool, times(1)).resumePool();
+    }
+
 }
@@ -1,7 +1,13 @@
 package glue.persistence.datasource.hikaricp;
 
 import com.zaxxer.hikari.HikariDataSource;
+import glue.config.api.change.ConfigurationBatchListener;
+import glue.config.api.change.ConfigurationChangeBatch;
+import glue.config.api.change.ConfigurationChangeRegistry;
+import glue.config.api.change.ConfigurationSubscription;
 import glue.persistence.datasource.api.ConnectionProperties;
+import glue.persistence.datasource.api.DataSourceDefinition;
+import glue.persistence.datasource.api.DataSourceRole;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -9,13 +15,16 @@ import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.slf4j.Logger;
 
+import java.util.Collections;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
-import static org.mockito.Mockito.doReturn;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
 
 /**
  * Test cases for {@link HikariCpFactory}
@@ -30,12 +39,14 @@ public class HikariCpFactoryTests {
     private Logger logger;
     @Mock
     private HikariCpConfiguration configuration;
+    @Mock
+    private ConfigurationChangeRegistry changeRegistry;
 
     private HikariCpFactory factory;
 
     @Before
     public void setup() {
-        this.factory = new HikariCpFactory(configuration, logger);
+        this.factory = new HikariCpFactory(configuration, changeRegistry, logger);
     }
 
     @Test
@@ -71,4 +82,93 @@ public class HikariCpFactoryTests {
         assertNotNull(producedInstance);
         assertThat(producedInstance, is(instanceOf(HikariDataSource.class)));
     }
+
+    @Test
+    public void shouldSubscribeForConfigurationChanges() {
+        // scenario
+        stubEmptyConfiguration();
+
+        // execution
+        final HikariDataSource dataSource = factory.build(buildConnectionProperties());
+        dataSource.close();
+
+        // validation
+        verify(changeRegistry, times(1)).subscribe(eq(HikariCpConfiguration.class), any(ConfigurationBatchListener.class));
+    }
+
+    @Test
+    public void shouldCancelTheSubscriptionWhenThePoolIsClosed() {
+        // scenario
+        stubEmptyConfiguration();
+        final ConfigurationSubscription subscription = mock(ConfigurationSubscription.class);
+        doReturn(subscription).when(changeRegistry)
+                .subscribe(eq(HikariCpConfiguration.class), any(ConfigurationBatchListener.class));
+        final HikariDataSource dataSource = factory.build(buildConnectionProperties());
+
+        // execution
+        dataSource.close();
+        dataSource.close();
+
+        // validation
+        verify(subscription, times(1)).cancel();
+    }
+
+    @Test
+    public void shouldProduceNamedReadOnlyPoolsForReplicas() {
+        // scenario
+        stubEmptyConfiguration();
+        doReturn(Optional.of("glue-pool")).when(configuration).getPoolName();
+        final DataSourceDefinition definition =
+                new DataSourceDefinition("replica-1", DataSourceRole.REPLICA, buildConnectionProperties());
+
+        // execution
+        try (final HikariDataSource dataSource = factory.build(definition)) {
+
+            // validation
+            assertThat(dataSource.getPoolName(), is("glue-pool-replica-1"));
+            assertThat(dataSource.isReadOnly(), is(true));
+        }
+    }
+
+    @Test
+    public void shouldRetunePoolsWhenConfigurationChanges() {
+        // scenario
+        stubEmptyConfiguration();
+        try (final HikariDataSource dataSource = factory.build(buildConnectionProperties())) {
+            doReturn(Optional.of(25)).when(configuration).getMaximumPoolSize();
+            doReturn(Optional.of(5)).when(configuration).getMinimumIdle();
+
+            // execution
+            factory.retune(dataSource, new ConfigurationChangeBatch(HikariCpConfiguration.class, Collections.emptyList()));
+
+            // validation
+            assertThat(dataSource.getMaximumPoolSize(), is(25));
+            assertThat(dataSource.getMinimumIdle(), is(5));
+        }
+    }
+
+    private ConnectionProperties buildConnectionProperties() {
+        return new ConnectionProperties("jdbc:h2:mem:test", "sa", "sa", null, org.h2.Driver.class);
+    }
+
+    private void stubEmptyConfiguration() {
+        doReturn(Optional.empty()).when(configuration).getPoolName();
+        doReturn(Optional.empty()).when(configuration).isAutoCommit();
+        doReturn(Optional.empty()).when(configuration).getConnectionTimeout();
+        doReturn(Optional.empty()).when(configuration).getIdleTimeout();
+        doReturn(Optional.empty()).when(configuration).getMaxLifetime();
+        doReturn(Optional.empty()).when(configuration).getConnectionTestQuery();
+        doReturn(Optional.empty()).when(configuration).getMinimumIdle();
+        doReturn(Optional.empty()).when(configuration).getMaximumPoolSize();
+        doReturn(Optional.empty()).when(configuration).getInitializationFailTimeout();
+        doReturn(Optional.empty()).when(configuration).isIsolateInternalQueries();
+        doReturn(Optional.empty()).when(configuration).isAllowPoolSuspension();
+        doReturn(Optional.empty()).when(configuration).isReadOnly();
+        doReturn(Optional.empty()).when(configuration).isRegisterMbeans();
+        doReturn(Optional.empty()).when(configuration).getCatalog();
+        doReturn(Optional.empty()).when(configuration).getConnectionInitSql();
+        doReturn(Optional.empty()).when(configuration).getTransactionIsolation();
+        doReturn(Optional.empty()).when(configuration).getValidationTimeout();
+        doReturn(Optional.empty()).when(configuration).getLeakDetectionThreshold();
+    }
 }
@@ -1,5 +1,6 @@
 package glue.persistence.jpa.api;
 
+import glue.core.util.LogUtils;
 import org.slf4j.Logger;
 
 import javax.enterprise.inject.Disposes;
@@ -45,7 +46,7 @@ public class EntityManagerProvider {
      */
     @Produces
     public EntityManager entityManager() {
-        logger.debug("Producing an EntityManager using default persistence context on thread {}", Thread.currentThread().getName());
+        LogUtils.debug(logger, "Producing an EntityManager using default persistence context on thread {}", Thread.currentThread().getName());
 
         return context.getFactory().createEntityManager();
     }
@@ -20,4 +20,13 @@ public interface JpaProvider {
      * @return Entity manager factory
      */
     EntityManagerFactory buildFactory();
+
+    /**
+     * Releases the resources held by the provider, like the data sources it created
+     *
+     * <p>This method is called when the JPA module stops, after closing the {@link EntityManagerFactory}. The default
+     * implementation does nothing.</p>
+     */
+    default void shutdown() {
+    }
 }
@@ -21,6 +21,7 @@ public class PersistenceContext {
 
     private static final String NO_JPA_PROVIDER = "JPA provider not found in classpath. Please check if your project has a JPA implementation module.";
 
+    private final JpaProvider provider;
     private final EntityManagerFactory factory;
     private final Logger logger;
 
@@ -37,11 +38,11 @@ public class PersistenceContext {
         logger.info("Starting JPA Persistence API");
         validateProvider(provider);
 
-        final JpaProvider providerInstance = provider.get();
-        this.factory = providerInstance.buildFactory();
+        this.provider = provider.get();
+        this.factory = this.provider.buildFactory();
         this.logger = logger;
 
-        logger.info("JPA persistence API context started using {} as JPA provider", providerInstance.getClass().getSimpleName());
+        logger.info("JPA persistence API context started using {} as JPA provider", this.provider.getClass().getSimpleName());
     }
 
     /**
@@ -62,4 +63,13 @@ public class PersistenceContext {
     public EntityManagerFactory getFactory() {
         return factory;
     }
+
+    /**
+     * Returns current {@link JpaProvider} instance
+     *
+     * @return JPA provider
+     */
+    public JpaProvider getProvider() {
+        return provider;
+    }
 }
@@ -66,11 +66,13 @@ public class PersistenceJpaApiModule implements ModuleLifecycle {
     /**
      * Stops the module
      *
-     * <p>This method stop the module lifecycle, shutting down the features provided by it.</p>
+     * <p>This method stop the module lifecycle, shutting down the features provided by it. The entity manager factory
+     * is closed before the {@link JpaProvider} releases its resources, since closing it may still use them.</p>
      */
     @Override
     public void stop() {
         logger.info("Shutting down JPA persistence API");
         context.getFactory().close();
+        context.getProvider().shutdown();
     }
 }
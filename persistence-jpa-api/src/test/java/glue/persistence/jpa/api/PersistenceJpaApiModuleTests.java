@@ -6,6 +6,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.slf4j.Logger;
@@ -38,12 +39,15 @@ public class PersistenceJpaApiModuleTests {
     private EntityManager entityManager;
     @Mock
     private EntityTransaction transaction;
+    @Mock
+    private JpaProvider provider;
 
     private PersistenceJpaApiModule module;
 
     @Before
     public void setup() {
         doReturn(factory).when(context).getFactory();
+        doReturn(provider).when(context).getProvider();
         doReturn(transaction).when(entityManager).getTransaction();
         doReturn(entityManager).when(factory).createEntityManager();
 
@@ -99,4 +103,17 @@ public class PersistenceJpaApiModuleTests {
         verify(factory, times(1)).close();
     }
 
+    @Test
+    public void shouldShutdownProviderAfterClosingFactoryOnStop() {
+        // scenario
+        final InOrder order = inOrder(factory, provider);
+
+        // execution
+        module.stop();
+
+        // validation
+        order.verify(factory, times(1)).close();
+        order.verify(provider, times(1)).shutdown();
+    }
+
 }
@@ -2,7 +2,11 @@ package glue.persistence.hibernate;
 
 import glue.core.util.ExceptionUtils;
 import glue.persistence.datasource.api.ConnectionProperties;
+import glue.persistence.datasource.api.DataSourceDefinition;
 import glue.persistence.datasource.api.DataSourceProvider;
+import glue.persistence.datasource.api.DataSourceRole;
+import glue.persistence.datasource.api.routing.RoutingDataSourceFactory;
+import glue.persistence.datasource.api.routing.RoutingProperties;
 import glue.persistence.hibernate.configuration.HibernateConfiguration;
 import glue.persistence.hibernate.exception.GluePersistenceException;
 import org.slf4j.Logger;
@@ -13,6 +17,11 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.sql.DataSource;
 import java.sql.Driver;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Hibernate internal {@link DataSource} factory
@@ -21,6 +30,10 @@ import java.sql.Driver;
  * All produces {@link DataSource} are created using Glue DataSource API, which means that any connection pool
  * can be used that implements the Glue API.</p>
  *
+ * <p>When read replicas are configured, the primary database and each replica get their own pool, combined in a
+ * {@link glue.persistence.datasource.api.routing.RoutingDataSource} that routes the read-only transactions to the
+ * replicas.</p>
+ *
  * @author Lucas Dillmann
  * @since 1.0.0, 2018-12-12
  */
@@ -28,22 +41,30 @@ import java.sql.Driver;
 @Default
 class HibernateDataSourceFactory {
 
+    static final String PRIMARY_NAME = "primary";
+    static final String REPLICA_NAME_PREFIX = "replica-";
+
     private final DataSourceProvider provider;
+    private final RoutingDataSourceFactory routingFactory;
     private final HibernateConfiguration configuration;
     private final Logger logger;
 
     /**
-     * Constructor with {@link DataSourceProvider}, {@link HibernateConfiguration} and {@link Logger} initialization
+     * Constructor with {@link DataSourceProvider}, {@link RoutingDataSourceFactory}, {@link HibernateConfiguration}
+     * and {@link Logger} initialization
      *
      * @param provider DataSource provider
+     * @param routingFactory Routing DataSource factory
      * @param configuration Configuration values
      * @param logger Logger
      */
     @Inject
     public HibernateDataSourceFactory(final DataSourceProvider provider,
+                                      final RoutingDataSourceFactory routingFactory,
                                       final HibernateConfiguration configuration,
                                       final Logger logger) {
         this.provider = provider;
+        this.routingFactory = routingFactory;
         this.configuration = configuration;
         this.logger = logger;
     }
@@ -58,7 +79,31 @@ class HibernateDataSourceFactory {
      */
     DataSource build() {
         final ConnectionProperties connectionProperties = buildConnectionProperties();
-        return provider.produce(connectionProperties);
+        final List<String> replicaUrls = getReplicaUrls();
+        if (replicaUrls.isEmpty())
+            return provider.produce(connectionProperties);
+
+        final List<DataSourceDefinition> definitions = new ArrayList<>();
+        definitions.add(new DataSourceDefinition(PRIMARY_NAME, DataSourceRole.PRIMARY, connectionProperties));
+        for (int index = 0; index < replicaUrls.size(); index++) {
+            final ConnectionProperties replicaProperties = new ConnectionProperties(
+                    replicaUrls.get(index),
+                    configuration.getReplicaUsername().orElse(connectionProperties.getUsername()),
+                    configuration.getReplicaPassword().orElse(connectionProperties.getPassword()),
+                    connectionProperties.getSchema(),
+                    connectionProperties.getDriverClass()
+            );
+            definitions.add(new DataSourceDefinition(REPLICA_NAME_PREFIX + (index + 1), DataSourceRole.REPLICA,
+                    replicaProperties));
+        }
+
+        final RoutingProperties routingProperties = new RoutingProperties(
+                configuration.getReplicaLoadBalancing(),
+                Duration.ofMillis(configuration.getReplicaHealthCheckInterval()),
+                configuration.getReplicaMaxLag().map(Duration::ofMillis).orElse(null),
+                configuration.getReplicaLagQuery().orElse(null)
+        );
+        return routingFactory.build(definitions, routingProperties);
     }
 
     /**
@@ -78,6 +123,21 @@ class HibernateDataSourceFactory {
         }
     }
 
+    /**
+     * Returns the configured JDBC URLs of the read replicas
+     *
+     * @return Replica URLs, empty when no replica is configured
+     */
+    private List<String> getReplicaUrls() {
+        return configuration
+                .getReplicaUrls()
+                .map(urls -> Arrays.stream(urls.split(","))
+                        .map(String::trim)
+                        .filter(url -> !url.isEmpty())
+                        .collect(Collectors.toList()))
+                .orElseGet(ArrayList::new);
+    }
+
     /**
      * Builds and returns an instance of {@link ConnectionProperties} using project configuration values
      *
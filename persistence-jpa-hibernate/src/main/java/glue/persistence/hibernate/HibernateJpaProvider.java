@@ -1,5 +1,7 @@
 package glue.persistence.hibernate;
 
+import glue.core.profiler.StartupPhase;
+import glue.core.profiler.StartupProfiler;
 import glue.persistence.hibernate.exception.GluePersistenceException;
 import glue.persistence.jpa.api.JpaProvider;
 import org.slf4j.Logger;
@@ -53,8 +55,21 @@ public class HibernateJpaProvider implements JpaProvider {
         if (providers == null || providers.isEmpty())
             throw new GluePersistenceException("Hibernate JPA provider not found. Something is wrong with Glue APIs, please report this error.");
 
-        return providers
-                .get(0)
-                .createContainerEntityManagerFactory(persistenceUnit, persistenceUnit.getProperties());
+        final StartupPhase phase = StartupProfiler.getInstance().begin("hibernate.entityManagerFactory");
+        try {
+            return providers
+                    .get(0)
+                    .createContainerEntityManagerFactory(persistenceUnit, persistenceUnit.getProperties());
+        } finally {
+            phase.close();
+        }
+    }
+
+    /**
+     * Closes the data source of the persistence unit
+     */
+    @Override
+    public void shutdown() {
+        persistenceUnit.closeDataSource();
     }
 }
@@ -1,6 +1,7 @@
 package glue.persistence.hibernate;
 
 import glue.core.GlueApplicationContext;
+import glue.persistence.datasource.api.routing.RoutingDataSource;
 import glue.persistence.hibernate.configuration.HibernateConfiguration;
 import org.hibernate.jpa.HibernatePersistenceProvider;
 
@@ -124,6 +125,17 @@ class HibernatePersistenceUnit implements PersistenceUnitInfo {
         return currentDataSource;
     }
 
+    /**
+     * Closes the {@link RoutingDataSource} created for the read replicas, stopping its health checks
+     *
+     * <p>Nothing is done when no replica is configured. The connection pools are closed by the
+     * {@link glue.persistence.datasource.api.DataSourceProvider} that produced them.</p>
+     */
+    synchronized void closeDataSource() {
+        if (currentDataSource instanceof RoutingDataSource)
+            ((RoutingDataSource) currentDataSource).close();
+    }
+
     /**
      * Returns the list of the names of the mapping files that the
      * persistence provider must load to determine the mappings for
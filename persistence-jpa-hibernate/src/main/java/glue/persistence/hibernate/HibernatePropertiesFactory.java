@@ -1,6 +1,7 @@
 package glue.persistence.hibernate;
 
 import glue.persistence.hibernate.properties.HibernatePropertiesCustomizer;
+import org.hibernate.cfg.AvailableSettings;
 import org.slf4j.Logger;
 
 import javax.enterprise.inject.Any;
@@ -16,7 +17,8 @@ import java.util.stream.StreamSupport;
  * Hibernate persistence unit {@link Properties} factory
  *
  * <p>This class is able to produce {@link Properties} instances for use by Hibernate ORM. All produced instances
- * are customized by {@link HibernatePropertiesCustomizer} implementations.</p>
+ * are customized by {@link HibernatePropertiesCustomizer} implementations. The database time of the requests is
+ * recorded by default using the {@link HibernateRequestTimingListener}.</p>
  *
  * @author Lucas Dillmann
  * @since 1.0.0, 2018-12-12
@@ -47,6 +49,7 @@ class HibernatePropertiesFactory {
      */
     Properties build() {
         final Properties properties = new Properties();
+        properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, HibernateRequestTimingListener.class.getName());
         customizers.forEach(customizer -> runCustomization(customizer, properties));
 
         return properties;
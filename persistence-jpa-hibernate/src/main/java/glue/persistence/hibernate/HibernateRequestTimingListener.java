@@ -0,0 +1,57 @@
+package glue.persistence.hibernate;
+
+import glue.core.context.RequestContext;
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Hibernate session listener that records the database time in the request context
+ *
+ * <p>The time spent executing JDBC statements and batches is recorded as the {@value #DATABASE_PHASE} phase of the
+ * {@link RequestContext} and the time waiting for connections as the {@value #CONNECTION_PHASE} phase, allowing slow
+ * requests to be tied to their database work. Nothing is recorded for sessions used outside of requests.</p>
+ *
+ * <p>Hibernate creates a listener for each session, so the instances aren't shared between threads.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+public class HibernateRequestTimingListener extends BaseSessionEventListener {
+
+    static final String DATABASE_PHASE = "database";
+    static final String CONNECTION_PHASE = "connection";
+    private static final long serialVersionUID = 1L;
+
+    private long statementStart;
+    private long batchStart;
+    private long connectionStart;
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        connectionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        RequestContext.recordCurrent(CONNECTION_PHASE, System.nanoTime() - connectionStart);
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestContext.recordCurrent(DATABASE_PHASE, System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestContext.recordCurrent(DATABASE_PHASE, System.nanoTime() - batchStart);
+    }
+}
@@ -2,13 +2,19 @@ package glue.persistence.hibernate.configuration;
 
 import glue.config.api.annotation.ConfigurationInterface;
 import glue.config.api.annotation.ConfigurationProperty;
+import glue.persistence.datasource.api.routing.LoadBalancingPolicy;
 
 import javax.persistence.SharedCacheMode;
 import javax.persistence.ValidationMode;
+import java.util.Optional;
 
 /**
  * Configuration properties for Hibernate implementation of the Persistence API module using JPA API
  *
+ * <p>Read replicas are enabled by the {@code replicas.urls} property. Each replica gets its own pool, named
+ * {@code replica-1}, {@code replica-2} and so on, and the read-only transactions are routed to them (see
+ * {@link glue.persistence.datasource.api.routing.RoutingDataSource}).</p>
+ *
  * @author Lucas Dillmann
  * @since 1.0.0, 2018-12-07
  */
@@ -71,4 +77,59 @@ public interface HibernateConfiguration {
     @ConfigurationProperty(key = "validationMode", defaultValue = "AUTO")
     ValidationMode getValidationMode();
 
+    /**
+     * Returns the JDBC connection URLs of the read replicas, separated by commas
+     *
+     * @return Replica JDBC connection URLs
+     */
+    @ConfigurationProperty(key = "replicas.urls")
+    Optional<String> getReplicaUrls();
+
+    /**
+     * Returns the database username of the read replicas. Defaults to the primary database username.
+     *
+     * @return Replica database username
+     */
+    @ConfigurationProperty(key = "replicas.username")
+    Optional<String> getReplicaUsername();
+
+    /**
+     * Returns the database password of the read replicas. Defaults to the primary database password.
+     *
+     * @return Replica database password
+     */
+    @ConfigurationProperty(key = "replicas.password")
+    Optional<String> getReplicaPassword();
+
+    /**
+     * Returns how the read-only connections are balanced between the replicas. Defaults to round robin.
+     *
+     * @return Load balancing policy
+     */
+    @ConfigurationProperty(key = "replicas.loadBalancing", defaultValue = "ROUND_ROBIN")
+    LoadBalancingPolicy getReplicaLoadBalancing();
+
+    /**
+     * Returns the interval between the health checks of the replicas, in milliseconds. Defaults to 5 seconds.
+     *
+     * @return Health check interval
+     */
+    @ConfigurationProperty(key = "replicas.healthCheckInterval", defaultValue = "5000")
+    Long getReplicaHealthCheckInterval();
+
+    /**
+     * Returns the maximum replication lag of the replicas, in milliseconds. Requires the lag query.
+     *
+     * @return Maximum replication lag
+     */
+    @ConfigurationProperty(key = "replicas.maxLag")
+    Optional<Long> getReplicaMaxLag();
+
+    /**
+     * Returns the query that measures the replication lag of the replicas, in milliseconds
+     *
+     * @return Replication lag query
+     */
+    @ConfigurationProperty(key = "replicas.lagQuery")
+    Optional<String> getReplicaLagQuery();
 }
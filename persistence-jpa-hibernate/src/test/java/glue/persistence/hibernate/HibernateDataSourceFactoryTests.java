@@ -1,7 +1,13 @@
 package glue.persistence.hibernate;
 
 import glue.persistence.datasource.api.ConnectionProperties;
+import glue.persistence.datasource.api.DataSourceDefinition;
 import glue.persistence.datasource.api.DataSourceProvider;
+import glue.persistence.datasource.api.DataSourceRole;
+import glue.persistence.datasource.api.routing.LoadBalancingPolicy;
+import glue.persistence.datasource.api.routing.RoutingDataSource;
+import glue.persistence.datasource.api.routing.RoutingDataSourceFactory;
+import glue.persistence.datasource.api.routing.RoutingProperties;
 import glue.persistence.hibernate.configuration.HibernateConfiguration;
 import glue.persistence.hibernate.exception.GluePersistenceException;
 import org.junit.Before;
@@ -9,18 +15,21 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.slf4j.Logger;
 
 import javax.sql.DataSource;
+import java.util.List;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Matchers.any;
-import static org.mockito.Mockito.doReturn;
-import static org.mockito.Mockito.mock;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Mockito.*;
 
 /**
  * Test cases for {@link HibernateDataSourceFactory}
@@ -36,6 +45,8 @@ public class HibernateDataSourceFactoryTests {
     @Mock
     private DataSourceProvider provider;
     @Mock
+    private RoutingDataSourceFactory routingFactory;
+    @Mock
     private HibernateConfiguration configuration;
     @Mock
     private Logger logger;
@@ -44,7 +55,8 @@ public class HibernateDataSourceFactoryTests {
 
     @Before
     public void setup() {
-        this.factory = new HibernateDataSourceFactory(provider, configuration, logger);
+        this.factory = new HibernateDataSourceFactory(provider, routingFactory, configuration, logger);
+        doReturn(Optional.empty()).when(configuration).getReplicaUrls();
     }
 
     @Test
@@ -61,6 +73,39 @@ public class HibernateDataSourceFactoryTests {
         assertThat(actualDataSource, is(notNullValue()));
     }
 
+    @Test
+    public void shouldProduceRoutingDataSourceWhenReplicasAreConfigured() {
+        // scenario
+        final RoutingDataSource expectedDataSource = mock(RoutingDataSource.class);
+        doReturn(expectedDataSource).when(routingFactory)
+                .build(anyListOf(DataSourceDefinition.class), any(RoutingProperties.class));
+        doReturn(org.h2.Driver.class.getName()).when(configuration).getDriverClass();
+        doReturn("jdbc:h2:mem:primary").when(configuration).getUrl();
+        doReturn("sa").when(configuration).getUsername();
+        doReturn(Optional.of("jdbc:h2:mem:first, jdbc:h2:mem:second")).when(configuration).getReplicaUrls();
+        doReturn(Optional.of("reader")).when(configuration).getReplicaUsername();
+        doReturn(Optional.empty()).when(configuration).getReplicaPassword();
+        doReturn(LoadBalancingPolicy.LEAST_CONNECTIONS).when(configuration).getReplicaLoadBalancing();
+        doReturn(1000L).when(configuration).getReplicaHealthCheckInterval();
+        doReturn(Optional.empty()).when(configuration).getReplicaMaxLag();
+        doReturn(Optional.empty()).when(configuration).getReplicaLagQuery();
+        final ArgumentCaptor<List> definitions = ArgumentCaptor.forClass(List.class);
+
+        // execution
+        final DataSource actualDataSource = factory.build();
+
+        // validation
+        assertThat(actualDataSource, is(expectedDataSource));
+        verify(provider, never()).produce(any(ConnectionProperties.class));
+        verify(routingFactory, times(1)).build(definitions.capture(), any(RoutingProperties.class));
+        final List<DataSourceDefinition> values = definitions.getValue();
+        assertThat(values.size(), is(3));
+        assertThat(values.get(0).getRole(), is(DataSourceRole.PRIMARY));
+        assertThat(values.get(2).getName(), is("replica-2"));
+        assertThat(values.get(2).getConnectionProperties().getJdbcUrl(), is("jdbc:h2:mem:second"));
+        assertThat(values.get(2).getConnectionProperties().getUsername(), is("reader"));
+    }
+
     @Test
     public void shouldThrowExceptionWhenClassIsntADriver() {
         // scenario
@@ -21,6 +21,8 @@ import java.util.Collections;
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.powermock.api.mockito.PowerMockito.doReturn;
 import static org.powermock.api.mockito.PowerMockito.mockStatic;
 
@@ -72,4 +74,13 @@ public class HibernateJpaProviderTests {
         // validation
         assertNotNull(factory);
     }
+
+    @Test
+    public void shouldCloseTheDataSourceOnShutdown() {
+        // execution
+        provider.shutdown();
+
+        // validation
+        verify(persistenceUnit, times(1)).closeDataSource();
+    }
 }
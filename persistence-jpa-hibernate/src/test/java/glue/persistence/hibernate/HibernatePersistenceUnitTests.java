@@ -0,0 +1,71 @@
+package glue.persistence.hibernate;
+
+import glue.core.GlueApplicationContext;
+import glue.persistence.datasource.api.routing.RoutingDataSource;
+import glue.persistence.hibernate.configuration.HibernateConfiguration;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.Logger;
+
+import javax.sql.DataSource;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Test cases for {@link HibernatePersistenceUnit}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class HibernatePersistenceUnitTests {
+
+    @Mock
+    private HibernateDataSourceFactory dataSourceFactory;
+    @Mock
+    private HibernatePropertiesFactory propertiesFactory;
+    @Mock
+    private HibernateConfiguration configuration;
+    @Mock
+    private Logger logger;
+
+    private HibernatePersistenceUnit persistenceUnit;
+
+    @Before
+    public void setup() {
+        final GlueApplicationContext applicationContext = new GlueApplicationContext(logger, null);
+        this.persistenceUnit = new HibernatePersistenceUnit(dataSourceFactory, propertiesFactory, configuration,
+                applicationContext);
+    }
+
+    @Test
+    public void shouldCloseTheRoutingDataSource() {
+        // scenario
+        final RoutingDataSource dataSource = mock(RoutingDataSource.class);
+        doReturn(dataSource).when(dataSourceFactory).build();
+        persistenceUnit.getNonJtaDataSource();
+
+        // execution
+        persistenceUnit.closeDataSource();
+
+        // validation
+        verify(dataSource, times(1)).close();
+    }
+
+    @Test
+    public void shouldNotCloseTheDataSourceWithoutReplicas() throws Exception {
+        // scenario
+        final DataSource dataSource = mock(DataSource.class, withSettings().extraInterfaces(AutoCloseable.class));
+        doReturn(dataSource).when(dataSourceFactory).build();
+        persistenceUnit.getNonJtaDataSource();
+
+        // execution
+        persistenceUnit.closeDataSource();
+
+        // validation
+        verify((AutoCloseable) dataSource, never()).close();
+    }
+}
@@ -1,6 +1,7 @@
 package glue.persistence.hibernate;
 
 import glue.persistence.hibernate.properties.HibernatePropertiesCustomizer;
+import org.hibernate.cfg.AvailableSettings;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -12,7 +13,9 @@ import javax.enterprise.inject.Instance;
 import java.util.Arrays;
 import java.util.Properties;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.*;
 
 /**
@@ -56,4 +59,14 @@ public class HibernatePropertiesFactoryTests {
         // validation
         verify(customizer, times(1)).customize(any(Properties.class));
     }
+
+    @Test
+    public void shouldRegisterTheRequestTimingListener() {
+        // execution
+        final Properties properties = factory.build();
+
+        // validation
+        assertThat(properties.get(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER),
+                is(HibernateRequestTimingListener.class.getName()));
+    }
 }
@@ -1,5 +1,6 @@
 package glue.test.test;
 
+import glue.persistence.datasource.api.routing.ReadOnly;
 import glue.web.jaxrs.patch.api.PatchMediaType;
 import glue.web.jaxrs.patch.api.PatchResource;
 import org.apache.deltaspike.jpa.api.transaction.Transactional;
@@ -31,6 +32,7 @@ public class TestResource implements PatchResource {
     }
 
     @GET
+    @ReadOnly
     @Produces(MediaType.APPLICATION_JSON)
     public Response getAll() {
         logger.debug("GET received for all entities");
@@ -39,6 +41,7 @@ public class TestResource implements PatchResource {
     }
 
     @GET
+    @ReadOnly
     @Path("/{id}")
     @Produces(MediaType.APPLICATION_JSON)
     public Response getById(final @PathParam("id") UUID id) {
@@ -3,6 +3,7 @@ package glue.web.container.api;
 import javax.servlet.Servlet;
 import javax.servlet.ServletContext;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Web Container interface
@@ -29,6 +30,61 @@ public interface WebContainer {
      */
     void stopContainer();
 
+    /**
+     * Suspends the container
+     *
+     * <p>This method makes the container stop accepting new connections and requests, while the requests in
+     * progress keep being handled. The default implementation does nothing.</p>
+     */
+    default void suspendContainer() {
+    }
+
+    /**
+     * Waits for the in-flight requests to finish
+     *
+     * <p>This method blocks until all requests in progress are finished or the timeout expires. The default
+     * implementation returns immediately.</p>
+     *
+     * @param timeout Maximum time to wait
+     * @param unit Time unit of the timeout
+     * @return True when all requests finished, false when the timeout expired
+     * @throws InterruptedException when interrupted while waiting
+     */
+    default boolean awaitRequests(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return true;
+    }
+
+    /**
+     * Defines an action to be executed before the first request is handled
+     *
+     * <p>The action is executed by the thread of the first request, and the requests received meanwhile wait for it to
+     * finish. Once successful, the action isn't executed again. When it fails, the next request executes it again.
+     * This method must be called before the container is started. The default implementation executes the action
+     * immediately.</p>
+     *
+     * @param action Action to be executed
+     */
+    default void beforeFirstRequest(final Runnable action) {
+        action.run();
+    }
+
+    /**
+     * Closes the network connectors of the container
+     *
+     * <p>This method is called before a JVM checkpoint, closing the listening sockets and the open connections while
+     * keeping the container started. The default implementation does nothing.</p>
+     */
+    default void closeConnectors() {
+    }
+
+    /**
+     * Reopens the network connectors closed by {@link #closeConnectors()}
+     *
+     * <p>This method is called after a JVM restore. The default implementation does nothing.</p>
+     */
+    default void openConnectors() {
+    }
+
     /**
      * Returns current servlet context
      *
@@ -1,10 +1,13 @@
 package glue.web.container.api;
 
+import glue.core.ModuleActivator;
 import glue.core.module.ModuleLifecycle;
+import glue.core.module.Priority;
 import org.slf4j.Logger;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.concurrent.TimeUnit;
 
 /**
  * {@link ModuleLifecycle} implementation for Web Container API module
@@ -12,6 +15,9 @@ import javax.inject.Singleton;
  * <p>This class controls the Web Container API module lifecycle. The startup and shutdown events are
  * delegated to {@link WebContainer} implementation available at the classpath.</p>
  *
+ * <p>When there are lazy modules pending activation (see {@link ModuleActivator}), they're activated before the first
+ * request is handled.</p>
+ *
  * @author Lucas Dillmann
  * @since 1.0.0, 2018-11-26
  */
@@ -20,17 +26,20 @@ public class WebContainerLifecycle implements ModuleLifecycle {
 
     private final Logger logger;
     private final WebContainer webContainer;
+    private final ModuleActivator activator;
 
     /**
-     * Default constructor with {@link WebContainer} and {@link Logger} initialization
+     * Default constructor with {@link WebContainer}, {@link ModuleActivator} and {@link Logger} initialization
      *
      * @param webContainer WebContainer to be controlled by this lifecycle
+     * @param activator Lazy module activator
      * @param logger Logger instance
      */
     @Inject
-    public WebContainerLifecycle(WebContainer webContainer, Logger logger) {
+    public WebContainerLifecycle(WebContainer webContainer, ModuleActivator activator, Logger logger) {
         this.logger = logger;
         this.webContainer = webContainer;
+        this.activator = activator;
     }
 
     /**
@@ -41,6 +50,9 @@ public class WebContainerLifecycle implements ModuleLifecycle {
     @Override
     public void start() {
         logger.info("Starting {} using {}", WebContainer.class.getSimpleName(), webContainer.getClass().getSimpleName());
+        if (activator.hasPendingModules())
+            webContainer.beforeFirstRequest(activator::activateAll);
+
         webContainer.startContainer();
     }
 
@@ -54,4 +66,56 @@ public class WebContainerLifecycle implements ModuleLifecycle {
         logger.info("Stopping {} using {}", WebContainer.class.getSimpleName(), webContainer.getClass().getSimpleName());
         webContainer.stopContainer();
     }
+
+    /**
+     * Suspends the Web Container, making it stop accepting new requests
+     */
+    @Override
+    public void suspend() {
+        logger.info("Suspending {} using {}", WebContainer.class.getSimpleName(), webContainer.getClass().getSimpleName());
+        webContainer.suspendContainer();
+    }
+
+    /**
+     * Waits for the in-flight requests of the Web Container to finish
+     *
+     * @param timeout Maximum time to wait
+     * @param unit Time unit of the timeout
+     * @return True when all requests finished, false when the timeout expired
+     * @throws InterruptedException when interrupted while waiting
+     */
+    @Override
+    public boolean awaitDrain(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return webContainer.awaitRequests(timeout, unit);
+    }
+
+    /**
+     * Closes the Web Container connectors before a JVM checkpoint
+     */
+    @Override
+    public void beforeCheckpoint() {
+        logger.info("Closing {} connectors for the checkpoint", webContainer.getClass().getSimpleName());
+        webContainer.closeConnectors();
+    }
+
+    /**
+     * Reopens the Web Container connectors after a JVM restore
+     */
+    @Override
+    public void afterRestore() {
+        logger.info("Reopening {} connectors after the restore", webContainer.getClass().getSimpleName());
+        webContainer.openConnectors();
+    }
+
+    /**
+     * Defines the module shutdown priority
+     *
+     * <p>The Web Container is stopped before the other modules, since they may be in use by the requests.</p>
+     *
+     * @return Module stop priority
+     */
+    @Override
+    public Integer getStopPriority() {
+        return Priority.HIGH.asInteger();
+    }
 }
@@ -1,12 +1,21 @@
 package glue.web.container.api;
 
+import glue.core.ModuleActivator;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.slf4j.Logger;
 
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -22,13 +31,15 @@ public class WebContainerLifecycleTests {
     @Mock
     private WebContainer webContainer;
     @Mock
+    private ModuleActivator activator;
+    @Mock
     private Logger logger;
 
     private WebContainerLifecycle lifecycle;
 
     @Before
     public void setup() {
-        lifecycle = new WebContainerLifecycle(webContainer, logger);
+        lifecycle = new WebContainerLifecycle(webContainer, activator, logger);
     }
 
     @Test
@@ -38,6 +49,22 @@ public class WebContainerLifecycleTests {
 
         // validation
         verify(webContainer, times(1)).startContainer();
+        verify(webContainer, never()).beforeFirstRequest(any(Runnable.class));
+    }
+
+    @Test
+    public void shouldActivatePendingModulesBeforeFirstRequest() {
+        // scenario
+        doReturn(true).when(activator).hasPendingModules();
+        final ArgumentCaptor<Runnable> action = ArgumentCaptor.forClass(Runnable.class);
+
+        // execution
+        lifecycle.start();
+
+        // validation
+        verify(webContainer, times(1)).beforeFirstRequest(action.capture());
+        action.getValue().run();
+        verify(activator, times(1)).activateAll();
     }
 
     @Test
@@ -49,4 +76,37 @@ public class WebContainerLifecycleTests {
         verify(webContainer, times(1)).stopContainer();
     }
 
+    @Test
+    public void shouldSuspendContainer() {
+        // execution
+        lifecycle.suspend();
+
+        // validation
+        verify(webContainer, times(1)).suspendContainer();
+    }
+
+    @Test
+    public void shouldAwaitContainerRequests() throws InterruptedException {
+        // scenario
+        doReturn(false).when(webContainer).awaitRequests(5, TimeUnit.SECONDS);
+
+        // execution
+        final boolean drained = lifecycle.awaitDrain(5, TimeUnit.SECONDS);
+
+        // validation
+        assertThat(drained, is(false));
+        verify(webContainer, times(1)).awaitRequests(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void shouldCloseAndReopenConnectorsAroundCheckpoints() {
+        // execution
+        lifecycle.beforeCheckpoint();
+        lifecycle.afterRestore();
+
+        // validation
+        verify(webContainer, times(1)).closeConnectors();
+        verify(webContainer, times(1)).openConnectors();
+    }
+
 }
@@ -26,4 +26,7 @@ public interface JettyConfiguration {
     @ConfigurationProperty(key = "showXPoweredBy", defaultValue = "false")
     Boolean isShowXPoweredBy();
 
+    @ConfigurationProperty(key = "stopTimeout", defaultValue = "5000")
+    Long getStopTimeout();
+
 }
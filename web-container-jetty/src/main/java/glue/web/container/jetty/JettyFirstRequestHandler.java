@@ -0,0 +1,67 @@
+package glue.web.container.jetty;
+
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.handler.HandlerWrapper;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Jetty handler that executes an action before the first request
+ *
+ * <p>The action is executed by the thread of the first request, before it's forwarded to the wrapped handler. Requests
+ * received while the action is running wait for it. Once executed successfully the action is discarded and the
+ * requests are forwarded directly, with a single volatile read as overhead. When the action fails, the failure is
+ * propagated to the request and the action is executed again by the next request.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+class JettyFirstRequestHandler extends HandlerWrapper {
+
+    private volatile Runnable action;
+
+    /**
+     * Defines the action to be executed before the first request
+     *
+     * @param action Action to be executed
+     */
+    void setAction(final Runnable action) {
+        this.action = action;
+    }
+
+    /**
+     * Executes the pending action, when available, and forwards the request to the wrapped handler
+     *
+     * @param target Request target
+     * @param baseRequest Jetty request
+     * @param request Servlet request
+     * @param response Servlet response
+     * @throws IOException when thrown by the wrapped handler
+     * @throws ServletException when thrown by the wrapped handler
+     */
+    @Override
+    public void handle(final String target,
+                       final Request baseRequest,
+                       final HttpServletRequest request,
+                       final HttpServletResponse response) throws IOException, ServletException {
+        if (action != null)
+            runAction();
+
+        super.handle(target, baseRequest, request, response);
+    }
+
+    /**
+     * Executes the action until it succeeds, making the concurrent requests wait for it
+     */
+    private synchronized void runAction() {
+        final Runnable pendingAction = action;
+        if (pendingAction == null)
+            return;
+
+        pendingAction.run();
+        action = null;
+    }
+}
@@ -0,0 +1,191 @@
+package glue.web.container.jetty;
+
+import glue.core.context.RequestContext;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.handler.HandlerWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Jetty handler that opens the {@link RequestContext} of each request and writes the access log
+ *
+ * <p>The request ID is taken from the {@value #REQUEST_ID_HEADER} header when the client provides a valid one, being
+ * generated otherwise, and is returned in the same header of the response.</p>
+ *
+ * <p>When the request completes, a line is written to the {@value #ACCESS_LOGGER_NAME} logger at the INFO level. The
+ * request details and the timing breakdown (the time the request waited to be dispatched, the total time and the time
+ * of each phase recorded in the {@link RequestContext}, in microseconds) are exposed in the MDC of the line, so
+ * structured encoders write them as fields. The timing breakdown is also part of the message, like
+ * {@code GET /users 200 in 4 ms (dispatch=0us database=2950us/3)} where each phase shows its time and count, so the
+ * plain text layout shows it too. The access log can be disabled by setting the level of its logger.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+class JettyRequestContextHandler extends HandlerWrapper {
+
+    static final String REQUEST_ID_HEADER = "X-Request-ID";
+    static final String ACCESS_LOGGER_NAME = "glue.web.access";
+    private static final Pattern VALID_REQUEST_ID = Pattern.compile("[A-Za-z0-9._\\-]{1,128}");
+
+    private final Logger accessLogger;
+
+    /**
+     * Default constructor
+     */
+    JettyRequestContextHandler() {
+        this(LoggerFactory.getLogger(ACCESS_LOGGER_NAME));
+    }
+
+    /**
+     * Constructor with access {@link Logger} initialization
+     *
+     * @param accessLogger Access logger
+     */
+    JettyRequestContextHandler(final Logger accessLogger) {
+        this.accessLogger = accessLogger;
+    }
+
+    /**
+     * Forwards the request to the wrapped handler with its {@link RequestContext} open
+     *
+     * @param target Request target
+     * @param baseRequest Jetty request
+     * @param request Servlet request
+     * @param response Servlet response
+     * @throws IOException when thrown by the wrapped handler
+     * @throws ServletException when thrown by the wrapped handler
+     */
+    @Override
+    public void handle(final String target,
+                       final Request baseRequest,
+                       final HttpServletRequest request,
+                       final HttpServletResponse response) throws IOException, ServletException {
+        final long receivedTime = baseRequest.getTimeStamp();
+        final long dispatchDelay = receivedTime > 0 ? Math.max(0, System.currentTimeMillis() - receivedTime) : 0;
+        final RequestContext context = RequestContext.open(getRequestId(request));
+        response.setHeader(REQUEST_ID_HEADER, context.getRequestId());
+
+        try {
+            super.handle(target, baseRequest, request, response);
+        } finally {
+            context.close();
+            if (request.isAsyncStarted())
+                request.getAsyncContext()
+                        .addListener(new AccessLogListener(context, request, response, dispatchDelay));
+            else
+                logAccess(context, request, response, dispatchDelay);
+        }
+    }
+
+    /**
+     * Writes the access log line of the request
+     *
+     * @param context Request context
+     * @param request Servlet request
+     * @param response Servlet response
+     * @param dispatchDelay Time the request waited to be dispatched to the handler, in milliseconds
+     */
+    private void logAccess(final RequestContext context,
+                           final HttpServletRequest request,
+                           final HttpServletResponse response,
+                           final long dispatchDelay) {
+        if (!accessLogger.isInfoEnabled())
+            return;
+
+        final Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+        try {
+            final long totalTime = context.getElapsedTime(TimeUnit.MICROSECONDS);
+            final long dispatchTime = TimeUnit.MILLISECONDS.toMicros(dispatchDelay);
+            final StringBuilder breakdown = new StringBuilder("dispatch=").append(dispatchTime).append("us");
+
+            MDC.put(RequestContext.REQUEST_ID_KEY, context.getRequestId());
+            MDC.put("method", request.getMethod());
+            MDC.put("path", request.getRequestURI());
+            MDC.put("status", Integer.toString(response.getStatus()));
+            MDC.put("totalMicros", Long.toString(totalTime));
+            MDC.put("dispatchMicros", Long.toString(dispatchTime));
+            for (final String phase : context.getPhases()) {
+                final long phaseTime = context.getTime(phase, TimeUnit.MICROSECONDS);
+                final long phaseCount = context.getCount(phase);
+                MDC.put(phase + "Micros", Long.toString(phaseTime));
+                MDC.put(phase + "Count", Long.toString(phaseCount));
+                breakdown.append(' ').append(phase).append('=').append(phaseTime).append("us/").append(phaseCount);
+            }
+
+            accessLogger.info("{} {} {} in {} ms ({})", request.getMethod(), request.getRequestURI(),
+                    response.getStatus(), TimeUnit.MICROSECONDS.toMillis(totalTime), breakdown);
+        } finally {
+            if (previousMdc != null)
+                MDC.setContextMap(previousMdc);
+            else
+                MDC.clear();
+        }
+    }
+
+    /**
+     * Returns the ID provided by the client, when valid, or a new one
+     *
+     * @param request Servlet request
+     * @return Request ID
+     */
+    private static String getRequestId(final HttpServletRequest request) {
+        final String requestId = request.getHeader(REQUEST_ID_HEADER);
+        if (requestId != null && VALID_REQUEST_ID.matcher(requestId).matches())
+            return requestId;
+
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new UUID(random.nextLong(), random.nextLong()).toString();
+    }
+
+    /**
+     * Writes the access log line of asynchronous requests when they complete
+     */
+    private final class AccessLogListener implements AsyncListener {
+
+        private final RequestContext context;
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final long dispatchDelay;
+
+        private AccessLogListener(final RequestContext context,
+                                  final HttpServletRequest request,
+                                  final HttpServletResponse response,
+                                  final long dispatchDelay) {
+            this.context = context;
+            this.request = request;
+            this.response = response;
+            this.dispatchDelay = dispatchDelay;
+        }
+
+        @Override
+        public void onComplete(final AsyncEvent event) {
+            logAccess(context, request, response, dispatchDelay);
+        }
+
+        @Override
+        public void onTimeout(final AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(final AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(final AsyncEvent event) {
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package glue.web.container.jetty;
 
+import glue.core.executor.ExecutorRegistry;
+import glue.core.executor.ThreadMode;
 import org.eclipse.jetty.server.*;
 import org.slf4j.Logger;
 
@@ -12,23 +14,29 @@ import javax.inject.Singleton;
  *
  * <p>This class produces Jetty {@link Server} instances using configuration values retrieved from {@link JettyConfiguration}.</p>
  *
+ * <p>When Glue runs with virtual threads (see {@link ThreadMode}), the server uses a {@link JettyVirtualThreadPool}
+ * instead of the default bounded thread pool.</p>
+ *
  * @author Lucas Dillmann
  * @since 1.0.0, 2018-12-03
  */
 public class JettyServerProducer {
 
     private final JettyConfiguration configuration;
+    private final ExecutorRegistry executorRegistry;
     private final Logger logger;
 
     /**
-     * Constructor with {@link JettyConfiguration} and {@link Logger} initialization
+     * Constructor with {@link JettyConfiguration}, {@link ExecutorRegistry} and {@link Logger} initialization
      *
-     * @param configuration Jetty configuration
-     * @param logger        Logger instance
+     * @param configuration    Jetty configuration
+     * @param executorRegistry Executor registry, used to detect the runtime thread mode
+     * @param logger           Logger instance
      */
     @Inject
-    public JettyServerProducer(JettyConfiguration configuration, Logger logger) {
+    public JettyServerProducer(JettyConfiguration configuration, ExecutorRegistry executorRegistry, Logger logger) {
         this.configuration = configuration;
+        this.executorRegistry = executorRegistry;
         this.logger = logger;
     }
 
@@ -43,7 +51,7 @@ public class JettyServerProducer {
         logger.debug("Producing a Jetty Server instance");
         logger.info("Creating Jetty server for {}:{}", configuration.getHost(), configuration.getPort());
 
-        final Server server = new Server();
+        final Server server = createServer();
         final HttpConfiguration httpConfiguration = new HttpConfiguration();
         final HttpConnectionFactory connectionFactory = new HttpConnectionFactory(httpConfiguration);
         final ServerConnector connector = new ServerConnector(server, connectionFactory);
@@ -53,7 +61,23 @@ public class JettyServerProducer {
         connector.setPort(configuration.getPort());
         connector.setHost(configuration.getHost());
         server.setConnectors(new Connector[] { connector });
+        server.setStopTimeout(configuration.getStopTimeout());
 
         return server;
     }
+
+    /**
+     * Creates the server using the thread pool for the runtime thread mode
+     *
+     * @return Jetty Server instance
+     */
+    private Server createServer() {
+        if (executorRegistry.getThreadMode() != ThreadMode.VIRTUAL)
+            return new Server();
+
+        logger.info("Using virtual threads for Jetty requests");
+        final JettyVirtualThreadPool threadPool = new JettyVirtualThreadPool();
+        threadPool.setStopTimeout(configuration.getStopTimeout());
+        return new Server(threadPool);
+    }
 }
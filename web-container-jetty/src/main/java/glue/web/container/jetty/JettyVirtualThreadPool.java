@@ -0,0 +1,88 @@
+package glue.web.container.jetty;
+
+import glue.core.executor.ThreadMode;
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+import org.eclipse.jetty.util.thread.ThreadPool;
+import org.eclipse.jetty.util.thread.TryExecutor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Jetty {@link ThreadPool} backed by virtual threads
+ *
+ * <p>Each task (connection acceptance, selection and request handling) runs in its own virtual thread, so the
+ * number of concurrent requests isn't bounded by a pool size. The pool is never low on threads and always accepts
+ * tasks while running.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+class JettyVirtualThreadPool extends AbstractLifeCycle implements ThreadPool, TryExecutor {
+
+    private static final String THREAD_NAME_PREFIX = "glue-jetty-";
+
+    private final AtomicInteger activeThreads = new AtomicInteger();
+    private volatile ExecutorService executor;
+
+    @Override
+    protected void doStart() throws Exception {
+        this.executor = ThreadMode.VIRTUAL.newExecutor(THREAD_NAME_PREFIX);
+        super.doStart();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        executor.shutdown();
+        if (!executor.awaitTermination(getStopTimeout(), TimeUnit.MILLISECONDS))
+            executor.shutdownNow();
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        if (!isRunning())
+            throw new RejectedExecutionException("Jetty thread pool isn't running");
+
+        executor.execute(() -> {
+            activeThreads.incrementAndGet();
+            try {
+                task.run();
+            } finally {
+                activeThreads.decrementAndGet();
+            }
+        });
+    }
+
+    @Override
+    public boolean tryExecute(final Runnable task) {
+        try {
+            execute(task);
+            return true;
+        } catch (final RejectedExecutionException ex) {
+            return false;
+        }
+    }
+
+    @Override
+    public void join() throws InterruptedException {
+        executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int getThreads() {
+        return activeThreads.get();
+    }
+
+    @Override
+    public int getIdleThreads() {
+        return 0;
+    }
+
+    @Override
+    public boolean isLowOnThreads() {
+        return false;
+    }
+}
@@ -2,7 +2,9 @@ package glue.web.container.jetty;
 
 import glue.core.util.ExceptionUtils;
 import glue.web.container.api.WebContainer;
+import org.eclipse.jetty.server.NetworkConnector;
 import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.handler.StatisticsHandler;
 import org.eclipse.jetty.servlet.ServletContextHandler;
 import org.eclipse.jetty.servlet.ServletHolder;
 import org.slf4j.Logger;
@@ -12,10 +14,16 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.servlet.Servlet;
 import javax.servlet.ServletContext;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -23,6 +31,11 @@ import java.util.stream.Stream;
  *
  * <p>This class implements the {@link WebContainer} API using Jetty as the provider.</p>
  *
+ * <p>Requests are tracked using a {@link StatisticsHandler}, allowing the container to be suspended and the in-flight
+ * requests to be awaited before it is stopped. The actions to be executed before the first request are handled by a
+ * {@link JettyFirstRequestHandler}. Each request is handled with its request context open and written to the access
+ * log by a {@link JettyRequestContextHandler}.</p>
+ *
  * @author Lucas Dillmann
  * @since 1.0.0, 2018-12-03
  */
@@ -32,6 +45,10 @@ public class JettyWebContainer implements WebContainer {
     private final Server server;
     private final Logger logger;
     private ServletContextHandler contextHandler;
+    private StatisticsHandler statisticsHandler;
+    private JettyFirstRequestHandler firstRequestHandler;
+    private JettyRequestContextHandler requestContextHandler;
+    private volatile Future<Void> requestsShutdown;
 
     /**
      * Constructor with server and logger initialization
@@ -55,7 +72,13 @@ public class JettyWebContainer implements WebContainer {
     private void init() {
         this.contextHandler = new ServletContextHandler();
         this.contextHandler.setContextPath("/");
-        this.server.setHandler(contextHandler);
+        this.firstRequestHandler = new JettyFirstRequestHandler();
+        this.firstRequestHandler.setHandler(contextHandler);
+        this.statisticsHandler = new StatisticsHandler();
+        this.statisticsHandler.setHandler(firstRequestHandler);
+        this.requestContextHandler = new JettyRequestContextHandler();
+        this.requestContextHandler.setHandler(statisticsHandler);
+        this.server.setHandler(requestContextHandler);
     }
 
     /**
@@ -88,6 +111,84 @@ public class JettyWebContainer implements WebContainer {
         }
     }
 
+    /**
+     * Suspends the container
+     *
+     * <p>This method closes the network connectors, so no new connections are accepted, and starts the graceful
+     * shutdown of the {@link StatisticsHandler}, which completes when the in-flight requests are finished.</p>
+     */
+    @Override
+    public void suspendContainer() {
+        logger.info("Suspending Jetty. New connections will be refused.");
+        getNetworkConnectors().forEach(NetworkConnector::close);
+
+        if (statisticsHandler != null)
+            this.requestsShutdown = statisticsHandler.shutdown();
+    }
+
+    /**
+     * Waits for the in-flight requests to finish
+     *
+     * @param timeout Maximum time to wait
+     * @param unit Time unit of the timeout
+     * @return True when all requests finished, false when the timeout expired
+     * @throws InterruptedException when interrupted while waiting
+     */
+    @Override
+    public boolean awaitRequests(final long timeout, final TimeUnit unit) throws InterruptedException {
+        final Future<Void> shutdown = requestsShutdown;
+        if (shutdown == null)
+            return true;
+
+        try {
+            shutdown.get(timeout, unit);
+            return true;
+        } catch (final TimeoutException ex) {
+            logger.warn("{} in-flight requests didn't finish in time and will be forcibly terminated",
+                    statisticsHandler.getRequestsActive());
+            return false;
+        } catch (final ExecutionException ex) {
+            logger.warn("Error waiting for Jetty in-flight requests", ex.getCause());
+            return false;
+        }
+    }
+
+    /**
+     * Defines an action to be executed before the first request is handled
+     *
+     * @param action Action to be executed
+     */
+    @Override
+    public void beforeFirstRequest(final Runnable action) {
+        firstRequestHandler.setAction(action);
+    }
+
+    /**
+     * Stops the network connectors, closing their listening sockets and open connections
+     */
+    @Override
+    public void closeConnectors() {
+        for (final NetworkConnector connector : getNetworkConnectors())
+            try {
+                connector.stop();
+            } catch (final Exception ex) {
+                new ExceptionUtils().rethrowAsUnchecked(ex);
+            }
+    }
+
+    /**
+     * Starts the network connectors stopped by {@link #closeConnectors()}
+     */
+    @Override
+    public void openConnectors() {
+        for (final NetworkConnector connector : getNetworkConnectors())
+            try {
+                connector.start();
+            } catch (final Exception ex) {
+                new ExceptionUtils().rethrowAsUnchecked(ex);
+            }
+    }
+
     /**
      * Returns current servlet context
      *
@@ -127,4 +228,17 @@ public class JettyWebContainer implements WebContainer {
         contextHandler.addServlet(holder, contextPath);
         logger.info("Servlet {} started at context path {}", servlet.getServletConfig().getServletName(), contextPath);
     }
+
+    /**
+     * Returns the network connectors of the server
+     *
+     * @return Network connectors
+     */
+    private List<NetworkConnector> getNetworkConnectors() {
+        return Stream
+                .of(server.getConnectors())
+                .filter(NetworkConnector.class::isInstance)
+                .map(NetworkConnector.class::cast)
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,82 @@
+package glue.web.container.jetty;
+
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test cases for {@link JettyFirstRequestHandler}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class JettyFirstRequestHandlerTests {
+
+    @Mock
+    private Handler handler;
+    @Mock
+    private Request baseRequest;
+    @Mock
+    private HttpServletRequest request;
+    @Mock
+    private HttpServletResponse response;
+
+    private JettyFirstRequestHandler firstRequestHandler;
+    private int executions;
+
+    @Before
+    public void setup() {
+        this.firstRequestHandler = new JettyFirstRequestHandler();
+        this.firstRequestHandler.setHandler(handler);
+    }
+
+    @Test
+    public void shouldExecuteActionOnlyBeforeFirstRequest() throws Exception {
+        // scenario
+        firstRequestHandler.setAction(() -> executions++);
+
+        // execution
+        firstRequestHandler.handle("/", baseRequest, request, response);
+        firstRequestHandler.handle("/", baseRequest, request, response);
+
+        // validation
+        assertThat(executions, is(1));
+        verify(handler, times(2)).handle("/", baseRequest, request, response);
+    }
+
+    @Test
+    public void shouldRetryActionWhenItFails() throws Exception {
+        // scenario
+        firstRequestHandler.setAction(() -> {
+            if (++executions == 1)
+                throw new IllegalStateException("Activation failed");
+        });
+
+        // execution
+        try {
+            firstRequestHandler.handle("/", baseRequest, request, response);
+            fail("Action failure should be propagated");
+        } catch (final IllegalStateException ex) {
+            firstRequestHandler.handle("/", baseRequest, request, response);
+            firstRequestHandler.handle("/", baseRequest, request, response);
+        }
+
+        // validation
+        assertThat(executions, is(2));
+        verify(handler, times(2)).handle("/", baseRequest, request, response);
+    }
+}
@@ -0,0 +1,124 @@
+package glue.web.container.jetty;
+
+import glue.core.context.RequestContext;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.Logger;
+import org.slf4j.MDC;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.Matchers.hasToString;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test cases for {@link JettyRequestContextHandler}
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class JettyRequestContextHandlerTests {
+
+    @Mock
+    private Handler handler;
+    @Mock
+    private Request baseRequest;
+    @Mock
+    private HttpServletRequest request;
+    @Mock
+    private HttpServletResponse response;
+    @Mock
+    private Logger accessLogger;
+
+    private JettyRequestContextHandler requestContextHandler;
+
+    @Before
+    public void setup() {
+        this.requestContextHandler = new JettyRequestContextHandler(accessLogger);
+        this.requestContextHandler.setHandler(handler);
+        doReturn(true).when(accessLogger).isInfoEnabled();
+        doReturn("GET").when(request).getMethod();
+        doReturn("/api/users").when(request).getRequestURI();
+        doReturn(200).when(response).getStatus();
+    }
+
+    @Test
+    public void shouldUseTheRequestIdProvidedByTheClient() throws Exception {
+        // scenario
+        doReturn("client-id.1").when(request).getHeader(JettyRequestContextHandler.REQUEST_ID_HEADER);
+        final AtomicReference<String> requestId = new AtomicReference<>();
+        doAnswer(invocation -> {
+            requestId.set(MDC.get(RequestContext.REQUEST_ID_KEY));
+            return null;
+        }).when(handler).handle("/", baseRequest, request, response);
+
+        // execution
+        requestContextHandler.handle("/", baseRequest, request, response);
+
+        // validation
+        assertThat(requestId.get(), is("client-id.1"));
+        assertThat(MDC.get(RequestContext.REQUEST_ID_KEY), is(nullValue()));
+        verify(response, times(1)).setHeader(JettyRequestContextHandler.REQUEST_ID_HEADER, "client-id.1");
+    }
+
+    @Test
+    public void shouldGenerateTheRequestIdWhenTheProvidedOneIsInvalid() throws Exception {
+        // scenario
+        doReturn("invalid id\n").when(request).getHeader(JettyRequestContextHandler.REQUEST_ID_HEADER);
+
+        // execution
+        requestContextHandler.handle("/", baseRequest, request, response);
+
+        // validation
+        verify(response, times(1)).setHeader(eq(JettyRequestContextHandler.REQUEST_ID_HEADER),
+                matches("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}"));
+    }
+
+    @Test
+    public void shouldWriteTheAccessLogWithTheTimingBreakdown() throws Exception {
+        // scenario
+        final AtomicReference<String> databaseTime = new AtomicReference<>();
+        doAnswer(invocation -> {
+            RequestContext.recordCurrent("database", 1_000);
+            return null;
+        }).when(handler).handle("/", baseRequest, request, response);
+        doAnswer(invocation -> {
+            databaseTime.set(MDC.get("databaseMicros"));
+            return null;
+        }).when(accessLogger).info(anyString(), (Object[]) anyVararg());
+
+        // execution
+        requestContextHandler.handle("/", baseRequest, request, response);
+
+        // validation
+        assertThat(databaseTime.get(), is("1"));
+        assertThat(MDC.get("databaseMicros"), is(nullValue()));
+        verify(accessLogger, times(1))
+                .info(eq("{} {} {} in {} ms ({})"), eq("GET"), eq("/api/users"), eq(200), anyLong(),
+                        argThat(hasToString(containsString("database=1us/1"))));
+    }
+
+    @Test
+    public void shouldNotWriteTheAccessLogWhenDisabled() throws Exception {
+        // scenario
+        doReturn(false).when(accessLogger).isInfoEnabled();
+
+        // execution
+        requestContextHandler.handle("/", baseRequest, request, response);
+
+        // validation
+        verify(handler, times(1)).handle("/", baseRequest, request, response);
+        verify(accessLogger, never()).info(anyString(), (Object[]) anyVararg());
+    }
+}
@@ -1,6 +1,9 @@
 package glue.web.container.jetty;
 
+import glue.core.executor.ExecutorRegistry;
+import glue.core.executor.ThreadMode;
 import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -8,7 +11,9 @@ import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.slf4j.Logger;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.*;
 
 /**
@@ -24,12 +29,15 @@ public class JettyServerProducerTests {
     private Logger logger;
     @Mock
     private JettyConfiguration configuration;
+    @Mock
+    private ExecutorRegistry executorRegistry;
 
     private JettyServerProducer producer;
 
     @Before
     public void setup() {
-        this.producer = new JettyServerProducer(configuration, logger);
+        doReturn(ThreadMode.PLATFORM).when(executorRegistry).getThreadMode();
+        this.producer = new JettyServerProducer(configuration, executorRegistry, logger);
     }
 
     @Test
@@ -45,4 +53,35 @@ public class JettyServerProducerTests {
         verify(configuration, atLeast(1)).getPort();
     }
 
+    @Test
+    public void shouldUseQueuedThreadPoolWithPlatformThreads() {
+        // execution
+        final Server server = producer.server();
+
+        // validation
+        assertThat(server.getThreadPool(), instanceOf(QueuedThreadPool.class));
+    }
+
+    @Test
+    public void shouldNotCreateExecutorPools() {
+        // execution
+        producer.server();
+
+        // validation
+        verify(executorRegistry, times(1)).getThreadMode();
+        verifyNoMoreInteractions(executorRegistry);
+    }
+
+    @Test
+    public void shouldUseVirtualThreadPoolWithVirtualThreads() {
+        // scenario
+        doReturn(ThreadMode.VIRTUAL).when(executorRegistry).getThreadMode();
+
+        // execution
+        final Server server = producer.server();
+
+        // validation
+        assertThat(server.getThreadPool(), instanceOf(JettyVirtualThreadPool.class));
+    }
+
 }
@@ -1,5 +1,7 @@
 package glue.web.container.jetty;
 
+import org.eclipse.jetty.server.Connector;
+import org.eclipse.jetty.server.NetworkConnector;
 import org.eclipse.jetty.server.Server;
 import org.junit.Before;
 import org.junit.Test;
@@ -9,6 +11,11 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 import org.slf4j.Logger;
 
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -58,4 +65,34 @@ public class JettyWebContainerTests {
         verify(server, times(1)).stop();
     }
 
+    @Test
+    public void shouldCloseConnectorsWhenSuspended() throws Exception {
+        // scenario
+        final NetworkConnector connector = PowerMockito.mock(NetworkConnector.class);
+        PowerMockito.doReturn(new Connector[]{connector}).when(server).getConnectors();
+
+        // execution
+        webContainer.suspendContainer();
+
+        // validation
+        verify(connector, times(1)).close();
+        assertThat(webContainer.awaitRequests(1, TimeUnit.SECONDS), is(true));
+    }
+
+    @Test
+    public void shouldStopAndRestartConnectorsAroundCheckpoints() throws Exception {
+        // scenario
+        final NetworkConnector connector = PowerMockito.mock(NetworkConnector.class);
+        PowerMockito.doReturn(new Connector[]{connector}).when(server).getConnectors();
+
+        // execution
+        webContainer.closeConnectors();
+        webContainer.openConnectors();
+
+        // validation
+        verify(connector, times(1)).stop();
+        verify(connector, times(1)).start();
+        verify(connector, never()).close();
+    }
+
 }
@@ -52,6 +52,14 @@ class JaxRsInstaller {
         container.startServlet(servlet, contextPath, initAttributes);
     }
 
+    /**
+     * Reloads current JAX-RS provider, applying the components registered after its installation
+     */
+    void reload() {
+        logger.debug("Reloading JAX-RS provider {}", provider.getClass().getSimpleName());
+        provider.reload();
+    }
+
     /**
      * Stops current JAX-RS provider, notifying about the application shutdown
      */
@@ -2,14 +2,21 @@ package glue.web.jaxrs.api;
 
 import glue.core.module.ModuleLifecycle;
 import glue.core.module.Priority;
+import glue.web.container.api.WebContainerLifecycle;
 import org.slf4j.Logger;
 
 import javax.enterprise.inject.Default;
 import javax.inject.Inject;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
 
 /**
  * Glue {@link ModuleLifecycle} implementation for JAX-RS
  *
+ * <p>When lazy modules are activated the JAX-RS provider is reloaded, since they may have registered new
+ * components.</p>
+ *
  * @author Lucas Dillmann
  * @since 1.0.0, 2018-12-16
  */
@@ -36,6 +43,11 @@ public class JaxRsModule implements ModuleLifecycle {
         return Priority.LOW.asInteger();
     }
 
+    @Override
+    public Set<Class<? extends ModuleLifecycle>> getDependencies() {
+        return Collections.singleton(WebContainerLifecycle.class);
+    }
+
     /**
      * Starts the module
      *
@@ -48,6 +60,16 @@ public class JaxRsModule implements ModuleLifecycle {
         installer.install();
     }
 
+    /**
+     * Reloads the JAX-RS provider after the activation of lazy modules
+     *
+     * @param activatedModules Modules that were just activated
+     */
+    @Override
+    public void afterLazyActivation(final Collection<ModuleLifecycle> activatedModules) {
+        installer.reload();
+    }
+
     /**
      * Stops the module
      *
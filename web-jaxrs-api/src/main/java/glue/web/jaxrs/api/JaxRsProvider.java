@@ -31,6 +31,15 @@ public interface JaxRsProvider {
      */
     void stop();
 
+    /**
+     * Applies the components registered after the provider was started
+     *
+     * <p>This method is called when lazy modules are activated, since they may register components after the provider
+     * was started. The default implementation does nothing.</p>
+     */
+    default void reload() {
+    }
+
     /**
      * Register a component class under JAX-RS context
      *
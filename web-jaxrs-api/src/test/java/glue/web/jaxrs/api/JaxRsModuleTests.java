@@ -7,6 +7,8 @@ import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.slf4j.Logger;
 
+import java.util.Collections;
+
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -48,4 +50,13 @@ public class JaxRsModuleTests {
         // validation
         verify(installer, times(1)).uninstall();
     }
+
+    @Test
+    public void shouldReloadProviderAfterLazyActivation() {
+        // execution
+        module.afterLazyActivation(Collections.emptyList());
+
+        // validation
+        verify(installer, times(1)).reload();
+    }
 }
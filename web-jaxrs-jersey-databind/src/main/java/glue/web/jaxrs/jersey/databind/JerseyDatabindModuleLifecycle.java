@@ -47,6 +47,16 @@ public class JerseyDatabindModuleLifecycle implements ModuleLifecycle {
         logger.info("Jackson ObjectMapper resolver started under JAX-RS context");
     }
 
+    /**
+     * Defines the module as lazy, since the ObjectMapper context resolver is only needed by the first request
+     *
+     * @return Always true
+     */
+    @Override
+    public boolean isLazy() {
+        return true;
+    }
+
     /**
      * Stops the module
      *
@@ -3,6 +3,7 @@ package glue.web.jaxrs.jersey.databind;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import glue.core.util.LogUtils;
 import org.slf4j.Logger;
 
 import javax.annotation.PostConstruct;
@@ -19,6 +20,9 @@ import java.util.stream.StreamSupport;
  * independent from each other, but all instances are created from a common template object previously customized
  * by all available {@link ObjectMapperCustomizer} implementations.</p>
  *
+ * <p>Customizers are invoked sequentially in the calling thread, since {@link ObjectMapper} configuration isn't
+ * thread safe.</p>
+ *
  * @author Lucas Dillmann
  * @since 1.0.0, 2018-12-23
  */
@@ -52,9 +56,10 @@ public class ObjectMapperFactory {
                 .registerModule(new JavaTimeModule());
 
         StreamSupport
-                .stream(customizers.spliterator(), true)
+                .stream(customizers.spliterator(), false)
                 .forEach(customizer -> {
-                    logger.debug(
+                    LogUtils.debug(
+                            logger,
                             "Invoking {} to customize {} template object",
                             customizer.getClass().getName(), ObjectMapper.class.getName()
                     );
@@ -68,7 +73,7 @@ public class ObjectMapperFactory {
      * @return ObjectMapper instance
      */
     ObjectMapper build() {
-        logger.debug("Producing {} instance from internal template", ObjectMapper.class.getName());
+        LogUtils.debug(logger, "Producing {} instance from internal template", ObjectMapper.class.getName());
         return template.copy();
     }
 }
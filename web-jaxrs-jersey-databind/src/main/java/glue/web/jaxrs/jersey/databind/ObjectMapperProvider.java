@@ -1,6 +1,7 @@
 package glue.web.jaxrs.jersey.databind;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import glue.core.util.LogUtils;
 import org.slf4j.Logger;
 
 import javax.enterprise.inject.Produces;
@@ -36,7 +37,7 @@ public class ObjectMapperProvider {
      */
     @Produces
     public ObjectMapper objectMapper() {
-        logger.debug("Producing a {} instance", ObjectMapper.class.getName());
+        LogUtils.debug(logger, "Producing a {} instance", ObjectMapper.class.getName());
         return factory.build();
     }
 }
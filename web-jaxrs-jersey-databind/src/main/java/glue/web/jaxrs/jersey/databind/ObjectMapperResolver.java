@@ -1,6 +1,7 @@
 package glue.web.jaxrs.jersey.databind;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import glue.core.util.LogUtils;
 import org.slf4j.Logger;
 
 import javax.inject.Inject;
@@ -49,7 +50,7 @@ public class ObjectMapperResolver implements ContextResolver<ObjectMapper> {
      */
     @Override
     public ObjectMapper getContext(final Class<?> type) {
-        logger.debug("Producing {} instance for JAX-RS context", ObjectMapper.class.getName());
+        LogUtils.debug(logger, "Producing {} instance for JAX-RS context", ObjectMapper.class.getName());
         return factory.build();
     }
 }
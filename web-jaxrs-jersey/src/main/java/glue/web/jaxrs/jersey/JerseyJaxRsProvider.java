@@ -1,6 +1,8 @@
 package glue.web.jaxrs.jersey;
 
 import glue.core.GlueApplicationContext;
+import glue.core.profiler.StartupPhase;
+import glue.core.profiler.StartupProfiler;
 import glue.web.jaxrs.api.JaxRsProvider;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.servlet.ServletContainer;
@@ -18,6 +20,13 @@ import java.util.Map;
  *
  * <p>This class implements the {@link JaxRsProvider} Glue API using Jersey as the back provider.</p>
  *
+ * <p>Since modules may be started concurrently, all changes and reads of the Jersey {@link ResourceConfig} are
+ * synchronized. Components registered after the provider was started are applied by {@link #reload()}. Jersey locks the
+ * configurations it's started with, so it's always started with a copy of the {@link ResourceConfig} holding the servlet
+ * init parameters as well. The time spent by Jersey in each request is recorded by a
+ * {@link JerseyRequestTimingFilter}, registered using the init parameters since the servlet is initialized again by
+ * the web container.</p>
+ *
  * @author Lucas Dillmann
  * @since 1.0.0, 2018-12-16
  */
@@ -25,12 +34,15 @@ import java.util.Map;
 public class JerseyJaxRsProvider implements JaxRsProvider {
 
     static final String JERSEY_PACKAGE_SCAN_PROPERTY = "jersey.config.server.provider.packages";
+    static final String JERSEY_PROVIDER_CLASSES_PROPERTY = "jersey.config.server.provider.classnames";
 
     private final ServletContainer servlet;
     private final JerseyConfiguration configuration;
     private final GlueApplicationContext applicationContext;
     private final Logger logger;
     private final ResourceConfig resourceConfig;
+    private boolean started;
+    private boolean changed;
 
     /**
      * Constructor with {@link Servlet}, {@link JerseyConfiguration}, {@link GlueApplicationContext} and
@@ -63,9 +75,29 @@ public class JerseyJaxRsProvider implements JaxRsProvider {
      * @return Servlet instance from provider implementation
      */
     @Override
-    public void start() {
+    public synchronized void start() {
         logger.info("Reloading Jersey with updated configurations");
-        this.servlet.reload(resourceConfig);
+        final StartupPhase phase = StartupProfiler.getInstance().begin("jersey.reload");
+        try {
+            resourceConfig.addProperties(new HashMap<>(getServletInitParameters()));
+            this.servlet.reload(new ResourceConfig(resourceConfig));
+        } finally {
+            phase.close();
+        }
+
+        started = true;
+        changed = false;
+    }
+
+    /**
+     * Reloads Jersey when components were registered after the provider was started
+     */
+    @Override
+    public synchronized void reload() {
+        if (!started || !changed)
+            return;
+
+        start();
     }
 
     /**
@@ -119,6 +151,7 @@ public class JerseyJaxRsProvider implements JaxRsProvider {
                 .getName();
 
         parameters.put(JERSEY_PACKAGE_SCAN_PROPERTY, applicationPackage);
+        parameters.put(JERSEY_PROVIDER_CLASSES_PROPERTY, JerseyRequestTimingFilter.class.getName());
         return parameters;
     }
 
@@ -129,12 +162,13 @@ public class JerseyJaxRsProvider implements JaxRsProvider {
      * @param contracts      Contract classes
      */
     @Override
-    public void registerClass(final Class<?> componentClass, final Class<?>... contracts) {
+    public synchronized void registerClass(final Class<?> componentClass, final Class<?>... contracts) {
         if (contracts == null || contracts.length == 0)
             resourceConfig.register(componentClass);
         else
             resourceConfig.register(componentClass, contracts);
 
+        changed = true;
         logger.info("Class registered: {}", componentClass.getName());
     }
 
@@ -145,12 +179,13 @@ public class JerseyJaxRsProvider implements JaxRsProvider {
      * @param contracts         Contract classes
      */
     @Override
-    public void registerSingleton(final Object singletonInstance, final Class<?>... contracts) {
+    public synchronized void registerSingleton(final Object singletonInstance, final Class<?>... contracts) {
         if (contracts == null || contracts.length == 0)
             resourceConfig.register(singletonInstance);
         else
             resourceConfig.register(singletonInstance, contracts);
 
+        changed = true;
         logger.info("Singleton registered: {}", singletonInstance);
     }
 
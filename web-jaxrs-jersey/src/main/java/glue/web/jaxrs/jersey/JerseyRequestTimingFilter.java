@@ -0,0 +1,44 @@
+package glue.web.jaxrs.jersey;
+
+import glue.core.context.RequestContext;
+
+import javax.annotation.Priority;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.container.PreMatching;
+import javax.ws.rs.ext.Provider;
+
+/**
+ * JAX-RS filter that records the time spent by Jersey in the request context
+ *
+ * <p>The time between the matching of the request and the response filters, which includes the resource method and
+ * the other filters, is recorded as the {@value #PHASE} phase of the {@link RequestContext}. The serialization of the
+ * response entity happens after the response filters and isn't part of the phase.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+@Provider
+@PreMatching
+@Priority(Priorities.USER - 1000)
+public class JerseyRequestTimingFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    static final String PHASE = "jaxrs";
+    private static final String START_TIME_PROPERTY = JerseyRequestTimingFilter.class.getName() + ".startTime";
+
+    @Override
+    public void filter(final ContainerRequestContext requestContext) {
+        requestContext.setProperty(START_TIME_PROPERTY, System.nanoTime());
+    }
+
+    @Override
+    public void filter(final ContainerRequestContext requestContext,
+                       final ContainerResponseContext responseContext) {
+        final Object startTime = requestContext.getProperty(START_TIME_PROPERTY);
+        if (startTime instanceof Long)
+            RequestContext.recordCurrent(PHASE, System.nanoTime() - (Long) startTime);
+    }
+}
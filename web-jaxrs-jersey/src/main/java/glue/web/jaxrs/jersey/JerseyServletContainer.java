@@ -0,0 +1,35 @@
+package glue.web.jaxrs.jersey;
+
+import org.glassfish.jersey.servlet.ServletContainer;
+
+import javax.servlet.ServletException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Jersey {@link ServletContainer} that can be destroyed more than once
+ *
+ * <p>The web container destroys the servlets it holds when stopped, which happens before the JAX-RS provider is
+ * stopped. Jersey fails when destroyed twice, so only the first call to {@link #destroy()} after the servlet
+ * initialization is forwarded to Jersey.</p>
+ *
+ * @author Lucas Dillmann
+ * @since 1.0.0, 2019-01-18
+ */
+class JerseyServletContainer extends ServletContainer {
+
+    private static final long serialVersionUID = 1L;
+
+    private final AtomicBoolean destroyed = new AtomicBoolean();
+
+    @Override
+    public void init() throws ServletException {
+        super.init();
+        destroyed.set(false);
+    }
+
+    @Override
+    public void destroy() {
+        if (destroyed.compareAndSet(false, true))
+            super.destroy();
+    }
+}
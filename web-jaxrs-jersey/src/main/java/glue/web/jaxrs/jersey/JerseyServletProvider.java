@@ -12,7 +12,9 @@ import javax.servlet.ServletException;
 /**
  * Jersey {@link Servlet} provider
  *
- * <p>This class is able to produce {@link Servlet} instances for Jersey using {@link JerseyServlet} qualifier.</p>
+ * <p>This class is able to produce {@link Servlet} instances for Jersey using {@link JerseyServlet} qualifier. The
+ * produced servlet can be destroyed by both the web container and the JAX-RS provider (see
+ * {@link JerseyServletContainer}).</p>
  *
  * @author Lucas Dillmann
  * @since 1.0.0, 2018-12-16
@@ -46,7 +48,7 @@ public class JerseyServletProvider {
     @Singleton
     public ServletContainer jerseyServlet() throws ServletException {
         logger.debug("Producing Servlet for Jersey using configuration from {}", servletConfig.getClass().getName());
-        final ServletContainer container = new ServletContainer();
+        final ServletContainer container = new JerseyServletContainer();
         container.init(servletConfig);
 
         return container;
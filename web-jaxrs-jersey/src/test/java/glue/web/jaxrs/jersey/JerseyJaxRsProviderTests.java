@@ -1,6 +1,7 @@
 package glue.web.jaxrs.jersey;
 
 import glue.core.GlueApplicationContext;
+import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.servlet.ServletContainer;
 import org.junit.Before;
 import org.junit.Test;
@@ -69,6 +70,8 @@ public class JerseyJaxRsProviderTests {
         assertNotNull(parameters);
         assertNotNull(parameters.get(JerseyJaxRsProvider.JERSEY_PACKAGE_SCAN_PROPERTY));
         assertThat(parameters.get(JerseyJaxRsProvider.JERSEY_PACKAGE_SCAN_PROPERTY), is(expectedValue));
+        assertThat(parameters.get(JerseyJaxRsProvider.JERSEY_PROVIDER_CLASSES_PROPERTY),
+                is(JerseyRequestTimingFilter.class.getName()));
     }
 
     @Test
@@ -108,4 +111,18 @@ public class JerseyJaxRsProviderTests {
         // validation
         assertNotNull(servlet);
     }
+
+    @Test
+    public void shouldReloadOnlyWhenComponentsAreRegisteredAfterStartup() {
+        // scenario
+        provider.start();
+        provider.reload();
+
+        // execution
+        provider.registerClass(JerseyApplication.class);
+        provider.reload();
+
+        // validation
+        verify(servlet, times(2)).reload(any(ResourceConfig.class));
+    }
 }
@@ -1,6 +1,5 @@
 package glue.web.jaxrs.jersey;
 
-import org.glassfish.jersey.servlet.ServletContainer;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -21,7 +20,7 @@ import static org.powermock.api.mockito.PowerMockito.whenNew;
  * @since 1.0.0, 2018-12-16
  */
 @RunWith(PowerMockRunner.class)
-@PrepareForTest({ServletContainer.class, JerseyServletProvider.class})
+@PrepareForTest({JerseyServletContainer.class, JerseyServletProvider.class})
 public class JerseyServletProviderTests {
 
     @Mock
@@ -29,13 +28,13 @@ public class JerseyServletProviderTests {
     @Mock
     private JerseyServletConfig servletConfig;
     @Mock
-    private ServletContainer servletContainer;
+    private JerseyServletContainer servletContainer;
 
     private JerseyServletProvider provider;
 
     @Before
     public void setup() throws Exception {
-        whenNew(ServletContainer.class).withNoArguments().thenReturn(servletContainer);
+        whenNew(JerseyServletContainer.class).withNoArguments().thenReturn(servletContainer);
         this.provider = new JerseyServletProvider(servletConfig, logger);
     }
 
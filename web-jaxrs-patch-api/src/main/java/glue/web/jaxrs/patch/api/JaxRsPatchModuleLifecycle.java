@@ -47,6 +47,16 @@ public class JaxRsPatchModuleLifecycle implements ModuleLifecycle {
         logger.info("PATCH interceptor started under JAX-RS context");
     }
 
+    /**
+     * Defines the module as lazy, since the PATCH interceptor is only needed by the first request
+     *
+     * @return Always true
+     */
+    @Override
+    public boolean isLazy() {
+        return true;
+    }
+
     /**
      * Stops the module
      *
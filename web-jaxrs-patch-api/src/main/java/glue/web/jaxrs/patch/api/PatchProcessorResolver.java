@@ -1,5 +1,6 @@
 package glue.web.jaxrs.patch.api;
 
+import glue.core.util.LogUtils;
 import org.slf4j.Logger;
 
 import javax.enterprise.inject.Instance;
@@ -55,7 +56,8 @@ class PatchProcessorResolver {
     PatchProcessor getProcessor(final MediaType mediaType) {
         Objects.requireNonNull(mediaType);
 
-        logger.debug(
+        LogUtils.debug(
+                logger,
                 "Looking for compatible {} implementations for media type '{}'",
                 PatchProcessor.class.getName(), mediaType
         );
@@ -65,12 +67,13 @@ class PatchProcessorResolver {
                 .filter(processor -> processor.isCompatible(mediaType))
                 .collect(Collectors.toList());
 
-        compatibleProcessors.forEach(processor -> logger.debug(
-                "Found {} as a {} for media type {}",
-                processor.getClass().getName(),
-                PatchProcessor.class.getName(),
-                mediaType
-        ));
+        if (LogUtils.isDebugEnabled(logger))
+            compatibleProcessors.forEach(processor -> logger.debug(
+                    "Found {} as a {} for media type {}",
+                    processor.getClass().getName(),
+                    PatchProcessor.class.getName(),
+                    mediaType
+            ));
 
         if (compatibleProcessors.isEmpty())
             throw new PatchException(NO_COMPATIBLE_PROCESSOR_FOR_CONTENT_TYPE + mediaType.toString());
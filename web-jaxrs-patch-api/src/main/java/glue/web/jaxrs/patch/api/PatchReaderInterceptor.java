@@ -1,5 +1,6 @@
 package glue.web.jaxrs.patch.api;
 
+import glue.core.util.LogUtils;
 import org.slf4j.Logger;
 
 import javax.inject.Inject;
@@ -86,11 +87,11 @@ public class PatchReaderInterceptor implements ReaderInterceptor {
                 .orElse(null);
 
         if (!"PATCH".equals(httpMethod)) {
-            logger.debug("Received request isn't a PATCH request. Nothing will be done.");
+            LogUtils.debug(logger, "Received request isn't a PATCH request. Nothing will be done.");
             return requestContext.proceed();
         }
 
-        logger.debug("PATCH request received for {} using media type {}", uriInfo.getPath(), requestContext.getMediaType());
+        LogUtils.debug(logger, "PATCH request received for {} using media type {}", uriInfo.getPath(), requestContext.getMediaType());
 
         final MediaType mediaType = requestContext.getMediaType();
         final InputStream content = requestContext.getInputStream();
@@ -102,7 +103,7 @@ public class PatchReaderInterceptor implements ReaderInterceptor {
 
         requestContext.setInputStream(patchedObject);
 
-        logger.debug("PATCH requested handled successfully");
+        LogUtils.debug(logger, "PATCH requested handled successfully");
         return requestContext.proceed();
     }
 
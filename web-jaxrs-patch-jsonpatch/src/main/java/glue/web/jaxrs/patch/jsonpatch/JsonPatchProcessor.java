@@ -3,6 +3,7 @@ package glue.web.jaxrs.patch.jsonpatch;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.fge.jsonpatch.JsonPatch;
+import glue.core.util.LogUtils;
 import glue.web.jaxrs.patch.api.PatchException;
 import glue.web.jaxrs.patch.api.PatchProcessor;
 import org.slf4j.Logger;
@@ -69,7 +70,7 @@ public class JsonPatchProcessor implements PatchProcessor {
     @Override
     public InputStream apply(final InputStream input, final Optional target) throws WebApplicationException {
 
-        logger.debug("Begin patching object using RFC-6902 (JSON Patch)");
+        LogUtils.debug(logger, "Begin patching object using RFC-6902 (JSON Patch)");
 
         if (!target.isPresent())
             throw new PatchException(
@@ -83,7 +84,7 @@ public class JsonPatchProcessor implements PatchProcessor {
             final JsonNode patchedJson = patchInstructions.apply(targetJson);
             final byte[] patchedBytes = objectMapper.writeValueAsBytes(patchedJson);
 
-            logger.debug("Patch operations applied successfully using RFC-6902 (JSON Patch)");
+            LogUtils.debug(logger, "Patch operations applied successfully using RFC-6902 (JSON Patch)");
             return new ByteArrayInputStream(patchedBytes);
         } catch (final Exception ex) {
             throw new PatchException(